@@ -37,6 +37,30 @@ public enum AbilityKey {
     SERVER_SUPPORT_PERSISTENT_INSTANCE_BY_GRPC("supportPersistentInstanceByGrpc",
             "support persistent instance by grpc", AbilityMode.SERVER),
     
+    /**
+     * Server support decode and encode hot requests and responses by compact binary payload codec.
+     */
+    SERVER_SUPPORT_COMPACT_PAYLOAD("supportCompactPayload", "support compact binary payload codec",
+            AbilityMode.SERVER),
+    
+    /**
+     * Sdk client support decode and encode hot requests and responses by compact binary payload codec.
+     */
+    SDK_CLIENT_SUPPORT_COMPACT_PAYLOAD("supportCompactPayload", "support compact binary payload codec",
+            AbilityMode.SDK_CLIENT),
+    
+    /**
+     * Cluster client support decode and encode hot requests and responses by compact binary payload codec.
+     */
+    CLUSTER_CLIENT_SUPPORT_COMPACT_PAYLOAD("supportCompactPayload", "support compact binary payload codec",
+            AbilityMode.CLUSTER_CLIENT),
+    
+    /**
+     * Sdk client support applying config content pushed inline with change notification.
+     */
+    SDK_CLIENT_SUPPORT_PUSH_CONFIG_CONTENT("supportPushConfigContent", "support config content pushed inline",
+            AbilityMode.SDK_CLIENT),
+    
     /**
      * For Test temporarily.
      */
@@ -45,6 +45,8 @@ public class SdkClientAbilities extends AbstractAbilityRegistry {
          *
          */
         // put ability here, which you want current client supports
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_COMPACT_PAYLOAD, true);
+        supportedAbilities.put(AbilityKey.SDK_CLIENT_SUPPORT_PUSH_CONFIG_CONTENT, true);
     }
     
     /**.
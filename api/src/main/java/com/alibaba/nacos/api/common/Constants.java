@@ -264,6 +264,14 @@ public class Constants {
         public static final String CONFIG_MODULE = "config";
         
         public static final String NOTIFY_HEADER = "notify";
+        
+        public static final String FUZZY_WATCH_PATTERN_WILDCARD = "*";
+        
+        public static final String FUZZY_WATCH_ADD_CONFIG = "ADD_CONFIG";
+        
+        public static final String FUZZY_WATCH_CONFIG_CHANGED = "CONFIG_CHANGED";
+        
+        public static final String FUZZY_WATCH_DELETE_CONFIG = "DELETE_CONFIG";
     }
     
     /**
@@ -17,9 +17,12 @@
 package com.alibaba.nacos.api.config;
 
 import com.alibaba.nacos.api.config.filter.IConfigFilter;
+import com.alibaba.nacos.api.config.listener.FuzzyWatchEventListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Config Service Interface.
  *
@@ -38,6 +41,28 @@ public interface ConfigService {
      */
     String getConfig(String dataId, String group, long timeoutMs) throws NacosException;
     
+    /**
+     * Get config asynchronously, failover and snapshot contents are used like {@link #getConfig(String, String, long)}.
+     *
+     * <p>The future may be completed in nacos client threads, so dependent actions should not be blocking. The default
+     * implementation calls {@link #getConfig(String, String, long)} in the caller thread.
+     *
+     * @param dataId    dataId
+     * @param group     group
+     * @param timeoutMs read timeout
+     * @return future of config value, or completed exceptionally with {@link NacosException}
+     * @since 2.5.0
+     */
+    default CompletableFuture<String> getConfigAsync(String dataId, String group, long timeoutMs) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        try {
+            result.complete(getConfig(dataId, group, timeoutMs));
+        } catch (NacosException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
     /**
      * Get config and register Listener.
      *
@@ -138,6 +163,39 @@ public interface ConfigService {
      */
     void removeListener(String dataId, String group, Listener listener);
     
+    /**
+     * Fuzzy watch the configs matching the patterns in current namespace, {@code *} in pattern matches any characters.
+     *
+     * <p>The existed configs matching the patterns are received as {@code ADD_CONFIG} events at first, then the
+     * added, changed and deleted configs are pushed by server.
+     *
+     * @param dataIdPattern dataId pattern
+     * @param groupPattern  group pattern
+     * @param listener      fuzzy watch event listener
+     * @throws NacosException NacosException, thrown by default if the implementation doesn't support fuzzy watch
+     * @since 2.5.0
+     */
+    default void fuzzyWatch(String dataIdPattern, String groupPattern, FuzzyWatchEventListener listener)
+            throws NacosException {
+        throw new NacosException(NacosException.CLIENT_ERROR,
+                "Fuzzy watch is not supported by " + getClass().getName());
+    }
+    
+    /**
+     * Cancel fuzzy watch.
+     *
+     * @param dataIdPattern dataId pattern
+     * @param groupPattern  group pattern
+     * @param listener      fuzzy watch event listener
+     * @throws NacosException NacosException, thrown by default if the implementation doesn't support fuzzy watch
+     * @since 2.5.0
+     */
+    default void cancelFuzzyWatch(String dataIdPattern, String groupPattern, FuzzyWatchEventListener listener)
+            throws NacosException {
+        throw new NacosException(NacosException.CLIENT_ERROR,
+                "Fuzzy watch is not supported by " + getClass().getName());
+    }
+    
     /**
      * Get server status.
      *
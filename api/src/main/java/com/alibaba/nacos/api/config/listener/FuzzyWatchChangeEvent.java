@@ -0,0 +1,66 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.listener;
+
+/**
+ * Event of config which matches the fuzzy watch pattern.
+ *
+ * @author xiweng.yy
+ */
+public class FuzzyWatchChangeEvent {
+    
+    private final String dataId;
+    
+    private final String group;
+    
+    private final String namespace;
+    
+    /**
+     * One of {@code ADD_CONFIG}, {@code CONFIG_CHANGED} and {@code DELETE_CONFIG} in
+     * {@link com.alibaba.nacos.api.common.Constants.Config}.
+     */
+    private final String changeType;
+    
+    public FuzzyWatchChangeEvent(String dataId, String group, String namespace, String changeType) {
+        this.dataId = dataId;
+        this.group = group;
+        this.namespace = namespace;
+        this.changeType = changeType;
+    }
+    
+    public String getDataId() {
+        return dataId;
+    }
+    
+    public String getGroup() {
+        return group;
+    }
+    
+    public String getNamespace() {
+        return namespace;
+    }
+    
+    public String getChangeType() {
+        return changeType;
+    }
+    
+    @Override
+    public String toString() {
+        return "FuzzyWatchChangeEvent{" + "dataId='" + dataId + '\'' + ", group='" + group + '\'' + ", namespace='"
+                + namespace + '\'' + ", changeType='" + changeType + '\'' + '}';
+    }
+}
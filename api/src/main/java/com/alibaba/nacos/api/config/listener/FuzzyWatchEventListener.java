@@ -0,0 +1,44 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.listener;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Listener for fuzzy watch of configs, which receives the events of configs matching the pattern.
+ *
+ * @author xiweng.yy
+ */
+@SuppressWarnings("PMD.AbstractClassShouldStartWithAbstractNamingRule")
+public abstract class FuzzyWatchEventListener {
+    
+    /**
+     * Get executor for execute this receive, use default notify thread if {@code null}.
+     *
+     * @return Executor
+     */
+    public Executor getExecutor() {
+        return null;
+    }
+    
+    /**
+     * Receive the event of config which matches the pattern.
+     *
+     * @param event fuzzy watch change event
+     */
+    public abstract void onEvent(FuzzyWatchChangeEvent event);
+}
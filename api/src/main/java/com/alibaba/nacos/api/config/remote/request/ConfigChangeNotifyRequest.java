@@ -33,6 +33,21 @@ public class ConfigChangeNotifyRequest extends ServerRequest {
     
     String tenant;
     
+    /**
+     * Whether the content is pushed inline, the client should query the content by itself if not.
+     */
+    boolean contentPushed;
+    
+    String content;
+    
+    String md5;
+    
+    String encryptedDataKey;
+    
+    String contentType;
+    
+    long lastModified;
+    
     public String getDataId() {
         return dataId;
     }
@@ -57,6 +72,54 @@ public class ConfigChangeNotifyRequest extends ServerRequest {
         this.tenant = tenant;
     }
     
+    public boolean isContentPushed() {
+        return contentPushed;
+    }
+    
+    public void setContentPushed(boolean contentPushed) {
+        this.contentPushed = contentPushed;
+    }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public long getLastModified() {
+        return lastModified;
+    }
+    
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+    
     /**
      * build success response.
      *
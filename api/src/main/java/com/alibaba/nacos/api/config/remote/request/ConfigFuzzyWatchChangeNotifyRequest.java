@@ -0,0 +1,92 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.remote.request.ServerRequest;
+
+/**
+ * Request pushed to fuzzy watchers when config matching the pattern is added, changed or deleted.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigFuzzyWatchChangeNotifyRequest extends ServerRequest {
+    
+    private String dataId;
+    
+    private String group;
+    
+    private String tenant;
+    
+    private String changeType;
+    
+    public String getDataId() {
+        return dataId;
+    }
+    
+    public void setDataId(String dataId) {
+        this.dataId = dataId;
+    }
+    
+    public String getGroup() {
+        return group;
+    }
+    
+    public void setGroup(String group) {
+        this.group = group;
+    }
+    
+    public String getTenant() {
+        return tenant;
+    }
+    
+    public void setTenant(String tenant) {
+        this.tenant = tenant;
+    }
+    
+    public String getChangeType() {
+        return changeType;
+    }
+    
+    public void setChangeType(String changeType) {
+        this.changeType = changeType;
+    }
+    
+    /**
+     * build fuzzy watch change notify request.
+     *
+     * @param dataId     dataId
+     * @param group      group
+     * @param tenant     tenant
+     * @param changeType change type
+     * @return ConfigFuzzyWatchChangeNotifyRequest
+     */
+    public static ConfigFuzzyWatchChangeNotifyRequest build(String dataId, String group, String tenant,
+            String changeType) {
+        ConfigFuzzyWatchChangeNotifyRequest request = new ConfigFuzzyWatchChangeNotifyRequest();
+        request.setDataId(dataId);
+        request.setGroup(group);
+        request.setTenant(tenant);
+        request.setChangeType(changeType);
+        return request;
+    }
+    
+    @Override
+    public String getModule() {
+        return Constants.Config.CONFIG_MODULE;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+/**
+ * Request of fuzzy watch configs, the dataId and group of request are patterns in which {@code *} matches any
+ * characters.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigFuzzyWatchRequest extends AbstractConfigRequest {
+    
+    /**
+     * watch or cancel watch.
+     */
+    private boolean watch = true;
+    
+    public ConfigFuzzyWatchRequest() {
+    }
+    
+    public ConfigFuzzyWatchRequest(String dataIdPattern, String groupPattern, String tenant, boolean watch) {
+        setDataId(dataIdPattern);
+        setGroup(groupPattern);
+        setTenant(tenant);
+        this.watch = watch;
+    }
+    
+    public boolean isWatch() {
+        return watch;
+    }
+    
+    public void setWatch(boolean watch) {
+        this.watch = watch;
+    }
+}
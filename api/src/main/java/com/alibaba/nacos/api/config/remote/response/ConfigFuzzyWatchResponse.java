@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.response;
+
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse.ConfigContext;
+import com.alibaba.nacos.api.remote.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response of fuzzy watch configs, which contains the existed configs matching the pattern.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigFuzzyWatchResponse extends Response {
+    
+    private List<ConfigContext> matchedConfigs = new ArrayList<>();
+    
+    /**
+     * add matched config.
+     *
+     * @param dataId dataId.
+     * @param group  group.
+     * @param tenant tenant.
+     */
+    public void addMatchedConfig(String dataId, String group, String tenant) {
+        ConfigContext configContext = new ConfigContext();
+        configContext.setDataId(dataId);
+        configContext.setGroup(group);
+        configContext.setTenant(tenant);
+        matchedConfigs.add(configContext);
+    }
+    
+    public List<ConfigContext> getMatchedConfigs() {
+        return matchedConfigs;
+    }
+    
+    public void setMatchedConfigs(List<ConfigContext> matchedConfigs) {
+        this.matchedConfigs = matchedConfigs;
+    }
+}
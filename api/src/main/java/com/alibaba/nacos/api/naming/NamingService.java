@@ -25,6 +25,7 @@ import com.alibaba.nacos.api.naming.selector.NamingSelector;
 import com.alibaba.nacos.api.selector.AbstractSelector;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Naming Service.
@@ -97,6 +98,29 @@ public interface NamingService {
      */
     void registerInstance(String serviceName, String groupName, Instance instance) throws NacosException;
     
+    /**
+     * register an instance to service with specified instance properties asynchronously.
+     *
+     * <p>The future may be completed in nacos client threads, so dependent actions should not be blocking.
+     * The default implementation calls the blocking method in the caller thread.
+     *
+     * @param serviceName name of service
+     * @param groupName   group of service
+     * @param instance    instance to register
+     * @return future completed when registered, or completed exceptionally with {@link NacosException}
+     * @since 2.5.0
+     */
+    default CompletableFuture<Void> registerInstanceAsync(String serviceName, String groupName, Instance instance) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            registerInstance(serviceName, groupName, instance);
+            result.complete(null);
+        } catch (NacosException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
     /**
      * batch register instance to service with specified instance properties.
      *
@@ -183,6 +207,29 @@ public interface NamingService {
      */
     void deregisterInstance(String serviceName, String groupName, Instance instance) throws NacosException;
     
+    /**
+     * deregister instance from a service asynchronously.
+     *
+     * <p>The future may be completed in nacos client threads, so dependent actions should not be blocking.
+     * The default implementation calls the blocking method in the caller thread.
+     *
+     * @param serviceName name of service
+     * @param groupName   group of service
+     * @param instance    instance to deregister
+     * @return future completed when deregistered, or completed exceptionally with {@link NacosException}
+     * @since 2.5.0
+     */
+    default CompletableFuture<Void> deregisterInstanceAsync(String serviceName, String groupName, Instance instance) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            deregisterInstance(serviceName, groupName, instance);
+            result.complete(null);
+        } catch (NacosException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
     /**
      * get all instances of a service.
      *
@@ -289,6 +336,30 @@ public interface NamingService {
      */
     List<Instance> selectInstances(String serviceName, String groupName, boolean healthy) throws NacosException;
     
+    /**
+     * Get qualified instances of service asynchronously, the service will be subscribed like
+     * {@link #selectInstances(String, String, boolean)}.
+     *
+     * <p>The future may be completed in nacos client threads, so dependent actions should not be blocking.
+     * The default implementation calls the blocking method in the caller thread.
+     *
+     * @param serviceName name of service
+     * @param groupName   group of service
+     * @param healthy     a flag to indicate returning healthy or unhealthy instances
+     * @return future of qualified list of instance, or completed exceptionally with {@link NacosException}
+     * @since 2.5.0
+     */
+    default CompletableFuture<List<Instance>> selectInstancesAsync(String serviceName, String groupName,
+            boolean healthy) {
+        CompletableFuture<List<Instance>> result = new CompletableFuture<>();
+        try {
+            result.complete(selectInstances(serviceName, groupName, healthy));
+        } catch (NacosException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
     /**
      * Get qualified instances of service.
      *
@@ -37,6 +37,9 @@ public class RpcScheduledExecutor extends ScheduledThreadPoolExecutor {
     public static final RpcScheduledExecutor COMMON_SERVER_EXECUTOR = new RpcScheduledExecutor(1,
             "com.alibaba.nacos.remote.ServerCommonScheduler");
     
+    public static final RpcScheduledExecutor RETRY_SCHEDULER = new RpcScheduledExecutor(1,
+            "com.alibaba.nacos.remote.RetryScheduler");
+    
     public RpcScheduledExecutor(int corePoolSize, final String threadName) {
         super(corePoolSize, new ThreadFactory() {
             private final AtomicLong index = new AtomicLong();
@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.naming.cache;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.naming.event.InstancesDiff;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link InstancesDiffer#doDiff(ServiceInfo, ServiceInfo)} which is called for every service push.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstancesDifferBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int instanceCount;
+    
+    private final InstancesDiffer instancesDiffer = new InstancesDiffer();
+    
+    private ServiceInfo oldService;
+    
+    private ServiceInfo sameService;
+    
+    private ServiceInfo changedService;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        oldService = buildServiceInfo(false);
+        sameService = buildServiceInfo(false);
+        changedService = buildServiceInfo(true);
+    }
+    
+    @Benchmark
+    public InstancesDiff doDiffWithoutChange() {
+        return instancesDiffer.doDiff(oldService, sameService);
+    }
+    
+    /**
+     * One instance modified, one instance added and one instance removed.
+     */
+    @Benchmark
+    public InstancesDiff doDiffWithChange() {
+        return instancesDiffer.doDiff(oldService, changedService);
+    }
+    
+    private ServiceInfo buildServiceInfo(boolean changed) {
+        ServiceInfo result = new ServiceInfo("DEFAULT_GROUP@@benchmark", "");
+        List<Instance> hosts = new ArrayList<>(instanceCount);
+        for (int i = changed ? 1 : 0; i < instanceCount; i++) {
+            hosts.add(buildInstance(i, changed && i == instanceCount - 1));
+        }
+        if (changed) {
+            hosts.add(buildInstance(instanceCount, false));
+        }
+        result.setHosts(hosts);
+        return result;
+    }
+    
+    private Instance buildInstance(int index, boolean unhealthy) {
+        Instance instance = new Instance();
+        instance.setIp("10.0." + (index / 256) + "." + (index % 256));
+        instance.setPort(8080);
+        instance.setClusterName("DEFAULT");
+        instance.setServiceName("DEFAULT_GROUP@@benchmark");
+        instance.setHealthy(!unhealthy);
+        instance.addMetadata("version", "1.0.0");
+        return instance;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link DefaultPublisher}, dispatching events to subscribers directly and publishing events through the
+ * queue of publisher.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultPublisherBenchmark {
+    
+    @Param({"1", "16", "256"})
+    private int subscriberCount;
+    
+    private DefaultPublisher dispatcher;
+    
+    private DefaultPublisher publisher;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Not started, only used to dispatch events in caller thread.
+        dispatcher = new DefaultPublisher();
+        publisher = new DefaultPublisher();
+        publisher.init(BenchmarkEvent.class, 16384);
+        for (int i = 0; i < subscriberCount; i++) {
+            dispatcher.addSubscriber(new BenchmarkSubscriber());
+            publisher.addSubscriber(new BenchmarkSubscriber());
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        publisher.shutdown();
+    }
+    
+    @Benchmark
+    public void receiveEvent() {
+        dispatcher.receiveEvent(new BenchmarkEvent());
+    }
+    
+    @Benchmark
+    public boolean publish() {
+        return publisher.publish(new BenchmarkEvent());
+    }
+    
+    private static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = -2541624361938441296L;
+    }
+    
+    private static class BenchmarkSubscriber extends Subscriber<BenchmarkEvent> {
+        
+        private long received;
+        
+        @Override
+        public void onEvent(BenchmarkEvent event) {
+            received++;
+        }
+        
+        @Override
+        public Class<? extends Event> subscribeType() {
+            return BenchmarkEvent.class;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for encoding and decoding service push payload by {@link GrpcUtils}, with json and compact codec.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GrpcUtilsBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int instanceCount;
+    
+    private NotifySubscriberRequest request;
+    
+    private PayloadCodec compactCodec;
+    
+    private Payload jsonPayload;
+    
+    private Payload compactPayload;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        PayloadRegistry.init();
+        ServiceInfo serviceInfo = new ServiceInfo("DEFAULT_GROUP@@benchmark", "");
+        List<Instance> hosts = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("10.0." + (i / 256) + "." + (i % 256));
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            instance.setServiceName("DEFAULT_GROUP@@benchmark");
+            instance.addMetadata("version", "1.0.0");
+            hosts.add(instance);
+        }
+        serviceInfo.setHosts(hosts);
+        request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRequestId("1");
+        compactCodec = PayloadCodecManager.getInstance().getCompactCodec();
+        jsonPayload = GrpcUtils.convert(request);
+        compactPayload = GrpcUtils.convert(request, compactCodec);
+    }
+    
+    @Benchmark
+    public Payload convertByJson() {
+        return GrpcUtils.convert(request);
+    }
+    
+    @Benchmark
+    public Payload convertByCompact() {
+        return GrpcUtils.convert(request, compactCodec);
+    }
+    
+    @Benchmark
+    public Object parseByJson() {
+        return GrpcUtils.parse(jsonPayload);
+    }
+    
+    @Benchmark
+    public Object parseByCompact() {
+        return GrpcUtils.parse(compactPayload);
+    }
+}
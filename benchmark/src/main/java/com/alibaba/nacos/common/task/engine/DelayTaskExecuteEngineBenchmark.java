@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link NacosDelayTaskExecuteEngine} and {@link NacosTimingWheelDelayTaskExecuteEngine} with lots of
+ * pending tasks, such as pushing tasks during cluster restarting.
+ *
+ * <p>Run with {@code mvn -pl benchmark -am package -DskipTests} and then
+ * {@code java -jar benchmark/target/nacos-benchmarks.jar DelayTaskExecuteEngineBenchmark}, the {@code scan} and
+ * {@code timingWheel} results of same {@code pendingTaskCount} are the throughput of current engine and timing-wheel
+ * engine.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class DelayTaskExecuteEngineBenchmark {
+    
+    @Param({"scan", "timingWheel"})
+    private String engineType;
+    
+    @Param({"1000", "50000"})
+    private int pendingTaskCount;
+    
+    private NacosTaskExecuteEngine<AbstractDelayTask> executeEngine;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        String name = DelayTaskExecuteEngineBenchmark.class.getSimpleName();
+        if ("scan".equals(engineType)) {
+            executeEngine = new NacosDelayTaskExecuteEngine(name, pendingTaskCount, null, 100L);
+        } else {
+            executeEngine = new NacosTimingWheelDelayTaskExecuteEngine(name, pendingTaskCount, null, 100L);
+        }
+        executeEngine.setDefaultTaskProcessor(task -> true);
+        for (int i = 0; i < pendingTaskCount; i++) {
+            executeEngine.addTask(i, new BenchmarkTask());
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        executeEngine.shutdown();
+    }
+    
+    /**
+     * Merge new task into one of pending tasks.
+     */
+    @Benchmark
+    public void addTask() {
+        executeEngine.addTask(ThreadLocalRandom.current().nextInt(pendingTaskCount), new BenchmarkTask());
+    }
+    
+    @Benchmark
+    public int size() {
+        return executeEngine.size();
+    }
+    
+    /**
+     * Task which won't be processed during benchmark, so that all tasks keep pending.
+     */
+    private static class BenchmarkTask extends AbstractDelayTask {
+        
+        private BenchmarkTask() {
+            setTaskInterval(TimeUnit.HOURS.toMillis(1L));
+            setLastProcessTime(System.currentTimeMillis());
+        }
+        
+        @Override
+        public void merge(AbstractDelayTask task) {
+            setLastProcessTime(Math.min(getLastProcessTime(), task.getLastProcessTime()));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ConfigChangeListenContext} under reconnect storm, connections are cleared and listen again by
+ * batch listen requests while config changes are notified to listeners.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigChangeListenContextBenchmark {
+    
+    @Param({"1000", "50000"})
+    private int connectionCount;
+    
+    @Param({"100"})
+    private int keysPerConnection;
+    
+    private String[] groupKeys;
+    
+    private ConfigChangeListenContext context;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new ConfigChangeListenContext();
+        groupKeys = new String[keysPerConnection * 10];
+        for (int i = 0; i < groupKeys.length; i++) {
+            groupKeys[i] = "dataId-" + i + "+DEFAULT_GROUP+benchmark";
+        }
+        for (int i = 0; i < connectionCount; i++) {
+            listen("connection-" + i);
+        }
+    }
+    
+    /**
+     * Connection disconnected and reconnected, then listen all keys again.
+     */
+    @Benchmark
+    @Group("reconnectStorm")
+    @GroupThreads(4)
+    public void reconnect() {
+        String connectionId = "connection-" + ThreadLocalRandom.current().nextInt(connectionCount);
+        context.clearContextForConnectionId(connectionId);
+        listen(connectionId);
+    }
+    
+    @Benchmark
+    @Group("reconnectStorm")
+    @GroupThreads(4)
+    public int notifyListeners() {
+        Set<String> listeners = context.getListeners(groupKeys[ThreadLocalRandom.current().nextInt(groupKeys.length)]);
+        int result = 0;
+        if (null != listeners) {
+            for (String each : listeners) {
+                result += each.length();
+            }
+        }
+        return result;
+    }
+    
+    private void listen(String connectionId) {
+        int offset = Math.abs(connectionId.hashCode() % (groupKeys.length - keysPerConnection));
+        for (int i = 0; i < keysPerConnection; i++) {
+            context.addListen(groupKeys[offset + i], "md5", connectionId);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for md5 query and update of {@link ConfigCacheService}, which are called by every config listen request.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConfigCacheServiceBenchmark {
+    
+    @Param({"1000", "100000"})
+    private int keyCount;
+    
+    @Param({"1024", "102400"})
+    private int configSize;
+    
+    private String[] groupKeys;
+    
+    private String content;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, 16384);
+        char[] chars = new char[configSize];
+        Arrays.fill(chars, 'a');
+        content = new String(chars);
+        String md5 = MD5Utils.md5Hex(content, StandardCharsets.UTF_8.name());
+        groupKeys = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            groupKeys[i] = GroupKey2.getKey("dataId-" + i, "DEFAULT_GROUP", "benchmark");
+            ConfigCacheService.updateMd5(groupKeys[i], md5, System.currentTimeMillis(), null);
+        }
+    }
+    
+    @Benchmark
+    public String getContentMd5() {
+        return ConfigCacheService.getContentMd5(groupKeys[ThreadLocalRandom.current().nextInt(keyCount)]);
+    }
+    
+    @Benchmark
+    public boolean isUptodate() {
+        return ConfigCacheService.isUptodate(groupKeys[ThreadLocalRandom.current().nextInt(keyCount)], "md5");
+    }
+    
+    /**
+     * Md5 of content is computed for every publish and dump, cost grows with config size.
+     */
+    @Benchmark
+    public String md5OfContent() {
+        return MD5Utils.md5Hex(content, StandardCharsets.UTF_8.name());
+    }
+}
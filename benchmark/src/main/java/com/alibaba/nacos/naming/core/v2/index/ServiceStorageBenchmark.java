@@ -0,0 +1,138 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ServiceStorage#getPushData(Service)}, each client publishes one instance of the service.
+ *
+ * @author xiweng.yy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceStorageBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int instanceCount;
+    
+    private Service service;
+    
+    private ServiceStorage serviceStorage;
+    
+    private String[] clientIds;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("benchmark", "DEFAULT_GROUP", "service-" + instanceCount));
+        ClientServiceIndexesManager indexesManager = new ClientServiceIndexesManager();
+        Map<String, Client> clients = new HashMap<>(instanceCount);
+        clientIds = new String[instanceCount];
+        for (int i = 0; i < instanceCount; i++) {
+            String clientId = "client-" + i;
+            Client client = new ConnectionBasedClient(clientId, true, 0L);
+            InstancePublishInfo instance = new InstancePublishInfo("10.0." + (i / 256) + "." + (i % 256), 8080);
+            instance.setCluster("DEFAULT");
+            client.addServiceInstance(service, instance);
+            clients.put(clientId, client);
+            clientIds[i] = clientId;
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientId));
+        }
+        ClientManagerDelegate clientManager = new InMemoryClientManager(clients);
+        serviceStorage = new ServiceStorage(indexesManager, clientManager, new SwitchDomain(),
+                new NamingMetadataManager());
+        serviceStorage.getPushData(service);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ServiceManager.getInstance().removeSingleton(service);
+    }
+    
+    /**
+     * No pending change, should reuse the published service info.
+     */
+    @Benchmark
+    public ServiceInfo getPushDataWithoutChange() {
+        return serviceStorage.getPushData(service);
+    }
+    
+    /**
+     * One client changed, the most common case of register and deregister.
+     */
+    @Benchmark
+    public ServiceInfo getPushDataWithOneClientChanged() {
+        serviceStorage.markChanged(service, clientIds[ThreadLocalRandom.current().nextInt(instanceCount)]);
+        return serviceStorage.getPushData(service);
+    }
+    
+    /**
+     * Whole service changed, such as metadata changed.
+     */
+    @Benchmark
+    public ServiceInfo getPushDataWithAllChanged() {
+        serviceStorage.markChanged(service, null);
+        return serviceStorage.getPushData(service);
+    }
+    
+    private static class InMemoryClientManager extends ClientManagerDelegate {
+        
+        private final Map<String, Client> clients;
+        
+        InMemoryClientManager(Map<String, Client> clients) {
+            super(null, null, null);
+            this.clients = clients;
+        }
+        
+        @Override
+        public Client getClient(String clientId) {
+            return clients.get(clientId);
+        }
+    }
+}
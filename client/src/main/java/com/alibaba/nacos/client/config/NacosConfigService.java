@@ -21,6 +21,7 @@ import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.ConfigService;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.filter.IConfigFilter;
+import com.alibaba.nacos.api.config.listener.FuzzyWatchEventListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
@@ -42,6 +43,7 @@ import org.slf4j.Logger;
 
 import java.util.Collections;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Config Impl.
@@ -99,6 +101,11 @@ public class NacosConfigService implements ConfigService {
         return getConfigInner(namespace, dataId, group, timeoutMs);
     }
     
+    @Override
+    public CompletableFuture<String> getConfigAsync(String dataId, String group, long timeoutMs) {
+        return getConfigInnerAsync(namespace, dataId, group, timeoutMs);
+    }
+    
     @Override
     public String getConfigAndSignListener(String dataId, String group, long timeoutMs, Listener listener)
             throws NacosException {
@@ -157,41 +164,34 @@ public class NacosConfigService implements ConfigService {
         worker.removeTenantListener(dataId, group, listener);
     }
     
+    @Override
+    public void fuzzyWatch(String dataIdPattern, String groupPattern, FuzzyWatchEventListener listener)
+            throws NacosException {
+        worker.addTenantFuzzyWatcher(dataIdPattern, blank2defaultGroup(groupPattern), listener);
+    }
+    
+    @Override
+    public void cancelFuzzyWatch(String dataIdPattern, String groupPattern, FuzzyWatchEventListener listener)
+            throws NacosException {
+        worker.removeTenantFuzzyWatcher(dataIdPattern, blank2defaultGroup(groupPattern), listener);
+    }
+    
     private String getConfigInner(String tenant, String dataId, String group, long timeoutMs) throws NacosException {
         group = blank2defaultGroup(group);
         ParamUtils.checkKeyParam(dataId, group);
-        ConfigResponse cr = new ConfigResponse();
-        
-        cr.setDataId(dataId);
-        cr.setTenant(tenant);
-        cr.setGroup(group);
-        
-        // We first try to use local failover content if exists.
-        // A config content for failover is not created by client program automatically,
-        // but is maintained by user.
-        // This is designed for certain scenario like client emergency reboot,
-        // changing config needed in the same time, while nacos server is down.
-        String content = LocalConfigInfoProcessor.getFailover(worker.getAgentName(), dataId, group, tenant);
-        if (content != null) {
-            LOGGER.warn("[{}] [get-config] get failover ok, dataId={}, group={}, tenant={}",
-                    worker.getAgentName(), dataId, group, tenant);
-            cr.setContent(content);
-            String encryptedDataKey = LocalEncryptedDataKeyProcessor
-                    .getEncryptDataKeyFailover(agent.getName(), dataId, group, tenant);
-            cr.setEncryptedDataKey(encryptedDataKey);
+        ConfigResponse cr = getFailoverConfig(tenant, dataId, group);
+        if (null != cr) {
             configFilterChainManager.doFilter(null, cr);
-            content = cr.getContent();
-            return content;
+            return cr.getContent();
         }
         
         try {
             ConfigResponse response = worker.getServerConfig(dataId, group, tenant, timeoutMs, false);
+            cr = newConfigResponse(tenant, dataId, group);
             cr.setContent(response.getContent());
             cr.setEncryptedDataKey(response.getEncryptedDataKey());
             configFilterChainManager.doFilter(null, cr);
-            content = cr.getContent();
-            
-            return content;
+            return cr.getContent();
         } catch (NacosException ioe) {
             if (NacosException.NO_RIGHT == ioe.getErrCode()) {
                 throw ioe;
@@ -199,19 +199,91 @@ public class NacosConfigService implements ConfigService {
             LOGGER.warn("[{}] [get-config] get from server error, dataId={}, group={}, tenant={}, msg={}",
                     worker.getAgentName(), dataId, group, tenant, ioe.toString());
         }
-
-        content = LocalConfigInfoProcessor.getSnapshot(worker.getAgentName(), dataId, group, tenant);
+        
+        cr = getSnapshotConfig(tenant, dataId, group);
+        configFilterChainManager.doFilter(null, cr);
+        return cr.getContent();
+    }
+    
+    private CompletableFuture<String> getConfigInnerAsync(String tenant, String dataId, String group,
+            long timeoutMs) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        String groupName = blank2defaultGroup(group);
+        try {
+            ParamUtils.checkKeyParam(dataId, groupName);
+            ConfigResponse cr = getFailoverConfig(tenant, dataId, groupName);
+            if (null != cr) {
+                configFilterChainManager.doFilter(null, cr);
+                result.complete(cr.getContent());
+                return result;
+            }
+        } catch (NacosException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        worker.getServerConfigAsync(dataId, groupName, tenant, timeoutMs).whenComplete((response, throwable) -> {
+            try {
+                ConfigResponse cr;
+                if (null == throwable) {
+                    cr = newConfigResponse(tenant, dataId, groupName);
+                    cr.setContent(response.getContent());
+                    cr.setEncryptedDataKey(response.getEncryptedDataKey());
+                } else if (throwable instanceof NacosException
+                        && NacosException.NO_RIGHT != ((NacosException) throwable).getErrCode()) {
+                    LOGGER.warn("[{}] [get-config] get from server error, dataId={}, group={}, tenant={}, msg={}",
+                            worker.getAgentName(), dataId, groupName, tenant, throwable.toString());
+                    cr = getSnapshotConfig(tenant, dataId, groupName);
+                } else {
+                    result.completeExceptionally(throwable);
+                    return;
+                }
+                configFilterChainManager.doFilter(null, cr);
+                result.complete(cr.getContent());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+    
+    private ConfigResponse newConfigResponse(String tenant, String dataId, String group) {
+        ConfigResponse cr = new ConfigResponse();
+        cr.setDataId(dataId);
+        cr.setTenant(tenant);
+        cr.setGroup(group);
+        return cr;
+    }
+    
+    /**
+     * Get local failover content if exists. A config content for failover is not created by client program
+     * automatically, but is maintained by user. This is designed for certain scenario like client emergency reboot,
+     * changing config needed in the same time, while nacos server is down.
+     */
+    private ConfigResponse getFailoverConfig(String tenant, String dataId, String group) {
+        String content = LocalConfigInfoProcessor.getFailover(worker.getAgentName(), dataId, group, tenant);
+        if (content == null) {
+            return null;
+        }
+        LOGGER.warn("[{}] [get-config] get failover ok, dataId={}, group={}, tenant={}", worker.getAgentName(),
+                dataId, group, tenant);
+        ConfigResponse cr = newConfigResponse(tenant, dataId, group);
+        cr.setContent(content);
+        cr.setEncryptedDataKey(
+                LocalEncryptedDataKeyProcessor.getEncryptDataKeyFailover(agent.getName(), dataId, group, tenant));
+        return cr;
+    }
+    
+    private ConfigResponse getSnapshotConfig(String tenant, String dataId, String group) {
+        String content = LocalConfigInfoProcessor.getSnapshot(worker.getAgentName(), dataId, group, tenant);
         if (content != null) {
             LOGGER.warn("[{}] [get-config] get snapshot ok, dataId={}, group={}, tenant={}",
                     worker.getAgentName(), dataId, group, tenant);
         }
+        ConfigResponse cr = newConfigResponse(tenant, dataId, group);
         cr.setContent(content);
-        String encryptedDataKey = LocalEncryptedDataKeyProcessor
-                .getEncryptDataKeySnapshot(agent.getName(), dataId, group, tenant);
-        cr.setEncryptedDataKey(encryptedDataKey);
-        configFilterChainManager.doFilter(null, cr);
-        content = cr.getContent();
-        return content;
+        cr.setEncryptedDataKey(
+                LocalEncryptedDataKeyProcessor.getEncryptDataKeySnapshot(agent.getName(), dataId, group, tenant));
+        return cr;
     }
     
     private String blank2defaultGroup(String group) {
@@ -19,16 +19,21 @@ package com.alibaba.nacos.client.config.impl;
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.api.config.listener.FuzzyWatchEventListener;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigFuzzyWatchChangeNotifyRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigFuzzyWatchRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigFuzzyWatchChangeNotifyResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigFuzzyWatchResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigRemoveResponse;
@@ -89,6 +94,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -124,11 +131,21 @@ public class ClientWorker implements Closeable {
     
     private static final String ENCRYPTED_DATA_KEY_PARAM = "encryptedDataKey";
     
+    /**
+     * Fuzzy watch requests are sent by the rpc client of {@link ConfigRpcTransportClient#getOneRunningClient()}.
+     */
+    private static final String FUZZY_WATCH_TASK_ID = "0";
+    
     /**
      * groupKey -> cacheData.
      */
     private final AtomicReference<Map<String, CacheData>> cacheMap = new AtomicReference<>(new HashMap<>());
     
+    /**
+     * fuzzy watch key -> context.
+     */
+    private final Map<String, FuzzyWatchContext> fuzzyWatchContexts = new ConcurrentHashMap<>();
+    
     private final DefaultLabelsCollectorManager defaultLabelsCollectorManager = new DefaultLabelsCollectorManager();
     
     private Map<String, String> appLables = new HashMap<>();
@@ -286,6 +303,62 @@ public class ClientWorker implements Closeable {
         }
     }
     
+    /**
+     * Add fuzzy watch listener for tenant.
+     *
+     * @param dataIdPattern dataId pattern
+     * @param groupPattern  group pattern
+     * @param listener      listener
+     * @throws NacosException nacos exception
+     */
+    public void addTenantFuzzyWatcher(String dataIdPattern, String groupPattern, FuzzyWatchEventListener listener)
+            throws NacosException {
+        String tenant = StringUtils.defaultIfEmpty(agent.getTenant(), StringUtils.EMPTY);
+        String key = FuzzyWatchContext.getKey(dataIdPattern, groupPattern, tenant);
+        FuzzyWatchContext context;
+        synchronized (fuzzyWatchContexts) {
+            context = fuzzyWatchContexts.computeIfAbsent(key,
+                    k -> new FuzzyWatchContext(dataIdPattern, groupPattern, tenant));
+            if (!context.addListener(listener)) {
+                return;
+            }
+        }
+        // Request out of the lock, so that watching other patterns is not blocked by the rpc.
+        try {
+            agent.fuzzyWatch(context, true);
+        } catch (NacosException e) {
+            synchronized (fuzzyWatchContexts) {
+                if (context.removeListener(listener)) {
+                    fuzzyWatchContexts.remove(key, context);
+                }
+            }
+            throw e;
+        }
+    }
+    
+    /**
+     * Remove fuzzy watch listener for tenant.
+     *
+     * @param dataIdPattern dataId pattern
+     * @param groupPattern  group pattern
+     * @param listener      listener
+     * @throws NacosException nacos exception
+     */
+    public void removeTenantFuzzyWatcher(String dataIdPattern, String groupPattern, FuzzyWatchEventListener listener)
+            throws NacosException {
+        String tenant = StringUtils.defaultIfEmpty(agent.getTenant(), StringUtils.EMPTY);
+        String key = FuzzyWatchContext.getKey(dataIdPattern, groupPattern, tenant);
+        FuzzyWatchContext context;
+        synchronized (fuzzyWatchContexts) {
+            context = fuzzyWatchContexts.get(key);
+            if (null == context || !context.removeListener(listener)) {
+                return;
+            }
+            fuzzyWatchContexts.remove(key);
+        }
+        agent.fuzzyWatch(context, false);
+    }
+    
     void removeCache(String dataId, String group, String tenant) {
         String groupKey = GroupKey.getKeyTenant(dataId, group, tenant);
         synchronized (cacheMap) {
@@ -477,6 +550,20 @@ public class ClientWorker implements Closeable {
         return this.agent.queryConfig(dataId, group, tenant, readTimeout, notify);
     }
     
+    /**
+     * Get config from server asynchronously.
+     *
+     * @param dataId      dataId
+     * @param group       group
+     * @param tenant      tenant
+     * @param readTimeout read timeout
+     * @return future of config response, or completed exceptionally with {@link NacosException}
+     */
+    public CompletableFuture<ConfigResponse> getServerConfigAsync(String dataId, String group, String tenant,
+            long readTimeout) {
+        return this.agent.queryConfigAsync(dataId, blank2defaultGroup(group), tenant, readTimeout);
+    }
+    
     private String blank2defaultGroup(String group) {
         return StringUtils.isBlank(group) ? Constants.DEFAULT_GROUP : group.trim();
     }
@@ -675,6 +762,10 @@ public class ClientWorker implements Closeable {
             
             CacheData cacheData = cacheMap.get().get(groupKey);
             if (cacheData != null) {
+                if (configChangeNotifyRequest.isContentPushed() && applyPushedContent(cacheData,
+                        configChangeNotifyRequest, clientName)) {
+                    return new ConfigChangeNotifyResponse();
+                }
                 synchronized (cacheData) {
                     cacheData.getReceiveNotifyChanged().set(true);
                     cacheData.setConsistentWithServer(false);
@@ -685,6 +776,70 @@ public class ClientWorker implements Closeable {
             return new ConfigChangeNotifyResponse();
         }
         
+        /**
+         * Apply the content pushed inline with notification without querying server.
+         *
+         * @return {@code false} if the content can't be applied and should be queried from server
+         */
+        private boolean applyPushedContent(CacheData cacheData, ConfigChangeNotifyRequest notifyRequest,
+                String clientName) {
+            String content = notifyRequest.getContent();
+            if (null == content || !StringUtils.equals(CacheData.getMd5String(content), notifyRequest.getMd5())) {
+                return false;
+            }
+            synchronized (cacheData) {
+                if (cacheData.isUseLocalConfigInfo() || cacheData.isInitializing()) {
+                    return false;
+                }
+                if (notifyRequest.getLastModified() < cacheData.getLastModifiedTs().get()) {
+                    // An older push arrived after the newer one.
+                    return true;
+                }
+                LocalConfigInfoProcessor.saveSnapshot(agent.getName(), cacheData.dataId, cacheData.group,
+                        cacheData.tenant, content);
+                LocalEncryptedDataKeyProcessor.saveEncryptDataKeySnapshot(agent.getName(), cacheData.dataId,
+                        cacheData.group, cacheData.tenant, notifyRequest.getEncryptedDataKey());
+                cacheData.setLastModifiedTs(notifyRequest.getLastModified());
+                cacheData.setEncryptedDataKey(notifyRequest.getEncryptedDataKey());
+                cacheData.setContent(content);
+                cacheData.setType(StringUtils.isNotBlank(notifyRequest.getContentType())
+                        ? notifyRequest.getContentType() : ConfigType.TEXT.getType());
+                LOGGER.info("[{}] [data-received] pushed content applied. dataId={}, group={}, tenant={}, md5={}",
+                        clientName, cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5());
+                cacheData.checkListenerMd5();
+            }
+            return true;
+        }
+        
+        ConfigFuzzyWatchChangeNotifyResponse handleFuzzyWatchChangeNotifyRequest(
+                ConfigFuzzyWatchChangeNotifyRequest notifyRequest, String clientName) {
+            LOGGER.info("[{}] [server-push] fuzzy watch config {}. dataId={}, group={},tenant={}", clientName,
+                    notifyRequest.getChangeType(), notifyRequest.getDataId(), notifyRequest.getGroup(),
+                    notifyRequest.getTenant());
+            String groupKey = GroupKey.getKeyTenant(notifyRequest.getDataId(), notifyRequest.getGroup(),
+                    notifyRequest.getTenant());
+            for (FuzzyWatchContext each : fuzzyWatchContexts.values()) {
+                if (each.isMatch(notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant())) {
+                    each.onChange(groupKey, notifyRequest.getChangeType());
+                }
+            }
+            return new ConfigFuzzyWatchChangeNotifyResponse();
+        }
+        
+        /**
+         * Watch all patterns again after reconnected, the changes during disconnected are notified by diff.
+         */
+        private void redoFuzzyWatch() {
+            for (FuzzyWatchContext each : fuzzyWatchContexts.values()) {
+                try {
+                    fuzzyWatch(each, true);
+                } catch (NacosException e) {
+                    LOGGER.warn("[{}] redo fuzzy watch failed, dataIdPattern={}, groupPattern={}", getName(),
+                            each.getDataIdPattern(), each.getGroupPattern(), e);
+                }
+            }
+        }
+        
         ClientConfigMetricResponse handleClientMetricsRequest(ClientConfigMetricRequest configMetricRequest) {
             ClientConfigMetricResponse response = new ClientConfigMetricResponse();
             response.setMetrics(getMetrics(configMetricRequest.getMetricsKeys()));
@@ -703,6 +858,14 @@ public class ClientWorker implements Closeable {
                 return null;
             });
             
+            rpcClientInner.registerServerRequestHandler((request, connection) -> {
+                if (request instanceof ConfigFuzzyWatchChangeNotifyRequest) {
+                    return handleFuzzyWatchChangeNotifyRequest((ConfigFuzzyWatchChangeNotifyRequest) request,
+                            rpcClientInner.getName());
+                }
+                return null;
+            });
+            
             rpcClientInner.registerServerRequestHandler((request, connection) -> {
                 if (request instanceof ClientConfigMetricRequest) {
                     return handleClientMetricsRequest((ClientConfigMetricRequest) request);
@@ -716,6 +879,10 @@ public class ClientWorker implements Closeable {
                 public void onConnected(Connection connection) {
                     LOGGER.info("[{}] Connected,notify listen context...", rpcClientInner.getName());
                     notifyListenConfig();
+                    if (FUZZY_WATCH_TASK_ID.equals(rpcClientInner.getLabels().get("taskId"))
+                            && !fuzzyWatchContexts.isEmpty()) {
+                        executor.execute(ConfigRpcTransportClient.this::redoFuzzyWatch);
+                    }
                 }
                 
                 @Override
@@ -1165,6 +1332,47 @@ public class ClientWorker implements Closeable {
             
             ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request, readTimeouts);
             
+            return handleQueryResponse(response, dataId, group, tenant);
+        }
+        
+        /**
+         * Query config asynchronously, the request is retried by rpc client without blocking.
+         *
+         * @param dataId       dataId
+         * @param group        group
+         * @param tenant       tenant
+         * @param readTimeouts read timeout
+         * @return future of config response, or completed exceptionally with {@link NacosException}
+         */
+        public CompletableFuture<ConfigResponse> queryConfigAsync(String dataId, String group, String tenant,
+                long readTimeouts) {
+            CompletableFuture<ConfigResponse> result = new CompletableFuture<>();
+            ConfigQueryRequest request = ConfigQueryRequest.build(dataId, group, tenant);
+            request.putHeader(NOTIFY_HEADER, String.valueOf(false));
+            CompletableFuture<Response> responseFuture;
+            try {
+                responseFuture = requestProxyAsync(getOneRunningClient(), request, readTimeouts);
+            } catch (NacosException e) {
+                result.completeExceptionally(e);
+                return result;
+            }
+            responseFuture.whenComplete((response, throwable) -> {
+                if (null != throwable) {
+                    result.completeExceptionally(throwable);
+                    return;
+                }
+                try {
+                    reLoginIfNoRight(response);
+                    result.complete(handleQueryResponse((ConfigQueryResponse) response, dataId, group, tenant));
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return result;
+        }
+        
+        private ConfigResponse handleQueryResponse(ConfigQueryResponse response, String dataId, String group,
+                String tenant) throws NacosException {
             ConfigResponse configResponse = new ConfigResponse();
             if (response.isSuccess()) {
                 LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, response.getContent());
@@ -1207,6 +1415,27 @@ public class ClientWorker implements Closeable {
         
         private Response requestProxy(RpcClient rpcClientInner, Request request, long timeoutMills)
                 throws NacosException {
+            prepareRequest(request);
+            Response response;
+            if (timeoutMills < 0) {
+                response = rpcClientInner.request(request);
+            } else {
+                response = rpcClientInner.request(request, timeoutMills);
+            }
+            reLoginIfNoRight(response);
+            return response;
+        }
+        
+        private CompletableFuture<Response> requestProxyAsync(RpcClient rpcClientInner, Request request,
+                long timeoutMills) throws NacosException {
+            prepareRequest(request);
+            if (timeoutMills < 0) {
+                return rpcClientInner.requestAsync(request);
+            }
+            return rpcClientInner.requestAsync(request, timeoutMills);
+        }
+        
+        private void prepareRequest(Request request) throws NacosException {
             try {
                 request.putAllHeader(super.getSecurityHeaders(resourceBuild(request)));
                 request.putAllHeader(super.getCommonHeader());
@@ -1221,17 +1450,13 @@ public class ClientWorker implements Closeable {
                 throw new NacosException(NacosException.CLIENT_OVER_THRESHOLD,
                         "More than client-side current limit threshold");
             }
-            Response response;
-            if (timeoutMills < 0) {
-                response = rpcClientInner.request(request);
-            } else {
-                response = rpcClientInner.request(request, timeoutMills);
-            }
+        }
+        
+        private void reLoginIfNoRight(Response response) {
             // If the 403 login operation is triggered, refresh the accessToken of the client
             if (response.getErrorCode() == ConfigQueryResponse.NO_RIGHT) {
                 reLogin();
             }
-            return response;
         }
         
         private RequestResource resourceBuild(Request request) {
@@ -1261,6 +1486,25 @@ public class ClientWorker implements Closeable {
             return ensureRpcClient("0");
         }
         
+        @Override
+        public void fuzzyWatch(FuzzyWatchContext context, boolean watch) throws NacosException {
+            ConfigFuzzyWatchRequest request = new ConfigFuzzyWatchRequest(context.getDataIdPattern(),
+                    context.getGroupPattern(), context.getTenant(), watch);
+            Response response = requestProxy(getOneRunningClient(), request);
+            if (!response.isSuccess()) {
+                throw new NacosException(response.getErrorCode(), response.getMessage());
+            }
+            if (!watch) {
+                return;
+            }
+            List<String> matchedGroupKeys = new ArrayList<>();
+            for (ConfigChangeBatchListenResponse.ConfigContext each : ((ConfigFuzzyWatchResponse) response)
+                    .getMatchedConfigs()) {
+                matchedGroupKeys.add(GroupKey.getKeyTenant(each.getDataId(), each.getGroup(), each.getTenant()));
+            }
+            context.syncMatchedConfigs(matchedGroupKeys);
+        }
+        
         @Override
         public boolean publishConfig(String dataId, String group, String tenant, String appName, String tag,
                 String betaIps, String content, String encryptedDataKey, String casMd5, String type)
@@ -237,4 +237,13 @@ public abstract class ConfigTransportClient {
      */
     public abstract boolean removeConfig(String dataid, String group, String tenat, String tag) throws NacosException;
     
+    /**
+     * watch or cancel watch the configs matching the patterns of context.
+     *
+     * @param context fuzzy watch context.
+     * @param watch   watch or cancel watch.
+     * @throws NacosException throw where request fail.
+     */
+    public abstract void fuzzyWatch(FuzzyWatchContext context, boolean watch) throws NacosException;
+    
 }
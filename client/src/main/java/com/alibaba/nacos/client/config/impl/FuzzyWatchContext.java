@@ -0,0 +1,169 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.listener.FuzzyWatchChangeEvent;
+import com.alibaba.nacos.api.config.listener.FuzzyWatchEventListener;
+import com.alibaba.nacos.client.config.common.GroupKey;
+import com.alibaba.nacos.client.utils.LogUtils;
+import com.alibaba.nacos.common.utils.GlobUtils;
+import org.slf4j.Logger;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Context of fuzzy watch for the dataId and group patterns, which records the listeners and the matched configs
+ * received from server.
+ *
+ * @author xiweng.yy
+ */
+public class FuzzyWatchContext {
+    
+    private static final Logger LOGGER = LogUtils.logger(FuzzyWatchContext.class);
+    
+    private final String dataIdPattern;
+    
+    private final String groupPattern;
+    
+    private final String tenant;
+    
+    private final CopyOnWriteArrayList<FuzzyWatchEventListener> listeners = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Group keys of matched configs received from server.
+     */
+    private final Set<String> receivedGroupKeys = ConcurrentHashMap.newKeySet();
+    
+    public FuzzyWatchContext(String dataIdPattern, String groupPattern, String tenant) {
+        this.dataIdPattern = dataIdPattern;
+        this.groupPattern = groupPattern;
+        this.tenant = tenant;
+    }
+    
+    public static String getKey(String dataIdPattern, String groupPattern, String tenant) {
+        return GroupKey.getKeyTenant(dataIdPattern, groupPattern, tenant);
+    }
+    
+    public String getDataIdPattern() {
+        return dataIdPattern;
+    }
+    
+    public String getGroupPattern() {
+        return groupPattern;
+    }
+    
+    public String getTenant() {
+        return tenant;
+    }
+    
+    /**
+     * Add listener, the received configs are notified to the new listener as added.
+     *
+     * @param listener listener
+     * @return {@code true} if it is the first listener
+     */
+    public synchronized boolean addListener(FuzzyWatchEventListener listener) {
+        if (!listeners.addIfAbsent(listener)) {
+            return false;
+        }
+        for (String each : receivedGroupKeys) {
+            notifyListener(listener, each, Constants.Config.FUZZY_WATCH_ADD_CONFIG);
+        }
+        return 1 == listeners.size();
+    }
+    
+    /**
+     * Remove listener.
+     *
+     * @param listener listener
+     * @return {@code true} if no listener left
+     */
+    public synchronized boolean removeListener(FuzzyWatchEventListener listener) {
+        listeners.remove(listener);
+        return listeners.isEmpty();
+    }
+    
+    public boolean isMatch(String dataId, String group, String tenant) {
+        return this.tenant.equals(null == tenant ? "" : tenant) && GlobUtils.isMatch(dataIdPattern, dataId)
+                && GlobUtils.isMatch(groupPattern, group);
+    }
+    
+    /**
+     * Sync the matched configs returned by watch request, configs not received before are notified as added and
+     * received configs not matched any more are notified as deleted.
+     *
+     * @param matchedGroupKeys group keys of all matched configs
+     */
+    public synchronized void syncMatchedConfigs(Collection<String> matchedGroupKeys) {
+        Set<String> matched = new HashSet<>(matchedGroupKeys);
+        for (String each : receivedGroupKeys) {
+            if (!matched.contains(each)) {
+                onChange(each, Constants.Config.FUZZY_WATCH_DELETE_CONFIG);
+            }
+        }
+        for (String each : matched) {
+            if (!receivedGroupKeys.contains(each)) {
+                onChange(each, Constants.Config.FUZZY_WATCH_ADD_CONFIG);
+            }
+        }
+    }
+    
+    /**
+     * Receive the change of matched config from server.
+     *
+     * @param groupKey   group key of {@link GroupKey#getKeyTenant(String, String, String)}
+     * @param changeType change type
+     */
+    public synchronized void onChange(String groupKey, String changeType) {
+        String actualType = changeType;
+        if (Constants.Config.FUZZY_WATCH_DELETE_CONFIG.equals(changeType)) {
+            if (!receivedGroupKeys.remove(groupKey)) {
+                return;
+            }
+        } else if (receivedGroupKeys.add(groupKey)) {
+            // The add event might be missed when reconnecting.
+            actualType = Constants.Config.FUZZY_WATCH_ADD_CONFIG;
+        }
+        for (FuzzyWatchEventListener each : listeners) {
+            notifyListener(each, groupKey, actualType);
+        }
+    }
+    
+    private void notifyListener(FuzzyWatchEventListener listener, String groupKey, String changeType) {
+        String[] parsed = GroupKey.parseKey(groupKey);
+        FuzzyWatchChangeEvent event = new FuzzyWatchChangeEvent(parsed[0], parsed[1], parsed[2], changeType);
+        Runnable job = () -> {
+            try {
+                listener.onEvent(event);
+            } catch (Throwable t) {
+                LOGGER.error("[fuzzy-watch] notify listener error, event={}", event, t);
+            }
+        };
+        Executor executor = listener.getExecutor();
+        if (null != executor) {
+            executor.execute(job);
+        } else {
+            job.run();
+        }
+    }
+}
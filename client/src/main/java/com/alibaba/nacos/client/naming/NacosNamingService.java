@@ -52,6 +52,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static com.alibaba.nacos.client.naming.selector.NamingSelectorFactory.getUniqueClusterString;
 import static com.alibaba.nacos.client.utils.LogUtils.NAMING_LOGGER;
@@ -158,6 +159,17 @@ public class NacosNamingService implements NamingService {
         clientProxy.registerService(serviceName, groupName, instance);
     }
     
+    @Override
+    public CompletableFuture<Void> registerInstanceAsync(String serviceName, String groupName, Instance instance) {
+        try {
+            NamingUtils.checkInstanceIsLegal(instance);
+            checkAndStripGroupNamePrefix(instance, groupName);
+        } catch (NacosException e) {
+            return failedFuture(e);
+        }
+        return clientProxy.registerServiceAsync(serviceName, groupName, instance);
+    }
+    
     @Override
     public void batchRegisterInstance(String serviceName, String groupName, List<Instance> instances)
             throws NacosException {
@@ -211,6 +223,17 @@ public class NacosNamingService implements NamingService {
         clientProxy.deregisterService(serviceName, groupName, instance);
     }
     
+    @Override
+    public CompletableFuture<Void> deregisterInstanceAsync(String serviceName, String groupName, Instance instance) {
+        try {
+            NamingUtils.checkInstanceIsLegal(instance);
+            checkAndStripGroupNamePrefix(instance, groupName);
+        } catch (NacosException e) {
+            return failedFuture(e);
+        }
+        return clientProxy.deregisterServiceAsync(serviceName, groupName, instance);
+    }
+    
     @Override
     public List<Instance> getAllInstances(String serviceName) throws NacosException {
         return getAllInstances(serviceName, new ArrayList<>());
@@ -307,6 +330,26 @@ public class NacosNamingService implements NamingService {
         return selectInstances(serviceInfo, healthy);
     }
     
+    @Override
+    public CompletableFuture<List<Instance>> selectInstancesAsync(String serviceName, String groupName,
+            boolean healthy) {
+        String clusterString = StringUtils.EMPTY;
+        ServiceInfo serviceInfo = getServiceInfoIfFailover(serviceName, groupName, clusterString);
+        if (null != serviceInfo) {
+            return CompletableFuture.completedFuture(selectInstances(serviceInfo, healthy));
+        }
+        try {
+            serviceInfo = serviceInfoHolder.getServiceInfo(serviceName, groupName, clusterString);
+            if (null != serviceInfo && clientProxy.isSubscribed(serviceName, groupName, clusterString)) {
+                return CompletableFuture.completedFuture(selectInstances(serviceInfo, healthy));
+            }
+        } catch (NacosException e) {
+            return failedFuture(e);
+        }
+        return clientProxy.subscribeAsync(serviceName, groupName, clusterString)
+                .thenApply(result -> selectInstances(result, healthy));
+    }
+    
     private List<Instance> selectInstances(ServiceInfo serviceInfo, boolean healthy) {
         List<Instance> list;
         if (serviceInfo == null || CollectionUtils.isEmpty(list = serviceInfo.getHosts())) {
@@ -344,19 +387,32 @@ public class NacosNamingService implements NamingService {
     
     private ServiceInfo getServiceInfo(String serviceName, String groupName, List<String> clusters, boolean subscribe)
             throws NacosException {
-        ServiceInfo serviceInfo;
         String clusterString = StringUtils.join(clusters, ",");
+        ServiceInfo serviceInfo = getServiceInfoIfFailover(serviceName, groupName, clusterString);
+        if (null != serviceInfo) {
+            return serviceInfo;
+        }
+        
+        serviceInfo = getServiceInfoBySubscribe(serviceName, groupName, clusterString, subscribe);
+        return serviceInfo;
+    }
+    
+    private ServiceInfo getServiceInfoIfFailover(String serviceName, String groupName, String clusterString) {
         if (serviceInfoHolder.isFailoverSwitch()) {
-            serviceInfo = getServiceInfoByFailover(serviceName, groupName, clusterString);
+            ServiceInfo serviceInfo = getServiceInfoByFailover(serviceName, groupName, clusterString);
             if (serviceInfo != null && serviceInfo.getHosts().size() > 0) {
                 NAMING_LOGGER.debug("getServiceInfo from failover,serviceName: {}  data:{}", serviceName,
                         JacksonUtils.toJson(serviceInfo.getHosts()));
                 return serviceInfo;
             }
         }
-        
-        serviceInfo = getServiceInfoBySubscribe(serviceName, groupName, clusterString, subscribe);
-        return serviceInfo;
+        return null;
+    }
+    
+    private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(throwable);
+        return result;
     }
     
     @Override
@@ -25,6 +25,7 @@ import com.alibaba.nacos.api.selector.AbstractSelector;
 import com.alibaba.nacos.common.lifecycle.Closeable;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Naming Client Proxy.
@@ -43,6 +44,28 @@ public interface NamingClientProxy extends Closeable {
      */
     void registerService(String serviceName, String groupName, Instance instance) throws NacosException;
     
+    /**
+     * Register an instance to service asynchronously.
+     *
+     * <p>Default implementation delegates to the blocking {@link #registerService(String, String, Instance)},
+     * proxies based on asynchronous transport should override it.
+     *
+     * @param serviceName name of service
+     * @param groupName   group of service
+     * @param instance    instance to register
+     * @return future completed when registered, or completed exceptionally with {@link NacosException}
+     */
+    default CompletableFuture<Void> registerServiceAsync(String serviceName, String groupName, Instance instance) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            registerService(serviceName, groupName, instance);
+            result.complete(null);
+        } catch (NacosException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
     /**
      * Batch register instance to service with specified instance properties.
      *
@@ -75,6 +98,28 @@ public interface NamingClientProxy extends Closeable {
      */
     void deregisterService(String serviceName, String groupName, Instance instance) throws NacosException;
     
+    /**
+     * Deregister instance from a service asynchronously.
+     *
+     * <p>Default implementation delegates to the blocking {@link #deregisterService(String, String, Instance)},
+     * proxies based on asynchronous transport should override it.
+     *
+     * @param serviceName name of service
+     * @param groupName   group name
+     * @param instance    instance
+     * @return future completed when deregistered, or completed exceptionally with {@link NacosException}
+     */
+    default CompletableFuture<Void> deregisterServiceAsync(String serviceName, String groupName, Instance instance) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            deregisterService(serviceName, groupName, instance);
+            result.complete(null);
+        } catch (NacosException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
     /**
      * Update instance to service.
      *
@@ -160,6 +205,27 @@ public interface NamingClientProxy extends Closeable {
      */
     ServiceInfo subscribe(String serviceName, String groupName, String clusters) throws NacosException;
     
+    /**
+     * Subscribe service asynchronously.
+     *
+     * <p>Default implementation delegates to the blocking {@link #subscribe(String, String, String)}, proxies based on
+     * asynchronous transport should override it.
+     *
+     * @param serviceName name of service
+     * @param groupName   group of service
+     * @param clusters    clusters, current only support subscribe all clusters, maybe deprecated
+     * @return future of current service info of subscribe service
+     */
+    default CompletableFuture<ServiceInfo> subscribeAsync(String serviceName, String groupName, String clusters) {
+        CompletableFuture<ServiceInfo> result = new CompletableFuture<>();
+        try {
+            result.complete(subscribe(serviceName, groupName, clusters));
+        } catch (NacosException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+    
     /**
      * Unsubscribe service.
      *
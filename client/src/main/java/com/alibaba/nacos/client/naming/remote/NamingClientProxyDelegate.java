@@ -39,6 +39,7 @@ import com.alibaba.nacos.common.utils.ThreadUtils;
 
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -96,6 +97,11 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
         getExecuteClientProxy(instance).registerService(serviceName, groupName, instance);
     }
     
+    @Override
+    public CompletableFuture<Void> registerServiceAsync(String serviceName, String groupName, Instance instance) {
+        return getExecuteClientProxy(instance).registerServiceAsync(serviceName, groupName, instance);
+    }
+    
     @Override
     public void batchRegisterService(String serviceName, String groupName, List<Instance> instances)
             throws NacosException {
@@ -123,6 +129,11 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
         getExecuteClientProxy(instance).deregisterService(serviceName, groupName, instance);
     }
     
+    @Override
+    public CompletableFuture<Void> deregisterServiceAsync(String serviceName, String groupName, Instance instance) {
+        return getExecuteClientProxy(instance).deregisterServiceAsync(serviceName, groupName, instance);
+    }
+    
     @Override
     public void updateInstance(String serviceName, String groupName, Instance instance) throws NacosException {
     
@@ -174,6 +185,29 @@ public class NamingClientProxyDelegate implements NamingClientProxy {
         return result;
     }
     
+    @Override
+    public CompletableFuture<ServiceInfo> subscribeAsync(String serviceName, String groupName, String clusters) {
+        NAMING_LOGGER.info("[SUBSCRIBE-SERVICE] service:{}, group:{}, clusters:{} ", serviceName, groupName, clusters);
+        String serviceNameWithGroup = NamingUtils.getGroupedName(serviceName, groupName);
+        String serviceKey = ServiceInfo.getKey(serviceNameWithGroup, clusters);
+        serviceInfoUpdateService.scheduleUpdateIfAbsent(serviceName, groupName, clusters);
+        ServiceInfo cached = serviceInfoHolder.getServiceInfoMap().get(serviceKey);
+        try {
+            if (null != cached && isSubscribed(serviceName, groupName, clusters)) {
+                serviceInfoHolder.processServiceInfo(cached);
+                return CompletableFuture.completedFuture(cached);
+            }
+        } catch (NacosException e) {
+            CompletableFuture<ServiceInfo> result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+            return result;
+        }
+        return grpcClientProxy.subscribeAsync(serviceName, groupName, clusters).thenApply(result -> {
+            serviceInfoHolder.processServiceInfo(result);
+            return result;
+        });
+    }
+    
     @Override
     public void unsubscribe(String serviceName, String groupName, String clusters) throws NacosException {
         NAMING_LOGGER.debug("[UNSUBSCRIBE-SERVICE] service:{}, group:{}, cluster:{} ", serviceName, groupName,
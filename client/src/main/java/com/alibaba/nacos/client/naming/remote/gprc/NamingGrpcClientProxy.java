@@ -70,6 +70,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -139,6 +140,22 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         }
     }
     
+    @Override
+    public CompletableFuture<Void> registerServiceAsync(String serviceName, String groupName, Instance instance) {
+        NAMING_LOGGER.info("[REGISTER-SERVICE] {} registering service {} with instance {}", namespaceId, serviceName,
+                instance);
+        if (!instance.isEphemeral()) {
+            PersistentInstanceRequest request = new PersistentInstanceRequest(namespaceId, serviceName, groupName,
+                    NamingRemoteConstants.REGISTER_INSTANCE, instance);
+            return requestToServerAsync(request, Response.class).thenApply(response -> null);
+        }
+        redoService.cacheInstanceForRedo(serviceName, groupName, instance);
+        InstanceRequest request = new InstanceRequest(namespaceId, serviceName, groupName,
+                NamingRemoteConstants.REGISTER_INSTANCE, instance);
+        return requestToServerAsync(request, Response.class)
+                .thenAccept(response -> redoService.instanceRegistered(serviceName, groupName));
+    }
+    
     private void registerServiceForEphemeral(String serviceName, String groupName, Instance instance)
             throws NacosException {
         redoService.cacheInstanceForRedo(serviceName, groupName, instance);
@@ -278,6 +295,28 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         }
     }
     
+    @Override
+    public CompletableFuture<Void> deregisterServiceAsync(String serviceName, String groupName, Instance instance) {
+        if (instance.isEphemeral() && redoService.getRegisteredInstancesByKey(
+                NamingUtils.getGroupedName(serviceName, groupName)) instanceof BatchInstanceRedoData) {
+            // Batch deregister need to calculate retained instances under lock of redo data, keep it blocking.
+            return super.deregisterServiceAsync(serviceName, groupName, instance);
+        }
+        NAMING_LOGGER
+                .info("[DEREGISTER-SERVICE] {} deregistering service {} with instance: {}", namespaceId, serviceName,
+                        instance);
+        if (!instance.isEphemeral()) {
+            PersistentInstanceRequest request = new PersistentInstanceRequest(namespaceId, serviceName, groupName,
+                    NamingRemoteConstants.DE_REGISTER_INSTANCE, instance);
+            return requestToServerAsync(request, Response.class).thenApply(response -> null);
+        }
+        redoService.instanceDeregister(serviceName, groupName);
+        InstanceRequest request = new InstanceRequest(namespaceId, serviceName, groupName,
+                NamingRemoteConstants.DE_REGISTER_INSTANCE, instance);
+        return requestToServerAsync(request, Response.class)
+                .thenAccept(response -> redoService.instanceDeregistered(serviceName, groupName));
+    }
+    
     private void deregisterServiceForEphemeral(String serviceName, String groupName, Instance instance)
             throws NacosException {
         String key = NamingUtils.getGroupedName(serviceName, groupName);
@@ -379,6 +418,18 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         return doSubscribe(serviceName, groupName, clusters);
     }
     
+    @Override
+    public CompletableFuture<ServiceInfo> subscribeAsync(String serviceName, String groupName, String clusters) {
+        NAMING_LOGGER.info("[GRPC-SUBSCRIBE] service:{}, group:{}, cluster:{} ", serviceName, groupName, clusters);
+        redoService.cacheSubscriberForRedo(serviceName, groupName, clusters);
+        SubscribeServiceRequest request = new SubscribeServiceRequest(namespaceId, groupName, serviceName, clusters,
+                true);
+        return requestToServerAsync(request, SubscribeServiceResponse.class).thenApply(response -> {
+            redoService.subscriberRegistered(serviceName, groupName, clusters);
+            return response.getServiceInfo();
+        });
+    }
+    
     /**
      * Execute subscribe operation.
      *
@@ -445,19 +496,7 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
             request.putAllHeader(
                     getSecurityHeaders(request.getNamespace(), request.getGroupName(), request.getServiceName()));
             response = requestTimeout < 0 ? rpcClient.request(request) : rpcClient.request(request, requestTimeout);
-            if (ResponseCode.SUCCESS.getCode() != response.getResultCode()) {
-                // If the 403 login operation is triggered, refresh the accessToken of the client
-                if (NacosException.NO_RIGHT == response.getErrorCode()) {
-                    reLogin();
-                }
-                throw new NacosException(response.getErrorCode(), response.getMessage());
-            }
-            if (responseClass.isAssignableFrom(response.getClass())) {
-                return (T) response;
-            }
-            NAMING_LOGGER.error("Server return unexpected response '{}', expected response should be '{}'",
-                    response.getClass().getName(), responseClass.getName());
-            throw new NacosException(NacosException.SERVER_ERROR, "Server return invalid response");
+            return checkResponse(response, responseClass);
         } catch (NacosException e) {
             recordRequestFailedMetrics(request, e, response);
             throw e;
@@ -467,6 +506,61 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         }
     }
     
+    /**
+     * Request to server asynchronously, the returned future is completed in rpc client threads, so that the dependent
+     * actions should not be blocking.
+     */
+    private <T extends Response> CompletableFuture<T> requestToServerAsync(AbstractNamingRequest request,
+            Class<T> responseClass) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Response> responseFuture;
+        try {
+            request.putAllHeader(
+                    getSecurityHeaders(request.getNamespace(), request.getGroupName(), request.getServiceName()));
+            responseFuture = requestTimeout < 0 ? rpcClient.requestAsync(request)
+                    : rpcClient.requestAsync(request, requestTimeout);
+        } catch (Exception e) {
+            recordRequestFailedMetrics(request, e, null);
+            result.completeExceptionally(
+                    new NacosException(NacosException.SERVER_ERROR, "Request nacos server failed: ", e));
+            return result;
+        }
+        responseFuture.whenComplete((response, throwable) -> {
+            try {
+                if (null != throwable) {
+                    throw throwable instanceof NacosException ? (NacosException) throwable
+                            : new NacosException(NacosException.SERVER_ERROR, "Request nacos server failed: ",
+                                    throwable);
+                }
+                result.complete(checkResponse(response, responseClass));
+            } catch (NacosException e) {
+                recordRequestFailedMetrics(request, e, response);
+                result.completeExceptionally(e);
+            } catch (Exception e) {
+                recordRequestFailedMetrics(request, e, response);
+                result.completeExceptionally(
+                        new NacosException(NacosException.SERVER_ERROR, "Request nacos server failed: ", e));
+            }
+        });
+        return result;
+    }
+    
+    private <T extends Response> T checkResponse(Response response, Class<T> responseClass) throws NacosException {
+        if (ResponseCode.SUCCESS.getCode() != response.getResultCode()) {
+            // If the 403 login operation is triggered, refresh the accessToken of the client
+            if (NacosException.NO_RIGHT == response.getErrorCode()) {
+                reLogin();
+            }
+            throw new NacosException(response.getErrorCode(), response.getMessage());
+        }
+        if (responseClass.isAssignableFrom(response.getClass())) {
+            return (T) response;
+        }
+        NAMING_LOGGER.error("Server return unexpected response '{}', expected response should be '{}'",
+                response.getClass().getName(), responseClass.getName());
+        throw new NacosException(NacosException.SERVER_ERROR, "Server return invalid response");
+    }
+    
     /**
      * Records registration metrics for a service instance.
      *
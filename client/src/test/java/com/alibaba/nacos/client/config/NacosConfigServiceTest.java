@@ -24,6 +24,7 @@ import com.alibaba.nacos.client.config.filter.impl.ConfigResponse;
 import com.alibaba.nacos.client.config.impl.ClientWorker;
 import com.alibaba.nacos.client.config.impl.ConfigServerListManager;
 import com.alibaba.nacos.client.config.impl.ConfigTransportClient;
+import com.alibaba.nacos.client.config.impl.FuzzyWatchContext;
 import com.alibaba.nacos.client.config.impl.LocalConfigInfoProcessor;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import org.junit.jupiter.api.AfterEach;
@@ -40,7 +41,10 @@ import org.mockito.quality.Strictness;
 import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -166,6 +170,58 @@ class NacosConfigServiceTest {
         }
     }
     
+    @Test
+    void testGetConfigAsyncFromServer() throws Exception {
+        final String dataId = "1async";
+        final String group = "2";
+        final String tenant = "";
+        final int timeout = 3000;
+        ConfigResponse response = new ConfigResponse();
+        response.setContent("aa");
+        Mockito.when(mockWoker.getServerConfigAsync(dataId, group, tenant, timeout))
+                .thenReturn(CompletableFuture.completedFuture(response));
+        final String config = nacosConfigService.getConfigAsync(dataId, group, timeout).get(1, TimeUnit.SECONDS);
+        assertEquals("aa", config);
+        Mockito.verify(mockWoker, Mockito.never()).getServerConfig(dataId, group, tenant, timeout, false);
+    }
+    
+    @Test
+    void testGetConfigAsyncFromLocalCache() throws Exception {
+        final String dataId = "1asynclocalcache";
+        final String group = "2";
+        final String tenant = "";
+        
+        MockedStatic<LocalConfigInfoProcessor> localConfigInfoProcessorMockedStatic = Mockito.mockStatic(LocalConfigInfoProcessor.class);
+        try {
+            String content = "localCacheContent" + System.currentTimeMillis();
+            localConfigInfoProcessorMockedStatic.when(() -> LocalConfigInfoProcessor.getSnapshot(any(), eq(dataId), eq(group), eq(tenant)))
+                    .thenReturn(content);
+            final int timeout = 3000;
+            CompletableFuture<ConfigResponse> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new NacosException());
+            Mockito.when(mockWoker.getServerConfigAsync(dataId, group, tenant, timeout)).thenReturn(failed);
+            
+            final String config = nacosConfigService.getConfigAsync(dataId, group, timeout).get(1, TimeUnit.SECONDS);
+            assertEquals(content, config);
+        } finally {
+            localConfigInfoProcessorMockedStatic.close();
+        }
+    }
+    
+    @Test
+    void testGetConfigAsync403() {
+        final String dataId = "1async403";
+        final String group = "2";
+        final String tenant = "";
+        final int timeout = 3000;
+        CompletableFuture<ConfigResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new NacosException(NacosException.NO_RIGHT, "no right"));
+        Mockito.when(mockWoker.getServerConfigAsync(dataId, group, tenant, timeout)).thenReturn(failed);
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                () -> nacosConfigService.getConfigAsync(dataId, group, timeout).get(1, TimeUnit.SECONDS));
+        assertEquals(NacosException.NO_RIGHT, ((NacosException) exception.getCause()).getErrCode());
+    }
+    
     @Test
     void testGetConfigAndSignListener() throws NacosException {
         final String dataId = "1";
@@ -237,6 +293,10 @@ class NacosConfigServiceTest {
             public boolean removeConfig(String dataId, String group, String tenant, String tag) throws NacosException {
                 return false;
             }
+            
+            @Override
+            public void fuzzyWatch(FuzzyWatchContext context, boolean watch) {
+            }
         };
         Mockito.when(mockWoker.getAgent()).thenReturn(client);
         
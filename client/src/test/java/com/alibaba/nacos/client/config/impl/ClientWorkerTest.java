@@ -63,6 +63,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.alibaba.nacos.api.annotation.NacosProperties.NAMESPACE;
@@ -77,6 +78,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -379,6 +381,48 @@ class ClientWorkerTest {
         Mockito.verify(atomicBoolean, times(1)).set(true);
     }
     
+    @Test
+    void testHandleConfigChangeRequestWithPushedContent() throws Exception {
+        Properties prop = new Properties();
+        String tenant = "c";
+        prop.put(NAMESPACE, tenant);
+        ConfigServerListManager agent = Mockito.mock(ConfigServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(prop);
+        ClientWorker clientWorker = new ClientWorker(null, agent, nacosClientProperties);
+        
+        AtomicReference<Map<String, CacheData>> cacheMapMocked = Mockito.mock(AtomicReference.class);
+        Field cacheMap = ClientWorker.class.getDeclaredField("cacheMap");
+        cacheMap.setAccessible(true);
+        cacheMap.set(clientWorker, cacheMapMocked);
+        Map<String, CacheData> cacheDataMapMocked = Mockito.mock(Map.class);
+        Mockito.when(cacheMapMocked.get()).thenReturn(cacheDataMapMocked);
+        CacheData cacheDataMocked = Mockito.mock(CacheData.class);
+        Mockito.when(cacheDataMocked.getLastModifiedTs()).thenReturn(new AtomicLong(1L));
+        String dataId = "a";
+        String group = "b";
+        Mockito.when(cacheDataMapMocked.get(GroupKey.getKeyTenant(dataId, group, tenant))).thenReturn(cacheDataMocked);
+        ConfigChangeNotifyRequest configChangeNotifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
+        configChangeNotifyRequest.setContentPushed(true);
+        configChangeNotifyRequest.setContent("content");
+        configChangeNotifyRequest.setMd5(MD5Utils.md5Hex("content", "UTF-8"));
+        configChangeNotifyRequest.setLastModified(2L);
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeNotifyRequest(
+                configChangeNotifyRequest, "testname");
+        Mockito.verify(cacheDataMocked, times(1)).setContent("content");
+        Mockito.verify(cacheDataMocked, times(1)).setLastModifiedTs(2L);
+        Mockito.verify(cacheDataMocked, times(1)).checkListenerMd5();
+        Mockito.verify(cacheDataMocked, never()).setConsistentWithServer(false);
+        
+        // md5 not matched, fall back to query by listen task.
+        AtomicBoolean atomicBoolean = Mockito.mock(AtomicBoolean.class);
+        Mockito.when(cacheDataMocked.getReceiveNotifyChanged()).thenReturn(atomicBoolean);
+        configChangeNotifyRequest.setMd5("wrongMd5");
+        ((ClientWorker.ConfigRpcTransportClient) clientWorker.getAgent()).handleConfigChangeNotifyRequest(
+                configChangeNotifyRequest, "testname");
+        Mockito.verify(cacheDataMocked, times(1)).setConsistentWithServer(false);
+        Mockito.verify(atomicBoolean, times(1)).set(true);
+    }
+    
     @Test
     void testHandleClientMetricsReqeust() throws Exception {
         
@@ -0,0 +1,91 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.client.config.impl;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.listener.FuzzyWatchChangeEvent;
+import com.alibaba.nacos.api.config.listener.FuzzyWatchEventListener;
+import com.alibaba.nacos.client.config.common.GroupKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FuzzyWatchContextTest {
+    
+    private final FuzzyWatchContext context = new FuzzyWatchContext("app*", "DEFAULT_GROUP", "");
+    
+    private final List<FuzzyWatchChangeEvent> events = new ArrayList<>();
+    
+    private final FuzzyWatchEventListener listener = new FuzzyWatchEventListener() {
+        @Override
+        public void onEvent(FuzzyWatchChangeEvent event) {
+            events.add(event);
+        }
+    };
+    
+    @Test
+    void testIsMatch() {
+        assertTrue(context.isMatch("app.yaml", "DEFAULT_GROUP", null));
+        assertTrue(context.isMatch("app", "DEFAULT_GROUP", ""));
+        assertFalse(context.isMatch("my-app.yaml", "DEFAULT_GROUP", ""));
+        assertFalse(context.isMatch("app.yaml", "OTHER_GROUP", ""));
+        assertFalse(context.isMatch("app.yaml", "DEFAULT_GROUP", "tenant"));
+    }
+    
+    @Test
+    void testSyncAndChange() {
+        String key1 = GroupKey.getKeyTenant("app1", "DEFAULT_GROUP", "");
+        String key2 = GroupKey.getKeyTenant("app2", "DEFAULT_GROUP", "");
+        assertTrue(context.addListener(listener));
+        context.syncMatchedConfigs(Arrays.asList(key1, key2));
+        assertEquals(2, events.size());
+        context.onChange(key1, Constants.Config.FUZZY_WATCH_CONFIG_CHANGED);
+        assertEquals(Constants.Config.FUZZY_WATCH_CONFIG_CHANGED, events.get(2).getChangeType());
+        // Deleted during disconnected.
+        context.syncMatchedConfigs(Collections.singletonList(key1));
+        assertEquals(Constants.Config.FUZZY_WATCH_DELETE_CONFIG, events.get(3).getChangeType());
+        assertEquals("app2", events.get(3).getDataId());
+        // Delete of unknown config is ignored, and change of unknown config is notified as added.
+        context.onChange(key2, Constants.Config.FUZZY_WATCH_DELETE_CONFIG);
+        context.onChange(key2, Constants.Config.FUZZY_WATCH_CONFIG_CHANGED);
+        assertEquals(5, events.size());
+        assertEquals(Constants.Config.FUZZY_WATCH_ADD_CONFIG, events.get(4).getChangeType());
+    }
+    
+    @Test
+    void testAddListenerReceiveExistedConfigs() {
+        context.addListener(listener);
+        context.onChange(GroupKey.getKeyTenant("app1", "DEFAULT_GROUP", ""), Constants.Config.FUZZY_WATCH_ADD_CONFIG);
+        List<FuzzyWatchChangeEvent> newEvents = new ArrayList<>();
+        assertFalse(context.addListener(new FuzzyWatchEventListener() {
+            @Override
+            public void onEvent(FuzzyWatchChangeEvent event) {
+                newEvents.add(event);
+            }
+        }));
+        assertEquals(1, newEvents.size());
+        assertEquals("app1", newEvents.get(0).getDataId());
+        assertFalse(context.removeListener(listener));
+    }
+}
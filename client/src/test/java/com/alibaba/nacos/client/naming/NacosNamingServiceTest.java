@@ -47,6 +47,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.client.naming.selector.NamingSelectorFactory.getUniqueClusterString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -300,6 +303,35 @@ class NacosNamingServiceTest {
                 "Instance 'clusterName' should be characters with only 0-9a-zA-Z-. (current: cluster1,cluster2)"));
     }
     
+    @Test
+    void testRegisterInstanceAsync() throws Exception {
+        //given
+        String serviceName = "service1";
+        String groupName = "group1";
+        Instance instance = new Instance();
+        when(proxy.registerServiceAsync(serviceName, groupName, instance)).thenReturn(
+                CompletableFuture.completedFuture(null));
+        //when
+        client.registerInstanceAsync(serviceName, groupName, instance).get(1, TimeUnit.SECONDS);
+        //then
+        verify(proxy, times(1)).registerServiceAsync(serviceName, groupName, instance);
+    }
+    
+    @Test
+    void testRegisterInstanceAsyncWithIllegalInstance() {
+        //given
+        String serviceName = "service1";
+        String groupName = "group1";
+        Instance instance = new Instance();
+        instance.setClusterName("cluster1,cluster2");
+        //when
+        CompletableFuture<Void> future = client.registerInstanceAsync(serviceName, groupName, instance);
+        //then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof NacosException);
+        verify(proxy, never()).registerServiceAsync(anyString(), anyString(), argThat(each -> true));
+    }
+    
     @Test
     void testDeregisterInstance1() throws NacosException {
         //given
@@ -521,6 +553,27 @@ class NacosNamingServiceTest {
         verify(proxy, times(1)).subscribe(serviceName, groupName, "");
     }
     
+    @Test
+    void testSelectInstancesAsync() throws Exception {
+        //given
+        String serviceName = "service1";
+        String groupName = "group1";
+        ServiceInfo serviceInfo = new ServiceInfo(groupName + "@@" + serviceName);
+        Instance healthyInstance = new Instance();
+        healthyInstance.setHealthy(true);
+        Instance unhealthyInstance = new Instance();
+        unhealthyInstance.setHealthy(false);
+        serviceInfo.setHosts(new ArrayList<>(Arrays.asList(healthyInstance, unhealthyInstance)));
+        when(proxy.subscribeAsync(serviceName, groupName, "")).thenReturn(
+                CompletableFuture.completedFuture(serviceInfo));
+        //when
+        List<Instance> actual = client.selectInstancesAsync(serviceName, groupName, true).get(1, TimeUnit.SECONDS);
+        //then
+        assertEquals(1, actual.size());
+        assertSame(healthyInstance, actual.get(0));
+        verify(proxy, never()).subscribe(serviceName, groupName, "");
+    }
+    
     @Test
     void testSelectInstances3() throws NacosException {
         //given
@@ -78,6 +78,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -236,6 +238,30 @@ class NamingGrpcClientProxyTest {
         assertTrue(exception.getMessage().contains("Request nacos server failed: "));
     }
     
+    @Test
+    void testRegisterServiceAsync() throws Exception {
+        when(this.rpcClient.requestAsync(any())).thenReturn(CompletableFuture.completedFuture(response));
+        client.registerServiceAsync(SERVICE_NAME, GROUP_NAME, instance).get(1, TimeUnit.SECONDS);
+        verify(this.rpcClient, times(1)).requestAsync(argThat(request -> {
+            if (request instanceof InstanceRequest) {
+                InstanceRequest request1 = (InstanceRequest) request;
+                return request1.getType().equals(NamingRemoteConstants.REGISTER_INSTANCE);
+            }
+            return false;
+        }));
+        verify(this.rpcClient, times(0)).request(any());
+    }
+    
+    @Test
+    void testRegisterServiceAsyncWithErrorResponse() {
+        when(this.rpcClient.requestAsync(any())).thenReturn(
+                CompletableFuture.completedFuture(ErrorResponse.build(400, "err args")));
+        CompletableFuture<Void> future = client.registerServiceAsync(SERVICE_NAME, GROUP_NAME, instance);
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof NacosException);
+        assertTrue(exception.getCause().getMessage().contains("err args"));
+    }
+    
     @Test
     void testDeregisterService() throws NacosException {
         client.deregisterService(SERVICE_NAME, GROUP_NAME, instance);
@@ -484,6 +510,17 @@ class NamingGrpcClientProxyTest {
         assertEquals(info, actual);
     }
     
+    @Test
+    void testSubscribeAsync() throws Exception {
+        SubscribeServiceResponse res = new SubscribeServiceResponse();
+        ServiceInfo info = new ServiceInfo(GROUP_NAME + "@@" + SERVICE_NAME + "@@" + CLUSTERS);
+        res.setServiceInfo(info);
+        when(this.rpcClient.requestAsync(any())).thenReturn(CompletableFuture.completedFuture(res));
+        ServiceInfo actual = client.subscribeAsync(SERVICE_NAME, GROUP_NAME, CLUSTERS).get(1, TimeUnit.SECONDS);
+        assertEquals(info, actual);
+        assertTrue(client.isSubscribed(SERVICE_NAME, GROUP_NAME, CLUSTERS));
+    }
+    
     @Test
     void testUnsubscribe() throws Exception {
         SubscribeServiceResponse res = new SubscribeServiceResponse();
@@ -85,6 +85,9 @@ public class NotifyCenter {
         }
         
         DEFAULT_PUBLISHER_FACTORY = (cls, buffer) -> {
+            if (RingBufferPublisherFactory.isRingBufferEventType(cls)) {
+                return RingBufferPublisherFactory.getInstance().apply(cls, buffer);
+            }
             try {
                 EventPublisher publisher = clazz.newInstance();
                 publisher.init(cls, buffer);
@@ -0,0 +1,298 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.utils.ThreadUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Event publisher based on a preallocated multi-producer single-consumer ring buffer.
+ *
+ * <p>Different from {@link DefaultPublisher}, the event will never be handled in the thread of publisher when the
+ * ring buffer is full. The publisher will wait for free slot at most {@link #fullWaitMillis}, and then drop the event.
+ * The waiting and dropping times are recorded, see {@link #getBackpressureCount()} and {@link #getDropCount()}, and the
+ * dropped events are logged as summary at most once every {@link #DROP_LOG_INTERVAL_MILLIS}.
+ *
+ * <p>The consumer thread drains the published events in batch and waits by {@link WaitStrategy} when no event.
+ *
+ * @author xiweng.yy
+ */
+public class RingBufferPublisher extends DefaultPublisher {
+    
+    private static final long FULL_WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    
+    private static final long MAX_BLOCKING_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    
+    private static final int SPIN_TRIES = 100;
+    
+    private static final int YIELD_TRIES = 200;
+    
+    private static final long DROP_LOG_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(10);
+    
+    private final WaitStrategy waitStrategy;
+    
+    private final int batchSize;
+    
+    private final long fullWaitMillis;
+    
+    private final AtomicLong producerSequence = new AtomicLong(-1L);
+    
+    private final LongAdder backpressureCount = new LongAdder();
+    
+    private final LongAdder dropCount = new LongAdder();
+    
+    private final AtomicLong lastDropLogTime = new AtomicLong();
+    
+    /**
+     * Drop count when last logged, only updated by the thread logging drop summary.
+     */
+    private volatile long loggedDropCount = 0L;
+    
+    private volatile long consumerSequence = -1L;
+    
+    private volatile boolean consumerWaiting = false;
+    
+    private volatile boolean stopped = false;
+    
+    private AtomicReferenceArray<Event> ringBuffer;
+    
+    private int mask;
+    
+    public RingBufferPublisher() {
+        this(RingBufferPublisherFactory.getInstance().getWaitStrategy(),
+                RingBufferPublisherFactory.getInstance().getBatchSize(),
+                RingBufferPublisherFactory.getInstance().getFullWaitMillis());
+    }
+    
+    public RingBufferPublisher(WaitStrategy waitStrategy, int batchSize, long fullWaitMillis) {
+        this.waitStrategy = waitStrategy;
+        this.batchSize = Math.max(1, batchSize);
+        this.fullWaitMillis = Math.max(0L, fullWaitMillis);
+    }
+    
+    @Override
+    public void init(Class<? extends Event> type, int bufferSize) {
+        setDaemon(true);
+        setName("nacos.ring-publisher-" + type.getName());
+        int capacity = bufferSize <= 0 ? NotifyCenter.ringBufferSize : bufferSize;
+        this.ringBuffer = new AtomicReferenceArray<>(ceilingPowerOfTwo(capacity));
+        this.mask = ringBuffer.length() - 1;
+        start();
+    }
+    
+    @Override
+    public long currentEventSize() {
+        return producerSequence.get() - consumerSequence;
+    }
+    
+    @Override
+    public void run() {
+        try {
+            // Same as DefaultPublisher, wait for the first subscriber to avoid losing events.
+            int waitTimes = 60;
+            while (!stopped && getSubscribers().isEmpty() && waitTimes > 0) {
+                ThreadUtils.sleep(1000L);
+                waitTimes--;
+            }
+            int idleTimes = 0;
+            while (!stopped) {
+                if (drainBatch() > 0) {
+                    idleTimes = 0;
+                } else {
+                    waitForEvent(idleTimes++);
+                }
+            }
+        } catch (Throwable ex) {
+            LOGGER.error("Event listener exception : ", ex);
+        }
+    }
+    
+    private int drainBatch() {
+        long nextSequence = consumerSequence + 1;
+        int drained = 0;
+        while (drained < batchSize) {
+            int index = (int) nextSequence & mask;
+            Event event = ringBuffer.get(index);
+            if (null == event) {
+                break;
+            }
+            ringBuffer.lazySet(index, null);
+            receiveEvent(event);
+            lastEventSequence = Math.max(lastEventSequence, event.sequence());
+            nextSequence++;
+            drained++;
+        }
+        if (drained > 0) {
+            // Release the slots of the whole batch by one volatile write.
+            consumerSequence = nextSequence - 1;
+        }
+        return drained;
+    }
+    
+    private void waitForEvent(int idleTimes) {
+        switch (waitStrategy) {
+            case BUSY_SPIN:
+                break;
+            case YIELDING:
+                if (idleTimes > SPIN_TRIES) {
+                    Thread.yield();
+                }
+                break;
+            case SLEEPING:
+                if (idleTimes > YIELD_TRIES) {
+                    LockSupport.parkNanos(FULL_WAIT_PARK_NANOS);
+                } else if (idleTimes > SPIN_TRIES) {
+                    Thread.yield();
+                }
+                break;
+            default:
+                consumerWaiting = true;
+                if (!hasPendingEvent()) {
+                    LockSupport.parkNanos(this, MAX_BLOCKING_PARK_NANOS);
+                }
+                consumerWaiting = false;
+        }
+    }
+    
+    private boolean hasPendingEvent() {
+        return null != ringBuffer.get((int) (consumerSequence + 1) & mask);
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        long sequence = claimSequence();
+        if (sequence < 0) {
+            dropCount.increment();
+            logDropSummary(event);
+            return false;
+        }
+        // Volatile write, pair with the read of consumerWaiting below.
+        ringBuffer.set((int) sequence & mask, event);
+        if (consumerWaiting) {
+            LockSupport.unpark(this);
+        }
+        return true;
+    }
+    
+    private void logDropSummary(Event lastDropped) {
+        long now = System.currentTimeMillis();
+        long lastLogTime = lastDropLogTime.get();
+        if (now - lastLogTime < DROP_LOG_INTERVAL_MILLIS || !lastDropLogTime.compareAndSet(lastLogTime, now)) {
+            return;
+        }
+        long totalDropped = dropCount.sum();
+        long dropped = totalDropped - loggedDropCount;
+        loggedDropCount = totalDropped;
+        LOGGER.warn("[NotifyCenter] Ring buffer of {} is full, dropped {} events since last report, {} in total, "
+                + "last dropped event type : {}", getName(), dropped, totalDropped, lastDropped.getClass().getName());
+    }
+    
+    /**
+     * Claim next sequence of ring buffer, wait at most {@link #fullWaitMillis} when full.
+     *
+     * @return claimed sequence, or -1 if ring buffer keeps full.
+     */
+    private long claimSequence() {
+        long deadline = 0L;
+        while (!stopped) {
+            long current = producerSequence.get();
+            long next = current + 1;
+            if (next - ringBuffer.length() > consumerSequence) {
+                if (0L == deadline) {
+                    if (0L == fullWaitMillis) {
+                        return -1L;
+                    }
+                    backpressureCount.increment();
+                    deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fullWaitMillis);
+                } else if (System.nanoTime() - deadline > 0) {
+                    return -1L;
+                }
+                LockSupport.parkNanos(FULL_WAIT_PARK_NANOS);
+                continue;
+            }
+            if (producerSequence.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+        return -1L;
+    }
+    
+    @Override
+    public void shutdown() {
+        this.stopped = true;
+        LockSupport.unpark(this);
+    }
+    
+    /**
+     * Get the times of publishing which had to wait for free slot.
+     *
+     * @return backpressure count
+     */
+    public long getBackpressureCount() {
+        return backpressureCount.sum();
+    }
+    
+    /**
+     * Get the count of events dropped because of full ring buffer.
+     *
+     * @return drop count
+     */
+    public long getDropCount() {
+        return dropCount.sum();
+    }
+    
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+    
+    private static int ceilingPowerOfTwo(int value) {
+        int result = Integer.highestOneBit(value);
+        return result == value ? result : result << 1;
+    }
+    
+    /**
+     * Strategy of consumer thread waiting for new events.
+     */
+    public enum WaitStrategy {
+        
+        /**
+         * Park the consumer thread until new event published, lowest cpu usage with a little more latency.
+         */
+        BLOCKING,
+        
+        /**
+         * Spin, then yield, then park for a short while.
+         */
+        SLEEPING,
+        
+        /**
+         * Spin, then yield, low latency and high cpu usage.
+         */
+        YIELDING,
+        
+        /**
+         * Always spin, lowest latency, occupies one cpu core.
+         */
+        BUSY_SPIN
+    }
+}
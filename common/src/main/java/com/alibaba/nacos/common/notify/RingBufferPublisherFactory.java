@@ -0,0 +1,119 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.utils.ClassUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+/**
+ * Event publisher factory to build {@link RingBufferPublisher}.
+ *
+ * <p>Can be used by {@link NotifyCenter#registerToPublisher(Class, EventPublisherFactory, int)} for specified event
+ * type, or by setting the event type into {@link #RING_PUBLISHER_EVENT_TYPES} to replace the default publisher.
+ *
+ * @author xiweng.yy
+ */
+public class RingBufferPublisherFactory implements EventPublisherFactory {
+    
+    /**
+     * Canonical names of event types which use ring buffer publisher by default, split by comma.
+     */
+    public static final String RING_PUBLISHER_EVENT_TYPES = "nacos.core.notify.ring-publisher.event-types";
+    
+    public static final String RING_PUBLISHER_WAIT_STRATEGY = "nacos.core.notify.ring-publisher.wait-strategy";
+    
+    public static final String RING_PUBLISHER_BATCH_SIZE = "nacos.core.notify.ring-publisher.batch-size";
+    
+    /**
+     * Max waiting time of publishing when ring buffer is full, 0 means drop directly.
+     */
+    public static final String RING_PUBLISHER_FULL_WAIT_MS = "nacos.core.notify.ring-publisher.full-wait-ms";
+    
+    private static final RingBufferPublisherFactory INSTANCE = new RingBufferPublisherFactory();
+    
+    private final RingBufferPublisher.WaitStrategy waitStrategy;
+    
+    private final int batchSize;
+    
+    private final long fullWaitMillis;
+    
+    public RingBufferPublisherFactory() {
+        this(parseWaitStrategy(System.getProperty(RING_PUBLISHER_WAIT_STRATEGY)),
+                Integer.getInteger(RING_PUBLISHER_BATCH_SIZE, 256), Long.getLong(RING_PUBLISHER_FULL_WAIT_MS, 1000L));
+    }
+    
+    public RingBufferPublisherFactory(RingBufferPublisher.WaitStrategy waitStrategy, int batchSize,
+            long fullWaitMillis) {
+        this.waitStrategy = waitStrategy;
+        this.batchSize = batchSize;
+        this.fullWaitMillis = fullWaitMillis;
+    }
+    
+    public static RingBufferPublisherFactory getInstance() {
+        return INSTANCE;
+    }
+    
+    RingBufferPublisher.WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+    
+    int getBatchSize() {
+        return batchSize;
+    }
+    
+    long getFullWaitMillis() {
+        return fullWaitMillis;
+    }
+    
+    @Override
+    public EventPublisher apply(Class<? extends Event> eventType, Integer maxQueueSize) {
+        RingBufferPublisher result = new RingBufferPublisher(waitStrategy, batchSize, fullWaitMillis);
+        result.init(eventType, maxQueueSize);
+        return result;
+    }
+    
+    /**
+     * Whether the event type is configured to use ring buffer publisher.
+     *
+     * @param eventType event type
+     * @return {@code true} if configured in {@link #RING_PUBLISHER_EVENT_TYPES}
+     */
+    static boolean isRingBufferEventType(Class<? extends Event> eventType) {
+        String eventTypes = System.getProperty(RING_PUBLISHER_EVENT_TYPES);
+        if (StringUtils.isBlank(eventTypes)) {
+            return false;
+        }
+        String canonicalName = ClassUtils.getCanonicalName(eventType);
+        for (String each : eventTypes.split(",")) {
+            if (canonicalName.equals(each.trim())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static RingBufferPublisher.WaitStrategy parseWaitStrategy(String value) {
+        if (StringUtils.isBlank(value)) {
+            return RingBufferPublisher.WaitStrategy.BLOCKING;
+        }
+        try {
+            return RingBufferPublisher.WaitStrategy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return RingBufferPublisher.WaitStrategy.BLOCKING;
+        }
+    }
+}
@@ -20,8 +20,10 @@ import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.ability.constant.AbilityStatus;
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.AbstractRequestCallBack;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.RequestFuture;
+import com.alibaba.nacos.api.remote.RpcScheduledExecutor;
 import com.alibaba.nacos.api.remote.request.ClientDetectionRequest;
 import com.alibaba.nacos.api.remote.request.ConnectResetRequest;
 import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
@@ -50,6 +52,8 @@ import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -98,6 +102,8 @@ public abstract class RpcClient implements Closeable {
      */
     protected List<ServerRequestHandler> serverRequestHandlers = new ArrayList<>();
     
+    private static final long ASYNC_RETRY_BASE_DELAY_MILLS = 100L;
+    
     private static final Pattern EXCLUDE_PROTOCOL_PATTERN = Pattern.compile("(?<=\\w{1,5}://)(.*)");
     
     protected RpcClientConfig rpcClientConfig;
@@ -799,6 +805,102 @@ public abstract class RpcClient implements Closeable {
         
     }
     
+    /**
+     * Send request asynchronously with default timeout.
+     *
+     * @param request request.
+     * @return future of response.
+     */
+    public CompletableFuture<Response> requestAsync(Request request) {
+        return requestAsync(request, rpcClientConfig.timeOutMills());
+    }
+    
+    /**
+     * Send request asynchronously. Unlike {@link #request(Request, long)}, failed requests are retried by scheduler
+     * with exponential backoff, so that no thread is blocked when waiting for reconnecting.
+     *
+     * @param request      request.
+     * @param timeoutMills timeout of request, including all retries.
+     * @return future of response, completed exceptionally with {@link NacosException} if all retries failed.
+     */
+    public CompletableFuture<Response> requestAsync(Request request, long timeoutMills) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        doRequestAsync(request, result, 0, System.currentTimeMillis() + timeoutMills);
+        return result;
+    }
+    
+    private void doRequestAsync(Request request, CompletableFuture<Response> future, int retryTimes,
+            long deadline) {
+        if (future.isDone()) {
+            // cancelled by caller.
+            return;
+        }
+        Connection connection = this.currentConnection;
+        if (connection == null || !isRunning()) {
+            onRequestAsyncFail(request, future, retryTimes, deadline, true,
+                    new NacosException(NacosException.CLIENT_DISCONNECT,
+                            "Client not connected, current status:" + rpcClientStatus.get()));
+            return;
+        }
+        try {
+            long timeout = Math.max(1L, deadline - System.currentTimeMillis());
+            connection.asyncRequest(request, new AbstractRequestCallBack(timeout) {
+                @Override
+                public Executor getExecutor() {
+                    return null;
+                }
+                
+                @Override
+                public void onResponse(Response response) {
+                    lastActiveTimeStamp = System.currentTimeMillis();
+                    future.complete(response);
+                }
+                
+                @Override
+                public void onException(Throwable e) {
+                    boolean waitReconnect = e instanceof NacosException
+                            && ((NacosException) e).getErrCode() == NacosException.UN_REGISTER;
+                    if (waitReconnect) {
+                        if (rpcClientStatus.compareAndSet(RpcClientStatus.RUNNING, RpcClientStatus.UNHEALTHY)) {
+                            LoggerUtils.printIfErrorEnabled(LOGGER,
+                                    "Connection is unregistered, switch server, connectionId = {}, request = {}",
+                                    connection.getConnectionId(), request.getClass().getSimpleName());
+                            switchServerAsync();
+                        }
+                    }
+                    onRequestAsyncFail(request, future, retryTimes, deadline, waitReconnect, e);
+                }
+            });
+        } catch (Throwable e) {
+            onRequestAsyncFail(request, future, retryTimes, deadline, false, e);
+        }
+    }
+    
+    private void onRequestAsyncFail(Request request, CompletableFuture<Response> future, int retryTimes,
+            long deadline, boolean waitReconnect, Throwable e) {
+        LoggerUtils.printIfErrorEnabled(LOGGER,
+                "[{}] Send async request fail, request = {}, retryTimes = {}, errorMessage = {}",
+                rpcClientConfig.name(), request, retryTimes, e.getMessage());
+        long remainMills = deadline - System.currentTimeMillis();
+        if (retryTimes >= rpcClientConfig.retryTimes() || remainMills <= 0) {
+            if (rpcClientStatus.compareAndSet(RpcClientStatus.RUNNING, RpcClientStatus.UNHEALTHY)) {
+                switchServerAsyncOnRequestFail();
+            }
+            future.completeExceptionally(
+                    (e instanceof NacosException) ? e : new NacosException(SERVER_ERROR, e));
+            return;
+        }
+        // Backoff exponentially to wait client to reconnect, without blocking current thread.
+        long delay = waitReconnect ? Math.min(ASYNC_RETRY_BASE_DELAY_MILLS << retryTimes, remainMills / 3) : 0L;
+        try {
+            RpcScheduledExecutor.RETRY_SCHEDULER
+                    .schedule(() -> doRequestAsync(request, future, retryTimes + 1, deadline), delay,
+                            TimeUnit.MILLISECONDS);
+        } catch (Exception rejected) {
+            future.completeExceptionally(new NacosException(SERVER_ERROR, rejected));
+        }
+    }
+    
     /**
      * connect to server.
      *
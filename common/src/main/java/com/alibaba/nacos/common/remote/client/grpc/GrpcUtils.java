@@ -24,8 +24,11 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
@@ -73,16 +76,32 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, (PayloadCodec) null);
+    }
+    
+    /**
+     * convert request to payload with codec, json will be used if codec is null or not support the request.
+     *
+     * @param request request.
+     * @param codec   payload codec negotiated with remote, nullable.
+     * @return payload.
+     */
+    public static Payload convert(Request request, PayloadCodec codec) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
-        byte[] jsonBytes = convertRequestToByte(request);
+        Any body;
+        if (isCodecSupported(codec, request)) {
+            // headers are transferred by metadata, codec will not encode them.
+            body = buildBody(codec.encode(request), codec.getName());
+        } else {
+            body = buildBody(convertRequestToByte(request), null);
+        }
         
         Payload.Builder builder = Payload.newBuilder();
         
-        return builder.setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(newMeta).build();
+        return builder.setBody(body).setMetadata(newMeta).build();
         
     }
     
@@ -93,11 +112,38 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Response response) {
-        byte[] jsonBytes = JacksonUtils.toJsonBytes(response);
+        return convert(response, null);
+    }
+    
+    /**
+     * convert response to payload with codec, json will be used if codec is null or not support the response.
+     *
+     * @param response response.
+     * @param codec    payload codec negotiated with remote, nullable.
+     * @return payload.
+     */
+    public static Payload convert(Response response, PayloadCodec codec) {
+        Any body;
+        if (isCodecSupported(codec, response)) {
+            body = buildBody(codec.encode(response), codec.getName());
+        } else {
+            body = buildBody(JacksonUtils.toJsonBytes(response), null);
+        }
         
         Metadata.Builder metaBuilder = Metadata.newBuilder().setType(response.getClass().getSimpleName());
-        return Payload.newBuilder().setBody(Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(jsonBytes)))
-                .setMetadata(metaBuilder.build()).build();
+        return Payload.newBuilder().setBody(body).setMetadata(metaBuilder.build()).build();
+    }
+    
+    private static boolean isCodecSupported(PayloadCodec codec, Object obj) {
+        return null != codec && codec.isSupported(obj.getClass());
+    }
+    
+    private static Any buildBody(byte[] bytes, String codecName) {
+        Any.Builder builder = Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(bytes));
+        if (null != codecName) {
+            builder.setTypeUrl(codecName);
+        }
+        return builder.build();
     }
     
     private static byte[] convertRequestToByte(Request request) {
@@ -119,7 +165,7 @@ public class GrpcUtils {
         if (classType != null) {
             ByteString byteString = payload.getBody().getValue();
             ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
-            Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+            Object obj = decodeBody(payload.getBody().getTypeUrl(), byteBuffer, classType);
             if (obj instanceof Request) {
                 ((Request) obj).putAllHeader(payload.getMetadata().getHeadersMap());
             }
@@ -129,4 +175,16 @@ public class GrpcUtils {
                     "Unknown payload type:" + payload.getMetadata().getType());
         }
     }
+    
+    private static Object decodeBody(String codecName, ByteBuffer byteBuffer, Class<?> classType) {
+        // body without type url is encoded by json, which is compatible with old version.
+        if (StringUtils.isEmpty(codecName)) {
+            return JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
+        }
+        PayloadCodec codec = PayloadCodecManager.getInstance().getCodec(codecName);
+        if (null == codec) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unknown payload codec:" + codecName);
+        }
+        return codec.decode(byteBuffer, classType);
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+/**
+ * Object which holds its bytes encoded by {@link CompactPayloadCodec}, so that the object shared by many requests,
+ * such as the service info pushed to all subscribers, is encoded only once.
+ *
+ * @author xiweng.yy
+ */
+public interface CompactBytesHolder {
+    
+    /**
+     * Get the encoded compact bytes.
+     *
+     * @return encoded bytes, {@code null} if not encoded yet
+     */
+    byte[] getCompactBytes();
+    
+    /**
+     * Set the encoded compact bytes, the holder must not be changed after that.
+     *
+     * @param compactBytes encoded bytes
+     */
+    void setCompactBytes(byte[] compactBytes);
+}
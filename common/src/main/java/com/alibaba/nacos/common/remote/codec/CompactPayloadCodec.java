@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
+import com.alibaba.nacos.api.exception.runtime.NacosDeserializationException;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.InstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
+import com.google.protobuf.CodedInputStream;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Compact binary codec for hot requests and responses, such as instance register, service push and config listen.
+ *
+ * <p>Each supported type has a fixed {@link CompactSchema} using protobuf wire format, which is much smaller and
+ * cheaper than json. Types without schema will still be encoded by json.
+ *
+ * @author xiweng.yy
+ */
+public class CompactPayloadCodec implements PayloadCodec {
+    
+    public static final String NAME = "nacos/compact";
+    
+    private final Map<Class<?>, CompactSchema<?>> schemas = new HashMap<>(16);
+    
+    public CompactPayloadCodec() {
+        schemas.put(InstanceRequest.class, CompactSchemas.INSTANCE_REQUEST);
+        schemas.put(InstanceResponse.class, CompactSchemas.INSTANCE_RESPONSE);
+        schemas.put(NotifySubscriberRequest.class, CompactSchemas.NOTIFY_SUBSCRIBER_REQUEST);
+        schemas.put(NotifySubscriberResponse.class, CompactSchemas.NOTIFY_SUBSCRIBER_RESPONSE);
+        schemas.put(ConfigBatchListenRequest.class, CompactSchemas.CONFIG_BATCH_LISTEN_REQUEST);
+        schemas.put(ConfigChangeBatchListenResponse.class, CompactSchemas.CONFIG_CHANGE_BATCH_LISTEN_RESPONSE);
+    }
+    
+    @Override
+    public String getName() {
+        return NAME;
+    }
+    
+    @Override
+    public boolean isSupported(Class<?> type) {
+        return schemas.containsKey(type);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] encode(Object obj) {
+        CompactSchema<Object> schema = (CompactSchema<Object>) schemas.get(obj.getClass());
+        if (null == schema) {
+            throw new NacosSerializationException(obj.getClass());
+        }
+        try {
+            return schema.toBytes(obj);
+        } catch (IOException e) {
+            throw new NacosSerializationException(obj.getClass(), e);
+        }
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T decode(ByteBuffer buffer, Class<T> type) {
+        CompactSchema<T> schema = (CompactSchema<T>) schemas.get(type);
+        if (null == schema) {
+            throw new NacosDeserializationException(type);
+        }
+        try {
+            return schema.read(CodedInputStream.newInstance(buffer));
+        } catch (IOException e) {
+            throw new NacosDeserializationException(type, e);
+        }
+    }
+}
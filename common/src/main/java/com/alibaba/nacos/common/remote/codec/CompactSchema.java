@@ -0,0 +1,171 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Schema of one type for {@link CompactPayloadCodec}, fields are written in protobuf wire format with fixed field
+ * numbers, so that unknown fields can be skipped by older readers.
+ *
+ * <p>Null strings and messages are not written, nested messages are written as length delimited bytes.
+ *
+ * @param <T> type of object
+ * @author xiweng.yy
+ */
+abstract class CompactSchema<T> {
+    
+    private static final int ENTRY_KEY = 1;
+    
+    private static final int ENTRY_VALUE = 2;
+    
+    /**
+     * Create new empty instance for decoding.
+     *
+     * @return new instance
+     */
+    abstract T newInstance();
+    
+    /**
+     * Write all fields of object.
+     *
+     * @param out output stream
+     * @param obj object to write
+     * @throws IOException write failed
+     */
+    abstract void writeFields(CodedOutputStream out, T obj) throws IOException;
+    
+    /**
+     * Read one field into object.
+     *
+     * @param in          input stream
+     * @param fieldNumber field number of current tag
+     * @param obj         object to fill
+     * @return {@code false} if field number is unknown and should be skipped
+     * @throws IOException read failed
+     */
+    abstract boolean readField(CodedInputStream in, int fieldNumber, T obj) throws IOException;
+    
+    /**
+     * Read object until the end of input or current limit.
+     *
+     * @param in input stream
+     * @return decoded object
+     * @throws IOException read failed
+     */
+    T read(CodedInputStream in) throws IOException {
+        T result = newInstance();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            if (!readField(in, WireFormat.getTagFieldNumber(tag), result)) {
+                in.skipField(tag);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Write object as bytes without tag, used for top level object and nested message.
+     *
+     * @param obj object to write
+     * @return encoded bytes
+     * @throws IOException write failed
+     */
+    byte[] toBytes(T obj) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+        CodedOutputStream out = CodedOutputStream.newInstance(bos);
+        writeFields(out, obj);
+        out.flush();
+        return bos.toByteArray();
+    }
+    
+    static void writeString(CodedOutputStream out, int fieldNumber, String value) throws IOException {
+        if (null != value) {
+            out.writeString(fieldNumber, value);
+        }
+    }
+    
+    static <E> void writeMessage(CodedOutputStream out, int fieldNumber, CompactSchema<E> schema, E value)
+            throws IOException {
+        if (null != value) {
+            out.writeByteArray(fieldNumber, schema.toBytes(value));
+        }
+    }
+    
+    static <E> void writeMessages(CodedOutputStream out, int fieldNumber, CompactSchema<E> schema,
+            Collection<E> values) throws IOException {
+        if (null == values) {
+            return;
+        }
+        for (E each : values) {
+            writeMessage(out, fieldNumber, schema, each);
+        }
+    }
+    
+    static <E> E readMessage(CodedInputStream in, CompactSchema<E> schema) throws IOException {
+        int length = in.readRawVarint32();
+        int oldLimit = in.pushLimit(length);
+        E result = schema.read(in);
+        in.popLimit(oldLimit);
+        return result;
+    }
+    
+    static void writeEntries(CodedOutputStream out, int fieldNumber, Map<String, String> map) throws IOException {
+        if (null == map) {
+            return;
+        }
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            CodedOutputStream entryOut = CodedOutputStream.newInstance(bos);
+            writeString(entryOut, ENTRY_KEY, entry.getKey());
+            writeString(entryOut, ENTRY_VALUE, entry.getValue());
+            entryOut.flush();
+            out.writeByteArray(fieldNumber, bos.toByteArray());
+        }
+    }
+    
+    static void readEntry(CodedInputStream in, Map<String, String> map) throws IOException {
+        int length = in.readRawVarint32();
+        int oldLimit = in.pushLimit(length);
+        String key = null;
+        String value = null;
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ENTRY_KEY:
+                    key = in.readString();
+                    break;
+                case ENTRY_VALUE:
+                    value = in.readString();
+                    break;
+                default:
+                    in.skipField(tag);
+            }
+        }
+        in.popLimit(oldLimit);
+        if (null != key) {
+            map.put(key, value);
+        }
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.response.InstanceResponse;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
+import com.alibaba.nacos.api.remote.response.Response;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact schemas of hot requests and responses.
+ *
+ * <p>Field numbers must never be changed or reused, new fields should be appended with new field numbers.
+ *
+ * @author xiweng.yy
+ */
+final class CompactSchemas {
+    
+    static final CompactSchema<Instance> INSTANCE = new InstanceSchema();
+    
+    static final CompactSchema<ServiceInfo> SERVICE_INFO = new ServiceInfoSchema();
+    
+    static final CompactSchema<InstanceRequest> INSTANCE_REQUEST = new InstanceRequestSchema();
+    
+    static final CompactSchema<InstanceResponse> INSTANCE_RESPONSE = new InstanceResponseSchema();
+    
+    static final CompactSchema<NotifySubscriberRequest> NOTIFY_SUBSCRIBER_REQUEST = new NotifySubscriberRequestSchema();
+    
+    static final CompactSchema<NotifySubscriberResponse> NOTIFY_SUBSCRIBER_RESPONSE =
+            new NotifySubscriberResponseSchema();
+    
+    static final CompactSchema<ConfigBatchListenRequest> CONFIG_BATCH_LISTEN_REQUEST =
+            new ConfigBatchListenRequestSchema();
+    
+    static final CompactSchema<ConfigChangeBatchListenResponse> CONFIG_CHANGE_BATCH_LISTEN_RESPONSE =
+            new ConfigChangeBatchListenResponseSchema();
+    
+    private CompactSchemas() {
+    }
+    
+    /**
+     * Base schema of response, field number 1~4 are reserved for common fields of {@link Response}.
+     *
+     * @param <T> type of response
+     */
+    private abstract static class ResponseSchema<T extends Response> extends CompactSchema<T> {
+        
+        static final int FIRST_EXTEND_FIELD = 5;
+        
+        @Override
+        void writeFields(CodedOutputStream out, T obj) throws IOException {
+            out.writeInt32(1, obj.getResultCode());
+            out.writeInt32(2, obj.getErrorCode());
+            writeString(out, 3, obj.getMessage());
+            writeString(out, 4, obj.getRequestId());
+            writeExtendFields(out, obj);
+        }
+        
+        @Override
+        boolean readField(CodedInputStream in, int fieldNumber, T obj) throws IOException {
+            switch (fieldNumber) {
+                case 1:
+                    obj.setResultCode(in.readInt32());
+                    return true;
+                case 2:
+                    obj.setErrorCode(in.readInt32());
+                    return true;
+                case 3:
+                    obj.setMessage(in.readString());
+                    return true;
+                case 4:
+                    obj.setRequestId(in.readString());
+                    return true;
+                default:
+                    return readExtendField(in, fieldNumber, obj);
+            }
+        }
+        
+        void writeExtendFields(CodedOutputStream out, T obj) throws IOException {
+        }
+        
+        boolean readExtendField(CodedInputStream in, int fieldNumber, T obj) throws IOException {
+            return false;
+        }
+    }
+    
+    private static class InstanceSchema extends CompactSchema<Instance> {
+        
+        @Override
+        Instance newInstance() {
+            return new Instance();
+        }
+        
+        @Override
+        void writeFields(CodedOutputStream out, Instance obj) throws IOException {
+            writeString(out, 1, obj.getInstanceId());
+            writeString(out, 2, obj.getIp());
+            out.writeInt32(3, obj.getPort());
+            out.writeDouble(4, obj.getWeight());
+            out.writeBool(5, obj.isHealthy());
+            out.writeBool(6, obj.isEnabled());
+            out.writeBool(7, obj.isEphemeral());
+            writeString(out, 8, obj.getClusterName());
+            writeString(out, 9, obj.getServiceName());
+            writeEntries(out, 10, obj.getMetadata());
+        }
+        
+        @Override
+        boolean readField(CodedInputStream in, int fieldNumber, Instance obj) throws IOException {
+            switch (fieldNumber) {
+                case 1:
+                    obj.setInstanceId(in.readString());
+                    return true;
+                case 2:
+                    obj.setIp(in.readString());
+                    return true;
+                case 3:
+                    obj.setPort(in.readInt32());
+                    return true;
+                case 4:
+                    obj.setWeight(in.readDouble());
+                    return true;
+                case 5:
+                    obj.setHealthy(in.readBool());
+                    return true;
+                case 6:
+                    obj.setEnabled(in.readBool());
+                    return true;
+                case 7:
+                    obj.setEphemeral(in.readBool());
+                    return true;
+                case 8:
+                    obj.setClusterName(in.readString());
+                    return true;
+                case 9:
+                    obj.setServiceName(in.readString());
+                    return true;
+                case 10:
+                    readEntry(in, obj.getMetadata());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class ServiceInfoSchema extends CompactSchema<ServiceInfo> {
+        
+        @Override
+        ServiceInfo newInstance() {
+            return new ServiceInfo();
+        }
+        
+        @Override
+        byte[] toBytes(ServiceInfo obj) throws IOException {
+            if (!(obj instanceof CompactBytesHolder)) {
+                return super.toBytes(obj);
+            }
+            CompactBytesHolder holder = (CompactBytesHolder) obj;
+            byte[] result = holder.getCompactBytes();
+            if (null == result) {
+                // Encoded repeatedly by concurrent pushes at most, the results are same.
+                result = super.toBytes(obj);
+                holder.setCompactBytes(result);
+            }
+            return result;
+        }
+        
+        @Override
+        void writeFields(CodedOutputStream out, ServiceInfo obj) throws IOException {
+            writeString(out, 1, obj.getName());
+            writeString(out, 2, obj.getGroupName());
+            writeString(out, 3, obj.getClusters());
+            out.writeInt64(4, obj.getCacheMillis());
+            writeMessages(out, 5, INSTANCE, obj.getHosts());
+            out.writeInt64(6, obj.getLastRefTime());
+            writeString(out, 7, obj.getChecksum());
+            out.writeBool(8, obj.isAllIPs());
+            out.writeBool(9, obj.isReachProtectionThreshold());
+        }
+        
+        @Override
+        boolean readField(CodedInputStream in, int fieldNumber, ServiceInfo obj) throws IOException {
+            switch (fieldNumber) {
+                case 1:
+                    obj.setName(in.readString());
+                    return true;
+                case 2:
+                    obj.setGroupName(in.readString());
+                    return true;
+                case 3:
+                    obj.setClusters(in.readString());
+                    return true;
+                case 4:
+                    obj.setCacheMillis(in.readInt64());
+                    return true;
+                case 5:
+                    obj.getHosts().add(readMessage(in, INSTANCE));
+                    return true;
+                case 6:
+                    obj.setLastRefTime(in.readInt64());
+                    return true;
+                case 7:
+                    obj.setChecksum(in.readString());
+                    return true;
+                case 8:
+                    obj.setAllIPs(in.readBool());
+                    return true;
+                case 9:
+                    obj.setReachProtectionThreshold(in.readBool());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class InstanceRequestSchema extends CompactSchema<InstanceRequest> {
+        
+        @Override
+        InstanceRequest newInstance() {
+            return new InstanceRequest();
+        }
+        
+        @Override
+        void writeFields(CodedOutputStream out, InstanceRequest obj) throws IOException {
+            writeString(out, 1, obj.getRequestId());
+            writeString(out, 2, obj.getNamespace());
+            writeString(out, 3, obj.getServiceName());
+            writeString(out, 4, obj.getGroupName());
+            writeString(out, 5, obj.getType());
+            writeMessage(out, 6, INSTANCE, obj.getInstance());
+        }
+        
+        @Override
+        boolean readField(CodedInputStream in, int fieldNumber, InstanceRequest obj) throws IOException {
+            switch (fieldNumber) {
+                case 1:
+                    obj.setRequestId(in.readString());
+                    return true;
+                case 2:
+                    obj.setNamespace(in.readString());
+                    return true;
+                case 3:
+                    obj.setServiceName(in.readString());
+                    return true;
+                case 4:
+                    obj.setGroupName(in.readString());
+                    return true;
+                case 5:
+                    obj.setType(in.readString());
+                    return true;
+                case 6:
+                    obj.setInstance(readMessage(in, INSTANCE));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class InstanceResponseSchema extends ResponseSchema<InstanceResponse> {
+        
+        @Override
+        InstanceResponse newInstance() {
+            return new InstanceResponse();
+        }
+        
+        @Override
+        void writeExtendFields(CodedOutputStream out, InstanceResponse obj) throws IOException {
+            writeString(out, FIRST_EXTEND_FIELD, obj.getType());
+        }
+        
+        @Override
+        boolean readExtendField(CodedInputStream in, int fieldNumber, InstanceResponse obj) throws IOException {
+            if (FIRST_EXTEND_FIELD == fieldNumber) {
+                obj.setType(in.readString());
+                return true;
+            }
+            return false;
+        }
+    }
+    
+    private static class NotifySubscriberRequestSchema extends CompactSchema<NotifySubscriberRequest> {
+        
+        @Override
+        NotifySubscriberRequest newInstance() {
+            return new NotifySubscriberRequest();
+        }
+        
+        @Override
+        void writeFields(CodedOutputStream out, NotifySubscriberRequest obj) throws IOException {
+            writeString(out, 1, obj.getRequestId());
+            writeString(out, 2, obj.getNamespace());
+            writeString(out, 3, obj.getServiceName());
+            writeString(out, 4, obj.getGroupName());
+            writeMessage(out, 5, SERVICE_INFO, obj.getServiceInfo());
+        }
+        
+        @Override
+        boolean readField(CodedInputStream in, int fieldNumber, NotifySubscriberRequest obj) throws IOException {
+            switch (fieldNumber) {
+                case 1:
+                    obj.setRequestId(in.readString());
+                    return true;
+                case 2:
+                    obj.setNamespace(in.readString());
+                    return true;
+                case 3:
+                    obj.setServiceName(in.readString());
+                    return true;
+                case 4:
+                    obj.setGroupName(in.readString());
+                    return true;
+                case 5:
+                    obj.setServiceInfo(readMessage(in, SERVICE_INFO));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class NotifySubscriberResponseSchema extends ResponseSchema<NotifySubscriberResponse> {
+        
+        @Override
+        NotifySubscriberResponse newInstance() {
+            return new NotifySubscriberResponse();
+        }
+    }
+    
+    private static class ConfigListenContextSchema extends CompactSchema<ConfigBatchListenRequest.ConfigListenContext> {
+        
+        @Override
+        ConfigBatchListenRequest.ConfigListenContext newInstance() {
+            return new ConfigBatchListenRequest.ConfigListenContext();
+        }
+        
+        @Override
+        void writeFields(CodedOutputStream out, ConfigBatchListenRequest.ConfigListenContext obj) throws IOException {
+            writeString(out, 1, obj.getGroup());
+            writeString(out, 2, obj.getMd5());
+            writeString(out, 3, obj.getDataId());
+            writeString(out, 4, obj.getTenant());
+        }
+        
+        @Override
+        boolean readField(CodedInputStream in, int fieldNumber, ConfigBatchListenRequest.ConfigListenContext obj)
+                throws IOException {
+            switch (fieldNumber) {
+                case 1:
+                    obj.setGroup(in.readString());
+                    return true;
+                case 2:
+                    obj.setMd5(in.readString());
+                    return true;
+                case 3:
+                    obj.setDataId(in.readString());
+                    return true;
+                case 4:
+                    obj.setTenant(in.readString());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class ConfigBatchListenRequestSchema extends CompactSchema<ConfigBatchListenRequest> {
+        
+        private static final ConfigListenContextSchema CONTEXT = new ConfigListenContextSchema();
+        
+        @Override
+        ConfigBatchListenRequest newInstance() {
+            return new ConfigBatchListenRequest();
+        }
+        
+        @Override
+        void writeFields(CodedOutputStream out, ConfigBatchListenRequest obj) throws IOException {
+            writeString(out, 1, obj.getRequestId());
+            writeString(out, 2, obj.getDataId());
+            writeString(out, 3, obj.getGroup());
+            writeString(out, 4, obj.getTenant());
+            out.writeBool(5, obj.isListen());
+            writeMessages(out, 6, CONTEXT, obj.getConfigListenContexts());
+        }
+        
+        @Override
+        boolean readField(CodedInputStream in, int fieldNumber, ConfigBatchListenRequest obj) throws IOException {
+            switch (fieldNumber) {
+                case 1:
+                    obj.setRequestId(in.readString());
+                    return true;
+                case 2:
+                    obj.setDataId(in.readString());
+                    return true;
+                case 3:
+                    obj.setGroup(in.readString());
+                    return true;
+                case 4:
+                    obj.setTenant(in.readString());
+                    return true;
+                case 5:
+                    obj.setListen(in.readBool());
+                    return true;
+                case 6:
+                    obj.getConfigListenContexts().add(readMessage(in, CONTEXT));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class ConfigContextSchema extends CompactSchema<ConfigChangeBatchListenResponse.ConfigContext> {
+        
+        @Override
+        ConfigChangeBatchListenResponse.ConfigContext newInstance() {
+            return new ConfigChangeBatchListenResponse.ConfigContext();
+        }
+        
+        @Override
+        void writeFields(CodedOutputStream out, ConfigChangeBatchListenResponse.ConfigContext obj)
+                throws IOException {
+            writeString(out, 1, obj.getGroup());
+            writeString(out, 2, obj.getDataId());
+            writeString(out, 3, obj.getTenant());
+        }
+        
+        @Override
+        boolean readField(CodedInputStream in, int fieldNumber, ConfigChangeBatchListenResponse.ConfigContext obj)
+                throws IOException {
+            switch (fieldNumber) {
+                case 1:
+                    obj.setGroup(in.readString());
+                    return true;
+                case 2:
+                    obj.setDataId(in.readString());
+                    return true;
+                case 3:
+                    obj.setTenant(in.readString());
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+    
+    private static class ConfigChangeBatchListenResponseSchema extends ResponseSchema<ConfigChangeBatchListenResponse> {
+        
+        private static final ConfigContextSchema CONTEXT = new ConfigContextSchema();
+        
+        @Override
+        ConfigChangeBatchListenResponse newInstance() {
+            return new ConfigChangeBatchListenResponse();
+        }
+        
+        @Override
+        void writeExtendFields(CodedOutputStream out, ConfigChangeBatchListenResponse obj) throws IOException {
+            writeMessages(out, FIRST_EXTEND_FIELD, CONTEXT, obj.getChangedConfigs());
+        }
+        
+        @Override
+        boolean readExtendField(CodedInputStream in, int fieldNumber, ConfigChangeBatchListenResponse obj)
+                throws IOException {
+            if (FIRST_EXTEND_FIELD == fieldNumber) {
+                List<ConfigChangeBatchListenResponse.ConfigContext> changedConfigs = obj.getChangedConfigs();
+                if (null == changedConfigs) {
+                    changedConfigs = new ArrayList<>();
+                    obj.setChangedConfigs(changedConfigs);
+                }
+                changedConfigs.add(readMessage(in, CONTEXT));
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codec for body of grpc payload, default body is encoded by json, other codec can be used only when both sides
+ * of connection support it.
+ *
+ * <p>The name of codec will be set into {@code typeUrl} of payload body, so that the receiver can choose the right codec
+ * to decode it.
+ *
+ * @author xiweng.yy
+ */
+public interface PayloadCodec {
+    
+    /**
+     * Get the unique name of this codec.
+     *
+     * @return codec name
+     */
+    String getName();
+    
+    /**
+     * Whether the type of request or response can be encoded by this codec.
+     *
+     * @param type class of request or response
+     * @return {@code true} if supported, otherwise {@code false} and json will be used
+     */
+    boolean isSupported(Class<?> type);
+    
+    /**
+     * Encode request or response to bytes.
+     *
+     * @param obj request or response
+     * @return encoded bytes
+     */
+    byte[] encode(Object obj);
+    
+    /**
+     * Decode bytes to request or response.
+     *
+     * @param buffer encoded bytes
+     * @param type   target class
+     * @param <T>    target type
+     * @return decoded request or response
+     */
+    <T> T decode(ByteBuffer buffer, Class<T> type);
+}
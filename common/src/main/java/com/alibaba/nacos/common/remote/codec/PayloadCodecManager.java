@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.common.spi.NacosServiceLoader;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Manager of {@link PayloadCodec}, the built-in compact codec is always registered, others can be loaded by SPI.
+ *
+ * @author xiweng.yy
+ */
+public class PayloadCodecManager {
+    
+    private static final PayloadCodecManager INSTANCE = new PayloadCodecManager();
+    
+    private final Map<String, PayloadCodec> codecs = new HashMap<>(4);
+    
+    private final PayloadCodec compactCodec;
+    
+    private PayloadCodecManager() {
+        compactCodec = new CompactPayloadCodec();
+        codecs.put(compactCodec.getName(), compactCodec);
+        Collection<PayloadCodec> load = NacosServiceLoader.load(PayloadCodec.class);
+        for (PayloadCodec each : load) {
+            codecs.putIfAbsent(each.getName(), each);
+        }
+    }
+    
+    public static PayloadCodecManager getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get codec by name.
+     *
+     * @param name codec name
+     * @return codec, or {@code null} if no codec registered with the name
+     */
+    public PayloadCodec getCodec(String name) {
+        return codecs.get(name);
+    }
+    
+    public PayloadCodec getCompactCodec() {
+        return compactCodec;
+    }
+}
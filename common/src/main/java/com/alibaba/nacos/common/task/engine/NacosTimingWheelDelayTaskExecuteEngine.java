@@ -0,0 +1,288 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.slf4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nacos delay task execute engine based on hashed timing wheel.
+ *
+ * <p>Different from {@link NacosDelayTaskExecuteEngine}, which scans all tasks under a global lock every process
+ * interval, this engine only checks the tasks whose deadline arrived in each tick. Tasks with same key are still
+ * merged by {@link AbstractDelayTask#merge(AbstractDelayTask)}, and the merging is atomic for each key without global
+ * lock.
+ *
+ * <p>Each key owns one {@link TaskSlot}, and the slot is scheduled into the wheel by its deadline tick. New scheduling
+ * is offered into a pending queue and transferred into the wheel by the tick thread, so the wheel buckets are only
+ * accessed by the tick thread. Outdated scheduling of one slot, such as the slot was removed or rescheduled earlier,
+ * is dropped lazily when it expires.
+ *
+ * @author xiweng.yy
+ */
+public class NacosTimingWheelDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
+    
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    
+    private final ScheduledExecutorService processingExecutor;
+    
+    private final ConcurrentHashMap<Object, TaskSlot> tasks;
+    
+    private final ConcurrentLinkedQueue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    
+    private final ArrayDeque<Timeout>[] wheel;
+    
+    private final int mask;
+    
+    private final long tickDuration;
+    
+    private final long startTime;
+    
+    /**
+     * Next tick to be processed, only accessed by tick thread.
+     */
+    private long currentTick;
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name) {
+        this(name, null);
+    }
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, Logger logger) {
+        this(name, 32, logger, 100L);
+    }
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long tickDuration) {
+        this(name, initCapacity, logger, tickDuration, DEFAULT_WHEEL_SIZE);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, int initCapacity, Logger logger, long tickDuration,
+            int wheelSize) {
+        super(logger);
+        if (tickDuration <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickDuration and wheelSize must be positive");
+        }
+        this.tasks = new ConcurrentHashMap<>(initCapacity);
+        this.tickDuration = tickDuration;
+        int actualWheelSize = Integer.highestOneBit(wheelSize);
+        actualWheelSize = actualWheelSize == wheelSize ? actualWheelSize : actualWheelSize << 1;
+        this.wheel = new ArrayDeque[actualWheelSize];
+        for (int i = 0; i < actualWheelSize; i++) {
+            wheel[i] = new ArrayDeque<>();
+        }
+        this.mask = actualWheelSize - 1;
+        this.startTime = System.currentTimeMillis();
+        processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
+        processingExecutor
+                .scheduleWithFixedDelay(new ProcessRunnable(), tickDuration, tickDuration, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+    
+    @Override
+    public AbstractDelayTask removeTask(Object key) {
+        AbstractDelayTask[] result = new AbstractDelayTask[1];
+        tasks.computeIfPresent(key, (k, slot) -> {
+            if (slot.task.shouldProcess()) {
+                result[0] = slot.task;
+                return null;
+            }
+            return slot;
+        });
+        return result[0];
+    }
+    
+    @Override
+    public Collection<Object> getAllTaskKeys() {
+        return new HashSet<>(tasks.keySet());
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        tasks.clear();
+        pendingTimeouts.clear();
+        processingExecutor.shutdown();
+    }
+    
+    @Override
+    public void addTask(Object key, AbstractDelayTask newTask) {
+        tasks.compute(key, (k, slot) -> {
+            if (null == slot) {
+                slot = new TaskSlot(k);
+            } else {
+                newTask.merge(slot.task);
+            }
+            slot.task = newTask;
+            long deadlineTick = toTick(newTask);
+            // Only schedule again when the merged task should be processed earlier than current scheduling.
+            if (deadlineTick < slot.deadlineTick) {
+                slot.deadlineTick = deadlineTick;
+                pendingTimeouts.offer(new Timeout(slot, deadlineTick));
+            }
+            return slot;
+        });
+    }
+    
+    /**
+     * Process tasks which expired until now in execute engine.
+     */
+    protected void processTasks() {
+        long targetTick = (System.currentTimeMillis() - startTime) / tickDuration;
+        while (currentTick <= targetTick) {
+            transferPendingTimeouts();
+            expireTimeouts(wheel[(int) (currentTick & mask)]);
+            currentTick++;
+        }
+    }
+    
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while (null != (timeout = pendingTimeouts.poll())) {
+            long tick = Math.max(timeout.deadlineTick, currentTick);
+            wheel[(int) (tick & mask)].add(timeout);
+        }
+    }
+    
+    private void expireTimeouts(ArrayDeque<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            // Deadline of the timeout is in next rounds of wheel.
+            if (timeout.deadlineTick > currentTick) {
+                continue;
+            }
+            iterator.remove();
+            AbstractDelayTask task = pollExpiredTask(timeout);
+            if (null != task) {
+                processTask(timeout.slot.key, task);
+            }
+        }
+    }
+    
+    /**
+     * Remove and return the task if it should be processed, otherwise reschedule it by its latest deadline.
+     *
+     * @param timeout expired timeout
+     * @return task should be processed, or {@code null} if the timeout is outdated or task is not ready
+     */
+    private AbstractDelayTask pollExpiredTask(Timeout timeout) {
+        AbstractDelayTask[] result = new AbstractDelayTask[1];
+        TaskSlot expiredSlot = timeout.slot;
+        tasks.computeIfPresent(expiredSlot.key, (k, slot) -> {
+            if (slot != expiredSlot || slot.deadlineTick != timeout.deadlineTick) {
+                return slot;
+            }
+            if (slot.task.shouldProcess()) {
+                result[0] = slot.task;
+                return null;
+            }
+            // The task might be merged or modified, reschedule to next tick at least.
+            long deadlineTick = Math.max(toTick(slot.task), currentTick + 1);
+            slot.deadlineTick = deadlineTick;
+            pendingTimeouts.offer(new Timeout(slot, deadlineTick));
+            return slot;
+        });
+        return result[0];
+    }
+    
+    private void processTask(Object taskKey, AbstractDelayTask task) {
+        NacosTaskProcessor processor = getProcessor(taskKey);
+        try {
+            // ReAdd task if process failed
+            if (!processor.process(task)) {
+                retryFailedTask(taskKey, task);
+            }
+        } catch (Throwable e) {
+            getEngineLog().error("Nacos task execute error ", e);
+            retryFailedTask(taskKey, task);
+        }
+    }
+    
+    private void retryFailedTask(Object key, AbstractDelayTask task) {
+        task.setLastProcessTime(System.currentTimeMillis());
+        addTask(key, task);
+    }
+    
+    private long toTick(AbstractDelayTask task) {
+        long delay = task.getLastProcessTime() + task.getTaskInterval() - startTime;
+        if (delay <= 0) {
+            return 0L;
+        }
+        return (delay + tickDuration - 1) / tickDuration;
+    }
+    
+    /**
+     * Task holder of one key, the fields are only modified within the lock of {@link #tasks} for the key.
+     */
+    private static class TaskSlot {
+        
+        private final Object key;
+        
+        private AbstractDelayTask task;
+        
+        private long deadlineTick = Long.MAX_VALUE;
+        
+        private TaskSlot(Object key) {
+            this.key = key;
+        }
+    }
+    
+    private static class Timeout {
+        
+        private final TaskSlot slot;
+        
+        private final long deadlineTick;
+        
+        private Timeout(TaskSlot slot, long deadlineTick) {
+            this.slot = slot;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+    
+    private class ProcessRunnable implements Runnable {
+        
+        @Override
+        public void run() {
+            try {
+                processTasks();
+            } catch (Throwable e) {
+                getEngineLog().error(e.toString(), e);
+            }
+        }
+    }
+}
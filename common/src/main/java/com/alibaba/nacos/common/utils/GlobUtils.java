@@ -0,0 +1,85 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+/**
+ * Util of glob match, in which {@code *} of pattern matches any characters and others match themselves.
+ *
+ * @author xiweng.yy
+ */
+public class GlobUtils {
+    
+    private static final char WILDCARD = '*';
+    
+    private static final int NO_SEPARATOR = -1;
+    
+    private GlobUtils() {
+    }
+    
+    /**
+     * Whether the value matches the pattern.
+     *
+     * @param pattern pattern
+     * @param value   value
+     * @return {@code true} if matched
+     */
+    public static boolean isMatch(String pattern, String value) {
+        return isMatch(pattern, value, NO_SEPARATOR);
+    }
+    
+    /**
+     * Whether the value matches the pattern, the {@code *} in pattern can't cross the separator.
+     *
+     * @param pattern   pattern
+     * @param value     value
+     * @param separator separator which can't be matched by {@code *}
+     * @return {@code true} if matched
+     */
+    public static boolean isMatch(String pattern, String value, char separator) {
+        return isMatch(pattern, value, (int) separator);
+    }
+    
+    private static boolean isMatch(String pattern, String value, int separator) {
+        int patternIndex = 0;
+        int valueIndex = 0;
+        int starIndex = -1;
+        int markIndex = 0;
+        while (valueIndex < value.length()) {
+            char current = value.charAt(valueIndex);
+            if (patternIndex < pattern.length() && pattern.charAt(patternIndex) == WILDCARD) {
+                starIndex = patternIndex++;
+                markIndex = valueIndex;
+            } else if (patternIndex < pattern.length() && pattern.charAt(patternIndex) == current) {
+                if (separator == current) {
+                    // Wildcard before can't cross the separator.
+                    starIndex = -1;
+                }
+                patternIndex++;
+                valueIndex++;
+            } else if (starIndex >= 0 && value.charAt(markIndex) != separator) {
+                patternIndex = starIndex + 1;
+                valueIndex = ++markIndex;
+            } else {
+                return false;
+            }
+        }
+        while (patternIndex < pattern.length() && pattern.charAt(patternIndex) == WILDCARD) {
+            patternIndex++;
+        }
+        return patternIndex == pattern.length();
+    }
+}
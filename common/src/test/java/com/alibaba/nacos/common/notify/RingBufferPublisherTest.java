@@ -0,0 +1,145 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RingBufferPublisherTest {
+    
+    private RingBufferPublisher publisher;
+    
+    @Mock
+    private Subscriber<MockEvent> subscriber;
+    
+    @AfterEach
+    void tearDown() {
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+        System.clearProperty(RingBufferPublisherFactory.RING_PUBLISHER_EVENT_TYPES);
+    }
+    
+    @Test
+    void testCheckIsStart() {
+        publisher = new RingBufferPublisher();
+        assertThrows(IllegalStateException.class, () -> publisher.publish(new MockEvent()));
+    }
+    
+    @Test
+    void testInitWithIllegalSize() {
+        publisher = new RingBufferPublisher();
+        publisher.init(MockEvent.class, -1);
+        assertTrue(publisher.isInitialized());
+        assertEquals(RingBufferPublisher.WaitStrategy.BLOCKING, publisher.getWaitStrategy());
+    }
+    
+    @Test
+    void testPublishAndDrainInBatch() throws InterruptedException {
+        when(subscriber.scopeMatches(any(MockEvent.class))).thenReturn(true);
+        publisher = new RingBufferPublisher(RingBufferPublisher.WaitStrategy.BLOCKING, 2, 1000L);
+        publisher.addSubscriber(subscriber);
+        publisher.init(MockEvent.class, 8);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(publisher.publish(new MockEvent()));
+        }
+        TimeUnit.MILLISECONDS.sleep(500);
+        verify(subscriber, times(5)).onEvent(any(MockEvent.class));
+        assertEquals(0, publisher.currentEventSize());
+        assertEquals(0, publisher.getDropCount());
+    }
+    
+    @Test
+    void testPublishWithSleepingStrategy() throws InterruptedException {
+        when(subscriber.scopeMatches(any(MockEvent.class))).thenReturn(true);
+        publisher = new RingBufferPublisher(RingBufferPublisher.WaitStrategy.SLEEPING, 16, 1000L);
+        publisher.addSubscriber(subscriber);
+        publisher.init(MockEvent.class, 8);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertTrue(publisher.publish(new MockEvent()));
+        TimeUnit.MILLISECONDS.sleep(100);
+        verify(subscriber).onEvent(any(MockEvent.class));
+    }
+    
+    @Test
+    void testDropWhenRingBufferFull() {
+        // No subscriber, the consumer thread keeps waiting and won't drain the ring buffer.
+        publisher = new RingBufferPublisher(RingBufferPublisher.WaitStrategy.BLOCKING, 16, 0L);
+        publisher.init(MockEvent.class, 2);
+        assertTrue(publisher.publish(new MockEvent()));
+        assertTrue(publisher.publish(new MockEvent()));
+        assertFalse(publisher.publish(new MockEvent()));
+        assertEquals(2, publisher.currentEventSize());
+        assertEquals(1, publisher.getDropCount());
+        assertEquals(0, publisher.getBackpressureCount());
+    }
+    
+    @Test
+    void testBackpressureWhenRingBufferFull() {
+        publisher = new RingBufferPublisher(RingBufferPublisher.WaitStrategy.BLOCKING, 16, 10L);
+        publisher.init(MockEvent.class, 1);
+        assertTrue(publisher.publish(new MockEvent()));
+        assertFalse(publisher.publish(new MockEvent()));
+        assertEquals(1, publisher.getBackpressureCount());
+        assertEquals(1, publisher.getDropCount());
+    }
+    
+    @Test
+    void testRegisterByFactory() {
+        EventPublisher actual = NotifyCenter.registerToPublisher(MockEvent.class,
+                RingBufferPublisherFactory.getInstance(), 16);
+        try {
+            assertTrue(actual instanceof RingBufferPublisher);
+        } finally {
+            NotifyCenter.deregisterPublisher(MockEvent.class);
+        }
+    }
+    
+    @Test
+    void testSelectedByDefaultFactory() {
+        System.setProperty(RingBufferPublisherFactory.RING_PUBLISHER_EVENT_TYPES,
+                "java.lang.String, " + MockEvent.class.getCanonicalName());
+        assertTrue(RingBufferPublisherFactory.isRingBufferEventType(MockEvent.class));
+        EventPublisher actual = NotifyCenter.registerToPublisher(MockEvent.class, 16);
+        try {
+            assertTrue(actual instanceof RingBufferPublisher);
+        } finally {
+            NotifyCenter.deregisterPublisher(MockEvent.class);
+        }
+    }
+    
+    private static class MockEvent extends Event {
+        
+        private static final long serialVersionUID = 3365442937162470717L;
+    }
+}
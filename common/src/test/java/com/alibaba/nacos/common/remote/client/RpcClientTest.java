@@ -52,6 +52,8 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Random;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -65,6 +67,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -477,6 +480,63 @@ class RpcClientTest {
         assertEquals(RpcClientStatus.UNHEALTHY, rpcClient.rpcClientStatus.get());
     }
     
+    @Test
+    void testRequestAsyncSuccess() throws Exception {
+        rpcClient.currentConnection = connection;
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        doAnswer(invocation -> {
+            ((RequestCallBack<Response>) invocation.getArgument(1)).onResponse(new HealthCheckResponse());
+            return null;
+        }).when(connection).asyncRequest(any(), any());
+        CompletableFuture<Response> future = rpcClient.requestAsync(new HealthCheckRequest());
+        assertTrue(future.get(3, TimeUnit.SECONDS) instanceof HealthCheckResponse);
+    }
+    
+    @Test
+    void testRequestAsyncRetryThenSuccess() throws Exception {
+        rpcClient.currentConnection = connection;
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        AtomicInteger count = new AtomicInteger();
+        doAnswer(invocation -> {
+            RequestCallBack<Response> callBack = invocation.getArgument(1);
+            if (count.getAndIncrement() == 0) {
+                callBack.onException(new NacosException(NacosException.SERVER_ERROR, "test"));
+            } else {
+                callBack.onResponse(new HealthCheckResponse());
+            }
+            return null;
+        }).when(connection).asyncRequest(any(), any());
+        CompletableFuture<Response> future = rpcClient.requestAsync(new HealthCheckRequest());
+        assertTrue(future.get(3, TimeUnit.SECONDS) instanceof HealthCheckResponse);
+        verify(connection, times(2)).asyncRequest(any(), any());
+        assertEquals(RpcClientStatus.RUNNING, rpcClient.rpcClientStatus.get());
+    }
+    
+    @Test
+    void testRequestAsyncWhenRetryReachMaxRetryTimesThenSwitchServer() throws Exception {
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        rpcClient.currentConnection = connection;
+        doThrow(new NacosException()).when(connection).asyncRequest(any(), any());
+        CompletableFuture<Response> future = rpcClient.requestAsync(new HealthCheckRequest());
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> future.get(3, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof NacosException);
+        verify(connection, times(2)).asyncRequest(any(), any());
+        verify(rpcClient).switchServerAsyncOnRequestFail();
+        assertEquals(RpcClientStatus.UNHEALTHY, rpcClient.rpcClientStatus.get());
+    }
+    
+    @Test
+    void testRequestAsyncWhenClientAlreadyShutDownThenFail() throws Exception {
+        rpcClient.rpcClientStatus.set(RpcClientStatus.SHUTDOWN);
+        rpcClient.currentConnection = connection;
+        CompletableFuture<Response> future = rpcClient.requestAsync(new HealthCheckRequest(), 1000L);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> future.get(3, TimeUnit.SECONDS));
+        assertEquals(NacosException.CLIENT_DISCONNECT, ((NacosException) exception.getCause()).getErrCode());
+        verify(connection, never()).asyncRequest(any(), any());
+    }
+    
     @Test
     void testRequestFutureWithoutAnyTry() throws NacosException {
         assertThrows(NacosException.class, () -> {
@@ -21,9 +21,15 @@ package com.alibaba.nacos.common.remote.client.grpc;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
 import com.alibaba.nacos.api.grpc.auto.Metadata;
 import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
 import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.api.naming.remote.response.InstanceResponse;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.CompactPayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +38,7 @@ import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -114,6 +121,47 @@ class GrpcUtilsTest {
         
     }
     
+    @Test
+    void testConvertAndParseWithCompactCodec() {
+        PayloadCodec codec = PayloadCodecManager.getInstance().getCompactCodec();
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        InstanceRequest instanceRequest = new InstanceRequest("namespace", "service", "group", "registerInstance",
+                instance);
+        instanceRequest.putHeader("h1", "v1");
+        Payload requestPayload = GrpcUtils.convert(instanceRequest, codec);
+        assertEquals(CompactPayloadCodec.NAME, requestPayload.getBody().getTypeUrl());
+        InstanceRequest actualRequest = (InstanceRequest) GrpcUtils.parse(requestPayload);
+        assertEquals("v1", actualRequest.getHeader("h1"));
+        assertEquals("service", actualRequest.getServiceName());
+        assertEquals(instance, actualRequest.getInstance());
+        
+        InstanceResponse instanceResponse = new InstanceResponse("registerInstance");
+        instanceResponse.setRequestId("1");
+        Payload responsePayload = GrpcUtils.convert(instanceResponse, codec);
+        assertEquals(CompactPayloadCodec.NAME, responsePayload.getBody().getTypeUrl());
+        InstanceResponse actualResponse = (InstanceResponse) GrpcUtils.parse(responsePayload);
+        assertEquals("registerInstance", actualResponse.getType());
+        assertEquals("1", actualResponse.getRequestId());
+        assertTrue(actualResponse.isSuccess());
+    }
+    
+    @Test
+    void testConvertWithUnsupportedCodec() {
+        Payload requestPayload = GrpcUtils.convert(request, PayloadCodecManager.getInstance().getCompactCodec());
+        assertTrue(requestPayload.getBody().getTypeUrl().isEmpty());
+        ServiceQueryRequest actual = (ServiceQueryRequest) GrpcUtils.parse(requestPayload);
+        assertEquals(this.request.getCluster(), actual.getCluster());
+    }
+    
+    @Test
+    void testParseUnknownCodec() {
+        Payload payload = GrpcUtils.convert(request);
+        Payload unknown = payload.toBuilder().setBody(payload.getBody().toBuilder().setTypeUrl("unknown")).build();
+        assertThrows(RemoteException.class, () -> GrpcUtils.parse(unknown));
+    }
+    
     @Test
     void testParseNullType() {
         assertThrows(RemoteException.class, () -> {
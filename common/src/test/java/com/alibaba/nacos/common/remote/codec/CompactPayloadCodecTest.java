@@ -0,0 +1,154 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
+import com.alibaba.nacos.api.exception.runtime.NacosSerializationException;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.naming.remote.request.ServiceQueryRequest;
+import com.alibaba.nacos.api.naming.remote.response.NotifySubscriberResponse;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactPayloadCodecTest {
+    
+    private final CompactPayloadCodec codec = new CompactPayloadCodec();
+    
+    @Test
+    void testIsSupported() {
+        assertTrue(codec.isSupported(NotifySubscriberRequest.class));
+        assertFalse(codec.isSupported(ServiceQueryRequest.class));
+        assertThrows(NacosSerializationException.class, () -> codec.encode(new ServiceQueryRequest()));
+    }
+    
+    @Test
+    void testNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S", "c1");
+        serviceInfo.setLastRefTime(100L);
+        serviceInfo.setChecksum("checksum");
+        serviceInfo.setReachProtectionThreshold(true);
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setWeight(2.0D);
+        instance.setHealthy(false);
+        instance.setClusterName("c1");
+        instance.setMetadata(Collections.singletonMap("k", "v"));
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setRequestId("1");
+        request.setNamespace("ns");
+        
+        byte[] bytes = codec.encode(request);
+        assertTrue(bytes.length < JacksonUtils.toJsonBytes(request).length);
+        NotifySubscriberRequest actual = codec.decode(ByteBuffer.wrap(bytes), NotifySubscriberRequest.class);
+        assertEquals("1", actual.getRequestId());
+        assertEquals("ns", actual.getNamespace());
+        assertNull(actual.getServiceName());
+        ServiceInfo actualInfo = actual.getServiceInfo();
+        assertEquals(serviceInfo.getName(), actualInfo.getName());
+        assertEquals(serviceInfo.getGroupName(), actualInfo.getGroupName());
+        assertEquals(serviceInfo.getClusters(), actualInfo.getClusters());
+        assertEquals(100L, actualInfo.getLastRefTime());
+        assertEquals("checksum", actualInfo.getChecksum());
+        assertTrue(actualInfo.isReachProtectionThreshold());
+        assertEquals(1, actualInfo.getHosts().size());
+        assertEquals(instance, actualInfo.getHosts().get(0));
+        assertEquals("v", actualInfo.getHosts().get(0).getMetadata().get("k"));
+    }
+    
+    @Test
+    void testServiceInfoEncodedOnce() {
+        CachedServiceInfo serviceInfo = new CachedServiceInfo();
+        serviceInfo.setName("S");
+        serviceInfo.setGroupName("G");
+        byte[] first = codec.encode(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        assertNotNull(serviceInfo.getCompactBytes());
+        // Cached bytes are reused by later requests.
+        serviceInfo.setName("changed");
+        byte[] second = codec.encode(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        assertArrayEquals(first, second);
+        assertEquals("S", codec.decode(ByteBuffer.wrap(second), NotifySubscriberRequest.class).getServiceInfo()
+                .getName());
+    }
+    
+    @Test
+    void testNotifySubscriberResponse() {
+        NotifySubscriberResponse response = new NotifySubscriberResponse();
+        response.setErrorInfo(500, "error");
+        NotifySubscriberResponse actual = codec.decode(ByteBuffer.wrap(codec.encode(response)),
+                NotifySubscriberResponse.class);
+        assertEquals(ResponseCode.FAIL.getCode(), actual.getResultCode());
+        assertEquals(500, actual.getErrorCode());
+        assertEquals("error", actual.getMessage());
+    }
+    
+    @Test
+    void testConfigBatchListen() {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setListen(false);
+        request.addConfigListenContext("g1", "d1", "t1", "md5");
+        request.addConfigListenContext("g2", "d2", null, "md5");
+        ConfigBatchListenRequest actual = codec.decode(ByteBuffer.wrap(codec.encode(request)),
+                ConfigBatchListenRequest.class);
+        assertFalse(actual.isListen());
+        assertEquals(2, actual.getConfigListenContexts().size());
+        assertEquals("d1", actual.getConfigListenContexts().get(0).getDataId());
+        assertEquals("t1", actual.getConfigListenContexts().get(0).getTenant());
+        assertEquals("md5", actual.getConfigListenContexts().get(0).getMd5());
+        assertNull(actual.getConfigListenContexts().get(1).getTenant());
+        
+        ConfigChangeBatchListenResponse response = new ConfigChangeBatchListenResponse();
+        response.addChangeConfig("d1", "g1", "t1");
+        ConfigChangeBatchListenResponse actualResponse = codec.decode(ByteBuffer.wrap(codec.encode(response)),
+                ConfigChangeBatchListenResponse.class);
+        assertTrue(actualResponse.isSuccess());
+        assertEquals(1, actualResponse.getChangedConfigs().size());
+        assertEquals("g1", actualResponse.getChangedConfigs().get(0).getGroup());
+        assertEquals("t1", actualResponse.getChangedConfigs().get(0).getTenant());
+    }
+    
+    private static class CachedServiceInfo extends ServiceInfo implements CompactBytesHolder {
+        
+        private byte[] compactBytes;
+        
+        @Override
+        public byte[] getCompactBytes() {
+            return compactBytes;
+        }
+        
+        @Override
+        public void setCompactBytes(byte[] compactBytes) {
+            this.compactBytes = compactBytes;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.internal.verification.Times;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NacosTimingWheelDelayTaskExecuteEngineTest {
+    
+    private NacosTimingWheelDelayTaskExecuteEngine executeEngine;
+    
+    @Mock
+    private NacosTaskProcessor taskProcessor;
+    
+    @Mock
+    private NacosTaskProcessor testTaskProcessor;
+    
+    private AbstractDelayTask abstractTask;
+    
+    @BeforeEach
+    void setUp() throws Exception {
+        executeEngine = new NacosTimingWheelDelayTaskExecuteEngine(
+                NacosTimingWheelDelayTaskExecuteEngineTest.class.getName(), 32, null, 50L, 4);
+        executeEngine.setDefaultTaskProcessor(taskProcessor);
+        abstractTask = new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+            }
+        };
+    }
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        executeEngine.shutdown();
+    }
+    
+    @Test
+    void testSize() {
+        assertEquals(0, executeEngine.size());
+        executeEngine.addTask("test", abstractTask);
+        assertEquals(1, executeEngine.size());
+        executeEngine.removeTask("test");
+        assertEquals(0, executeEngine.size());
+    }
+    
+    @Test
+    void testIsEmpty() {
+        assertTrue(executeEngine.isEmpty());
+        executeEngine.addTask("test", abstractTask);
+        assertFalse(executeEngine.isEmpty());
+        executeEngine.removeTask("test");
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    void testAddProcessor() throws InterruptedException {
+        when(testTaskProcessor.process(abstractTask)).thenReturn(true);
+        executeEngine.addProcessor("test", testTaskProcessor);
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(testTaskProcessor).process(abstractTask);
+        verify(taskProcessor, never()).process(abstractTask);
+        assertEquals(1, executeEngine.getAllProcessorKey().size());
+    }
+    
+    @Test
+    void testRemoveProcessor() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenReturn(true);
+        executeEngine.addProcessor("test", testTaskProcessor);
+        executeEngine.removeProcessor("test");
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(testTaskProcessor, never()).process(abstractTask);
+        verify(taskProcessor).process(abstractTask);
+    }
+    
+    @Test
+    void testRetryTaskAfterFail() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenReturn(false, true);
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(taskProcessor, new Times(2)).process(abstractTask);
+    }
+    
+    @Test
+    void testProcessorWithException() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenThrow(new RuntimeException("test"));
+        executeEngine.addProcessor("test", testTaskProcessor);
+        executeEngine.removeProcessor("test");
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertEquals(1, executeEngine.size());
+    }
+    
+    @Test
+    void testTaskShouldNotExecute() throws InterruptedException {
+        executeEngine.addProcessor("test", testTaskProcessor);
+        executeEngine.addTask("test", abstractTask);
+        abstractTask.setTaskInterval(10000L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(testTaskProcessor, never()).process(abstractTask);
+        assertEquals(1, executeEngine.size());
+    }
+    
+    @Test
+    void testTaskMerge() {
+        executeEngine.addProcessor("test", testTaskProcessor);
+        executeEngine.addTask("test", abstractTask);
+        executeEngine.addTask("test", new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+                setLastProcessTime(task.getLastProcessTime());
+                setTaskInterval(task.getTaskInterval());
+            }
+        });
+        assertEquals(1, executeEngine.size());
+    }
+    
+    @Test
+    void testTaskExpiredAfterRounds() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenReturn(true);
+        // Wheel of 4 ticks with 50ms is 200ms per round.
+        abstractTask.setTaskInterval(500L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(taskProcessor, never()).process(abstractTask);
+        TimeUnit.MILLISECONDS.sleep(400);
+        verify(taskProcessor).process(abstractTask);
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    void testMergeToEarlierDeadline() throws InterruptedException {
+        abstractTask.setTaskInterval(10000L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        executeEngine.addTask("test", abstractTask);
+        AbstractDelayTask newTask = new AbstractDelayTask() {
+            @Override
+            public void merge(AbstractDelayTask task) {
+            }
+        };
+        when(taskProcessor.process(newTask)).thenReturn(true);
+        executeEngine.addTask("test", newTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(taskProcessor).process(newTask);
+        verify(taskProcessor, never()).process(abstractTask);
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    void testGetAllTaskKeys() {
+        abstractTask.setTaskInterval(10000L);
+        abstractTask.setLastProcessTime(System.currentTimeMillis());
+        executeEngine.addTask("test1", abstractTask);
+        executeEngine.addTask("test2", abstractTask);
+        assertEquals(2, executeEngine.getAllTaskKeys().size());
+        assertNull(executeEngine.removeTask("test1"));
+        assertEquals(2, executeEngine.getAllTaskKeys().size());
+    }
+}
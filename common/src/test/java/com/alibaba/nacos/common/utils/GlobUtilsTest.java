@@ -0,0 +1,42 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GlobUtilsTest {
+    
+    @Test
+    void testIsMatch() {
+        assertTrue(GlobUtils.isMatch("*-service*.yaml", "order-service-prod.yaml"));
+        assertTrue(GlobUtils.isMatch("*", ""));
+        assertTrue(GlobUtils.isMatch("app.yaml", "app.yaml"));
+        assertFalse(GlobUtils.isMatch("*-service*.yaml", "order-service-prod.yml"));
+        assertFalse(GlobUtils.isMatch("app", "app.yaml"));
+    }
+    
+    @Test
+    void testIsMatchWithSeparator() {
+        assertTrue(GlobUtils.isMatch("tenant+*+app*", "tenant+DEFAULT_GROUP+app.yaml", '+'));
+        assertTrue(GlobUtils.isMatch("tenant+*", "tenant+app.yaml", '+'));
+        assertFalse(GlobUtils.isMatch("tenant+*", "tenant+DEFAULT_GROUP+app.yaml", '+'));
+        assertTrue(GlobUtils.isMatch("tenant+*", "tenant+DEFAULT_GROUP+app.yaml"));
+    }
+}
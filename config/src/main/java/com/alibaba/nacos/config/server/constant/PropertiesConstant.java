@@ -67,4 +67,12 @@ public class PropertiesConstant {
     
     public static final String GRAY_CAPATIBEL_MODEL = "nacos.config.gray.compatible.model";
     
+    public static final String CONTENT_CACHE_MAX_SIZE = "nacos.config.content.cache.maxSize";
+    
+    public static final String DUMP_ALL_READER_COUNT = "nacos.config.dump.all.readerCount";
+    
+    public static final String PUSH_CONTENT_MAX_SIZE = "nacos.config.push.content.maxSize";
+    
+    public static final String HISTORY_ASYNC_QUEUE_SIZE = "nacos.config.history.async.queueSize";
+    
 }
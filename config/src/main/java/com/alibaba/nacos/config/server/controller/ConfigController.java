@@ -18,6 +18,7 @@ package com.alibaba.nacos.config.server.controller;
 
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.api.NacosApiException;
 import com.alibaba.nacos.auth.annotation.Secured;
 import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.common.model.RestResultUtils;
@@ -65,6 +66,7 @@ import com.alibaba.nacos.config.server.utils.ZipUtils;
 import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.core.namespace.repository.NamespacePersistService;
 import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.persistence.model.CursorPage;
 import com.alibaba.nacos.persistence.model.Page;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
 import com.alibaba.nacos.plugin.auth.constant.SignType;
@@ -73,9 +75,7 @@ import com.alibaba.nacos.sys.utils.InetUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeanUtils;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -89,18 +89,24 @@ import org.springframework.web.multipart.MultipartFile;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.io.File;
 import java.io.IOException;
 import java.net.URLDecoder;
+import java.nio.file.Files;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import static com.alibaba.nacos.config.server.utils.RequestUtil.getRemoteIp;
 
@@ -122,6 +128,18 @@ public class ConfigController {
     
     private static final String EXPORT_CONFIG_FILE_NAME_DATE_FORMAT = "yyyyMMddHHmmss";
     
+    private static final String IMPORT_CONFIG_TEMP_FILE_NAME = "nacos_config_import_";
+    
+    /**
+     * Page size to query configs when exporting, only one page of contents is held in memory.
+     */
+    private static final int EXPORT_PAGE_SIZE = 100;
+    
+    /**
+     * Batch size to save configs when importing, only one batch of contents is held in memory.
+     */
+    private static final int IMPORT_BATCH_SIZE = 100;
+    
     private final ConfigServletInner inner;
     
     private ConfigInfoPersistService configInfoPersistService;
@@ -450,6 +468,77 @@ public class ConfigController {
         }
     }
     
+    /**
+     * Query the configuration information after the cursor, the cost does not grow with page depth like
+     * {@link #searchConfig}.
+     *
+     * @throws NacosApiException if the cursor is malformed.
+     */
+    @GetMapping(value = "/cursor", params = "search=accurate")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    @ExtractorManager.Extractor(httpExtractor = ConfigBlurSearchHttpParamExtractor.class)
+    public CursorPage<ConfigInfo> searchConfigByCursor(@RequestParam("dataId") String dataId,
+            @RequestParam("group") String group, @RequestParam(value = "appName", required = false) String appName,
+            @RequestParam(value = "tenant", required = false, defaultValue = StringUtils.EMPTY) String tenant,
+            @RequestParam(value = "config_tags", required = false) String configTags,
+            @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("pageSize") int pageSize)
+            throws NacosApiException {
+        Map<String, Object> configAdvanceInfo = new HashMap<>(4);
+        if (StringUtils.isNotBlank(appName)) {
+            configAdvanceInfo.put("appName", appName);
+        }
+        if (StringUtils.isNotBlank(configTags)) {
+            configAdvanceInfo.put("config_tags", configTags);
+        }
+        long lastId = ParamUtils.parseCursor(cursor);
+        try {
+            return configInfoPersistService.findConfigInfo4Cursor(lastId, pageSize, dataId, group, tenant,
+                    configAdvanceInfo);
+        } catch (Exception e) {
+            String errorMsg = "serialize page error, dataId=" + dataId + ", group=" + group;
+            LOGGER.error(errorMsg, e);
+            throw new RuntimeException(errorMsg, e);
+        }
+    }
+    
+    /**
+     * Fuzzy query configuration information after the cursor, the cost does not grow with page depth like
+     * {@link #fuzzySearchConfig}.
+     *
+     * @throws NacosApiException if the cursor is malformed.
+     */
+    @GetMapping(value = "/cursor", params = "search=blur")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    @ExtractorManager.Extractor(httpExtractor = ConfigBlurSearchHttpParamExtractor.class)
+    public CursorPage<ConfigInfo> fuzzySearchConfigByCursor(@RequestParam("dataId") String dataId,
+            @RequestParam("group") String group, @RequestParam(value = "appName", required = false) String appName,
+            @RequestParam(value = "tenant", required = false, defaultValue = StringUtils.EMPTY) String tenant,
+            @RequestParam(value = "config_tags", required = false) String configTags,
+            @RequestParam(value = "types", required = false) String types,
+            @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("pageSize") int pageSize)
+            throws NacosApiException {
+        MetricsMonitor.getFuzzySearchMonitor().incrementAndGet();
+        Map<String, Object> configAdvanceInfo = new HashMap<>(4);
+        if (StringUtils.isNotBlank(appName)) {
+            configAdvanceInfo.put("appName", appName);
+        }
+        if (StringUtils.isNotBlank(configTags)) {
+            configAdvanceInfo.put("config_tags", configTags);
+        }
+        if (StringUtils.isNotBlank(types)) {
+            configAdvanceInfo.put(ParametersField.TYPES, types);
+        }
+        long lastId = ParamUtils.parseCursor(cursor);
+        try {
+            return configInfoPersistService.findConfigInfoLike4Cursor(lastId, pageSize, dataId, group, tenant,
+                    configAdvanceInfo);
+        } catch (Exception e) {
+            String errorMsg = "serialize page error, dataId=" + dataId + ", group=" + group;
+            LOGGER.error(errorMsg, e);
+            throw new RuntimeException(errorMsg, e);
+        }
+    }
+    
     /**
      * Execute to remove beta operation.
      *
@@ -520,111 +609,127 @@ public class ConfigController {
     }
     
     /**
-     * Execute export config operation.
+     * Execute export config operation, configs are queried page by page and written to response as zip directly.
      *
-     * @param dataId  dataId string value.
-     * @param group   group string value.
-     * @param appName appName string value.
-     * @param tenant  tenant string value.
-     * @param ids     id list value.
-     * @return ResponseEntity.
+     * @param response http servlet response.
+     * @param dataId   dataId string value.
+     * @param group    group string value.
+     * @param appName  appName string value.
+     * @param tenant   tenant string value.
+     * @param ids      id list value.
+     * @throws IOException IOException.
      */
     @GetMapping(params = "export=true")
     @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
-    public ResponseEntity<byte[]> exportConfig(@RequestParam(value = "dataId", required = false) String dataId,
+    public void exportConfig(HttpServletResponse response,
+            @RequestParam(value = "dataId", required = false) String dataId,
             @RequestParam(value = "group", required = false) String group,
             @RequestParam(value = "appName", required = false) String appName,
             @RequestParam(value = "tenant", required = false, defaultValue = StringUtils.EMPTY) String tenant,
-            @RequestParam(value = "ids", required = false) List<Long> ids) {
+            @RequestParam(value = "ids", required = false) List<Long> ids) throws IOException {
         ids.removeAll(Collections.singleton(null));
         tenant = NamespaceUtil.processNamespaceParameter(tenant);
-        List<ConfigAllInfo> dataList = configInfoPersistService.findAllConfigInfo4Export(dataId, group, tenant, appName,
-                ids);
-        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
-        StringBuilder metaData = null;
-        for (ConfigInfo ci : dataList) {
-            if (StringUtils.isNotBlank(ci.getAppName())) {
-                // Handle appName
-                if (metaData == null) {
-                    metaData = new StringBuilder();
-                }
-                String metaDataId = ci.getDataId();
-                if (metaDataId.contains(".")) {
-                    metaDataId = metaDataId.substring(0, metaDataId.lastIndexOf(".")) + "~" + metaDataId.substring(
-                            metaDataId.lastIndexOf(".") + 1);
+        StringBuilder metaData = new StringBuilder();
+        prepareExportResponse(response);
+        try (ZipOutputStream zipOut = new ZipOutputStream(response.getOutputStream())) {
+            writeExportItems(zipOut, dataId, group, tenant, appName, ids, ci -> {
+                if (StringUtils.isNotBlank(ci.getAppName())) {
+                    // Handle appName
+                    String metaDataId = ci.getDataId();
+                    if (metaDataId.contains(".")) {
+                        metaDataId = metaDataId.substring(0, metaDataId.lastIndexOf(".")) + "~" + metaDataId.substring(
+                                metaDataId.lastIndexOf(".") + 1);
+                    }
+                    metaData.append(ci.getGroup()).append('.').append(metaDataId).append(".app=")
+                            // Fixed use of "\r\n" here
+                            .append(ci.getAppName()).append("\r\n");
                 }
-                metaData.append(ci.getGroup()).append('.').append(metaDataId).append(".app=")
-                        // Fixed use of "\r\n" here
-                        .append(ci.getAppName()).append("\r\n");
+            });
+            if (metaData.length() > 0) {
+                ZipUtils.putItem(zipOut, Constants.CONFIG_EXPORT_METADATA, metaData.toString());
             }
-            Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(), ci.getEncryptedDataKey(),
-                    ci.getContent());
-            String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
-            zipItemList.add(new ZipUtils.ZipItem(itemName, pair.getSecond()));
+            zipOut.finish();
         }
-        if (metaData != null) {
-            zipItemList.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA, metaData.toString()));
-        }
-        
-        HttpHeaders headers = new HttpHeaders();
-        String fileName =
-                EXPORT_CONFIG_FILE_NAME + DateFormatUtils.format(new Date(), EXPORT_CONFIG_FILE_NAME_DATE_FORMAT)
-                        + EXPORT_CONFIG_FILE_NAME_EXT;
-        headers.add("Content-Disposition", "attachment;filename=" + fileName);
-        return new ResponseEntity<>(ZipUtils.zip(zipItemList), headers, HttpStatus.OK);
     }
     
     /**
-     * new version export config add metadata.yml file record config metadata.
+     * new version export config add metadata.yml file record config metadata, configs are queried page by page and
+     * written to response as zip directly.
      *
-     * @param dataId  dataId string value.
-     * @param group   group string value.
-     * @param appName appName string value.
-     * @param tenant  tenant string value.
-     * @param ids     id list value.
-     * @return ResponseEntity.
+     * @param response http servlet response.
+     * @param dataId   dataId string value.
+     * @param group    group string value.
+     * @param appName  appName string value.
+     * @param tenant   tenant string value.
+     * @param ids      id list value.
+     * @throws IOException IOException.
      */
     @GetMapping(params = "exportV2=true")
     @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
-    public ResponseEntity<byte[]> exportConfigV2(@RequestParam(value = "dataId", required = false) String dataId,
+    public void exportConfigV2(HttpServletResponse response,
+            @RequestParam(value = "dataId", required = false) String dataId,
             @RequestParam(value = "group", required = false) String group,
             @RequestParam(value = "appName", required = false) String appName,
             @RequestParam(value = "tenant", required = false, defaultValue = StringUtils.EMPTY) String tenant,
-            @RequestParam(value = "ids", required = false) List<Long> ids) {
+            @RequestParam(value = "ids", required = false) List<Long> ids) throws IOException {
         ids.removeAll(Collections.singleton(null));
         tenant = NamespaceUtil.processNamespaceParameter(tenant);
-        List<ConfigAllInfo> dataList = configInfoPersistService.findAllConfigInfo4Export(dataId, group, tenant, appName,
-                ids);
-        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
         List<ConfigMetadata.ConfigExportItem> configMetadataItems = new ArrayList<>();
-        for (ConfigAllInfo ci : dataList) {
-            ConfigMetadata.ConfigExportItem configMetadataItem = new ConfigMetadata.ConfigExportItem();
-            configMetadataItem.setAppName(ci.getAppName());
-            configMetadataItem.setDataId(ci.getDataId());
-            configMetadataItem.setDesc(ci.getDesc());
-            configMetadataItem.setGroup(ci.getGroup());
-            configMetadataItem.setType(ci.getType());
-            configMetadataItems.add(configMetadataItem);
-            Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(), ci.getEncryptedDataKey(),
-                    ci.getContent());
-            String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
-            zipItemList.add(new ZipUtils.ZipItem(itemName, pair.getSecond()));
-        }
-        ConfigMetadata configMetadata = new ConfigMetadata();
-        configMetadata.setMetadata(configMetadataItems);
-        zipItemList.add(
-                new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
-        HttpHeaders headers = new HttpHeaders();
+        prepareExportResponse(response);
+        try (ZipOutputStream zipOut = new ZipOutputStream(response.getOutputStream())) {
+            writeExportItems(zipOut, dataId, group, tenant, appName, ids, ci -> {
+                ConfigMetadata.ConfigExportItem configMetadataItem = new ConfigMetadata.ConfigExportItem();
+                configMetadataItem.setAppName(ci.getAppName());
+                configMetadataItem.setDataId(ci.getDataId());
+                configMetadataItem.setDesc(ci.getDesc());
+                configMetadataItem.setGroup(ci.getGroup());
+                configMetadataItem.setType(ci.getType());
+                configMetadataItems.add(configMetadataItem);
+            });
+            ConfigMetadata configMetadata = new ConfigMetadata();
+            configMetadata.setMetadata(configMetadataItems);
+            ZipUtils.putItem(zipOut, Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata));
+            zipOut.finish();
+        }
+    }
+    
+    private void prepareExportResponse(HttpServletResponse response) {
         String fileName =
                 EXPORT_CONFIG_FILE_NAME + DateFormatUtils.format(new Date(), EXPORT_CONFIG_FILE_NAME_DATE_FORMAT)
                         + EXPORT_CONFIG_FILE_NAME_EXT;
-        headers.add("Content-Disposition", "attachment;filename=" + fileName);
-        return new ResponseEntity<>(ZipUtils.zip(zipItemList), headers, HttpStatus.OK);
+        response.setHeader("Content-Disposition", "attachment;filename=" + fileName);
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    }
+    
+    /**
+     * Query configs page by page, and write decrypted contents into zip one by one.
+     *
+     * @param metaDataCollector collector of metadata for each config, metadata is written after all contents.
+     */
+    private void writeExportItems(ZipOutputStream zipOut, String dataId, String group, String tenant,
+            String appName, List<Long> ids, Consumer<ConfigAllInfo> metaDataCollector) throws IOException {
+        long lastId = 0L;
+        List<ConfigAllInfo> dataList;
+        do {
+            dataList = configInfoPersistService.findAllConfigInfo4ExportByCursor(lastId, EXPORT_PAGE_SIZE, dataId,
+                    group, tenant, appName, ids);
+            for (ConfigAllInfo ci : dataList) {
+                metaDataCollector.accept(ci);
+                Pair<String, String> pair = EncryptionHandler.decryptHandler(ci.getDataId(), ci.getEncryptedDataKey(),
+                        ci.getContent());
+                String itemName = ci.getGroup() + Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR + ci.getDataId();
+                ZipUtils.putItem(zipOut, itemName, pair.getSecond());
+                lastId = ci.getId();
+            }
+        } while (dataList.size() >= EXPORT_PAGE_SIZE);
     }
     
     /**
      * Execute import and publish config operation.
      *
+     * <p>The uploaded file is read entry by entry from a temp file, and configs are saved in batches of
+     * {@link #IMPORT_BATCH_SIZE}, so that memory does not grow with the size of file.
+     *
      * @param request   http servlet request .
      * @param srcUser   src user string value.
      * @param namespace namespace string value.
@@ -654,45 +759,45 @@ public class ConfigController {
         if (StringUtils.isBlank(srcUser)) {
             srcUser = RequestUtil.getSrcUserName(request);
         }
-        List<ConfigAllInfo> configInfoList = new ArrayList<>();
+        ConfigImporter importer = new ConfigImporter(srcUser, RequestUtil.getRemoteIp(request),
+                RequestUtil.getAppName(request), namespace, policy);
         List<Map<String, String>> unrecognizedList = new ArrayList<>();
+        File tempFile = null;
         try {
-            ZipUtils.UnZipResult unziped = ZipUtils.unzip(file.getBytes());
-            ZipUtils.ZipItem metaDataZipItem = unziped.getMetaDataItem();
-            RestResult<Map<String, Object>> errorResult;
-            if (metaDataZipItem != null && Constants.CONFIG_EXPORT_METADATA_NEW.equals(metaDataZipItem.getItemName())) {
-                // new export
-                errorResult = parseImportDataV2(srcUser, unziped, configInfoList, unrecognizedList, namespace);
-            } else {
-                errorResult = parseImportData(srcUser, unziped, configInfoList, unrecognizedList, namespace);
-            }
-            if (errorResult != null) {
-                return errorResult;
+            tempFile = Files.createTempFile(IMPORT_CONFIG_TEMP_FILE_NAME, EXPORT_CONFIG_FILE_NAME_EXT).toFile();
+            file.transferTo(tempFile);
+            try (ZipFile zipFile = new ZipFile(tempFile)) {
+                ZipUtils.ZipItem metaDataZipItem = ZipUtils.readMetaDataItem(zipFile);
+                RestResult<Map<String, Object>> errorResult;
+                if (metaDataZipItem != null && Constants.CONFIG_EXPORT_METADATA_NEW.equals(
+                        metaDataZipItem.getItemName())) {
+                    // new export
+                    errorResult = parseImportDataV2(srcUser, zipFile, metaDataZipItem, importer, unrecognizedList,
+                            namespace);
+                } else {
+                    errorResult = parseImportData(srcUser, zipFile, metaDataZipItem, importer, unrecognizedList,
+                            namespace);
+                }
+                if (errorResult != null) {
+                    return errorResult;
+                }
+                importer.flush();
             }
         } catch (IOException e) {
-            failedData.put("succCount", 0);
+            importer.putProgress(failedData);
             LOGGER.error("parsing data failed", e);
             return RestResultUtils.buildResult(ResultCodeEnum.PARSING_DATA_FAILED, failedData);
+        } finally {
+            if (null != tempFile && !tempFile.delete()) {
+                LOGGER.warn("delete import temp file {} failed", tempFile.getAbsolutePath());
+            }
         }
         
-        if (CollectionUtils.isEmpty(configInfoList)) {
+        if (0 == importer.totalCount) {
             failedData.put("succCount", 0);
             return RestResultUtils.buildResult(ResultCodeEnum.DATA_EMPTY, failedData);
         }
-        final String srcIp = RequestUtil.getRemoteIp(request);
-        String requestIpApp = RequestUtil.getAppName(request);
-        final Timestamp time = TimeUtils.getCurrentTime();
-        Map<String, Object> saveResult = configInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
-                null, policy);
-        for (ConfigInfo configInfo : configInfoList) {
-            ConfigChangePublisher.notifyConfigChange(
-                    new ConfigDataChangeEvent(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant(),
-                            time.getTime()));
-            ConfigTraceService.logPersistenceEvent(configInfo.getDataId(), configInfo.getGroup(),
-                    configInfo.getTenant(), requestIpApp, time.getTime(), InetUtils.getSelfIP(),
-                    ConfigTraceService.PERSISTENCE_EVENT, ConfigTraceService.PERSISTENCE_TYPE_PUB,
-                    configInfo.getContent());
-        }
+        Map<String, Object> saveResult = importer.getResult();
         // unrecognizedCount
         if (!unrecognizedList.isEmpty()) {
             saveResult.put("unrecognizedCount", unrecognizedList.size());
@@ -704,16 +809,16 @@ public class ConfigController {
     /**
      * old import config.
      *
-     * @param unziped          export file.
-     * @param configInfoList   parse file result.
+     * @param zipFile          export file.
+     * @param metaDataZipItem  metadata item of export file.
+     * @param importer         importer to save parsed configs.
      * @param unrecognizedList unrecognized file.
      * @param namespace        import namespace.
      * @return error result.
      */
-    private RestResult<Map<String, Object>> parseImportData(String srcUser, ZipUtils.UnZipResult unziped,
-            List<ConfigAllInfo> configInfoList, List<Map<String, String>> unrecognizedList, String namespace) {
-        ZipUtils.ZipItem metaDataZipItem = unziped.getMetaDataItem();
-        
+    private RestResult<Map<String, Object>> parseImportData(String srcUser, ZipFile zipFile,
+            ZipUtils.ZipItem metaDataZipItem, ConfigImporter importer, List<Map<String, String>> unrecognizedList,
+            String namespace) throws IOException, NacosException {
         Map<String, String> metaDataMap = new HashMap<>(16);
         if (metaDataZipItem != null) {
             // compatible all file separator
@@ -730,42 +835,39 @@ public class ConfigController {
             }
         }
         
-        List<ZipUtils.ZipItem> itemList = unziped.getZipItemList();
-        if (itemList != null && !itemList.isEmpty()) {
-            for (ZipUtils.ZipItem item : itemList) {
-                String[] groupAdnDataId = item.getItemName().split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
-                if (groupAdnDataId.length != 2) {
-                    Map<String, String> unrecognizedItem = new HashMap<>(2);
-                    unrecognizedItem.put("itemName", item.getItemName());
-                    unrecognizedList.add(unrecognizedItem);
-                    continue;
-                }
-                String group = groupAdnDataId[0];
-                String dataId = groupAdnDataId[1];
-                String tempDataId = dataId;
-                if (tempDataId.contains(".")) {
-                    tempDataId = tempDataId.substring(0, tempDataId.lastIndexOf(".")) + "~" + tempDataId.substring(
-                            tempDataId.lastIndexOf(".") + 1);
-                }
-                final String metaDataId = group + "." + tempDataId + ".app";
-                
-                //encrypted
-                String content = item.getItemData();
-                Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, content);
-                content = pair.getSecond();
-                
-                ConfigAllInfo ci = new ConfigAllInfo();
-                ci.setGroup(group);
-                ci.setDataId(dataId);
-                ci.setContent(content);
-                if (metaDataMap.get(metaDataId) != null) {
-                    ci.setAppName(metaDataMap.get(metaDataId));
-                }
-                ci.setTenant(namespace);
-                ci.setEncryptedDataKey(pair.getFirst());
-                ci.setCreateUser(srcUser);
-                configInfoList.add(ci);
+        for (ZipEntry entry : ZipUtils.getItemEntries(zipFile, metaDataZipItem)) {
+            String[] groupAdnDataId = entry.getName().split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
+            if (groupAdnDataId.length != 2) {
+                Map<String, String> unrecognizedItem = new HashMap<>(2);
+                unrecognizedItem.put("itemName", entry.getName());
+                unrecognizedList.add(unrecognizedItem);
+                continue;
             }
+            String group = groupAdnDataId[0];
+            String dataId = groupAdnDataId[1];
+            String tempDataId = dataId;
+            if (tempDataId.contains(".")) {
+                tempDataId = tempDataId.substring(0, tempDataId.lastIndexOf(".")) + "~" + tempDataId.substring(
+                        tempDataId.lastIndexOf(".") + 1);
+            }
+            final String metaDataId = group + "." + tempDataId + ".app";
+            
+            //encrypted
+            String content = ZipUtils.readItemData(zipFile, entry);
+            Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, content);
+            content = pair.getSecond();
+            
+            ConfigAllInfo ci = new ConfigAllInfo();
+            ci.setGroup(group);
+            ci.setDataId(dataId);
+            ci.setContent(content);
+            if (metaDataMap.get(metaDataId) != null) {
+                ci.setAppName(metaDataMap.get(metaDataId));
+            }
+            ci.setTenant(namespace);
+            ci.setEncryptedDataKey(pair.getFirst());
+            ci.setCreateUser(srcUser);
+            importer.add(ci);
         }
         return null;
     }
@@ -773,15 +875,16 @@ public class ConfigController {
     /**
      * new version import config add .metadata.yml file.
      *
-     * @param unziped          export file.
-     * @param configInfoList   parse file result.
+     * @param zipFile          export file.
+     * @param metaDataItem     metadata item of export file.
+     * @param importer         importer to save parsed configs.
      * @param unrecognizedList unrecognized file.
      * @param namespace        import namespace.
      * @return error result.
      */
-    private RestResult<Map<String, Object>> parseImportDataV2(String srcUser, ZipUtils.UnZipResult unziped,
-            List<ConfigAllInfo> configInfoList, List<Map<String, String>> unrecognizedList, String namespace) {
-        ZipUtils.ZipItem metaDataItem = unziped.getMetaDataItem();
+    private RestResult<Map<String, Object>> parseImportDataV2(String srcUser, ZipFile zipFile,
+            ZipUtils.ZipItem metaDataItem, ConfigImporter importer, List<Map<String, String>> unrecognizedList,
+            String namespace) throws IOException, NacosException {
         String metaData = metaDataItem.getItemData();
         Map<String, Object> failedData = new HashMap<>(4);
         
@@ -800,49 +903,35 @@ public class ConfigController {
             }
         }
         
-        List<ZipUtils.ZipItem> zipItemList = unziped.getZipItemList();
-        Set<String> metaDataKeys = configExportItems.stream()
-                .map(metaItem -> GroupKey.getKey(metaItem.getDataId(), metaItem.getGroup()))
-                .collect(Collectors.toSet());
-        
-        Map<String, String> configContentMap = new HashMap<>(zipItemList.size());
+        // metadata items are removed once matched, the remaining ones are not found in file
+        Map<String, ConfigMetadata.ConfigExportItem> metaDataItems = new LinkedHashMap<>(configExportItems.size());
+        for (ConfigMetadata.ConfigExportItem configExportItem : configExportItems) {
+            metaDataItems.put(GroupKey.getKey(configExportItem.getDataId(), configExportItem.getGroup()),
+                    configExportItem);
+        }
         int itemNameLength = 2;
-        zipItemList.forEach(item -> {
-            String itemName = item.getItemName();
+        for (ZipEntry entry : ZipUtils.getItemEntries(zipFile, metaDataItem)) {
+            String itemName = entry.getName();
             String[] groupAdnDataId = itemName.split(Constants.CONFIG_EXPORT_ITEM_FILE_SEPARATOR);
             if (groupAdnDataId.length != itemNameLength) {
                 Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", item.getItemName());
+                unrecognizedItem.put("itemName", itemName);
                 unrecognizedList.add(unrecognizedItem);
-                return;
+                continue;
             }
             
             String group = groupAdnDataId[0];
             String dataId = groupAdnDataId[1];
-            String key = GroupKey.getKey(dataId, group);
+            ConfigMetadata.ConfigExportItem configExportItem = metaDataItems.remove(GroupKey.getKey(dataId, group));
             // metadata does not contain config file
-            if (!metaDataKeys.contains(key)) {
+            if (configExportItem == null) {
                 Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", "未在元数据中找到: " + item.getItemName());
-                unrecognizedList.add(unrecognizedItem);
-                return;
-            }
-            String itemData = item.getItemData();
-            configContentMap.put(key, itemData);
-        });
-        
-        for (ConfigMetadata.ConfigExportItem configExportItem : configExportItems) {
-            String dataId = configExportItem.getDataId();
-            String group = configExportItem.getGroup();
-            String content = configContentMap.get(GroupKey.getKey(dataId, group));
-            // config file not in metadata
-            if (content == null) {
-                Map<String, String> unrecognizedItem = new HashMap<>(2);
-                unrecognizedItem.put("itemName", "未在文件中找到: " + group + "/" + dataId);
+                unrecognizedItem.put("itemName", "未在元数据中找到: " + itemName);
                 unrecognizedList.add(unrecognizedItem);
                 continue;
             }
             // encrypted
+            String content = ZipUtils.readItemData(zipFile, entry);
             Pair<String, String> pair = EncryptionHandler.encryptHandler(dataId, content);
             content = pair.getSecond();
             
@@ -856,7 +945,15 @@ public class ConfigController {
             ci.setTenant(namespace);
             ci.setEncryptedDataKey(pair.getFirst());
             ci.setCreateUser(srcUser);
-            configInfoList.add(ci);
+            importer.add(ci);
+        }
+        
+        // config file not in metadata
+        for (ConfigMetadata.ConfigExportItem configExportItem : metaDataItems.values()) {
+            Map<String, String> unrecognizedItem = new HashMap<>(2);
+            unrecognizedItem.put("itemName",
+                    "未在文件中找到: " + configExportItem.getGroup() + "/" + configExportItem.getDataId());
+            unrecognizedList.add(unrecognizedItem);
         }
         return null;
     }
@@ -948,4 +1045,115 @@ public class ConfigController {
         return RestResultUtils.success("Clone Completed Successfully", saveResult);
     }
     
+    
+    /**
+     * Save imported configs in batches and merge the results of batches.
+     */
+    private class ConfigImporter {
+        
+        private final String srcUser;
+        
+        private final String srcIp;
+        
+        private final String requestIpApp;
+        
+        private final String namespace;
+        
+        private final SameConfigPolicy policy;
+        
+        private List<ConfigAllInfo> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        
+        private final List<Map<String, String>> failData = new ArrayList<>();
+        
+        private final List<Map<String, String>> skipData = new ArrayList<>();
+        
+        private int totalCount;
+        
+        private int succCount;
+        
+        private int skipCount;
+        
+        private int batchCount;
+        
+        private ConfigImporter(String srcUser, String srcIp, String requestIpApp, String namespace,
+                SameConfigPolicy policy) {
+            this.srcUser = srcUser;
+            this.srcIp = srcIp;
+            this.requestIpApp = requestIpApp;
+            this.namespace = namespace;
+            this.policy = policy;
+        }
+        
+        private void add(ConfigAllInfo configInfo) throws NacosException {
+            totalCount++;
+            // configs after the failed one are skipped for abort policy, same as in one batch.
+            if (!failData.isEmpty() && SameConfigPolicy.ABORT.equals(policy)) {
+                skipCount++;
+                Map<String, String> skipItem = new HashMap<>(2);
+                skipItem.put("dataId", configInfo.getDataId());
+                skipItem.put("group", configInfo.getGroup());
+                skipData.add(skipItem);
+                return;
+            }
+            batch.add(configInfo);
+            if (batch.size() >= IMPORT_BATCH_SIZE) {
+                flush();
+            }
+        }
+        
+        @SuppressWarnings("unchecked")
+        private void flush() throws NacosException {
+            if (batch.isEmpty()) {
+                return;
+            }
+            // Persist service may keep the reference of saved list, so start a new list for next batch.
+            List<ConfigAllInfo> saving = batch;
+            batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+            batchCount++;
+            Map<String, Object> saveResult = configInfoPersistService.batchInsertOrUpdate(saving, srcUser, srcIp, null,
+                    policy);
+            succCount += ((Number) saveResult.getOrDefault("succCount", 0)).intValue();
+            skipCount += ((Number) saveResult.getOrDefault("skipCount", 0)).intValue();
+            if (saveResult.containsKey("failData")) {
+                failData.addAll((List<Map<String, String>>) saveResult.get("failData"));
+            }
+            if (saveResult.containsKey("skipData")) {
+                skipData.addAll((List<Map<String, String>>) saveResult.get("skipData"));
+            }
+            final Timestamp time = TimeUtils.getCurrentTime();
+            for (ConfigInfo configInfo : saving) {
+                ConfigChangePublisher.notifyConfigChange(
+                        new ConfigDataChangeEvent(configInfo.getDataId(), configInfo.getGroup(),
+                                configInfo.getTenant(), time.getTime()));
+                ConfigTraceService.logPersistenceEvent(configInfo.getDataId(), configInfo.getGroup(),
+                        configInfo.getTenant(), requestIpApp, time.getTime(), InetUtils.getSelfIP(),
+                        ConfigTraceService.PERSISTENCE_EVENT, ConfigTraceService.PERSISTENCE_TYPE_PUB,
+                        configInfo.getContent());
+            }
+            LOGGER.info("[import-config] namespace {} progress: batch {}, parsed {}, succeed {}, skipped {}.",
+                    namespace, batchCount, totalCount, succCount, skipCount);
+        }
+        
+        /**
+         * Put the import progress into result, which is also returned when import is interrupted.
+         */
+        private void putProgress(Map<String, Object> result) {
+            result.put("succCount", succCount);
+            result.put("skipCount", skipCount);
+            result.put("totalCount", totalCount);
+            result.put("batchCount", batchCount);
+        }
+        
+        private Map<String, Object> getResult() {
+            Map<String, Object> result = new HashMap<>(8);
+            putProgress(result);
+            if (!failData.isEmpty()) {
+                result.put("failData", failData);
+            }
+            if (!skipData.isEmpty()) {
+                result.put("skipData", skipData);
+            }
+            return result;
+        }
+    }
 }
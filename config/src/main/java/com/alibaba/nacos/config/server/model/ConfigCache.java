@@ -38,6 +38,16 @@ public class ConfigCache implements Serializable {
     
     volatile long lastModifiedTs;
     
+    /**
+     * Content resident in memory, which is managed by {@code ConfigContentCache}, {@code null} if not resident.
+     */
+    transient volatile String content;
+    
+    /**
+     * Index in resident list of {@code ConfigContentCache}, -1 if not resident.
+     */
+    transient int contentIndex = -1;
+    
     /**
      * clear cache.
      */
@@ -96,4 +106,20 @@ public class ConfigCache implements Serializable {
     public void setLastModifiedTs(long lastModifiedTs) {
         this.lastModifiedTs = lastModifiedTs;
     }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public int getContentIndex() {
+        return contentIndex;
+    }
+    
+    public void setContentIndex(int contentIndex) {
+        this.contentIndex = contentIndex;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.model.event;
+
+import com.alibaba.nacos.common.notify.Event;
+
+/**
+ * Event of formal config added, changed or deleted, which is only published when any fuzzy watch pattern exists.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigFuzzyWatchChangeEvent extends Event {
+    
+    private static final long serialVersionUID = -4720537932212345872L;
+    
+    public final String groupKey;
+    
+    public final String changeType;
+    
+    public ConfigFuzzyWatchChangeEvent(String groupKey, String changeType) {
+        this.groupKey = groupKey;
+        this.changeType = changeType;
+    }
+}
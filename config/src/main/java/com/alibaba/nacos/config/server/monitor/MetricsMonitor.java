@@ -27,6 +27,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Metrics Monitor.
@@ -65,6 +67,20 @@ public class MetricsMonitor {
      */
     private static AtomicInteger fuzzySearch = new AtomicInteger();
     
+    /**
+     * hit and miss count of config content cache.
+     */
+    private static LongAdder contentCacheHit = new LongAdder();
+    
+    private static LongAdder contentCacheMiss = new LongAdder();
+    
+    /**
+     * size and lag in milliseconds of config history queue written asynchronously.
+     */
+    private static AtomicInteger historyQueueSize = new AtomicInteger();
+    
+    private static AtomicLong historyQueueLag = new AtomicLong();
+    
     /**
      * version -> client config subscriber count.
      */
@@ -118,6 +134,26 @@ public class MetricsMonitor {
         tags.add(new ImmutableTag("name", "fuzzySearch"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, fuzzySearch);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheHit"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheHit);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "contentCacheMiss"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, contentCacheMiss);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "historyQueueSize"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, historyQueueSize);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "historyQueueLag"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, historyQueueLag);
+        
         configSubscriber.put("v1", new AtomicInteger(0));
         configSubscriber.put("v2", new AtomicInteger(0));
         
@@ -162,6 +198,22 @@ public class MetricsMonitor {
         return fuzzySearch;
     }
     
+    public static LongAdder getContentCacheHitMonitor() {
+        return contentCacheHit;
+    }
+    
+    public static LongAdder getContentCacheMissMonitor() {
+        return contentCacheMiss;
+    }
+    
+    public static AtomicInteger getHistoryQueueSizeMonitor() {
+        return historyQueueSize;
+    }
+    
+    public static AtomicLong getHistoryQueueLagMonitor() {
+        return historyQueueLag;
+    }
+    
     public static AtomicInteger getConfigSubscriberMonitor(String version) {
         return configSubscriber.get(version);
     }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RemoteConstants;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.paramcheck.ExtractorManager;
+import com.alibaba.nacos.core.paramcheck.impl.ConfigChangeClusterBatchSyncRequestParamExtractor;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.remote.grpc.InvokeSource;
+import org.springframework.stereotype.Component;
+
+/**
+ * Handler to handle coalesced config changes from other servers.
+ *
+ * @author xiweng.yy
+ */
+@Component
+@InvokeSource(source = {RemoteConstants.LABEL_SOURCE_CLUSTER})
+public class ConfigChangeClusterBatchSyncRequestHandler
+        extends RequestHandler<ConfigChangeClusterBatchSyncRequest, ConfigChangeClusterSyncResponse> {
+    
+    private final ConfigChangeClusterSyncRequestHandler configChangeClusterSyncRequestHandler;
+    
+    public ConfigChangeClusterBatchSyncRequestHandler(
+            ConfigChangeClusterSyncRequestHandler configChangeClusterSyncRequestHandler) {
+        this.configChangeClusterSyncRequestHandler = configChangeClusterSyncRequestHandler;
+    }
+    
+    @TpsControl(pointName = "ClusterConfigChangeNotify")
+    @Override
+    @ExtractorManager.Extractor(rpcExtractor = ConfigChangeClusterBatchSyncRequestParamExtractor.class)
+    public ConfigChangeClusterSyncResponse handle(ConfigChangeClusterBatchSyncRequest request, RequestMeta meta)
+            throws NacosException {
+        for (ConfigChangeClusterSyncRequest each : request.getChanges()) {
+            configChangeClusterSyncRequestHandler.syncConfigChange(each, meta.getClientIp());
+        }
+        return new ConfigChangeClusterSyncResponse();
+    }
+}
@@ -62,17 +62,28 @@ public class ConfigChangeClusterSyncRequestHandler
     @ExtractorManager.Extractor(rpcExtractor = ConfigRequestParamExtractor.class)
     public ConfigChangeClusterSyncResponse handle(ConfigChangeClusterSyncRequest configChangeSyncRequest,
             RequestMeta meta) throws NacosException {
-        
+        syncConfigChange(configChangeSyncRequest, meta.getClientIp());
+        return new ConfigChangeClusterSyncResponse();
+    }
+    
+    /**
+     * Dump the config changed in other server.
+     *
+     * @param configChangeSyncRequest config change sync request
+     * @param sourceIp                ip of source server
+     * @throws NacosException if param is illegal
+     */
+    public void syncConfigChange(ConfigChangeClusterSyncRequest configChangeSyncRequest, String sourceIp)
+            throws NacosException {
         checkCompatity(configChangeSyncRequest);
         
         ParamUtils.checkParam(configChangeSyncRequest.getTag());
         DumpRequest dumpRequest = DumpRequest.create(configChangeSyncRequest.getDataId(),
                 configChangeSyncRequest.getGroup(), configChangeSyncRequest.getTenant(),
-                configChangeSyncRequest.getLastModified(), meta.getClientIp());
+                configChangeSyncRequest.getLastModified(), sourceIp);
         
         dumpRequest.setGrayName(configChangeSyncRequest.getGrayName());
         dumpService.dump(dumpRequest);
-        return new ConfigChangeClusterSyncResponse();
     }
     
     /**
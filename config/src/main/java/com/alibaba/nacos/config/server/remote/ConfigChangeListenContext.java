@@ -16,13 +16,11 @@
 
 package com.alibaba.nacos.config.server.remote;
 
-import com.alibaba.nacos.common.utils.CollectionUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,6 +28,12 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>Both contexts are concurrent maps without global lock. The listen keys of a connection are only modified in the
+ * {@code compute} of the connection id, and after each modification the listener set of the group key is synced with
+ * it in the {@code compute} of the group key. So the last sync of a group key always sees the latest listen keys of
+ * the connection, and a listener can't be left in {@link #groupKeyContext} after its connection is cleared. Different
+ * group keys are updated in parallel with the lock striping of {@link ConcurrentHashMap}.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
@@ -39,12 +43,12 @@ public class ConfigChangeListenContext {
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Map<String, String>> connectionIdContext = new ConcurrentHashMap<>();
     
     /**
      * add listen.
@@ -52,11 +56,17 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId) {
-        // 1.add groupKeyContext
-        groupKeyContext.computeIfAbsent(groupKey, k -> new HashSet<>()).add(connectionId);
-        // 2.add connectionIdContext
-        connectionIdContext.computeIfAbsent(connectionId, k -> new HashMap<>(16)).put(groupKey, md5);
+    public void addListen(String groupKey, String md5, String connectionId) {
+        // md5 may be null from client, but ConcurrentHashMap doesn't accept null value.
+        String listenMd5 = null == md5 ? StringUtils.EMPTY : md5;
+        // 1.add connectionIdContext
+        connectionIdContext.compute(connectionId, (key, groupKeys) -> {
+            Map<String, String> result = null == groupKeys ? new ConcurrentHashMap<>(16) : groupKeys;
+            result.put(groupKey, listenMd5);
+            return result;
+        });
+        // 2.sync groupKeyContext
+        syncListener(groupKey, connectionId);
     }
     
     /**
@@ -65,81 +75,67 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
-        
-        //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
-            }
-        }
+    public void removeListen(String groupKey, String connectionId) {
         
-        //2.remove connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys != null) {
+        //1.remove connectionIdContext
+        connectionIdContext.computeIfPresent(connectionId, (key, groupKeys) -> {
             groupKeys.remove(groupKey);
-        }
+            return groupKeys;
+        });
+        
+        //2.sync groupKeyContext
+        syncListener(groupKey, connectionId);
     }
     
     /**
      * get listeners of the group key.
      *
      * @param groupKey groupKey.
-     * @return the copy of listeners, may be return null.
+     * @return the unmodifiable and weakly consistent view of listeners, may be return null.
      */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
+    public Set<String> getListeners(String groupKey) {
+        Set<String> connectionIds = groupKeyContext.get(groupKey);
+        if (null == connectionIds || connectionIds.isEmpty()) {
+            return null;
         }
-        return null;
+        return Collections.unmodifiableSet(connectionIds);
     }
     
     /**
-     * copy collections.
+     * remove the context related to the connection id.
      *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
+     * @param connectionId connectionId.
      */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
+    public void clearContextForConnectionId(final String connectionId) {
+        Map<String, String> listenKeys = connectionIdContext.remove(connectionId);
+        if (listenKeys == null) {
+            return;
+        }
+        for (String groupKey : listenKeys.keySet()) {
+            syncListener(groupKey, connectionId);
         }
     }
     
     /**
-     * remove the context related to the connection id.
+     * Make the listener set of group key consistent with the current listen keys of the connection.
      *
-     * @param connectionId connectionId.
+     * @param groupKey     groupKey.
+     * @param connectionId connection id.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
-        if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
-            return;
-        }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-                if (connectionIds.isEmpty()) {
-                    groupKeyContext.remove(groupKey.getKey());
-                }
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
+    private void syncListener(String groupKey, String connectionId) {
+        groupKeyContext.compute(groupKey, (key, connectionIds) -> {
+            Map<String, String> groupKeys = connectionIdContext.get(connectionId);
+            if (null != groupKeys && groupKeys.containsKey(groupKey)) {
+                Set<String> result = null == connectionIds ? ConcurrentHashMap.newKeySet() : connectionIds;
+                result.add(connectionId);
+                return result;
             }
-
-        }
-        connectionIdContext.remove(connectionId);
+            if (null == connectionIds) {
+                return null;
+            }
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
     }
     
     /**
@@ -148,9 +144,9 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, String> stringStringHashMap = connectionIdContext.get(connectionId);
-        return stringStringHashMap == null ? null : new HashMap<>(stringStringHashMap);
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, String> groupKeys = connectionIdContext.get(connectionId);
+        return groupKeys == null ? null : new HashMap<>(groupKeys);
     }
     
     /**
@@ -32,8 +32,12 @@ public class ConfigConnectionEventListener extends ClientConnectionEventListener
     
     final ConfigChangeListenContext configChangeListenContext;
     
-    public ConfigConnectionEventListener(ConfigChangeListenContext configChangeListenContext) {
+    final ConfigFuzzyWatchContext configFuzzyWatchContext;
+    
+    public ConfigConnectionEventListener(ConfigChangeListenContext configChangeListenContext,
+            ConfigFuzzyWatchContext configFuzzyWatchContext) {
         this.configChangeListenContext = configChangeListenContext;
+        this.configFuzzyWatchContext = configFuzzyWatchContext;
     }
     
     @Override
@@ -46,6 +50,7 @@ public class ConfigConnectionEventListener extends ClientConnectionEventListener
         String connectionId = connect.getMetaInfo().getConnectionId();
         Loggers.REMOTE_DIGEST.info("[{}]client disconnected,clear config listen context", connectionId);
         configChangeListenContext.clearContextForConnectionId(connectionId);
+        configFuzzyWatchContext.clearContextForConnectionId(connectionId);
     }
     
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fuzzy watch context of connections.
+ *
+ * <p>The pattern is added into the index of {@link ConfigCacheService} when the first connection watches it, and
+ * removed when the last connection cancels, so the index only contains patterns in use.
+ *
+ * @author xiweng.yy
+ */
+@Component
+public class ConfigFuzzyWatchContext {
+    
+    /**
+     * pattern -> connection set.
+     */
+    private final ConcurrentHashMap<String, Set<String>> patternContext = new ConcurrentHashMap<>();
+    
+    /**
+     * connectionId -> pattern set.
+     */
+    private final ConcurrentHashMap<String, Set<String>> connectionIdContext = new ConcurrentHashMap<>();
+    
+    /**
+     * add fuzzy watch.
+     *
+     * @param pattern      pattern.
+     * @param connectionId connectionId.
+     */
+    public void addWatch(String pattern, String connectionId) {
+        patternContext.compute(pattern, (key, connectionIds) -> {
+            Set<String> result = connectionIds;
+            if (null == result) {
+                result = ConcurrentHashMap.newKeySet();
+                ConfigCacheService.addFuzzyWatchPattern(pattern);
+            }
+            result.add(connectionId);
+            return result;
+        });
+        connectionIdContext.computeIfAbsent(connectionId, key -> ConcurrentHashMap.newKeySet()).add(pattern);
+    }
+    
+    /**
+     * remove fuzzy watch.
+     *
+     * @param pattern      pattern.
+     * @param connectionId connectionId.
+     */
+    public void removeWatch(String pattern, String connectionId) {
+        removeConnection(pattern, connectionId);
+        Set<String> patterns = connectionIdContext.get(connectionId);
+        if (null != patterns) {
+            patterns.remove(pattern);
+        }
+    }
+    
+    /**
+     * get watchers of the pattern.
+     *
+     * @param pattern pattern.
+     * @return the unmodifiable and weakly consistent view of watchers.
+     */
+    public Set<String> getWatchers(String pattern) {
+        Set<String> connectionIds = patternContext.get(pattern);
+        return null == connectionIds ? Collections.emptySet() : Collections.unmodifiableSet(connectionIds);
+    }
+    
+    /**
+     * remove the context related to the connection id.
+     *
+     * @param connectionId connectionId.
+     */
+    public void clearContextForConnectionId(String connectionId) {
+        Set<String> patterns = connectionIdContext.remove(connectionId);
+        if (null == patterns) {
+            return;
+        }
+        for (String each : patterns) {
+            removeConnection(each, connectionId);
+        }
+    }
+    
+    private void removeConnection(String pattern, String connectionId) {
+        patternContext.computeIfPresent(pattern, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            if (connectionIds.isEmpty()) {
+                ConfigCacheService.removeFuzzyWatchPattern(pattern);
+                return null;
+            }
+            return connectionIds;
+        });
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigFuzzyWatchRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigFuzzyWatchResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.GroupKeyPattern;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.core.utils.StringPool;
+import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
+import com.alibaba.nacos.plugin.auth.constant.SignType;
+import org.springframework.stereotype.Component;
+
+/**
+ * Config fuzzy watch request handler.
+ *
+ * @author xiweng.yy
+ */
+@Component
+public class ConfigFuzzyWatchRequestHandler extends RequestHandler<ConfigFuzzyWatchRequest, ConfigFuzzyWatchResponse> {
+    
+    private final ConfigFuzzyWatchContext configFuzzyWatchContext;
+    
+    public ConfigFuzzyWatchRequestHandler(ConfigFuzzyWatchContext configFuzzyWatchContext) {
+        this.configFuzzyWatchContext = configFuzzyWatchContext;
+    }
+    
+    @Override
+    @TpsControl(pointName = "ConfigFuzzyWatch")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    public ConfigFuzzyWatchResponse handle(ConfigFuzzyWatchRequest request, RequestMeta meta) throws NacosException {
+        if (!GroupKeyPattern.isValidPatternPart(request.getDataId()) || !GroupKeyPattern.isValidPatternPart(
+                request.getGroup())) {
+            throw new NacosException(NacosException.INVALID_PARAM, "invalid fuzzy watch pattern");
+        }
+        String connectionId = StringPool.get(meta.getConnectionId());
+        String pattern = StringPool.get(
+                GroupKeyPattern.generatePattern(request.getDataId(), request.getGroup(), request.getTenant()));
+        ConfigFuzzyWatchResponse response = new ConfigFuzzyWatchResponse();
+        if (!request.isWatch()) {
+            configFuzzyWatchContext.removeWatch(pattern, connectionId);
+            return response;
+        }
+        configFuzzyWatchContext.addWatch(pattern, connectionId);
+        for (String each : ConfigCacheService.getMatchedGroupKeys(pattern)) {
+            String[] parsed = GroupKey2.parseKey(each);
+            response.addMatchedConfig(parsed[0], parsed[1], parsed[2]);
+        }
+        return response;
+    }
+}
@@ -28,7 +28,7 @@ import com.alibaba.nacos.config.server.model.ConfigCacheGray;
 import com.alibaba.nacos.config.server.model.gray.BetaGrayRule;
 import com.alibaba.nacos.config.server.model.gray.TagGrayRule;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
-import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
@@ -132,8 +132,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     md5 = matchedGray.getMd5(acceptCharset);
                     lastModified = matchedGray.getLastModifiedTs();
                     encryptedDataKey = matchedGray.getEncryptedDataKey();
-                    content = ConfigDiskServiceFactory.getInstance()
-                            .getGrayContent(dataId, group, tenant, matchedGray.getGrayName());
+                    content = ConfigContentCache.getInstance().getGrayContent(matchedGray, dataId, group, tenant);
                     pullEvent = ConfigTraceService.PULL_EVENT + "-" + matchedGray.getGrayName();
                     if (BetaGrayRule.TYPE_BETA.equals(matchedGray.getGrayName())) {
                         response.setBeta(true);
@@ -153,7 +152,8 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     md5 = cacheItem.getConfigCache().getMd5(acceptCharset);
                     lastModified = cacheItem.getConfigCache().getLastModifiedTs();
                     encryptedDataKey = cacheItem.getConfigCache().getEncryptedDataKey();
-                    content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+                    content = ConfigContentCache.getInstance()
+                            .getContent(cacheItem.getConfigCache(), dataId, group, tenant);
                     pullEvent = ConfigTraceService.PULL_EVENT;
                 }
                 
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
 import com.alibaba.nacos.common.notify.Event;
@@ -23,9 +24,14 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigCache;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -38,9 +44,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
+
 /**
  * ConfigChangeNotifier.
  *
@@ -91,6 +100,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             return;
         }
         int notifyClientCount = 0;
+        PushContent pushContent = loadPushContent(groupKey, dataId, group, tenant);
         for (final String client : listeners) {
             Connection connection = connectionManager.getConnection(client);
             if (connection == null) {
@@ -101,6 +111,10 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             String clientIp = metaInfo.getClientIp();
             
             ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
+            if (null != pushContent && connection.isAbilitySupported(
+                    AbilityKey.SDK_CLIENT_SUPPORT_PUSH_CONFIG_CONTENT)) {
+                pushContent.fill(notifyRequest);
+            }
             
             RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest,
                     ConfigCommonConfig.getInstance().getMaxPushRetryTimes(), client, clientIp, metaInfo.getAppName());
@@ -110,6 +124,41 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         Loggers.REMOTE_PUSH.info("push [{}] clients, groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    /**
+     * Load the formal content to push inline, only if inline push is enabled and the config has no gray version, so
+     * that all listeners get the same content as querying.
+     *
+     * @return push content, {@code null} if the content should be queried by client
+     */
+    private PushContent loadPushContent(String groupKey, String dataId, String group, String tenant) {
+        int maxSize = PropertyUtil.getPushContentMaxSize();
+        if (maxSize <= 0) {
+            return null;
+        }
+        if (ConfigCacheService.tryConfigReadLock(groupKey) <= 0) {
+            return null;
+        }
+        try {
+            CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
+            if (null == cacheItem || (null != cacheItem.getSortConfigGrays() && !cacheItem.getSortConfigGrays()
+                    .isEmpty())) {
+                return null;
+            }
+            ConfigCache configCache = cacheItem.getConfigCache();
+            String content = ConfigContentCache.getInstance().getContent(configCache, dataId, group, tenant);
+            if (null == content || content.getBytes(StandardCharsets.UTF_8).length > maxSize) {
+                return null;
+            }
+            return new PushContent(content, configCache.getMd5(ENCODE_UTF8), configCache.getEncryptedDataKey(),
+                    cacheItem.getType(), configCache.getLastModifiedTs());
+        } catch (Exception e) {
+            Loggers.REMOTE_PUSH.warn("Load push content fail, groupKey={}, fall back to notify only.", groupKey, e);
+            return null;
+        } finally {
+            ConfigCacheService.releaseReadLock(groupKey);
+        }
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -128,6 +177,36 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         return LocalDataChangeEvent.class;
     }
     
+    static class PushContent {
+        
+        private final String content;
+        
+        private final String md5;
+        
+        private final String encryptedDataKey;
+        
+        private final String contentType;
+        
+        private final long lastModified;
+        
+        PushContent(String content, String md5, String encryptedDataKey, String contentType, long lastModified) {
+            this.content = content;
+            this.md5 = md5;
+            this.encryptedDataKey = encryptedDataKey;
+            this.contentType = contentType;
+            this.lastModified = lastModified;
+        }
+        
+        void fill(ConfigChangeNotifyRequest notifyRequest) {
+            notifyRequest.setContentPushed(true);
+            notifyRequest.setContent(content);
+            notifyRequest.setMd5(md5);
+            notifyRequest.setEncryptedDataKey(encryptedDataKey);
+            notifyRequest.setContentType(contentType);
+            notifyRequest.setLastModified(lastModified);
+        }
+    }
+    
     class RpcPushTask implements Runnable {
         
         ConfigChangeNotifyRequest notifyRequest;
@@ -239,6 +318,13 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
                     retryTask.getConnectionId());
             connectionManager.unregister(retryTask.getConnectionId());
         } else if (connectionManager.getConnection(retryTask.getConnectionId()) != null) {
+            if (retryTask.getTryTimes() > 0 && notifyRequest.isContentPushed()) {
+                // content in retry may be older than the later pushes, let client query the latest content instead.
+                notifyRequest.setContentPushed(false);
+                notifyRequest.setContent(null);
+                notifyRequest.setMd5(null);
+                notifyRequest.setEncryptedDataKey(null);
+            }
             // first time:delay 0s; second time:delay 2s; third time:delay 4s
             ConfigExecutor.scheduleClientConfigNotifier(retryTask, retryTask.getTryTimes() * 2, TimeUnit.SECONDS);
         } else {
@@ -0,0 +1,133 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigFuzzyWatchChangeNotifyRequest;
+import com.alibaba.nacos.api.remote.AbstractPushCallBack;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.config.server.configuration.ConfigCommonConfig;
+import com.alibaba.nacos.config.server.model.event.ConfigFuzzyWatchChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.core.utils.Loggers;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notify fuzzy watchers when the config matching their patterns is added, changed or deleted.
+ *
+ * @author xiweng.yy
+ */
+@Component
+public class RpcConfigFuzzyWatchNotifier extends Subscriber<ConfigFuzzyWatchChangeEvent> {
+    
+    private final ConfigFuzzyWatchContext configFuzzyWatchContext;
+    
+    private final RpcPushService rpcPushService;
+    
+    private final ConnectionManager connectionManager;
+    
+    public RpcConfigFuzzyWatchNotifier(ConfigFuzzyWatchContext configFuzzyWatchContext, RpcPushService rpcPushService,
+            ConnectionManager connectionManager) {
+        this.configFuzzyWatchContext = configFuzzyWatchContext;
+        this.rpcPushService = rpcPushService;
+        this.connectionManager = connectionManager;
+        NotifyCenter.registerSubscriber(this);
+    }
+    
+    @Override
+    public void onEvent(ConfigFuzzyWatchChangeEvent event) {
+        Set<String> patterns = ConfigCacheService.matchFuzzyWatchPatterns(event.groupKey);
+        if (patterns.isEmpty()) {
+            return;
+        }
+        // Connection watching several matched patterns is only notified once.
+        Set<String> connectionIds = new HashSet<>();
+        for (String each : patterns) {
+            connectionIds.addAll(configFuzzyWatchContext.getWatchers(each));
+        }
+        String[] parsed = GroupKey2.parseKey(event.groupKey);
+        ConfigFuzzyWatchChangeNotifyRequest notifyRequest = ConfigFuzzyWatchChangeNotifyRequest.build(parsed[0],
+                parsed[1], parsed[2], event.changeType);
+        int maxRetryTimes = ConfigCommonConfig.getInstance().getMaxPushRetryTimes();
+        for (String each : connectionIds) {
+            new FuzzyWatchPushTask(notifyRequest, each, maxRetryTimes).run();
+        }
+        Loggers.REMOTE_PUSH.info("fuzzy watch push [{}] clients, groupKey=[{}], changeType=[{}]",
+                connectionIds.size(), event.groupKey, event.changeType);
+    }
+    
+    @Override
+    public Class<? extends Event> subscribeType() {
+        return ConfigFuzzyWatchChangeEvent.class;
+    }
+    
+    class FuzzyWatchPushTask implements Runnable {
+        
+        private final ConfigFuzzyWatchChangeNotifyRequest notifyRequest;
+        
+        private final String connectionId;
+        
+        private final int maxRetryTimes;
+        
+        private int tryTimes;
+        
+        FuzzyWatchPushTask(ConfigFuzzyWatchChangeNotifyRequest notifyRequest, String connectionId,
+                int maxRetryTimes) {
+            this.notifyRequest = notifyRequest;
+            this.connectionId = connectionId;
+            this.maxRetryTimes = maxRetryTimes;
+        }
+        
+        @Override
+        public void run() {
+            tryTimes++;
+            rpcPushService.pushWithCallback(connectionId, notifyRequest, new AbstractPushCallBack(3000L) {
+                
+                @Override
+                public void onSuccess() {
+                    // Do nothing.
+                }
+                
+                @Override
+                public void onFail(Throwable e) {
+                    Loggers.REMOTE_PUSH.warn("Fuzzy watch push fail, dataId={}, group={}, tenant={}, clientId={}",
+                            notifyRequest.getDataId(), notifyRequest.getGroup(), notifyRequest.getTenant(),
+                            connectionId, e);
+                    retry();
+                }
+            }, ConfigExecutor.getClientConfigNotifierServiceExecutor());
+        }
+        
+        private void retry() {
+            if (maxRetryTimes > 0 && tryTimes >= maxRetryTimes) {
+                Loggers.REMOTE_PUSH.warn("Fuzzy watch push retry fail over times, dataId={}, group={}, clientId={}",
+                        notifyRequest.getDataId(), notifyRequest.getGroup(), connectionId);
+            } else if (connectionManager.getConnection(connectionId) != null) {
+                ConfigExecutor.scheduleClientConfigNotifier(this, tryTimes * 2L, TimeUnit.SECONDS);
+            }
+        }
+    }
+}
@@ -16,23 +16,30 @@
 
 package com.alibaba.nacos.config.server.service;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.ConfigCache;
 import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.model.event.ConfigFuzzyWatchChangeEvent;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.model.gray.GrayRule;
 import com.alibaba.nacos.config.server.model.gray.GrayRuleManager;
 import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.GroupKeyPattern;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static com.alibaba.nacos.api.common.Constants.CLIENT_IP;
@@ -64,10 +71,63 @@ public class ConfigCacheService {
      */
     private static final ConcurrentHashMap<String, CacheItem> CACHE = new ConcurrentHashMap<>();
     
+    /**
+     * Patterns of fuzzy watch.
+     */
+    private static final GroupKeyPatternIndex PATTERN_INDEX = new GroupKeyPatternIndex();
+    
     public static int groupCount() {
         return CACHE.size();
     }
     
+    /**
+     * Add fuzzy watch pattern, change events of the configs matching patterns will be published.
+     *
+     * @param pattern pattern generated by {@link GroupKeyPattern}
+     */
+    public static void addFuzzyWatchPattern(String pattern) {
+        PATTERN_INDEX.add(pattern);
+    }
+    
+    /**
+     * Remove fuzzy watch pattern.
+     *
+     * @param pattern pattern generated by {@link GroupKeyPattern}
+     */
+    public static void removeFuzzyWatchPattern(String pattern) {
+        PATTERN_INDEX.remove(pattern);
+    }
+    
+    /**
+     * Get the fuzzy watch patterns matched by the config.
+     *
+     * @param groupKey groupKey string value.
+     * @return matched patterns
+     */
+    public static Set<String> matchFuzzyWatchPatterns(String groupKey) {
+        if (PATTERN_INDEX.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return PATTERN_INDEX.match(GroupKeyPattern.generateKey(groupKey));
+    }
+    
+    /**
+     * Get the group keys of existed formal configs matching the pattern, which scans all configs in cache.
+     *
+     * @param pattern pattern generated by {@link GroupKeyPattern}
+     * @return matched group keys
+     */
+    public static List<String> getMatchedGroupKeys(String pattern) {
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<String, CacheItem> entry : CACHE.entrySet()) {
+            if (null != entry.getValue().getConfigCache().getMd5Utf8() && GroupKeyPattern.isMatch(pattern,
+                    GroupKeyPattern.generateKey(entry.getKey()))) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+    
     /**
      * Save config file and update md5 value in cache.
      *
@@ -125,6 +185,7 @@ public class ConfigCacheService {
                         "[dump] md5 changed, update md5 and timestamp in jvm cache ,groupKey={}, newMd5={},oldMd5={},lastModifiedTs={}",
                         groupKey, md5, localContentMd5, lastModifiedTs);
                 updateMd5(groupKey, md5, lastModifiedTs, encryptedDataKey);
+                ConfigContentCache.getInstance().put(ci.getConfigCache(), content);
             } else if (newLastModified) {
                 DUMP_LOG.info(
                         "[dump] md5 consistent ,timestamp changed, update timestamp only in jvm cache ,groupKey={},lastModifiedTs={}",
@@ -231,6 +292,8 @@ public class ConfigCacheService {
                         grayName, md5, localContentGrayMd5, grayRule, localGrayRule, lastModifiedTs);
                 updateGrayMd5(groupKey, grayName, grayRule, md5, lastModifiedTs, encryptedDataKey);
                 ConfigDiskServiceFactory.getInstance().saveGrayToDisk(dataId, group, tenant, grayName, content);
+                ConfigContentCache.getInstance()
+                        .put(CACHE.get(groupKey).getConfigCacheGray().get(grayName), content);
                 
             } else if (grayRuleChanged) {
                 DUMP_LOG.info("[dump-gray] gray rule changed, update local jvm cache, groupKey={},grayName={}, "
@@ -289,7 +352,10 @@ public class ConfigCacheService {
             
             CacheItem ci = CACHE.get(groupKey);
             if (ci.getConfigCacheGray() != null) {
-                ci.getConfigCacheGray().remove(grayName);
+                ConfigCacheGray removed = ci.getConfigCacheGray().remove(grayName);
+                if (removed != null) {
+                    ConfigContentCache.getInstance().invalidate(removed);
+                }
                 if (ci.getConfigCacheGray().isEmpty()) {
                     ci.clearConfigGrays();
                 } else {
@@ -335,10 +401,14 @@ public class ConfigCacheService {
             DUMP_LOG.info("[dump] remove  local disk cache,groupKey={} ", groupKey);
             ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
             
-            CACHE.remove(groupKey);
+            CacheItem removed = CACHE.remove(groupKey);
+            if (removed != null) {
+                invalidateContent(removed);
+            }
             DUMP_LOG.info("[dump] remove  local jvm cache,groupKey={} ", groupKey);
             
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
+            publishFuzzyWatchChange(groupKey, Constants.Config.FUZZY_WATCH_DELETE_CONFIG);
             
             return true;
         } finally {
@@ -346,6 +416,15 @@ public class ConfigCacheService {
         }
     }
     
+    private static void invalidateContent(CacheItem cacheItem) {
+        ConfigContentCache.getInstance().invalidate(cacheItem.getConfigCache());
+        if (cacheItem.getConfigCacheGray() != null) {
+            for (ConfigCacheGray each : cacheItem.getConfigCacheGray().values()) {
+                ConfigContentCache.getInstance().invalidate(each);
+            }
+        }
+    }
+    
     /**
      * Update md5 value.
      *
@@ -355,11 +434,21 @@ public class ConfigCacheService {
      */
     public static void updateMd5(String groupKey, String md5Utf8, long lastModifiedTs, String encryptedDataKey) {
         CacheItem cache = makeSure(groupKey, encryptedDataKey);
-        if (cache.getConfigCache().getMd5Utf8() == null || !cache.getConfigCache().getMd5Utf8().equals(md5Utf8)) {
+        String oldMd5 = cache.getConfigCache().getMd5Utf8();
+        if (oldMd5 == null || !oldMd5.equals(md5Utf8)) {
+            ConfigContentCache.getInstance().invalidate(cache.getConfigCache());
             cache.getConfigCache().setMd5Utf8(md5Utf8);
             cache.getConfigCache().setLastModifiedTs(lastModifiedTs);
             cache.getConfigCache().setEncryptedDataKey(encryptedDataKey);
             NotifyCenter.publishEvent(new LocalDataChangeEvent(groupKey));
+            publishFuzzyWatchChange(groupKey, null == oldMd5 ? Constants.Config.FUZZY_WATCH_ADD_CONFIG
+                    : Constants.Config.FUZZY_WATCH_CONFIG_CHANGED);
+        }
+    }
+    
+    private static void publishFuzzyWatchChange(String groupKey, String changeType) {
+        if (!PATTERN_INDEX.isEmpty()) {
+            NotifyCenter.publishEvent(new ConfigFuzzyWatchChangeEvent(groupKey, changeType));
         }
     }
     
@@ -378,6 +467,7 @@ public class ConfigCacheService {
         CacheItem cache = makeSure(groupKey, null);
         cache.initConfigGrayIfEmpty(grayName);
         ConfigCacheGray configCache = cache.getConfigCacheGray().get(grayName);
+        ConfigContentCache.getInstance().invalidate(configCache);
         configCache.setMd5Utf8(md5Utf8);
         configCache.setLastModifiedTs(lastModifiedTs);
         configCache.setEncryptedDataKey(encryptedDataKey);
@@ -0,0 +1,319 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.model.ConfigCacheGray;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In memory content tier of config cache, disk is the fallback of query.
+ *
+ * <p>Contents are attached to {@link ConfigCache} and bounded by total bytes of
+ * {@link PropertyUtil#getContentCacheMaxSize()}. Like TinyLFU, accesses are recorded by a count-min sketch with
+ * periodic aging. When the cache is full, a new content is admitted only if it is accessed more frequently than the
+ * victim, which is the least frequently used one of several sampled resident contents.
+ *
+ * <p>Contents are updated when dumping with md5 changed, and all modifications are done with the write lock of the
+ * config in {@link ConfigCacheService}, so the content is always consistent with md5 for readers holding read lock.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigContentCache {
+    
+    private static final ConfigContentCache INSTANCE = new ConfigContentCache();
+    
+    private static final int SAMPLE_SIZE = 8;
+    
+    private final FrequencySketch sketch = new FrequencySketch(1 << 16);
+    
+    /**
+     * Resident config caches, only accessed with lock of this.
+     */
+    private final List<ConfigCache> residents = new ArrayList<>();
+    
+    private long residentBytes;
+    
+    ConfigContentCache() {
+    }
+    
+    public static ConfigContentCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get formal content from memory, or load from disk if not resident.
+     *
+     * @param configCache formal config cache
+     * @param dataId      dataId
+     * @param group       group
+     * @param tenant      tenant
+     * @return content, {@code null} if not exist
+     * @throws IOException if load from disk failed
+     */
+    public String getContent(ConfigCache configCache, String dataId, String group, String tenant)
+            throws IOException {
+        String content = get(configCache);
+        if (null == content) {
+            content = ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+            offer(configCache, content);
+        }
+        return content;
+    }
+    
+    /**
+     * Get gray content from memory, or load from disk if not resident.
+     *
+     * @param configCacheGray gray config cache
+     * @param dataId          dataId
+     * @param group           group
+     * @param tenant          tenant
+     * @return gray content, {@code null} if not exist
+     * @throws IOException if load from disk failed
+     */
+    public String getGrayContent(ConfigCacheGray configCacheGray, String dataId, String group, String tenant)
+            throws IOException {
+        String content = get(configCacheGray);
+        if (null == content) {
+            content = ConfigDiskServiceFactory.getInstance()
+                    .getGrayContent(dataId, group, tenant, configCacheGray.getGrayName());
+            offer(configCacheGray, content);
+        }
+        return content;
+    }
+    
+    /**
+     * Record access and get resident content.
+     *
+     * @param configCache config cache
+     * @return resident content, {@code null} if not resident
+     */
+    public String get(ConfigCache configCache) {
+        if (!isEnabled()) {
+            return null;
+        }
+        sketch.increment(configCache);
+        String result = configCache.getContent();
+        if (null != result) {
+            MetricsMonitor.getContentCacheHitMonitor().increment();
+        } else {
+            MetricsMonitor.getContentCacheMissMonitor().increment();
+        }
+        return result;
+    }
+    
+    /**
+     * Try to admit the content loaded from disk.
+     *
+     * @param configCache config cache
+     * @param content     content
+     */
+    public synchronized void offer(ConfigCache configCache, String content) {
+        if (null == content || !isEnabled() || null != configCache.getContent()) {
+            return;
+        }
+        admit(configCache, content);
+    }
+    
+    /**
+     * Put the new content of config cache, which is called when md5 changed.
+     *
+     * @param configCache config cache
+     * @param content     new content
+     */
+    public synchronized void put(ConfigCache configCache, String content) {
+        if (null == content || !isEnabled()) {
+            invalidate(configCache);
+            return;
+        }
+        if (null == configCache.getContent()) {
+            admit(configCache, content);
+            return;
+        }
+        residentBytes += weight(content) - weight(configCache.getContent());
+        configCache.setContent(content);
+        if (!evictUntilFit(configCache, 0L)) {
+            invalidate(configCache);
+        }
+    }
+    
+    /**
+     * Remove the content of config cache from memory.
+     *
+     * @param configCache config cache
+     */
+    public synchronized void invalidate(ConfigCache configCache) {
+        String content = configCache.getContent();
+        if (null == content) {
+            return;
+        }
+        int index = configCache.getContentIndex();
+        ConfigCache last = residents.remove(residents.size() - 1);
+        if (last != configCache) {
+            residents.set(index, last);
+            last.setContentIndex(index);
+        }
+        configCache.setContent(null);
+        configCache.setContentIndex(-1);
+        residentBytes -= weight(content);
+    }
+    
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+    
+    public synchronized int getResidentCount() {
+        return residents.size();
+    }
+    
+    private void admit(ConfigCache configCache, String content) {
+        long weight = weight(content);
+        if (weight > PropertyUtil.getContentCacheMaxSize() || !evictUntilFit(configCache, weight)) {
+            return;
+        }
+        configCache.setContent(content);
+        configCache.setContentIndex(residents.size());
+        residents.add(configCache);
+        residentBytes += weight;
+    }
+    
+    /**
+     * Evict victims until the candidate fits, the candidate is rejected if it is not more frequent than any victim.
+     */
+    private boolean evictUntilFit(ConfigCache candidate, long weight) {
+        long maxSize = PropertyUtil.getContentCacheMaxSize();
+        int candidateFrequency = sketch.frequency(candidate);
+        while (residentBytes + weight > maxSize) {
+            ConfigCache victim = sampleVictim(candidate);
+            if (null == victim || sketch.frequency(victim) >= candidateFrequency) {
+                return false;
+            }
+            invalidate(victim);
+        }
+        return true;
+    }
+    
+    private ConfigCache sampleVictim(ConfigCache candidate) {
+        ConfigCache result = null;
+        int minFrequency = Integer.MAX_VALUE;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < SAMPLE_SIZE && !residents.isEmpty(); i++) {
+            ConfigCache each = residents.get(random.nextInt(residents.size()));
+            if (each == candidate) {
+                continue;
+            }
+            int frequency = sketch.frequency(each);
+            if (frequency < minFrequency) {
+                minFrequency = frequency;
+                result = each;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isEnabled() {
+        return PropertyUtil.getContentCacheMaxSize() > 0;
+    }
+    
+    /**
+     * Approximate heap bytes of content.
+     */
+    private static long weight(String content) {
+        return (long) content.length() << 1;
+    }
+    
+    /**
+     * Count-min sketch with four 4-bit counters for each key, all counters are halved when the number of increments
+     * reaches the sample size, so that history accesses are aged out. Updates are not atomic, which only makes the
+     * frequency more approximate.
+     */
+    static class FrequencySketch {
+        
+        private static final long RESET_MASK = 0x7777777777777777L;
+        
+        private static final int[] SEEDS = {0x97cb3127, 0xb93c4a1d, 0x6a09e667, 0xbb67ae85};
+        
+        private final long[] table;
+        
+        private final int counterMask;
+        
+        private final int sampleSize;
+        
+        private int additions;
+        
+        FrequencySketch(int counters) {
+            int size = Integer.highestOneBit(Math.max(counters, 16));
+            this.table = new long[size >>> 4];
+            this.counterMask = size - 1;
+            this.sampleSize = size;
+        }
+        
+        void increment(Object key) {
+            int hash = spread(System.identityHashCode(key));
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                int word = index >>> 4;
+                int shift = (index & 15) << 2;
+                if (((table[word] >>> shift) & 0xFL) != 0xFL) {
+                    table[word] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+        
+        int frequency(Object key) {
+            int hash = spread(System.identityHashCode(key));
+            int result = Integer.MAX_VALUE;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = indexOf(hash, i);
+                result = Math.min(result, (int) ((table[index >>> 4] >>> ((index & 15) << 2)) & 0xFL));
+            }
+            return result;
+        }
+        
+        private void reset() {
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions >>>= 1;
+        }
+        
+        private int indexOf(int hash, int row) {
+            int result = (hash + SEEDS[row]) * SEEDS[row];
+            result += result >>> 16;
+            return result & counterMask;
+        }
+        
+        private static int spread(int hash) {
+            hash ^= hash >>> 17;
+            hash *= 0xed5ad4bb;
+            hash ^= hash >>> 11;
+            return hash;
+        }
+    }
+}
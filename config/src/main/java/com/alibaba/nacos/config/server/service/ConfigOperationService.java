@@ -22,6 +22,7 @@ import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.common.utils.MapUtil;
 import com.alibaba.nacos.common.utils.NumberUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigAllInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigOperateResult;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
@@ -37,6 +38,7 @@ import com.alibaba.nacos.config.server.service.repository.ConfigInfoGrayPersistS
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoTagPersistService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.config.server.utils.TimeUtils;
@@ -48,9 +50,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * ConfigService.
@@ -150,6 +155,71 @@ public class ConfigOperationService {
         return true;
     }
     
+    /**
+     * Adds or updates formal configs in batch. All configs are persisted together, and notified one by one.
+     *
+     * @param configForms       config forms with encrypted content and data key, beta and tag are not supported
+     * @param configRequestInfo request info shared by all configs, beta and cas are not supported
+     * @param srcUser           user
+     * @return operate results in the order of config forms
+     * @throws NacosException NacosException.
+     */
+    public List<ConfigOperateResult> batchPublishConfig(List<ConfigForm> configForms,
+            ConfigRequestInfo configRequestInfo, String srcUser) throws NacosException {
+        if (StringUtils.isNotBlank(configRequestInfo.getBetaIps()) || StringUtils.isNotBlank(
+                configRequestInfo.getCasMd5())) {
+            throw new NacosApiException(HttpStatus.BAD_REQUEST.value(), ErrorCode.PARAMETER_VALIDATE_ERROR,
+                    "beta and cas publish are not supported in batch publish.");
+        }
+        List<ConfigAllInfo> configInfos = new ArrayList<>(configForms.size());
+        Set<String> groupKeys = new HashSet<>(configForms.size());
+        for (ConfigForm configForm : configForms) {
+            if (StringUtils.isNotBlank(configForm.getTag())) {
+                throw new NacosApiException(HttpStatus.BAD_REQUEST.value(), ErrorCode.PARAMETER_VALIDATE_ERROR,
+                        "tag publish is not supported in batch publish.");
+            }
+            ParamUtils.checkParam(getConfigAdvanceInfo(configForm));
+            String groupKey = GroupKey2.getKey(configForm.getDataId(), configForm.getGroup(),
+                    configForm.getNamespaceId());
+            if (!groupKeys.add(groupKey)) {
+                throw new NacosApiException(HttpStatus.BAD_REQUEST.value(), ErrorCode.PARAMETER_VALIDATE_ERROR,
+                        "duplicate config in batch publish: " + groupKey);
+            }
+            ConfigAllInfo configInfo = new ConfigAllInfo();
+            configInfo.setDataId(configForm.getDataId());
+            configInfo.setGroup(configForm.getGroup());
+            configInfo.setTenant(configForm.getNamespaceId());
+            configInfo.setAppName(configForm.getAppName());
+            configInfo.setContent(configForm.getContent());
+            configInfo.setEncryptedDataKey(configForm.getEncryptedDataKey());
+            configInfo.setType(configForm.getType());
+            configInfo.setDesc(configForm.getDesc());
+            configInfo.setUse(configForm.getUse());
+            configInfo.setEffect(configForm.getEffect());
+            configInfo.setSchema(configForm.getSchema());
+            configInfo.setConfigTags(configForm.getConfigTags());
+            configInfos.add(configInfo);
+        }
+        
+        List<ConfigOperateResult> results = configInfoPersistService.insertOrUpdateBatch(configInfos,
+                configRequestInfo.getSrcIp(), srcUser);
+        for (int i = 0; i < configForms.size(); i++) {
+            ConfigForm configForm = configForms.get(i);
+            ConfigOperateResult configOperateResult = results.get(i);
+            if (!configOperateResult.isSuccess()) {
+                continue;
+            }
+            ConfigChangePublisher.notifyConfigChange(
+                    new ConfigDataChangeEvent(configForm.getDataId(), configForm.getGroup(),
+                            configForm.getNamespaceId(), configOperateResult.getLastModified()));
+            ConfigTraceService.logPersistenceEvent(configForm.getDataId(), configForm.getGroup(),
+                    configForm.getNamespaceId(), configRequestInfo.getRequestIpApp(),
+                    configOperateResult.getLastModified(), InetUtils.getSelfIP(), ConfigTraceService.PERSISTENCE_EVENT,
+                    ConfigTraceService.PERSISTENCE_TYPE_PUB, configForm.getContent());
+        }
+        return results;
+    }
+    
     private void persistTagv1(ConfigForm configForm, ConfigInfo configInfo, ConfigRequestInfo configRequestInfo)
             throws NacosApiException {
         if (!PropertyUtil.isGrayCompatibleModel()) {
@@ -0,0 +1,126 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.utils.GroupKeyPattern;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of fuzzy watch patterns.
+ *
+ * <p>Patterns are stored in a trie by their literal prefix, matching a key only visits the nodes on the path of the key
+ * and checks the patterns on these nodes, so the cost is sub-linear in the number of patterns. Writes are synchronized
+ * and reads are lock free.
+ *
+ * @author xiweng.yy
+ */
+public class GroupKeyPatternIndex {
+    
+    private final Node root = new Node();
+    
+    private volatile int size;
+    
+    /**
+     * Add pattern into index.
+     *
+     * @param pattern pattern generated by {@link GroupKeyPattern}
+     * @return {@code true} if the pattern is not in index before
+     */
+    public synchronized boolean add(String pattern) {
+        String prefix = GroupKeyPattern.getLiteralPrefix(pattern);
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), key -> new Node());
+        }
+        boolean result = node.patterns.add(pattern);
+        if (result) {
+            size++;
+        }
+        return result;
+    }
+    
+    /**
+     * Remove pattern from index.
+     *
+     * @param pattern pattern generated by {@link GroupKeyPattern}
+     * @return {@code true} if the pattern is in index before
+     */
+    public synchronized boolean remove(String pattern) {
+        String prefix = GroupKeyPattern.getLiteralPrefix(pattern);
+        List<Node> path = new ArrayList<>(prefix.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < prefix.length() && null != node; i++) {
+            node = node.children.get(prefix.charAt(i));
+            path.add(node);
+        }
+        if (null == node || !node.patterns.remove(pattern)) {
+            return false;
+        }
+        size--;
+        // Prune the empty nodes from leaf.
+        for (int i = prefix.length(); i > 0; i--) {
+            Node each = path.get(i);
+            if (!each.patterns.isEmpty() || !each.children.isEmpty()) {
+                break;
+            }
+            path.get(i - 1).children.remove(prefix.charAt(i - 1));
+        }
+        return true;
+    }
+    
+    /**
+     * Get the patterns matched by key.
+     *
+     * @param key key generated by {@link GroupKeyPattern#generateKey(String, String, String)}
+     * @return matched patterns
+     */
+    public Set<String> match(String key) {
+        Set<String> result = new HashSet<>();
+        Node node = root;
+        int index = 0;
+        while (null != node) {
+            for (String each : node.patterns) {
+                if (GroupKeyPattern.isMatch(each, key)) {
+                    result.add(each);
+                }
+            }
+            node = index < key.length() ? node.children.get(key.charAt(index++)) : null;
+        }
+        return result;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    private static class Node {
+        
+        private final ConcurrentHashMap<Character, Node> children = new ConcurrentHashMap<>(4);
+        
+        private final Set<String> patterns = ConcurrentHashMap.newKeySet(1);
+    }
+}
@@ -150,13 +150,13 @@ public class CapacityService {
     }
     
     private void initAllCapacity(boolean isTenant) {
-        int page = 1;
+        String lastId = StringUtils.EMPTY;
         while (true) {
             List<String> list;
             if (isTenant) {
-                list = configInfoPersistService.getTenantIdList(page, INIT_PAGE_SIZE);
+                list = configInfoPersistService.getTenantIdListByCursor(lastId, INIT_PAGE_SIZE);
             } else {
-                list = configInfoPersistService.getGroupIdList(page, INIT_PAGE_SIZE);
+                list = configInfoPersistService.getGroupIdListByCursor(lastId, INIT_PAGE_SIZE);
             }
             for (String targetId : list) {
                 if (isTenant) {
@@ -174,7 +174,7 @@ public class CapacityService {
                 Thread.sleep(100);
             } catch (InterruptedException ignored) {
             }
-            ++page;
+            lastId = list.get(list.size() - 1);
         }
     }
     
@@ -40,13 +40,22 @@ public class DefaultHistoryConfigCleaner implements HistoryConfigCleaner {
     
     @Override
     public void cleanHistoryConfig() {
-        Timestamp startTime = getBeforeStamp(TimeUtils.getCurrentTime(), 24 * getRetentionDays());
+        Timestamp startTime = getStartTime();
         int pageSize = 1000;
         LOGGER.warn("clearConfigHistory, getBeforeStamp:{}, pageSize:{}", startTime, pageSize);
         getHistoryConfigInfoPersistService().removeConfigHistory(startTime, pageSize);
     }
     
-    private HistoryConfigInfoPersistService getHistoryConfigInfoPersistService() {
+    /**
+     * Get the start time of retention, history configs before it should be removed.
+     *
+     * @return start time of retention
+     */
+    protected Timestamp getStartTime() {
+        return getBeforeStamp(TimeUtils.getCurrentTime(), 24 * getRetentionDays());
+    }
+    
+    protected HistoryConfigInfoPersistService getHistoryConfigInfoPersistService() {
         if (historyConfigInfoPersistService == null) {
             historyConfigInfoPersistService = ApplicationUtils.getBean(HistoryConfigInfoPersistService.class);
         }
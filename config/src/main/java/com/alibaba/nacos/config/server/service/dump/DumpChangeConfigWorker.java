@@ -21,6 +21,7 @@ import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.ConfigInfoStateWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.repository.HistoryConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
@@ -28,6 +29,7 @@ import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 
+import java.io.IOException;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -64,6 +66,7 @@ public class DumpChangeConfigWorker implements Runnable {
      */
     public void run() {
         
+        boolean batchWriting = false;
         try {
             
             if (!PropertyUtil.isDumpChangeOn()) {
@@ -79,6 +82,8 @@ public class DumpChangeConfigWorker implements Runnable {
             LogUtil.DEFAULT_LOG.info("Check delete configs from  time {}", startTime);
             
             long deleteCursorId = 0L;
+            ConfigDiskServiceFactory.getInstance().beginBatchWrite();
+            batchWriting = true;
             
             while (true) {
                 List<ConfigInfoStateWrapper> configDeleted = historyConfigInfoPersistService.findDeletedConfig(startTime,
@@ -149,6 +154,9 @@ public class DumpChangeConfigWorker implements Runnable {
         } catch (Throwable e) {
             LogUtil.DEFAULT_LOG.error("Check changed configs error", e);
         } finally {
+            if (batchWriting) {
+                endBatchWrite();
+            }
             ConfigExecutor.scheduleConfigChangeTask(this, PropertyUtil.getDumpChangeWorkerInterval(),
                     TimeUnit.MILLISECONDS);
             LogUtil.DEFAULT_LOG.info("Next dump change will scheduled after {} milliseconds",
@@ -156,4 +164,12 @@ public class DumpChangeConfigWorker implements Runnable {
             
         }
     }
+    
+    private void endBatchWrite() {
+        try {
+            ConfigDiskServiceFactory.getInstance().endBatchWrite();
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.error("DumpChange write batch to disk error", e);
+        }
+    }
 }
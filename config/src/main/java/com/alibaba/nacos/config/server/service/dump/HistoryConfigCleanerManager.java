@@ -34,6 +34,8 @@ public class HistoryConfigCleanerManager {
             historyConfigCleanerMap.put(historyConfigCleaner.getName(), historyConfigCleaner);
         });
         historyConfigCleanerMap.put("nacos", new DefaultHistoryConfigCleaner());
+        historyConfigCleanerMap.put("idWatermark", new IdWatermarkHistoryConfigCleaner());
+        historyConfigCleanerMap.put("partition", new PartitionHistoryConfigCleaner());
     }
     
     /**
@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import com.alibaba.nacos.config.server.service.repository.HistoryConfigInfoPersistService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Timestamp;
+
+/**
+ * History config cleaner which deletes expired history by id range.
+ *
+ * <p>The max id before the start time of retention is the watermark, and expired history is deleted range by range
+ * from the min id to the watermark. Each delete only scans and locks a small range of primary key, so it competes
+ * less with inserting new history than deleting by time.
+ *
+ * @author xiweng.yy
+ */
+public class IdWatermarkHistoryConfigCleaner extends DefaultHistoryConfigCleaner {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdWatermarkHistoryConfigCleaner.class);
+    
+    private static final int RANGE_SIZE = 1000;
+    
+    @Override
+    public void cleanHistoryConfig() {
+        removeByIdWatermark(getStartTime());
+    }
+    
+    protected void removeByIdWatermark(Timestamp startTime) {
+        HistoryConfigInfoPersistService persistService = getHistoryConfigInfoPersistService();
+        Long watermark = persistService.findConfigHistoryMaxIdByTime(startTime);
+        if (null == watermark) {
+            return;
+        }
+        Long minId = persistService.findConfigHistoryMinId();
+        long startId = null == minId ? 0L : minId;
+        LOGGER.warn("clearConfigHistory by id watermark, getBeforeStamp:{}, minId:{}, watermark:{}", startTime,
+                startId, watermark);
+        while (startId <= watermark) {
+            long endId = Math.min(startId + RANGE_SIZE, watermark + 1);
+            persistService.removeConfigHistoryByIdRange(startTime, startId, endId);
+            startId = endId;
+        }
+    }
+    
+    @Override
+    public String getName() {
+        return "idWatermark";
+    }
+}
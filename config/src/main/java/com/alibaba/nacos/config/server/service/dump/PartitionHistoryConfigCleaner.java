@@ -0,0 +1,57 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import com.alibaba.nacos.config.server.service.repository.HistoryConfigInfoPersistService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * History config cleaner which drops expired time partitions of history table.
+ *
+ * <p>Only works for MySQL history table partitioned by {@code PARTITION BY RANGE (TO_DAYS(gmt_modified))}, which
+ * requires the primary key to be {@code (nid, gmt_modified)}. Dropping a partition is much cheaper than deleting its
+ * rows. Expired rows left in the partition containing the start time, or in a table without partitions, are deleted
+ * by id watermark.
+ *
+ * @author xiweng.yy
+ */
+public class PartitionHistoryConfigCleaner extends IdWatermarkHistoryConfigCleaner {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionHistoryConfigCleaner.class);
+    
+    @Override
+    public void cleanHistoryConfig() {
+        Timestamp startTime = getStartTime();
+        HistoryConfigInfoPersistService persistService = getHistoryConfigInfoPersistService();
+        List<String> partitions = persistService.findExpiredConfigHistoryPartitions(startTime);
+        for (String each : partitions) {
+            LOGGER.warn("clearConfigHistory, drop partition:{}, getBeforeStamp:{}", each, startTime);
+            persistService.dropConfigHistoryPartition(each);
+        }
+        removeByIdWatermark(startTime);
+    }
+    
+    @Override
+    public String getName() {
+        return "partition";
+    }
+}
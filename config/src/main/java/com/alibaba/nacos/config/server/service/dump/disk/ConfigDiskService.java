@@ -35,7 +35,7 @@ public interface ConfigDiskService {
      * @throws IOException io exception.
      */
     void saveToDisk(String dataId, String group, String tenant, String content) throws IOException;
-
+    
     /**
      * Save gray information to disk.
      *
@@ -90,6 +90,31 @@ public interface ConfigDiskService {
      */
     String getContent(String dataId, String group, String tenant) throws IOException;
     
+    /**
+     * Begin batch write for bulk dump, writes of current thread until {@link #endBatchWrite()} might be buffered and
+     * written together. Calls can be nested, and must be paired with {@link #endBatchWrite()}.
+     */
+    default void beginBatchWrite() {
+    }
+    
+    /**
+     * Run the task of bulk dump in current thread, whose writes join the batch begun by {@link #beginBatchWrite()} in
+     * other thread.
+     *
+     * @param task task of bulk dump
+     */
+    default void runInBatchWrite(Runnable task) {
+        task.run();
+    }
+    
+    /**
+     * End batch write and write all buffered writes to disk.
+     *
+     * @throws IOException io exception.
+     */
+    default void endBatchWrite() throws IOException {
+    }
+    
     /**
      * Clear all config file.
      */
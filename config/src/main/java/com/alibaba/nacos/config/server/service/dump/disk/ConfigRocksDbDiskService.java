@@ -21,23 +21,39 @@ import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.DBOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.HashMap;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-
-import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
-import static com.alibaba.nacos.config.server.constant.Constants.NULL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * config rocks db disk service.
  *
+ * <p>Formal and gray configs are stored in two column families of one rocksdb instance, and the key is the length
+ * prefixed utf-8 bytes of dataId, group, tenant and tag.
+ *
+ * <p>Between {@link #beginBatchWrite()} and {@link #endBatchWrite()}, writes of the batch writer threads, which are
+ * the beginning thread and the threads in {@link #runInBatchWrite(Runnable)}, are collected into a {@link WriteBatch}
+ * and written without WAL every {@link #MAX_BATCH_COUNT} operations, because the whole disk cache is rebuilt from
+ * database when server starting. Writes of other threads, such as publishing, are still written directly with WAL.
+ * Pending writes are visible to reads of this service without lock.
+ *
  * @author shiyiyue
  */
 @SuppressWarnings("PMD.ServiceOrDaoClassShouldEndWithImplRule")
@@ -45,13 +61,59 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     
     private static final String ROCKSDB_DATA = File.separator + "rocksdata" + File.separator;
     
-    private static final String BASE_DIR = ROCKSDB_DATA + "config-data";
+    private static final String DB_DIR = ROCKSDB_DATA + "config-cf";
     
-    private static final String GRAY_DIR = ROCKSDB_DATA + "gray-data";
+    /**
+     * Directories of separated rocksdb instances of old versions.
+     */
+    private static final String[] LEGACY_DIRS = {ROCKSDB_DATA + "config-data", ROCKSDB_DATA + "gray-data"};
+    
+    static final String CONFIG_CF = "config";
+    
+    static final String GRAY_CF = "gray";
     
     private static final long DEFAULT_WRITE_BUFFER_MB = 32;
     
-    Map<String, RocksDB> rocksDbMap = new HashMap<>();
+    private static final int MAX_BATCH_COUNT = Integer.getInteger("nacos.config.rocksdb.batch.maxCount", 1000);
+    
+    private static final byte[] EMPTY_BYTES = new byte[0];
+    
+    /**
+     * Marker of pending delete in {@link #pendingWrites}, compared by reference.
+     */
+    private static final byte[] TOMBSTONE = new byte[0];
+    
+    /**
+     * Rocksdb only allows opening one instance for a path in one process, so it is shared by all services.
+     */
+    private static volatile RocksDB rocksDb;
+    
+    private static final Map<String, ColumnFamilyHandle> COLUMN_FAMILY_HANDLES = new ConcurrentHashMap<>();
+    
+    /**
+     * Guards the usage of column family handles, the write lock is held when dropping and recreating them.
+     */
+    private static final ReadWriteLock HANDLE_LOCK = new ReentrantReadWriteLock();
+    
+    private final WriteOptions batchWriteOptions = new WriteOptions().setDisableWAL(true);
+    
+    private final Object batchLock = new Object();
+    
+    /**
+     * Whether any batch write is in progress, the batch states below are guarded by {@link #batchLock}.
+     */
+    private volatile boolean batching;
+    
+    private int batchDepth;
+    
+    private WriteBatch writeBatch;
+    
+    /**
+     * Pending writes of the batch by column family, modified with {@link #batchLock} and read without lock.
+     */
+    private final Map<String, Map<ByteBuffer, byte[]>> pendingWrites = new ConcurrentHashMap<>();
+    
+    private final ThreadLocal<Integer> batchWriterDepth = ThreadLocal.withInitial(() -> 0);
     
     private void createDirIfNotExist(String dir) {
         File roskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
@@ -64,57 +126,49 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
         }
     }
     
-    private void deleteDirIfExist(String dir) {
-        File rockskDataDir = new File(EnvUtil.getNacosHome(), "rocksdata");
-        if (!rockskDataDir.exists()) {
-            return;
-        }
-        File baseDir = new File(EnvUtil.getNacosHome(), dir);
-        if (baseDir.exists()) {
-            baseDir.delete();
-        }
-    }
-    
     public ConfigRocksDbDiskService() {
-        createDirIfNotExist(BASE_DIR);
-        createDirIfNotExist(GRAY_DIR);
-        
+        createDirIfNotExist(DB_DIR);
     }
     
-    private byte[] getKeyByte(String dataId, String group, String tenant, String tag) throws IOException {
-        String[] keys = new String[] {dataId, group, tenant, tag};
-        return getKeyByte(keys);
+    private byte[] getKeyByte(String dataId, String group, String tenant, String tag) {
+        return encodeKey(dataId, group, tenant, tag);
     }
     
-    private byte[] getKeyByte(String... keys) throws IOException {
-        if (keys == null || keys.length == 0) {
-            return NULL.getBytes(ENCODE_UTF8);
+    /**
+     * Encode keys as a sequence of varint length and utf-8 bytes, blank key is encoded as empty.
+     *
+     * @param keys keys
+     * @return encoded key bytes
+     */
+    static byte[] encodeKey(String... keys) {
+        byte[][] parts = new byte[keys.length][];
+        int length = 0;
+        for (int i = 0; i < keys.length; i++) {
+            parts[i] = StringUtils.isBlank(keys[i]) ? EMPTY_BYTES : keys[i].getBytes(StandardCharsets.UTF_8);
+            length += varIntSize(parts[i].length) + parts[i].length;
         }
-        StringBuilder stringBuilder = new StringBuilder();
-        for (String key : keys) {
-            if (StringUtils.isBlank(key)) {
-                key = "";
+        byte[] result = new byte[length];
+        int offset = 0;
+        for (byte[] part : parts) {
+            int value = part.length;
+            while ((value & ~0x7F) != 0) {
+                result[offset++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
             }
-            urlEncode(key, stringBuilder);
-            stringBuilder.append("+");
+            result[offset++] = (byte) value;
+            System.arraycopy(part, 0, result, offset, part.length);
+            offset += part.length;
         }
-        return stringBuilder.toString().getBytes(ENCODE_UTF8);
+        return result;
     }
     
-    /**
-     * + -> %2B % -> %25.
-     */
-    private static void urlEncode(String str, StringBuilder sb) {
-        for (int idx = 0; idx < str.length(); ++idx) {
-            char c = str.charAt(idx);
-            if ('+' == c) {
-                sb.append("%2B");
-            } else if ('%' == c) {
-                sb.append("%25");
-            } else {
-                sb.append(c);
-            }
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
         }
+        return size;
     }
     
     /**
@@ -123,7 +177,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void saveToDiskInner(String type, String dataId, String group, String tenant, String tag, String content)
             throws IOException {
         try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, tag), content.getBytes(ENCODE_UTF8));
+            write(type, getKeyByte(dataId, group, tenant, tag), content.getBytes(StandardCharsets.UTF_8));
         } catch (RocksDBException e) {
             throw new IOException(e);
         }
@@ -142,18 +196,14 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void saveGrayToDiskInner(String type, String dataId, String group, String tenant, String grayName,
             String content) throws IOException {
-        try {
-            initAndGetDB(type).put(getKeyByte(dataId, group, tenant, grayName), content.getBytes(ENCODE_UTF8));
-        } catch (RocksDBException e) {
-            throw new IOException(e);
-        }
+        saveToDiskInner(type, dataId, group, tenant, grayName, content);
     }
     
     /**
      * Save configuration information to disk.
      */
     public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
-        saveToDiskInner(BASE_DIR, dataId, group, tenant, content);
+        saveToDiskInner(CONFIG_CF, dataId, group, tenant, content);
     }
     
     /**
@@ -161,7 +211,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      */
     public void saveGrayToDisk(String dataId, String group, String tenant, String grayName, String content)
             throws IOException {
-        saveGrayToDiskInner(GRAY_DIR, dataId, group, tenant, grayName, content);
+        saveGrayToDiskInner(GRAY_CF, dataId, group, tenant, grayName, content);
         
     }
     
@@ -169,83 +219,218 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      * Deletes configuration files on disk.
      */
     public void removeConfigInfo(String dataId, String group, String tenant) {
-        removeContentInner(BASE_DIR, dataId, group, tenant, null);
+        removeContentInner(CONFIG_CF, dataId, group, tenant, null);
     }
     
     /**
      * Deletes gray configuration files on disk.
      */
     public void removeConfigInfo4Gray(String dataId, String group, String tenant, String grayName) {
-        removeGrayInner(GRAY_DIR, dataId, group, tenant, grayName);
+        removeContentInner(GRAY_CF, dataId, group, tenant, grayName);
         
     }
     
-    private String byte2String(byte[] bytes) throws IOException {
-        if (bytes == null) {
-            return null;
+    @Override
+    public void beginBatchWrite() {
+        synchronized (batchLock) {
+            if (batchDepth++ == 0) {
+                writeBatch = new WriteBatch();
+                batching = true;
+            }
+        }
+        batchWriterDepth.set(batchWriterDepth.get() + 1);
+    }
+    
+    @Override
+    public void runInBatchWrite(Runnable task) {
+        batchWriterDepth.set(batchWriterDepth.get() + 1);
+        try {
+            task.run();
+        } finally {
+            leaveBatchWrite();
+        }
+    }
+    
+    @Override
+    public void endBatchWrite() throws IOException {
+        leaveBatchWrite();
+        synchronized (batchLock) {
+            if (batchDepth <= 0) {
+                return;
+            }
+            try {
+                flushBatch();
+            } catch (RocksDBException e) {
+                throw new IOException(e);
+            } finally {
+                if (--batchDepth == 0) {
+                    batching = false;
+                    writeBatch.close();
+                    writeBatch = null;
+                    pendingWrites.clear();
+                }
+            }
         }
-        return new String(bytes, ENCODE_UTF8);
     }
     
-    RocksDB initAndGetDB(String dir) throws IOException, RocksDBException {
-        if (rocksDbMap.containsKey(dir)) {
-            return rocksDbMap.get(dir);
+    private void leaveBatchWrite() {
+        int depth = batchWriterDepth.get() - 1;
+        if (depth > 0) {
+            batchWriterDepth.set(depth);
         } else {
-            synchronized (this) {
-                if (rocksDbMap.containsKey(dir)) {
-                    return rocksDbMap.get(dir);
+            batchWriterDepth.remove();
+        }
+    }
+    
+    /**
+     * Write pending batch into rocksdb, must be called with {@link #batchLock}.
+     */
+    private void flushBatch() throws RocksDBException {
+        if (writeBatch.count() == 0) {
+            return;
+        }
+        RocksDB db = initAndGetDB();
+        HANDLE_LOCK.readLock().lock();
+        try {
+            db.write(batchWriteOptions, writeBatch);
+        } finally {
+            HANDLE_LOCK.readLock().unlock();
+            // The writes of a failed batch are dropped, same as the failed single write.
+            writeBatch.clear();
+            pendingWrites.clear();
+        }
+    }
+    
+    private void write(String type, byte[] key, byte[] value) throws RocksDBException {
+        if (batching) {
+            synchronized (batchLock) {
+                if (batchDepth > 0) {
+                    writeInBatch(type, key, value);
+                    return;
                 }
-                createDirIfEmpty(EnvUtil.getNacosHome() + dir);
-                rocksDbMap.put(dir, RocksDB.open(createOptions(dir), EnvUtil.getNacosHome() + dir));
-                return rocksDbMap.get(dir);
             }
-            
         }
+        writeDirectly(type, key, value);
     }
     
-    private void createDirIfEmpty(String filePath) {
-        File file = new File(filePath);
-        if (!file.exists()) {
-            file.mkdirs();
+    /**
+     * Write with {@link #batchLock} in batching, only the writes of batch writer threads are buffered.
+     */
+    private void writeInBatch(String type, byte[] key, byte[] value) throws RocksDBException {
+        ByteBuffer pendingKey = ByteBuffer.wrap(key);
+        Map<ByteBuffer, byte[]> pending = pendingWrites.get(type);
+        if (batchWriterDepth.get() <= 0 && (null == pending || !pending.containsKey(pendingKey))) {
+            writeDirectly(type, key, value);
+            return;
+        }
+        // Write of other threads for a pending key is also put into batch, otherwise it will be overwritten by the
+        // stale pending one when flushing batch.
+        ColumnFamilyHandle handle = getColumnFamily(type);
+        if (TOMBSTONE == value) {
+            writeBatch.delete(handle, key);
+        } else {
+            writeBatch.put(handle, key, value);
+        }
+        pendingWrites.computeIfAbsent(type, k -> new ConcurrentHashMap<>(16)).put(pendingKey, value);
+        if (batchWriterDepth.get() <= 0) {
+            writeDirectly(type, key, value);
+        }
+        if (writeBatch.count() >= MAX_BATCH_COUNT) {
+            flushBatch();
         }
     }
     
-    private String getContentInner(String type, String dataId, String group, String tenant) throws IOException {
-        byte[] bytes = null;
+    private void writeDirectly(String type, byte[] key, byte[] value) throws RocksDBException {
+        RocksDB db = initAndGetDB();
+        HANDLE_LOCK.readLock().lock();
         try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, null));
-            String string = byte2String(bytes);
-            return string;
-        } catch (RocksDBException e) {
-            throw new IOException(e);
+            if (TOMBSTONE == value) {
+                db.delete(getColumnFamily(type), key);
+            } else {
+                db.put(getColumnFamily(type), key, value);
+            }
+        } finally {
+            HANDLE_LOCK.readLock().unlock();
         }
     }
     
-    private String getGrayInner(String type, String dataId, String group, String tenant, String grayName)
-            throws IOException {
-        byte[] bytes = null;
+    private byte[] read(String type, byte[] key) throws RocksDBException {
+        if (batching) {
+            Map<ByteBuffer, byte[]> pending = pendingWrites.get(type);
+            byte[] value = null == pending ? null : pending.get(ByteBuffer.wrap(key));
+            if (null != value) {
+                return TOMBSTONE == value ? null : value;
+            }
+        }
+        RocksDB db = initAndGetDB();
+        HANDLE_LOCK.readLock().lock();
         try {
-            bytes = initAndGetDB(type).get(getKeyByte(dataId, group, tenant, grayName));
-            return byte2String(bytes);
-        } catch (RocksDBException e) {
-            throw new IOException(e);
+            return db.get(getColumnFamily(type), key);
+        } finally {
+            HANDLE_LOCK.readLock().unlock();
         }
     }
     
-    private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
+    private String byte2String(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    RocksDB initAndGetDB() throws RocksDBException {
+        if (null != rocksDb) {
+            return rocksDb;
+        }
+        synchronized (ConfigRocksDbDiskService.class) {
+            if (null != rocksDb) {
+                return rocksDb;
+            }
+            String path = EnvUtil.getNacosHome() + DB_DIR;
+            createDirIfEmpty(path);
+            List<ColumnFamilyDescriptor> descriptors = new ArrayList<>(3);
+            descriptors.add(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY));
+            descriptors.add(createColumnFamilyDescriptor(CONFIG_CF));
+            descriptors.add(createColumnFamilyDescriptor(GRAY_CF));
+            List<ColumnFamilyHandle> handles = new ArrayList<>(3);
+            RocksDB db = RocksDB.open(createDBOptions(), path, descriptors, handles);
+            COLUMN_FAMILY_HANDLES.put(CONFIG_CF, handles.get(1));
+            COLUMN_FAMILY_HANDLES.put(GRAY_CF, handles.get(2));
+            rocksDb = db;
+            return rocksDb;
+        }
+    }
+    
+    private ColumnFamilyHandle getColumnFamily(String type) throws RocksDBException {
+        initAndGetDB();
+        ColumnFamilyHandle handle = COLUMN_FAMILY_HANDLES.get(type);
+        if (null == handle) {
+            throw new IllegalArgumentException("Unknown config column family " + type);
+        }
+        return handle;
+    }
+    
+    private void createDirIfEmpty(String filePath) {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            file.mkdirs();
+        }
+    }
+    
+    private String getContentInner(String type, String dataId, String group, String tenant, String tag)
+            throws IOException {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, tag));
-        } catch (Exception e) {
-            LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
-                    group, tenant, e.getCause());
+            return byte2String(read(type, getKeyByte(dataId, group, tenant, tag)));
+        } catch (RocksDBException e) {
+            throw new IOException(e);
         }
     }
     
-    private void removeGrayInner(String type, String dataId, String group, String tenant, String grayName) {
+    private void removeContentInner(String type, String dataId, String group, String tenant, String tag) {
         try {
-            initAndGetDB(type).delete(getKeyByte(dataId, group, tenant, grayName));
+            write(type, getKeyByte(dataId, group, tenant, tag), TOMBSTONE);
         } catch (Exception e) {
-            LogUtil.DEFAULT_LOG.warn("Remove dir=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
+            LogUtil.DEFAULT_LOG.warn("Remove cf=[{}] config fail,dataId={},group={},tenant={},error={}", type, dataId,
                     group, tenant, e.getCause());
         }
     }
@@ -254,31 +439,35 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      * Returns the path of the gray content cache file in server.
      */
     public String getGrayContent(String dataId, String group, String tenant, String grayName) throws IOException {
-        return getGrayInner(GRAY_DIR, dataId, group, tenant, grayName);
+        return getContentInner(GRAY_CF, dataId, group, tenant, grayName);
     }
     
     public String getContent(String dataId, String group, String tenant) throws IOException {
-        return getContentInner(BASE_DIR, dataId, group, tenant);
+        return getContentInner(CONFIG_CF, dataId, group, tenant, null);
     }
     
     public String getLocalConfigMd5(String dataId, String group, String tenant, String encode) throws IOException {
-        return MD5Utils.md5Hex(getContentInner(BASE_DIR, dataId, group, tenant), encode);
+        return MD5Utils.md5Hex(getContentInner(CONFIG_CF, dataId, group, tenant, null), encode);
     }
     
-    Options createOptions(String dir) {
+    DBOptions createDBOptions() {
         DBOptions dbOptions = new DBOptions();
+        dbOptions.setCreateIfMissing(true);
+        dbOptions.setCreateMissingColumnFamilies(true);
         dbOptions.setMaxBackgroundJobs(Runtime.getRuntime().availableProcessors());
-        Options options = new Options(dbOptions, createColumnFamilyOptions(dir));
-        options.setCreateIfMissing(true);
-        return options;
+        return dbOptions;
     }
     
-    ColumnFamilyOptions createColumnFamilyOptions(String dir) {
+    private ColumnFamilyDescriptor createColumnFamilyDescriptor(String type) {
+        return new ColumnFamilyDescriptor(type.getBytes(StandardCharsets.UTF_8), createColumnFamilyOptions(type));
+    }
+    
+    ColumnFamilyOptions createColumnFamilyOptions(String type) {
         ColumnFamilyOptions columnFamilyOptions = new ColumnFamilyOptions();
         BlockBasedTableConfig tableFormatConfig = new BlockBasedTableConfig();
         columnFamilyOptions.setTableFormatConfig(tableFormatConfig);
         //set more write buffer size to formal config-data, reduce flush to sst file frequency.
-        columnFamilyOptions.setWriteBufferSize(getSuitFormalCacheSizeMB(dir) * 1024 * 1024);
+        columnFamilyOptions.setWriteBufferSize(getSuitFormalCacheSizeMB(type) * 1024 * 1024);
         //once a stt file is flushed, compact it immediately to avoid too many sst file which will result in read latency.
         columnFamilyOptions.setLevel0FileNumCompactionTrigger(1);
         return columnFamilyOptions;
@@ -290,9 +479,9 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
      * @return
      */
     @SuppressWarnings("PMD.UndefineMagicConstantRule")
-    private long getSuitFormalCacheSizeMB(String dir) {
+    private long getSuitFormalCacheSizeMB(String type) {
         
-        boolean formal = BASE_DIR.equals(dir);
+        boolean formal = CONFIG_CF.equals(type);
         long maxHeapSizeMB = Runtime.getRuntime().maxMemory() / 1024 / 1024;
         
         if (formal) {
@@ -305,27 +494,61 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
             } else {
                 formalWriteBufferSizeMB = 256;
             }
-            LogUtil.DEFAULT_LOG.info("init formal rocksdb write buffer size {}M for dir {}, maxHeapSize={}M",
-                    formalWriteBufferSizeMB, dir, maxHeapSizeMB);
+            LogUtil.DEFAULT_LOG.info("init formal rocksdb write buffer size {}M for cf {}, maxHeapSize={}M",
+                    formalWriteBufferSizeMB, type, maxHeapSizeMB);
             return formalWriteBufferSizeMB;
         } else {
-            LogUtil.DEFAULT_LOG.info("init default rocksdb write buffer size {}M for dir {}, maxHeapSize={}M",
-                    DEFAULT_WRITE_BUFFER_MB, dir, maxHeapSizeMB);
+            LogUtil.DEFAULT_LOG.info("init default rocksdb write buffer size {}M for cf {}, maxHeapSize={}M",
+                    DEFAULT_WRITE_BUFFER_MB, type, maxHeapSizeMB);
             return DEFAULT_WRITE_BUFFER_MB;
         }
         
     }
     
+    /**
+     * Drop and recreate the column family, pending batch is flushed first to avoid writing into dropped one. The old
+     * handle is closed with the write lock of {@link #HANDLE_LOCK}, so that no read or write is using it.
+     */
+    private void clearColumnFamily(String type) throws RocksDBException {
+        synchronized (batchLock) {
+            if (batchDepth > 0) {
+                flushBatch();
+            }
+            RocksDB db = initAndGetDB();
+            HANDLE_LOCK.writeLock().lock();
+            try {
+                ColumnFamilyHandle oldHandle = COLUMN_FAMILY_HANDLES.get(type);
+                db.dropColumnFamily(oldHandle);
+                COLUMN_FAMILY_HANDLES.put(type, db.createColumnFamily(createColumnFamilyDescriptor(type)));
+                oldHandle.close();
+            } finally {
+                HANDLE_LOCK.writeLock().unlock();
+            }
+        }
+    }
+    
+    private void destroyLegacyDirs() {
+        for (String each : LEGACY_DIRS) {
+            File legacyDir = new File(EnvUtil.getNacosHome(), each);
+            if (!legacyDir.exists()) {
+                continue;
+            }
+            try (Options options = new Options()) {
+                RocksDB.destroyDB(legacyDir.getPath(), options);
+                legacyDir.delete();
+            } catch (RocksDBException e) {
+                LogUtil.DEFAULT_LOG.warn("destroy legacy rocksdb dir {} failed.", each, e);
+            }
+        }
+    }
+    
     /**
      * Clear all config file.
      */
     public void clearAll() {
         try {
-            if (rocksDbMap.containsKey(BASE_DIR)) {
-                rocksDbMap.get(BASE_DIR).close();
-                RocksDB.destroyDB(EnvUtil.getNacosHome() + BASE_DIR, new Options());
-            }
-            deleteDirIfExist(BASE_DIR);
+            clearColumnFamily(CONFIG_CF);
+            destroyLegacyDirs();
             LogUtil.DEFAULT_LOG.info("clear all config-info success.");
         } catch (RocksDBException e) {
             LogUtil.DEFAULT_LOG.warn("clear all config-info failed.", e);
@@ -338,11 +561,7 @@ public class ConfigRocksDbDiskService implements ConfigDiskService {
     public void clearAllGray() {
         
         try {
-            if (rocksDbMap.containsKey(GRAY_DIR)) {
-                rocksDbMap.get(GRAY_DIR).close();
-                RocksDB.destroyDB(EnvUtil.getNacosHome() + GRAY_DIR, new Options());
-            }
-            deleteDirIfExist(GRAY_DIR);
+            clearColumnFamily(GRAY_CF);
             LogUtil.DEFAULT_LOG.info("clear all config-info-gray success.");
         } catch (RocksDBException e) {
             LogUtil.DEFAULT_LOG.warn("clear all config-info-gray failed.", e);
@@ -16,13 +16,17 @@
 
 package com.alibaba.nacos.config.server.service.dump.processor;
 
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.runtime.NacosRuntimeException;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
 import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.service.ClientIpWhiteList;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.SwitchService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.config.server.service.dump.task.DumpAllTask;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
@@ -30,22 +34,46 @@ import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.model.Page;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
-import static com.alibaba.nacos.config.server.constant.Constants.ENCODE_UTF8;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 
 /**
  * Dump all processor.
  *
+ * <p>The id space {@code (0, maxId]} is split into ranges which are paged by concurrent readers, and the configs read
+ * are dumped by md5 workers through a bounded queue. When not start up, the changed configs of each page are fetched
+ * by one batch query.
+ *
  * @author Nacos
  * @date 2020/7/5 12:19 PM
  */
 public class DumpAllProcessor implements NacosTaskProcessor {
     
+    private static final ThreadLocal<Md5Digester> MD5_DIGESTER = ThreadLocal.withInitial(Md5Digester::new);
+    
     public DumpAllProcessor(ConfigInfoPersistService configInfoPersistService) {
         this.configInfoPersistService = configInfoPersistService;
     }
@@ -61,104 +89,255 @@ public class DumpAllProcessor implements NacosTaskProcessor {
         DumpAllTask dumpAllTask = (DumpAllTask) task;
         
         long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
         ThreadPoolExecutor executorService = null;
+        int readerCount = 1;
         if (dumpAllTask.isStartUp()) {
             executorService = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors(),
                     Runtime.getRuntime().availableProcessors(), 60L, TimeUnit.SECONDS,
                     new LinkedBlockingQueue<>(PropertyUtil.getAllDumpPageSize() * 2),
                     r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
+            readerCount = Math.max(1, PropertyUtil.getDumpAllReaderCount());
         } else {
             executorService = new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
                     r -> new Thread(r, "dump all executor"), new ThreadPoolExecutor.CallerRunsPolicy());
         }
         
         DEFAULT_LOG.info("start dump all config-info...");
-        
-        while (lastMaxId < currentMaxId) {
+        ConfigDiskServiceFactory.getInstance().beginBatchWrite();
+        try {
+            // Small tables are not worth splitting, each range contains at least one page of ids.
+            int pageSize = PropertyUtil.getAllDumpPageSize();
+            long rangeSize = Math.max((currentMaxId + readerCount - 1) / readerCount, pageSize);
+            final ThreadPoolExecutor dumpExecutor = executorService;
+            List<Runnable> readers = new ArrayList<>(readerCount);
+            for (long rangeStart = 0; rangeStart < currentMaxId; rangeStart += rangeSize) {
+                final long start = rangeStart;
+                final long end = Math.min(rangeStart + rangeSize, currentMaxId);
+                readers.add(() -> readRange(start, end, currentMaxId, dumpAllTask.isStartUp(), dumpExecutor));
+            }
+            runReaders(readers);
+            
+            //wait all task are finished and then shutdown executor.
+            try {
+                executorService.shutdown();
+                while (!executorService.awaitTermination(1000L, TimeUnit.MILLISECONDS)) {
+                    DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished",
+                            executorService.getQueue().size() + executorService.getActiveCount());
+                }
+            } catch (Exception e) {
+                DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
+            }
+        } finally {
+            executorService.shutdown();
+            endBatchWrite();
+        }
+        DEFAULT_LOG.info("success to  dump all config-info。");
+        return true;
+    }
+    
+    private void runReaders(List<Runnable> readers) {
+        if (readers.size() <= 1) {
+            readers.forEach(Runnable::run);
+            return;
+        }
+        AtomicInteger index = new AtomicInteger();
+        ExecutorService readerExecutor = Executors.newFixedThreadPool(readers.size(),
+                r -> new Thread(r, "dump all reader-" + index.incrementAndGet()));
+        try {
+            List<Future<?>> futures = new ArrayList<>(readers.size());
+            readers.forEach(each -> futures.add(readerExecutor.submit(each)));
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } catch (ExecutionException e) {
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new NacosRuntimeException(NacosException.SERVER_ERROR, e);
+        } finally {
+            readerExecutor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Page configs with id in {@code (rangeStart, rangeEnd]} and submit dump tasks. The last range also dumps configs
+     * published after querying max id, same as paging to the end.
+     */
+    private void readRange(long rangeStart, long rangeEnd, long currentMaxId, boolean isStartUp,
+            ThreadPoolExecutor executorService) {
+        long upperBound = rangeEnd == currentMaxId ? Long.MAX_VALUE : rangeEnd;
+        long lastMaxId = rangeStart;
+        while (lastMaxId < rangeEnd) {
             
             long start = System.currentTimeMillis();
             
             Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId,
-                    PropertyUtil.getAllDumpPageSize(), dumpAllTask.isStartUp());
-            long dbTimeStamp = System.currentTimeMillis();
+                    PropertyUtil.getAllDumpPageSize(), isStartUp);
             if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
                 break;
             }
-            
+            boolean reachEnd = false;
+            List<ConfigInfoWrapper> configs = new ArrayList<>(page.getPageItems().size());
             for (ConfigInfoWrapper cf : page.getPageItems()) {
-                lastMaxId = Math.max(cf.getId(), lastMaxId);
-                //if not start up, page query will not return content, check md5 and lastModified first ,if changed ,get single content info to dump.
-                if (!dumpAllTask.isStartUp()) {
-                    final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
-                    //check md5 & update local disk cache.
-                    String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
-                    boolean md5Update = !localContentMd5.equals(cf.getMd5());
-                    if (newLastModified || md5Update) {
-                        LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
-                                cf.getLastModified(), cf.getMd5());
-                        cf = configInfoPersistService.findConfigInfo(cf.getDataId(), cf.getGroup(), cf.getTenant());
-                    } else {
-                        continue;
-                    }
+                if (cf.getId() > upperBound) {
+                    reachEnd = true;
+                    break;
                 }
-                
-                if (cf == null) {
-                    continue;
-                }
-                
-                if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                    ClientIpWhiteList.load(cf.getContent());
-                }
-                
-                if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
-                    SwitchService.load(cf.getContent());
-                }
-                
-                final String content = cf.getContent();
-                final String dataId = cf.getDataId();
-                final String group = cf.getGroup();
-                final String tenant = cf.getTenant();
-                final long lastModified = cf.getLastModified();
-                final String type = cf.getType();
-                final String encryptedDataKey = cf.getEncryptedDataKey();
-                
-                executorService.execute(() -> {
-                    final String md5Utf8 = MD5Utils.md5Hex(content, ENCODE_UTF8);
-                    boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
-                            lastModified, type, encryptedDataKey);
-                    if (result) {
-                        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
-                                GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
-                    } else {
-                        LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
-                    }
-                    
-                });
-                
+                lastMaxId = Math.max(cf.getId(), lastMaxId);
+                configs.add(cf);
+            }
+            //if not start up, page query will not return content, get content of changed configs by batch.
+            if (!isStartUp) {
+                configs = fillChangedContent(configs);
+            }
+            long dbTimeStamp = System.currentTimeMillis();
+            
+            for (ConfigInfoWrapper cf : configs) {
+                submitDump(cf, executorService);
             }
             
             long diskStamp = System.currentTimeMillis();
-            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId, currentMaxId,
-                    (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+            DEFAULT_LOG.info("[all-dump] submit all task for {} / {}, dbTime={},diskTime={}", lastMaxId,
+                    currentMaxId, (dbTimeStamp - start), (diskStamp - dbTimeStamp));
+            if (reachEnd) {
+                break;
+            }
+        }
+    }
+    
+    /**
+     * Filter changed configs and fetch their contents by one batch query.
+     */
+    private List<ConfigInfoWrapper> fillChangedContent(List<ConfigInfoWrapper> configs) {
+        Map<Long, ConfigInfoWrapper> changedConfigs = new HashMap<>(configs.size());
+        for (ConfigInfoWrapper cf : configs) {
+            final String groupKey = GroupKey2.getKey(cf.getDataId(), cf.getGroup(), cf.getTenant());
+            boolean newLastModified = cf.getLastModified() > ConfigCacheService.getLastModifiedTs(groupKey);
+            //check md5 & update local disk cache.
+            String localContentMd5 = ConfigCacheService.getContentMd5(groupKey);
+            boolean md5Update = !localContentMd5.equals(cf.getMd5());
+            if (newLastModified || md5Update) {
+                LogUtil.DUMP_LOG.info("[dump-all] find change config {}, {}, md5={}", groupKey,
+                        cf.getLastModified(), cf.getMd5());
+                changedConfigs.put(cf.getId(), cf);
+            }
+        }
+        if (changedConfigs.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        String ids = changedConfigs.keySet().stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+        List<ConfigInfo> contents = configInfoPersistService.findConfigInfosByIds(ids);
+        List<ConfigInfoWrapper> result = new ArrayList<>(changedConfigs.size());
+        if (null == contents) {
+            return result;
+        }
+        for (ConfigInfo each : contents) {
+            ConfigInfoWrapper cf = changedConfigs.get(each.getId());
+            if (null == cf) {
+                continue;
+            }
+            cf.setContent(each.getContent());
+            cf.setMd5(each.getMd5());
+            // Mappers of other datasource plugins might not query these columns, keep the values of page query.
+            if (null != each.getType()) {
+                cf.setType(each.getType());
+            }
+            if (null != each.getEncryptedDataKey()) {
+                cf.setEncryptedDataKey(each.getEncryptedDataKey());
+            }
+            result.add(cf);
+        }
+        return result;
+    }
+    
+    private void submitDump(ConfigInfoWrapper cf, ThreadPoolExecutor executorService) {
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
         }
         
-        //wait all task are finished and then shutdown executor.
-        try {
-            int unfinishedTaskCount = 0;
-            while ((unfinishedTaskCount = executorService.getQueue().size() + executorService.getActiveCount()) > 0) {
-                DEFAULT_LOG.info("[all-dump] wait {} dump tasks to be finished", unfinishedTaskCount);
-                Thread.sleep(1000L);
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATA_ID)) {
+            SwitchService.load(cf.getContent());
+        }
+        
+        final String content = cf.getContent();
+        final String dataId = cf.getDataId();
+        final String group = cf.getGroup();
+        final String tenant = cf.getTenant();
+        final long lastModified = cf.getLastModified();
+        final String type = cf.getType();
+        final String encryptedDataKey = cf.getEncryptedDataKey();
+        
+        executorService.execute(() -> ConfigDiskServiceFactory.getInstance().runInBatchWrite(() -> {
+            final String md5Utf8 = MD5_DIGESTER.get().md5Hex(content);
+            boolean result = ConfigCacheService.dumpWithMd5(dataId, group, tenant, content, md5Utf8,
+                    lastModified, type, encryptedDataKey);
+            if (result) {
+                LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={},md5UTF8={}",
+                        GroupKey2.getKey(dataId, group), lastModified, content.length(), md5Utf8);
+            } else {
+                LogUtil.DUMP_LOG.info("[dump-all-error] {}", GroupKey2.getKey(dataId, group));
             }
-            executorService.shutdown();
             
-        } catch (Exception e) {
-            DEFAULT_LOG.error("[all-dump] wait  dump tasks to be finished error", e);
+        }));
+    }
+    
+    private void endBatchWrite() {
+        try {
+            ConfigDiskServiceFactory.getInstance().endBatchWrite();
+        } catch (IOException e) {
+            DEFAULT_LOG.error("[all-dump] write batch to disk error", e);
         }
-        DEFAULT_LOG.info("success to  dump all config-info。");
-        return true;
     }
     
     final ConfigInfoPersistService configInfoPersistService;
+    
+    /**
+     * Md5 digester of UTF-8 content for dump threads, the digest and the encode buffer are reused for all contents
+     * instead of allocating them for each config.
+     */
+    static class Md5Digester {
+        
+        private static final int BUFFER_SIZE = 8 * 1024;
+        
+        private final MessageDigest messageDigest;
+        
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+        
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        
+        Md5Digester() {
+            try {
+                messageDigest = MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        
+        String md5Hex(String content) {
+            CharBuffer input = CharBuffer.wrap(content);
+            encoder.reset();
+            buffer.clear();
+            CoderResult result;
+            do {
+                result = encoder.encode(input, buffer, true);
+                drainIfOverflow(result);
+            } while (result.isOverflow());
+            do {
+                result = encoder.flush(buffer);
+                drainIfOverflow(result);
+            } while (result.isOverflow());
+            buffer.flip();
+            messageDigest.update(buffer);
+            return MD5Utils.encodeHexString(messageDigest.digest());
+        }
+        
+        private void drainIfOverflow(CoderResult result) {
+            if (result.isOverflow()) {
+                buffer.flip();
+                messageDigest.update(buffer);
+                buffer.clear();
+            }
+        }
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.remote.RequestCallBack;
@@ -31,9 +32,12 @@ import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberChangeListener;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.sys.utils.InetUtils;
@@ -44,12 +48,18 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_SYNC;
 import static com.alibaba.nacos.core.cluster.MemberMetaDataConstants.SUPPORT_GRAY_MODEL;
 
 /**
@@ -68,11 +78,20 @@ public class AsyncNotifyService {
     
     private static final int MAX_COUNT = 6;
     
+    /**
+     * Changes to the same member in the window are coalesced into one sync request.
+     */
+    private static final long SYNC_BATCH_WINDOW = 50L;
+    
+    private static final int MAX_SYNC_BATCH_SIZE = 500;
+    
     @Autowired
     private ConfigClusterRpcClientProxy configClusterRpcClientProxy;
     
     private ServerMemberManager memberManager;
     
+    private final Map<String, MemberSyncBatch> memberSyncBatches = new ConcurrentHashMap<>();
+    
     static final List<NodeState> HEALTHY_CHECK_STATUS = new ArrayList<>();
     
     static {
@@ -101,6 +120,23 @@ public class AsyncNotifyService {
                 return ConfigDataChangeEvent.class;
             }
         });
+        
+        // Remove the sync batches of removed members.
+        NotifyCenter.registerSubscriber(new MemberChangeListener() {
+            
+            @Override
+            public void onEvent(MembersChangeEvent event) {
+                onMembersChanged(event.getMembers());
+            }
+        });
+    }
+    
+    void onMembersChanged(Collection<Member> members) {
+        Set<String> addresses = new HashSet<>();
+        for (Member each : members) {
+            addresses.add(each.getAddress());
+        }
+        memberSyncBatches.keySet().retainAll(addresses);
     }
     
     void handleConfigDataChangeEvent(Event event) {
@@ -111,20 +147,15 @@ public class AsyncNotifyService {
             
             Collection<Member> ipList = memberManager.allMembersWithoutSelf();
             
-            // In fact, any type of queue here can be
-            Queue<NotifySingleRpcTask> rpcQueue = new LinkedList<>();
-            
             for (Member member : ipList) {
                 // grpc report data change only
                 NotifySingleRpcTask notifySingleRpcTask = generateTask(evt, member);
                 if (notifySingleRpcTask != null) {
-                    rpcQueue.add(notifySingleRpcTask);
+                    memberSyncBatches.computeIfAbsent(member.getAddress(), address -> new MemberSyncBatch())
+                            .add(notifySingleRpcTask);
                 }
                 
             }
-            if (!rpcQueue.isEmpty()) {
-                ConfigExecutor.executeAsyncNotify(new AsyncRpcTask(rpcQueue));
-            }
         }
     }
     
@@ -156,31 +187,80 @@ public class AsyncNotifyService {
         return !memberManager.stateCheck(targetIp, HEALTHY_CHECK_STATUS);
     }
     
+    private boolean isSupportBatchSync(Member member) {
+        return (Boolean) member.getExtendInfo().getOrDefault(SUPPORT_BATCH_CONFIG_SYNC, Boolean.FALSE);
+    }
+    
+    /**
+     * Sync the coalesced changes to one member, the old member which not support batch sync is notified one by one.
+     *
+     * @param tasks notify tasks to the same member
+     */
+    void executeBatchSyncTask(List<NotifySingleRpcTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Member member = tasks.get(tasks.size() - 1).member;
+        if (1 == tasks.size() || !isSupportBatchSync(member)) {
+            executeAsyncRpcTask(new LinkedList<>(tasks));
+            return;
+        }
+        if (!memberManager.hasMember(member.getAddress())) {
+            return;
+        }
+        if (isUnHealthy(member.getAddress())) {
+            tasks.forEach(this::delayUnhealthyTask);
+            return;
+        }
+        for (int from = 0; from < tasks.size(); from += MAX_SYNC_BATCH_SIZE) {
+            List<NotifySingleRpcTask> batch = tasks.subList(from, Math.min(from + MAX_SYNC_BATCH_SIZE, tasks.size()));
+            ConfigChangeClusterBatchSyncRequest batchSyncRequest = new ConfigChangeClusterBatchSyncRequest();
+            for (NotifySingleRpcTask each : batch) {
+                batchSyncRequest.addChange(buildSyncRequest(each));
+            }
+            try {
+                configClusterRpcClientProxy.batchSyncConfigChange(member, batchSyncRequest,
+                        new AsyncRpcBatchNotifyCallBack(AsyncNotifyService.this, batch));
+            } catch (Exception e) {
+                MetricsMonitor.getConfigNotifyException().increment();
+                batch.forEach(this::asyncTaskExecute);
+            }
+        }
+    }
+    
+    private ConfigChangeClusterSyncRequest buildSyncRequest(NotifySingleRpcTask task) {
+        ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
+        syncRequest.setDataId(task.getDataId());
+        syncRequest.setTenant(task.getTenant());
+        syncRequest.setGroup(task.getGroup());
+        syncRequest.setLastModified(task.getLastModified());
+        syncRequest.setGrayName(task.getGrayName());
+        syncRequest.setBeta(task.isBeta());
+        syncRequest.setTag(task.getTag());
+        return syncRequest;
+    }
+    
+    private void delayUnhealthyTask(NotifySingleRpcTask task) {
+        // target ip is unhealthy, then put it in the notification list
+        ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
+                task.getLastModified(), InetUtils.getSelfIP(), getNotifyEvent(task),
+                ConfigTraceService.NOTIFY_TYPE_UNHEALTH, 0, task.member.getAddress());
+        // get delay time and set fail count to the task
+        asyncTaskExecute(task);
+    }
+    
     void executeAsyncRpcTask(Queue<NotifySingleRpcTask> queue) {
         while (!queue.isEmpty()) {
             NotifySingleRpcTask task = queue.poll();
             
-            ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
-            syncRequest.setDataId(task.getDataId());
-            syncRequest.setTenant(task.getTenant());
-            syncRequest.setGroup(task.getGroup());
-            syncRequest.setLastModified(task.getLastModified());
-            syncRequest.setGrayName(task.getGrayName());
-            syncRequest.setBeta(task.isBeta());
-            syncRequest.setTag(task.getTag());
+            ConfigChangeClusterSyncRequest syncRequest = buildSyncRequest(task);
             Member member = task.member;
             
-            String event = getNotifyEvent(task);
             if (memberManager.hasMember(member.getAddress())) {
                 // start the health check and there are ips that are not monitored, put them directly in the notification queue, otherwise notify
                 boolean unHealthNeedDelay = isUnHealthy(member.getAddress());
                 if (unHealthNeedDelay) {
-                    // target ip is unhealthy, then put it in the notification list
-                    ConfigTraceService.logNotifyEvent(task.getDataId(), task.getGroup(), task.getTenant(), null,
-                            task.getLastModified(), InetUtils.getSelfIP(), event,
-                            ConfigTraceService.NOTIFY_TYPE_UNHEALTH, 0, member.getAddress());
-                    // get delay time and set fail count to the task
-                    asyncTaskExecute(task);
+                    delayUnhealthyTask(task);
                 } else {
                     
                     // grpc report data change only
@@ -214,6 +294,39 @@ public class AsyncNotifyService {
         }
     }
     
+    /**
+     * Pending changes to one member, changes of the same config are deduplicated and only the latest one is kept.
+     */
+    class MemberSyncBatch implements Runnable {
+        
+        private Map<String, NotifySingleRpcTask> pendingTasks = new LinkedHashMap<>();
+        
+        synchronized void add(NotifySingleRpcTask task) {
+            boolean needSchedule = pendingTasks.isEmpty();
+            String key = GroupKey2.getKey(task.getDataId(), task.getGroup(), task.getTenant());
+            if (StringUtils.isNotBlank(task.getGrayName())) {
+                key = key + "+" + task.getGrayName();
+            }
+            NotifySingleRpcTask existTask = pendingTasks.get(key);
+            if (null == existTask || existTask.getLastModified() <= task.getLastModified()) {
+                pendingTasks.put(key, task);
+            }
+            if (needSchedule) {
+                ConfigExecutor.scheduleAsyncNotify(this, SYNC_BATCH_WINDOW, TimeUnit.MILLISECONDS);
+            }
+        }
+        
+        @Override
+        public void run() {
+            List<NotifySingleRpcTask> tasks;
+            synchronized (this) {
+                tasks = new ArrayList<>(pendingTasks.values());
+                pendingTasks = new LinkedHashMap<>();
+            }
+            executeBatchSyncTask(tasks);
+        }
+    }
+    
     public static class NotifySingleRpcTask extends AbstractDelayTask {
         
         private String dataId;
@@ -391,6 +504,42 @@ public class AsyncNotifyService {
         }
     }
     
+    /**
+     * Callback of batch sync, the result is applied to each task in batch so that the failed ones are retried one by
+     * one as {@link AsyncRpcNotifyCallBack}.
+     */
+    public static class AsyncRpcBatchNotifyCallBack implements RequestCallBack<ConfigChangeClusterSyncResponse> {
+        
+        private final List<AsyncRpcNotifyCallBack> callBacks;
+        
+        public AsyncRpcBatchNotifyCallBack(AsyncNotifyService asyncNotifyService, List<NotifySingleRpcTask> tasks) {
+            this.callBacks = new ArrayList<>(tasks.size());
+            for (NotifySingleRpcTask each : tasks) {
+                callBacks.add(new AsyncRpcNotifyCallBack(asyncNotifyService, each));
+            }
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return ConfigExecutor.getConfigSubServiceExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return 3000L;
+        }
+        
+        @Override
+        public void onResponse(ConfigChangeClusterSyncResponse response) {
+            callBacks.forEach(each -> each.onResponse(response));
+        }
+        
+        @Override
+        public void onException(Throwable ex) {
+            callBacks.forEach(each -> each.onException(ex));
+        }
+    }
+    
     /**
      * get delayTime and also set failCount to task; The failure time index increases, so as not to retry invalid tasks
      * in the offline scene, which affects the normal synchronization.
@@ -0,0 +1,174 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.config.server.service.repository;
+
+import com.alibaba.nacos.common.constant.Symbols;
+import com.alibaba.nacos.common.utils.Pair;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.constant.ParametersField;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.persistence.model.CursorPage;
+import com.alibaba.nacos.plugin.datasource.MapperManager;
+import com.alibaba.nacos.plugin.datasource.constants.FieldConstant;
+import com.alibaba.nacos.plugin.datasource.constants.TableConstant;
+import com.alibaba.nacos.plugin.datasource.mapper.ConfigInfoMapper;
+import com.alibaba.nacos.plugin.datasource.mapper.ConfigTagsRelationMapper;
+import com.alibaba.nacos.plugin.datasource.model.MapperContext;
+import com.alibaba.nacos.plugin.datasource.model.MapperResult;
+import com.alibaba.nacos.plugin.encryption.handler.EncryptionHandler;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keyset pagination of config info shared by persist services of embedded and external storage, which only differ in
+ * how to execute the sql.
+ *
+ * @author xiweng.yy
+ */
+public class ConfigCursorPageUtils {
+    
+    private ConfigCursorPageUtils() {
+    }
+    
+    /**
+     * Build the sql to query config info accurately after the cursor.
+     *
+     * @param mapperManager     mapper manager
+     * @param dataSourceType    data source type
+     * @param lastId            id of the last config info of previous page, {@code 0} for first page
+     * @param pageSize          page size
+     * @param dataId            data id
+     * @param group             group
+     * @param tenant            tenant
+     * @param configAdvanceInfo advance info
+     * @return sql and parameters
+     */
+    public static MapperResult findConfigInfo4CursorSql(MapperManager mapperManager, String dataSourceType,
+            long lastId, int pageSize, String dataId, String group, String tenant,
+            Map<String, Object> configAdvanceInfo) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        final String appName = configAdvanceInfo == null ? null : (String) configAdvanceInfo.get("appName");
+        final String content = configAdvanceInfo == null ? null : (String) configAdvanceInfo.get("content");
+        final String configTags = configAdvanceInfo == null ? null : (String) configAdvanceInfo.get("config_tags");
+        
+        final MapperContext context = new MapperContext(0, pageSize);
+        context.putWhereParameter(FieldConstant.TENANT_ID, tenantTmp);
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, lastId);
+        if (StringUtils.isNotBlank(dataId)) {
+            context.putWhereParameter(FieldConstant.DATA_ID, dataId);
+        }
+        if (StringUtils.isNotBlank(group)) {
+            context.putWhereParameter(FieldConstant.GROUP_ID, group);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            context.putWhereParameter(FieldConstant.APP_NAME, appName);
+        }
+        if (!StringUtils.isBlank(content)) {
+            context.putWhereParameter(FieldConstant.CONTENT, content);
+        }
+        
+        if (StringUtils.isNotBlank(configTags)) {
+            String[] tagArr = configTags.split(",");
+            context.putWhereParameter(FieldConstant.TAG_ARR, tagArr);
+            ConfigTagsRelationMapper configTagsRelationMapper = mapperManager.findMapper(dataSourceType,
+                    TableConstant.CONFIG_TAGS_RELATION);
+            return configTagsRelationMapper.findConfigInfo4PageFetchRowsByCursor(context);
+        }
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceType, TableConstant.CONFIG_INFO);
+        return configInfoMapper.findConfigInfo4PageFetchRowsByCursor(context);
+    }
+    
+    /**
+     * Build the sql to query config info fuzzily after the cursor.
+     *
+     * @param mapperManager     mapper manager
+     * @param dataSourceType    data source type
+     * @param likeArgument      generator of like argument of the storage
+     * @param lastId            id of the last config info of previous page, {@code 0} for first page
+     * @param pageSize          page size
+     * @param dataId            data id
+     * @param group             group
+     * @param tenant            tenant
+     * @param configAdvanceInfo advance info
+     * @return sql and parameters
+     */
+    public static MapperResult findConfigInfoLike4CursorSql(MapperManager mapperManager, String dataSourceType,
+            UnaryOperator<String> likeArgument, long lastId, int pageSize, String dataId, String group, String tenant,
+            Map<String, Object> configAdvanceInfo) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
+        final String appName = configAdvanceInfo == null ? null : (String) configAdvanceInfo.get("appName");
+        final String content = configAdvanceInfo == null ? null : (String) configAdvanceInfo.get("content");
+        final String types = configAdvanceInfo == null ? null : (String) configAdvanceInfo.get(ParametersField.TYPES);
+        final String configTags = configAdvanceInfo == null ? null : (String) configAdvanceInfo.get("config_tags");
+        
+        MapperContext context = new MapperContext(0, pageSize);
+        context.putWhereParameter(FieldConstant.TENANT_ID, likeArgument.apply(tenantTmp));
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, lastId);
+        if (!StringUtils.isBlank(dataId)) {
+            context.putWhereParameter(FieldConstant.DATA_ID, likeArgument.apply(dataId));
+        }
+        if (!StringUtils.isBlank(group)) {
+            context.putWhereParameter(FieldConstant.GROUP_ID, likeArgument.apply(group));
+        }
+        if (!StringUtils.isBlank(appName)) {
+            context.putWhereParameter(FieldConstant.APP_NAME, appName);
+        }
+        if (!StringUtils.isBlank(content)) {
+            context.putWhereParameter(FieldConstant.CONTENT, likeArgument.apply(content));
+        }
+        if (StringUtils.isNotBlank(types)) {
+            context.putWhereParameter(FieldConstant.TYPE, types.split(Symbols.COMMA));
+        }
+        
+        if (StringUtils.isNotBlank(configTags)) {
+            String[] tagArr = configTags.split(",");
+            context.putWhereParameter(FieldConstant.TAG_ARR, tagArr);
+            ConfigTagsRelationMapper configTagsRelationMapper = mapperManager.findMapper(dataSourceType,
+                    TableConstant.CONFIG_TAGS_RELATION);
+            return configTagsRelationMapper.findConfigInfoLike4PageFetchRowsByCursor(context);
+        }
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceType, TableConstant.CONFIG_INFO);
+        return configInfoMapper.findConfigInfoLike4PageFetchRowsByCursor(context);
+    }
+    
+    /**
+     * Decrypt contents and set the id of last config as next cursor if the page is full.
+     *
+     * @param configInfos config infos of current page
+     * @param pageSize    page size
+     * @return cursor page
+     */
+    public static CursorPage<ConfigInfo> toCursorPage(List<ConfigInfo> configInfos, int pageSize) {
+        CursorPage<ConfigInfo> result = new CursorPage<>();
+        if (null == configInfos) {
+            return result;
+        }
+        for (ConfigInfo configInfo : configInfos) {
+            Pair<String, String> pair = EncryptionHandler.decryptHandler(configInfo.getDataId(),
+                    configInfo.getEncryptedDataKey(), configInfo.getContent());
+            configInfo.setContent(pair.getSecond());
+        }
+        result.setPageItems(configInfos);
+        if (configInfos.size() >= pageSize) {
+            result.setNextCursor(String.valueOf(configInfos.get(configInfos.size() - 1).getId()));
+        }
+        return result;
+    }
+}
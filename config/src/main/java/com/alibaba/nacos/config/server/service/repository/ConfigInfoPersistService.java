@@ -25,6 +25,7 @@ import com.alibaba.nacos.config.server.model.ConfigInfoStateWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.ConfigOperateResult;
 import com.alibaba.nacos.config.server.model.SameConfigPolicy;
+import com.alibaba.nacos.persistence.model.CursorPage;
 import com.alibaba.nacos.persistence.model.Page;
 import com.alibaba.nacos.persistence.repository.PaginationHelper;
 
@@ -149,6 +150,18 @@ public interface ConfigInfoPersistService {
     Map<String, Object> batchInsertOrUpdate(List<ConfigAllInfo> configInfoList, String srcUser, String srcIp,
             Map<String, Object> configAdvanceInfo, SameConfigPolicy policy) throws NacosException;
     
+    /**
+     * Insert or update configs in batch. The rows of config, tags and history are written by batch statements in one
+     * transaction for external storage, and by one raft log for embedded storage.
+     *
+     * @param configInfos config infos with advance info, such as desc, use, effect, type, schema and config tags, the
+     *                    keys of config infos should be distinct
+     * @param srcIp       remote ip
+     * @param srcUser     user
+     * @return operate results in the order of config infos
+     */
+    List<ConfigOperateResult> insertOrUpdateBatch(List<ConfigAllInfo> configInfos, String srcIp, String srcUser);
+    
     //------------------------------------------delete---------------------------------------------//
     
     /**
@@ -278,6 +291,20 @@ public interface ConfigInfoPersistService {
     Page<ConfigInfo> findConfigInfo4Page(final int pageNo, final int pageSize, final String dataId, final String group,
             final String tenant, final Map<String, Object> configAdvanceInfo);
     
+    /**
+     * find config info after the last id by keyset pagination, which costs the same for any page.
+     *
+     * @param lastId            last id of previous page, {@code 0} for first page
+     * @param pageSize          page size
+     * @param dataId            data id
+     * @param group             group
+     * @param tenant            tenant
+     * @param configAdvanceInfo advance info
+     * @return {@link CursorPage} with {@link ConfigInfo} generation
+     */
+    CursorPage<ConfigInfo> findConfigInfo4Cursor(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final Map<String, Object> configAdvanceInfo);
+    
     
     /**
      * Returns the number of configuration items.
@@ -312,6 +339,24 @@ public interface ConfigInfoPersistService {
      */
     List<String> getGroupIdList(int page, int pageSize);
     
+    /**
+     * get tenant id list after the last tenant id by keyset pagination.
+     *
+     * @param lastTenantId last tenant id of previous page, empty for first page
+     * @param pageSize     page size
+     * @return tenant id list
+     */
+    List<String> getTenantIdListByCursor(String lastTenantId, int pageSize);
+    
+    /**
+     * get group id list after the last group id by keyset pagination.
+     *
+     * @param lastGroupId last group id of previous page, empty for first page
+     * @param pageSize    page size
+     * @return group id list
+     */
+    List<String> getGroupIdListByCursor(String lastGroupId, int pageSize);
+    
     /**
      * Query all config info.
      *
@@ -336,6 +381,20 @@ public interface ConfigInfoPersistService {
     Page<ConfigInfo> findConfigInfoLike4Page(final int pageNo, final int pageSize, final String dataId,
             final String group, final String tenant, final Map<String, Object> configAdvanceInfo);
     
+    /**
+     * Fuzzy query config info after the last id by keyset pagination, which costs the same for any page.
+     *
+     * @param lastId            last id of previous page, {@code 0} for first page
+     * @param pageSize          page size
+     * @param dataId            data id
+     * @param group             group
+     * @param tenant            tenant
+     * @param configAdvanceInfo advance info
+     * @return {@link CursorPage} with {@link ConfigInfo} generation
+     */
+    CursorPage<ConfigInfo> findConfigInfoLike4Cursor(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final Map<String, Object> configAdvanceInfo);
+    
     /**
      * Query change config.order by id asc.
      *
@@ -386,6 +445,14 @@ public interface ConfigInfoPersistService {
      */
     ConfigAllInfo findConfigAllInfo(final String dataId, final String group, final String tenant);
     
+    /**
+     * Query all config info of the keys of config infos in batch.
+     *
+     * @param configInfos config infos which provide dataId, group and tenant
+     * @return existed config infos with config tags
+     */
+    List<ConfigAllInfo> findConfigAllInfosByKeys(List<? extends ConfigInfo> configInfos);
+    
     /**
      * get config info state.
      *
@@ -409,6 +476,21 @@ public interface ConfigInfoPersistService {
     List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
             final String appName, final List<Long> ids);
     
+    /**
+     * query configuration information for export after the last id, so that export can be done page by page.
+     *
+     * @param lastId   last id of previous page, {@code 0} for the first page
+     * @param pageSize page size
+     * @param dataId   data id
+     * @param group    group
+     * @param tenant   tenant
+     * @param appName  appName
+     * @param ids      ids
+     * @return Collection of ConfigInfo objects ordered by id
+     */
+    List<ConfigAllInfo> findAllConfigInfo4ExportByCursor(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final String appName, final List<Long> ids);
+    
     /**
      * Query dataId list by namespace.
      *
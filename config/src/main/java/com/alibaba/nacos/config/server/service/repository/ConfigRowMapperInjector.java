@@ -63,6 +63,8 @@ public class ConfigRowMapperInjector {
     
     public static final ConfigAllInfoRowMapper CONFIG_ALL_INFO_ROW_MAPPER = new ConfigAllInfoRowMapper();
     
+    public static final ConfigTagsRowMapper CONFIG_TAGS_ROW_MAPPER = new ConfigTagsRowMapper();
+    
     public static final ConfigInfo4BetaRowMapper CONFIG_INFO4BETA_ROW_MAPPER = new ConfigInfo4BetaRowMapper();
     
     public static final ConfigInfo4TagRowMapper CONFIG_INFO4TAG_ROW_MAPPER = new ConfigInfo4TagRowMapper();
@@ -163,6 +165,12 @@ public class ConfigRowMapperInjector {
         RowMapperManager.registerRowMapper(
                 ConfigRowMapperInjector.HISTORY_DETAIL_ROW_MAPPER.getClass().getCanonicalName(),
                 ConfigRowMapperInjector.HISTORY_DETAIL_ROW_MAPPER);
+        
+        // CONFIG_TAGS_ROW_MAPPER
+        
+        RowMapperManager.registerRowMapper(
+                ConfigRowMapperInjector.CONFIG_TAGS_ROW_MAPPER.getClass().getCanonicalName(),
+                ConfigRowMapperInjector.CONFIG_TAGS_ROW_MAPPER);
     }
     
     public static final class ConfigInfoWrapperRowMapper implements RowMapper<ConfigInfoWrapper> {
@@ -200,7 +208,7 @@ public class ConfigRowMapperInjector {
             try {
                 info.setEncryptedDataKey(rs.getString("encrypted_data_key"));
             } catch (SQLException ignore) {
-            
+                
             }
             return info;
         }
@@ -332,7 +340,7 @@ public class ConfigRowMapperInjector {
                 info.setEncryptedDataKey(rs.getString("encrypted_data_key"));
             } catch (SQLException ignore) {
             }
-    
+            
             try {
                 info.setSrcUser(rs.getString("src_user"));
             } catch (SQLException ignore) {
@@ -441,12 +449,26 @@ public class ConfigRowMapperInjector {
             try {
                 info.setEncryptedDataKey(rs.getString("encrypted_data_key"));
             } catch (SQLException ignore) {
-            
+                
             }
             return info;
         }
     }
     
+    /**
+     * Map one row of config_tags_relation to the id and one tag of config.
+     */
+    public static final class ConfigTagsRowMapper implements RowMapper<ConfigAllInfo> {
+        
+        @Override
+        public ConfigAllInfo mapRow(ResultSet rs, int rowNum) throws SQLException {
+            ConfigAllInfo info = new ConfigAllInfo();
+            info.setId(rs.getLong("id"));
+            info.setConfigTags(rs.getString("tag_name"));
+            return info;
+        }
+    }
+    
     public static final class ConfigInfo4BetaRowMapper implements RowMapper<ConfigInfo4Beta> {
         
         @Override
@@ -579,7 +601,7 @@ public class ConfigRowMapperInjector {
             try {
                 configHistoryInfo.setEncryptedDataKey(rs.getString("encrypted_data_key"));
             } catch (SQLException ignore) {
-            
+                
             }
             return configHistoryInfo;
         }
@@ -56,6 +56,14 @@ public interface HistoryConfigInfoPersistService {
      */
     void insertConfigHistoryAtomic(long id, ConfigInfo configInfo, String srcIp, String srcUser, final Timestamp time,
             String ops, String publishType, String extInfo);
+    
+    /**
+     * Insert change records in batch; database atomic operations, minimal sql actions, no business encapsulation.
+     *
+     * @param historyInfos change records, the md5 of each record is calculated from its content
+     */
+    void batchInsertConfigHistoryAtomic(List<ConfigHistoryInfo> historyInfos);
+    
     //------------------------------------------delete---------------------------------------------//
     
     /**
@@ -65,6 +73,22 @@ public interface HistoryConfigInfoPersistService {
      * @param limitSize limit size
      */
     void removeConfigHistory(final Timestamp startTime, final int limitSize);
+    
+    /**
+     * Delete data before startTime in the id range [startId, endId).
+     *
+     * @param startTime start time
+     * @param startId   start id, inclusive
+     * @param endId     end id, exclusive
+     */
+    void removeConfigHistoryByIdRange(final Timestamp startTime, final long startId, final long endId);
+    
+    /**
+     * Drop the time partition of history table.
+     *
+     * @param partitionName partition name found by {@link #findExpiredConfigHistoryPartitions(Timestamp)}
+     */
+    void dropConfigHistoryPartition(String partitionName);
     //------------------------------------------update---------------------------------------------//
     //------------------------------------------select---------------------------------------------//
     
@@ -107,6 +131,29 @@ public interface HistoryConfigInfoPersistService {
      */
     ConfigHistoryInfo detailPreviousConfigHistory(Long id);
     
+    /**
+     * Get the max id of history config before the specified time.
+     *
+     * @param startTime start time
+     * @return max id, {@code null} if no history config before the time
+     */
+    Long findConfigHistoryMaxIdByTime(final Timestamp startTime);
+    
+    /**
+     * Get the min id of history config.
+     *
+     * @return min id, {@code null} if no history config
+     */
+    Long findConfigHistoryMinId();
+    
+    /**
+     * Find the time partitions of history table whose rows are all before startTime.
+     *
+     * @param startTime start time
+     * @return partition names, empty if the storage does not support partition
+     */
+    List<String> findExpiredConfigHistoryPartitions(final Timestamp startTime);
+    
     /**
      * Get the number of configurations before the specified time.
      *
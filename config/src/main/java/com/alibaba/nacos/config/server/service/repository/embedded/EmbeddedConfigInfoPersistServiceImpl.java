@@ -34,16 +34,19 @@ import com.alibaba.nacos.config.server.model.ConfigInfoStateWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.ConfigOperateResult;
 import com.alibaba.nacos.config.server.model.SameConfigPolicy;
+import com.alibaba.nacos.config.server.service.repository.ConfigCursorPageUtils;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.repository.HistoryConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.sql.EmbeddedStorageContextUtils;
 import com.alibaba.nacos.config.server.utils.ConfigExtInfoUtil;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.core.distributed.id.IdGeneratorManager;
 import com.alibaba.nacos.persistence.configuration.condition.ConditionOnEmbeddedStorage;
 import com.alibaba.nacos.persistence.datasource.DataSourceService;
 import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
+import com.alibaba.nacos.persistence.model.CursorPage;
 import com.alibaba.nacos.persistence.model.Page;
 import com.alibaba.nacos.persistence.model.event.DerbyImportEvent;
 import com.alibaba.nacos.persistence.repository.PaginationHelper;
@@ -71,10 +74,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -83,6 +89,7 @@ import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapper
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_WRAPPER_ROW_MAPPER;
+import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_TAGS_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 import static com.alibaba.nacos.persistence.repository.RowMapperManager.MAP_ROW_MAPPER;
 
@@ -126,6 +133,11 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     
     public static final String SPOT = ".";
     
+    /**
+     * The max count of config keys in one query, which limits the size of sql.
+     */
+    private static final int QUERY_KEYS_BATCH_SIZE = 100;
+    
     private DataSourceService dataSourceService;
     
     private final DatabaseOperate databaseOperate;
@@ -304,19 +316,8 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     @Override
     public Map<String, Object> batchInsertOrUpdate(List<ConfigAllInfo> configInfoList, String srcUser, String srcIp,
             Map<String, Object> configAdvanceInfo, SameConfigPolicy policy) throws NacosException {
-        int succCount = 0;
-        int skipCount = 0;
-        List<Map<String, String>> failData = null;
-        List<Map<String, String>> skipData = null;
-        
-        final BiConsumer<Boolean, Throwable> callFinally = (result, t) -> {
-            if (t != null) {
-                throw new NacosRuntimeException(0, t);
-            }
-        };
-        
-        for (int i = 0; i < configInfoList.size(); i++) {
-            ConfigAllInfo configInfo = configInfoList.get(i);
+        List<ConfigAllInfo> configInfos2Import = new ArrayList<>(configInfoList.size());
+        for (ConfigAllInfo configInfo : configInfoList) {
             try {
                 ParamUtils.checkParam(configInfo.getDataId(), configInfo.getGroup(), "datumId",
                         configInfo.getContent());
@@ -324,70 +325,51 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 DEFAULT_LOG.error("data verification failed", e);
                 throw e;
             }
-            ConfigInfo configInfo2Save = new ConfigInfo(configInfo.getDataId(), configInfo.getGroup(),
-                    configInfo.getTenant(), configInfo.getAppName(), configInfo.getContent());
-            configInfo2Save.setEncryptedDataKey(
-                    configInfo.getEncryptedDataKey() == null ? "" : configInfo.getEncryptedDataKey());
-            String type = configInfo.getType();
-            if (StringUtils.isBlank(type)) {
-                // simple judgment of file type based on suffix
-                if (configInfo.getDataId().contains(SPOT)) {
-                    String extName = configInfo.getDataId().substring(configInfo.getDataId().lastIndexOf(SPOT) + 1);
-                    FileTypeEnum fileTypeEnum = FileTypeEnum.getFileTypeEnumByFileExtensionOrFileType(extName);
-                    type = fileTypeEnum.getFileType();
-                } else {
-                    type = FileTypeEnum.getFileTypeEnumByFileExtensionOrFileType(null).getFileType();
-                }
-            }
-            if (configAdvanceInfo == null) {
-                configAdvanceInfo = new HashMap<>(16);
-            }
-            configAdvanceInfo.put("type", type);
-            configAdvanceInfo.put("desc", configInfo.getDesc());
-            try {
-                ConfigInfoStateWrapper foundCfg = findConfigInfoState(configInfo2Save.getDataId(),
-                        configInfo2Save.getGroup(), configInfo2Save.getTenant());
-                if (foundCfg != null) {
-                    throw new Throwable("DuplicateKeyException: config already exists, should be overridden");
-                }
-                addConfigInfo(srcIp, srcUser, configInfo2Save, configAdvanceInfo, callFinally);
+            configInfos2Import.add(buildConfigInfo2Import(configInfo, configAdvanceInfo));
+        }
+        Set<String> existedKeys = new HashSet<>(toGroupKeyMap(findConfigAllInfosByKeys(configInfos2Import)).keySet());
+        int succCount = 0;
+        int skipCount = 0;
+        List<Map<String, String>> failData = null;
+        List<Map<String, String>> skipData = null;
+        Map<String, ConfigAllInfo> configInfos2Save = new LinkedHashMap<>();
+        for (int i = 0; i < configInfos2Import.size(); i++) {
+            ConfigAllInfo configInfo = configInfos2Import.get(i);
+            String groupKey = GroupKey2.getKey(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant());
+            if (existedKeys.add(groupKey) || SameConfigPolicy.OVERWRITE.equals(policy)) {
+                configInfos2Save.put(groupKey, configInfo);
                 succCount++;
-            } catch (Throwable e) {
-                if (!StringUtils.contains(e.toString(), "DuplicateKeyException")) {
-                    throw new NacosException(NacosException.SERVER_ERROR, e);
-                }
-                // uniqueness constraint conflict
-                if (SameConfigPolicy.ABORT.equals(policy)) {
-                    failData = new ArrayList<>();
-                    skipData = new ArrayList<>();
-                    Map<String, String> faileditem = new HashMap<>(2);
-                    faileditem.put("dataId", configInfo2Save.getDataId());
-                    faileditem.put("group", configInfo2Save.getGroup());
-                    failData.add(faileditem);
-                    for (int j = (i + 1); j < configInfoList.size(); j++) {
-                        ConfigInfo skipConfigInfo = configInfoList.get(j);
-                        Map<String, String> skipitem = new HashMap<>(2);
-                        skipitem.put("dataId", skipConfigInfo.getDataId());
-                        skipitem.put("group", skipConfigInfo.getGroup());
-                        skipData.add(skipitem);
-                        skipCount++;
-                    }
-                    break;
-                } else if (SameConfigPolicy.SKIP.equals(policy)) {
-                    skipCount++;
-                    if (skipData == null) {
-                        skipData = new ArrayList<>();
-                    }
+                continue;
+            }
+            // uniqueness constraint conflict with existed config or former config in this batch.
+            if (SameConfigPolicy.ABORT.equals(policy)) {
+                failData = new ArrayList<>();
+                skipData = new ArrayList<>();
+                Map<String, String> faileditem = new HashMap<>(2);
+                faileditem.put("dataId", configInfo.getDataId());
+                faileditem.put("group", configInfo.getGroup());
+                failData.add(faileditem);
+                for (int j = (i + 1); j < configInfos2Import.size(); j++) {
+                    ConfigInfo skipConfigInfo = configInfos2Import.get(j);
                     Map<String, String> skipitem = new HashMap<>(2);
-                    skipitem.put("dataId", configInfo2Save.getDataId());
-                    skipitem.put("group", configInfo2Save.getGroup());
+                    skipitem.put("dataId", skipConfigInfo.getDataId());
+                    skipitem.put("group", skipConfigInfo.getGroup());
                     skipData.add(skipitem);
-                } else if (SameConfigPolicy.OVERWRITE.equals(policy)) {
-                    succCount++;
-                    updateConfigInfo(configInfo2Save, srcIp, srcUser, configAdvanceInfo);
+                    skipCount++;
                 }
+                break;
+            } else if (SameConfigPolicy.SKIP.equals(policy)) {
+                skipCount++;
+                if (skipData == null) {
+                    skipData = new ArrayList<>();
+                }
+                Map<String, String> skipitem = new HashMap<>(2);
+                skipitem.put("dataId", configInfo.getDataId());
+                skipitem.put("group", configInfo.getGroup());
+                skipData.add(skipitem);
             }
         }
+        insertOrUpdateBatch(new ArrayList<>(configInfos2Save.values()), srcIp, srcUser);
         Map<String, Object> result = new HashMap<>(4);
         result.put("succCount", succCount);
         result.put("skipCount", skipCount);
@@ -400,6 +382,116 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         return result;
     }
     
+    private ConfigAllInfo buildConfigInfo2Import(ConfigAllInfo configInfo, Map<String, Object> configAdvanceInfo) {
+        ConfigAllInfo result = new ConfigAllInfo();
+        result.setDataId(configInfo.getDataId());
+        result.setGroup(configInfo.getGroup());
+        result.setTenant(StringUtils.defaultEmptyIfBlank(configInfo.getTenant()));
+        result.setAppName(configInfo.getAppName());
+        result.setContent(configInfo.getContent());
+        result.setEncryptedDataKey(
+                configInfo.getEncryptedDataKey() == null ? StringUtils.EMPTY : configInfo.getEncryptedDataKey());
+        String type = configInfo.getType();
+        if (StringUtils.isBlank(type)) {
+            // simple judgment of file type based on suffix
+            if (configInfo.getDataId().contains(SPOT)) {
+                String extName = configInfo.getDataId().substring(configInfo.getDataId().lastIndexOf(SPOT) + 1);
+                FileTypeEnum fileTypeEnum = FileTypeEnum.getFileTypeEnumByFileExtensionOrFileType(extName);
+                type = fileTypeEnum.getFileType();
+            } else {
+                type = FileTypeEnum.getFileTypeEnumByFileExtensionOrFileType(null).getFileType();
+            }
+        }
+        result.setType(type);
+        result.setDesc(configInfo.getDesc());
+        if (configAdvanceInfo != null) {
+            result.setUse((String) configAdvanceInfo.get("use"));
+            result.setEffect((String) configAdvanceInfo.get("effect"));
+            result.setSchema((String) configAdvanceInfo.get("schema"));
+            result.setConfigTags((String) configAdvanceInfo.get("config_tags"));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<ConfigOperateResult> insertOrUpdateBatch(List<ConfigAllInfo> configInfos, String srcIp,
+            String srcUser) {
+        if (configInfos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final BiConsumer<Boolean, Throwable> callFinally = (result, t) -> {
+            if (t != null) {
+                throw new NacosRuntimeException(0, t);
+            }
+        };
+        try {
+            Map<String, ConfigAllInfo> oldConfigInfos = toGroupKeyMap(findConfigAllInfosByKeys(configInfos));
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (ConfigAllInfo each : configInfos) {
+                each.setTenant(StringUtils.defaultEmptyIfBlank(each.getTenant()));
+                Map<String, Object> configAdvanceInfo = toConfigAdvanceInfo(each);
+                ConfigAllInfo oldConfigInfo = oldConfigInfos.get(
+                        GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+                if (oldConfigInfo == null) {
+                    long configId = idGeneratorManager.nextId(RESOURCE_CONFIG_INFO_ID);
+                    long hisId = idGeneratorManager.nextId(RESOURCE_CONFIG_HISTORY_ID);
+                    addConfigInfoAtomic(configId, srcIp, srcUser, each, configAdvanceInfo);
+                    addConfigTagsRelation(configId, each.getConfigTags(), each.getDataId(), each.getGroup(),
+                            each.getTenant());
+                    historyConfigInfoPersistService.insertConfigHistoryAtomic(hisId, each, srcIp, srcUser, now, "I",
+                            Constants.FORMAL, ConfigExtInfoUtil.getExtInfoFromAllInfo(each, srcUser));
+                    continue;
+                }
+                // Keep the appName of db if the appName passed by the user is null.
+                if (each.getAppName() == null) {
+                    each.setAppName(oldConfigInfo.getAppName());
+                }
+                updateConfigInfoAtomic(each, srcIp, srcUser, configAdvanceInfo);
+                if (each.getConfigTags() != null) {
+                    // Delete all tags and recreate them
+                    removeTagByIdAtomic(oldConfigInfo.getId());
+                    addConfigTagsRelation(oldConfigInfo.getId(), each.getConfigTags(), each.getDataId(),
+                            each.getGroup(), each.getTenant());
+                }
+                historyConfigInfoPersistService.insertConfigHistoryAtomic(oldConfigInfo.getId(), oldConfigInfo, srcIp,
+                        srcUser, now, "U", Constants.FORMAL, ConfigExtInfoUtil.getExtInfoFromAllInfo(oldConfigInfo));
+            }
+            // All statements are submitted by one raft log, dump events of all configs are attached to it.
+            EmbeddedStorageContextUtils.onBatchModifyConfigInfo(configInfos, srcIp, now);
+            databaseOperate.blockUpdate(callFinally);
+        } finally {
+            EmbeddedStorageContextHolder.cleanAllContext();
+        }
+        Map<String, ConfigAllInfo> currentConfigInfos = toGroupKeyMap(queryConfigAllInfosByKeys(configInfos));
+        List<ConfigOperateResult> result = new ArrayList<>(configInfos.size());
+        for (ConfigAllInfo each : configInfos) {
+            ConfigAllInfo current = currentConfigInfos.get(
+                    GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+            result.add(current == null ? new ConfigOperateResult(false)
+                    : new ConfigOperateResult(current.getId(), current.getModifyTime()));
+        }
+        return result;
+    }
+    
+    private Map<String, Object> toConfigAdvanceInfo(ConfigAllInfo configInfo) {
+        Map<String, Object> result = new HashMap<>(8);
+        result.put("desc", configInfo.getDesc());
+        result.put("use", configInfo.getUse());
+        result.put("effect", configInfo.getEffect());
+        result.put("type", configInfo.getType());
+        result.put("schema", configInfo.getSchema());
+        result.put("config_tags", configInfo.getConfigTags());
+        return result;
+    }
+    
+    private Map<String, ConfigAllInfo> toGroupKeyMap(List<ConfigAllInfo> configInfos) {
+        Map<String, ConfigAllInfo> result = new HashMap<>(configInfos.size());
+        for (ConfigAllInfo each : configInfos) {
+            result.put(GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()), each);
+        }
+        return result;
+    }
+    
     @Override
     public void removeConfigInfo(final String dataId, final String group, final String tenant, final String srcIp,
             final String srcUser) {
@@ -742,6 +834,16 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         return page;
     }
     
+    @Override
+    public CursorPage<ConfigInfo> findConfigInfo4Cursor(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final Map<String, Object> configAdvanceInfo) {
+        MapperResult sql = ConfigCursorPageUtils.findConfigInfo4CursorSql(mapperManager,
+                dataSourceService.getDataSourceType(), lastId, pageSize, dataId, group, tenant, configAdvanceInfo);
+        List<ConfigInfo> configInfos = databaseOperate.queryMany(sql.getSql(), sql.getParamList().toArray(),
+                CONFIG_INFO_ROW_MAPPER);
+        return ConfigCursorPageUtils.toCursorPage(configInfos, pageSize);
+    }
+    
     @Override
     public int configInfoCount() {
         ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
@@ -799,6 +901,26 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public List<String> getTenantIdListByCursor(String lastTenantId, int pageSize) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext(0, pageSize);
+        context.putWhereParameter(FieldConstant.LAST_KEY, StringUtils.defaultIfEmpty(lastTenantId, StringUtils.EMPTY));
+        MapperResult mapperResult = configInfoMapper.getTenantIdListByCursor(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(), String.class);
+    }
+    
+    @Override
+    public List<String> getGroupIdListByCursor(String lastGroupId, int pageSize) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext(0, pageSize);
+        context.putWhereParameter(FieldConstant.LAST_KEY, StringUtils.defaultIfEmpty(lastGroupId, StringUtils.EMPTY));
+        MapperResult mapperResult = configInfoMapper.getGroupIdListByCursor(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(), String.class);
+    }
+    
     @Override
     public Page<ConfigInfoWrapper> findAllConfigInfoFragment(final long lastMaxId, final int pageSize,
             boolean needContent) {
@@ -870,6 +992,17 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         
     }
     
+    @Override
+    public CursorPage<ConfigInfo> findConfigInfoLike4Cursor(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final Map<String, Object> configAdvanceInfo) {
+        MapperResult sqlFetchRows = ConfigCursorPageUtils.findConfigInfoLike4CursorSql(mapperManager,
+                dataSourceService.getDataSourceType(), this::generateLikeArgument, lastId, pageSize, dataId, group,
+                tenant, configAdvanceInfo);
+        List<ConfigInfo> configInfos = databaseOperate.queryMany(sqlFetchRows.getSql(),
+                sqlFetchRows.getParamList().toArray(), CONFIG_INFO_ROW_MAPPER);
+        return ConfigCursorPageUtils.toCursorPage(configInfos, pageSize);
+    }
+    
     @Override
     public List<ConfigInfoStateWrapper> findChangeConfig(final Timestamp startTime, long lastMaxId,
             final int pageSize) {
@@ -972,12 +1105,79 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         return configAdvance;
     }
     
+    @Override
+    public List<ConfigAllInfo> findConfigAllInfosByKeys(List<? extends ConfigInfo> configInfos) {
+        List<ConfigAllInfo> result = queryConfigAllInfosByKeys(configInfos);
+        if (result.isEmpty()) {
+            return result;
+        }
+        Map<Long, ConfigAllInfo> configInfoMap = new HashMap<>(result.size());
+        for (ConfigAllInfo each : result) {
+            configInfoMap.put(each.getId(), each);
+        }
+        ConfigTagsRelationMapper configTagsRelationMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.CONFIG_TAGS_RELATION);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.IDS, new ArrayList<>(configInfoMap.keySet()));
+        MapperResult mapperResult = configTagsRelationMapper.findTagsByConfigIds(context);
+        List<ConfigAllInfo> configTags = databaseOperate.queryMany(mapperResult.getSql(),
+                mapperResult.getParamList().toArray(), CONFIG_TAGS_ROW_MAPPER);
+        for (ConfigAllInfo each : configTags) {
+            ConfigAllInfo configInfo = configInfoMap.get(each.getId());
+            configInfo.setConfigTags(configInfo.getConfigTags() == null ? each.getConfigTags()
+                    : configInfo.getConfigTags() + "," + each.getConfigTags());
+        }
+        return result;
+    }
+    
+    private List<ConfigAllInfo> queryConfigAllInfosByKeys(List<? extends ConfigInfo> configInfos) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        List<ConfigAllInfo> result = new ArrayList<>(configInfos.size());
+        for (int i = 0; i < configInfos.size(); i += QUERY_KEYS_BATCH_SIZE) {
+            int end = Math.min(i + QUERY_KEYS_BATCH_SIZE, configInfos.size());
+            List<String[]> configKeys = new ArrayList<>(end - i);
+            for (ConfigInfo each : configInfos.subList(i, end)) {
+                configKeys.add(new String[] {each.getDataId(), each.getGroup(),
+                        StringUtils.defaultEmptyIfBlank(each.getTenant())});
+            }
+            MapperContext context = new MapperContext();
+            context.putWhereParameter(FieldConstant.CONFIG_KEYS, configKeys);
+            MapperResult mapperResult = configInfoMapper.findConfigAllInfosByKeys(context);
+            result.addAll(databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                    CONFIG_ALL_INFO_ROW_MAPPER));
+        }
+        return result;
+    }
+    
     @Override
     public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
             final String appName, final List<Long> ids) {
-        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
         ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
                 TableConstant.CONFIG_INFO);
+        MapperContext context = buildExportContext(dataId, group, tenant, appName, ids);
+        
+        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4Export(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_ALL_INFO_ROW_MAPPER);
+    }
+    
+    @Override
+    public List<ConfigAllInfo> findAllConfigInfo4ExportByCursor(final long lastId, final int pageSize,
+            final String dataId, final String group, final String tenant, final String appName, final List<Long> ids) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = buildExportContext(dataId, group, tenant, appName, ids);
+        context.setPageSize(pageSize);
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, lastId);
+        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4ExportByCursor(context);
+        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                CONFIG_ALL_INFO_ROW_MAPPER);
+    }
+    
+    private MapperContext buildExportContext(final String dataId, final String group, final String tenant,
+            final String appName, final List<Long> ids) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
         MapperContext context = new MapperContext();
         if (!CollectionUtils.isEmpty(ids)) {
             context.putWhereParameter(FieldConstant.IDS, ids);
@@ -993,10 +1193,7 @@ public class EmbeddedConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 context.putWhereParameter(FieldConstant.APP_NAME, appName);
             }
         }
-        
-        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4Export(context);
-        return databaseOperate.queryMany(mapperResult.getSql(), mapperResult.getParamList().toArray(),
-                CONFIG_ALL_INFO_ROW_MAPPER);
+        return context;
     }
     
     @Override
@@ -109,6 +109,25 @@ public class EmbeddedHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         EmbeddedStorageContextHolder.addSqlContext(sql, args);
     }
     
+    @Override
+    public void batchInsertConfigHistoryAtomic(List<ConfigHistoryInfo> historyInfos) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        final String sql = historyConfigInfoMapper.insert(
+                Arrays.asList("id", "data_id", "group_id", "tenant_id", "app_name", "content", "md5", "src_ip",
+                        "src_user", "gmt_modified", "op_type", "publish_type", "ext_info", "encrypted_data_key"));
+        for (ConfigHistoryInfo each : historyInfos) {
+            final Object[] args = new Object[] {each.getId(), each.getDataId(), each.getGroup(),
+                    StringUtils.defaultEmptyIfBlank(each.getTenant()),
+                    StringUtils.defaultEmptyIfBlank(each.getAppName()), each.getContent(),
+                    MD5Utils.md5Hex(each.getContent(), Constants.ENCODE), each.getSrcIp(), each.getSrcUser(),
+                    each.getLastModifiedTime(), each.getOpType(),
+                    StringUtils.defaultEmptyIfBlank(each.getPublishType()), each.getExtInfo(),
+                    StringUtils.defaultEmptyIfBlank(each.getEncryptedDataKey())};
+            EmbeddedStorageContextHolder.addSqlContext(sql, args);
+        }
+    }
+    
     @Override
     public void removeConfigHistory(final Timestamp startTime, final int limitSize) {
         HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
@@ -121,6 +140,24 @@ public class EmbeddedHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         helper.updateLimit(mapperResult.getSql(), mapperResult.getParamList().toArray());
     }
     
+    @Override
+    public void removeConfigHistoryByIdRange(final Timestamp startTime, final long startId, final long endId) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.START_TIME, startTime);
+        context.putWhereParameter(FieldConstant.START_ID, startId);
+        context.putWhereParameter(FieldConstant.END_ID, endId);
+        MapperResult mapperResult = historyConfigInfoMapper.removeConfigHistoryByIdRange(context);
+        PaginationHelper<ConfigInfo> helper = createPaginationHelper();
+        helper.updateLimit(mapperResult.getSql(), mapperResult.getParamList().toArray());
+    }
+    
+    @Override
+    public void dropConfigHistoryPartition(String partitionName) {
+        // Embedded storage does not support partition of history table, so there is no partition to drop.
+    }
+    
     @Override
     public List<ConfigInfoStateWrapper> findDeletedConfig(final Timestamp startTime, long lastMaxId,
             final int pageSize, String publishType) {
@@ -194,6 +231,29 @@ public class EmbeddedHistoryConfigInfoPersistServiceImpl implements HistoryConfi
                 HISTORY_DETAIL_ROW_MAPPER);
     }
     
+    @Override
+    public Long findConfigHistoryMaxIdByTime(final Timestamp startTime) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.START_TIME, startTime);
+        MapperResult mapperResult = historyConfigInfoMapper.findConfigHistoryMaxIdByTime(context);
+        return databaseOperate.queryOne(mapperResult.getSql(), mapperResult.getParamList().toArray(), Long.class);
+    }
+    
+    @Override
+    public Long findConfigHistoryMinId() {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperResult mapperResult = historyConfigInfoMapper.findConfigHistoryMinId(new MapperContext());
+        return databaseOperate.queryOne(mapperResult.getSql(), mapperResult.getParamList().toArray(), Long.class);
+    }
+    
+    @Override
+    public List<String> findExpiredConfigHistoryPartitions(final Timestamp startTime) {
+        return Collections.emptyList();
+    }
+    
     @Override
     public int findConfigHistoryCountByTime(final Timestamp startTime) {
         HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
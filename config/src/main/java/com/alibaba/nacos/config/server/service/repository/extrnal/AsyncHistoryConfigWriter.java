@@ -0,0 +1,251 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.config.server.service.repository.extrnal;
+
+import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
+import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
+import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Writer of config history for external storage, which moves history writes off the publish path.
+ *
+ * <p>A history record takes a slot of the bounded queue before the transaction of config change commits, and is
+ * queued only after the transaction committed, so rolled back changes never reach history. Records are written in
+ * commit order by a single thread with batch insert, and a failed batch is retried before any later record. After the
+ * batch failed {@link #MAX_BATCH_RETRY_TIMES} times, records are written one by one, and a record failing while the
+ * next one succeeds is dropped with error log, so that one bad record can't block history forever. If no slot is left,
+ * the caller should {@link #flush()} the queue and then write the record synchronously, so that the record is written
+ * after the records committed before it. The batch writer should write in a new transaction, since flush might be
+ * called in the transaction of config change.
+ *
+ * <p>Crash durability is out of scope: queued records are flushed when the server shuts down, but records not written
+ * yet are lost if the server crashes, because nothing is persisted in the transaction of config change. So it is
+ * disabled by default, and should only be enabled when losing the latest history records on crash is acceptable.
+ *
+ * @author xiweng.yy
+ */
+public class AsyncHistoryConfigWriter {
+    
+    private static final int MAX_BATCH_SIZE = 500;
+    
+    private static final long FLUSH_INTERVAL_MS = 100L;
+    
+    private static final int MAX_BATCH_RETRY_TIMES = 3;
+    
+    /**
+     * Max retry times of the last pending record when writing one by one, since there is no next record to tell
+     * whether the storage is available.
+     */
+    private static final int MAX_RECORD_RETRY_TIMES = 10;
+    
+    private final int capacity;
+    
+    private final Consumer<List<ConfigHistoryInfo>> batchWriter;
+    
+    private final Queue<QueuedHistory> queue = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Taken slots, including records in queue and records waiting for transaction completion.
+     */
+    private final AtomicInteger taken = new AtomicInteger();
+    
+    /**
+     * Records polled from queue but failed to write, only accessed by flushing thread.
+     */
+    private final List<QueuedHistory> pending = new ArrayList<>();
+    
+    /**
+     * Continuous failed times of batch write, only accessed by flushing thread.
+     */
+    private int batchFailedTimes;
+    
+    public AsyncHistoryConfigWriter(int capacity, Consumer<List<ConfigHistoryInfo>> batchWriter) {
+        this.capacity = capacity;
+        this.batchWriter = batchWriter;
+    }
+    
+    public void start() {
+        ConfigExecutor.scheduleHistoryWriteTask(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Queue history record, which will be written after current transaction committed.
+     *
+     * @param historyInfo history record
+     * @return {@code false} if the queue is full and the record should be written by caller
+     */
+    public boolean write(ConfigHistoryInfo historyInfo) {
+        if (taken.incrementAndGet() > capacity) {
+            taken.decrementAndGet();
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(historyInfo);
+            return true;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (STATUS_COMMITTED == status) {
+                    enqueue(historyInfo);
+                } else {
+                    taken.decrementAndGet();
+                }
+            }
+        });
+        return true;
+    }
+    
+    /**
+     * Write all queued records in batch.
+     *
+     * @return {@code true} if all queued records are written or dropped, otherwise the left records are retried later
+     */
+    public synchronized boolean flush() {
+        refreshLag();
+        boolean result = true;
+        try {
+            while (!pending.isEmpty() || !queue.isEmpty()) {
+                QueuedHistory each;
+                while (pending.size() < MAX_BATCH_SIZE && null != (each = queue.poll())) {
+                    pending.add(each);
+                }
+                if (batchFailedTimes >= MAX_BATCH_RETRY_TIMES && !writeOneByOne()) {
+                    result = false;
+                    break;
+                }
+                List<ConfigHistoryInfo> batch = new ArrayList<>(pending.size());
+                for (QueuedHistory queuedHistory : pending) {
+                    batch.add(queuedHistory.historyInfo);
+                }
+                if (!batch.isEmpty()) {
+                    batchWriter.accept(batch);
+                }
+                taken.addAndGet(-pending.size());
+                pending.clear();
+                batchFailedTimes = 0;
+                refreshLag();
+            }
+        } catch (Throwable e) {
+            result = false;
+            batchFailedTimes++;
+            LogUtil.FATAL_LOG.error("[history-write] write {} config history failed {} times, retry later.",
+                    pending.size(), batchFailedTimes, e);
+        }
+        MetricsMonitor.getHistoryQueueSizeMonitor().set(size());
+        return result;
+    }
+    
+    /**
+     * Write pending records one by one in order. A failed record is dropped if the next one succeeds, or the last one
+     * failed {@link #MAX_RECORD_RETRY_TIMES} times. If two records fail continuously, the storage might be unavailable,
+     * and the left records are retried later.
+     *
+     * @return {@code true} if all pending records are written or dropped
+     */
+    private boolean writeOneByOne() {
+        QueuedHistory failed = null;
+        Throwable failedCause = null;
+        int index = 0;
+        while (index < pending.size()) {
+            QueuedHistory each = pending.get(index);
+            try {
+                batchWriter.accept(Collections.singletonList(each.historyInfo));
+            } catch (Throwable e) {
+                if (null != failed) {
+                    LogUtil.FATAL_LOG.error("[history-write] write config history one by one failed, retry later.", e);
+                    return false;
+                }
+                failed = each;
+                failedCause = e;
+                index++;
+                continue;
+            }
+            pending.remove(index);
+            taken.decrementAndGet();
+            if (null != failed) {
+                pending.remove(--index);
+                drop(failed, failedCause);
+                failed = null;
+            }
+        }
+        if (null != failed && ++failed.failedTimes < MAX_RECORD_RETRY_TIMES) {
+            LogUtil.FATAL_LOG.error("[history-write] write config history failed {} times, retry later.",
+                    failed.failedTimes, failedCause);
+            return false;
+        }
+        if (null != failed) {
+            pending.remove(failed);
+            drop(failed, failedCause);
+        }
+        return true;
+    }
+    
+    private void drop(QueuedHistory queuedHistory, Throwable cause) {
+        taken.decrementAndGet();
+        ConfigHistoryInfo historyInfo = queuedHistory.historyInfo;
+        LogUtil.FATAL_LOG.error("[history-write] drop config history which can't be written, dataId={}, group={}, "
+                        + "tenant={}, opType={}, lastModified={}", historyInfo.getDataId(), historyInfo.getGroup(),
+                historyInfo.getTenant(), historyInfo.getOpType(), historyInfo.getLastModifiedTime(), cause);
+    }
+    
+    public synchronized int size() {
+        return pending.size() + queue.size();
+    }
+    
+    private void enqueue(ConfigHistoryInfo historyInfo) {
+        queue.offer(new QueuedHistory(historyInfo));
+        MetricsMonitor.getHistoryQueueSizeMonitor().incrementAndGet();
+    }
+    
+    /**
+     * Lag is the time that the oldest unwritten record has been waiting.
+     */
+    private void refreshLag() {
+        QueuedHistory oldest = pending.isEmpty() ? queue.peek() : pending.get(0);
+        long lag = null == oldest ? 0L : System.currentTimeMillis() - oldest.queueTime;
+        MetricsMonitor.getHistoryQueueLagMonitor().set(lag);
+    }
+    
+    private static class QueuedHistory {
+        
+        private final ConfigHistoryInfo historyInfo;
+        
+        private final long queueTime;
+        
+        private int failedTimes;
+        
+        private QueuedHistory(ConfigHistoryInfo historyInfo) {
+            this.historyInfo = historyInfo;
+            this.queueTime = System.currentTimeMillis();
+        }
+    }
+}
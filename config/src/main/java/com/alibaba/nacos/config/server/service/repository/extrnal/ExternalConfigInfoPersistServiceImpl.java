@@ -26,20 +26,24 @@ import com.alibaba.nacos.config.server.constant.ParametersField;
 import com.alibaba.nacos.config.server.enums.FileTypeEnum;
 import com.alibaba.nacos.config.server.model.ConfigAdvanceInfo;
 import com.alibaba.nacos.config.server.model.ConfigAllInfo;
+import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoStateWrapper;
 import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.ConfigOperateResult;
 import com.alibaba.nacos.config.server.model.SameConfigPolicy;
+import com.alibaba.nacos.config.server.service.repository.ConfigCursorPageUtils;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.repository.HistoryConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.sql.ExternalStorageUtils;
 import com.alibaba.nacos.config.server.utils.ConfigExtInfoUtil;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.persistence.configuration.condition.ConditionOnExternalStorage;
 import com.alibaba.nacos.persistence.datasource.DataSourceService;
 import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
+import com.alibaba.nacos.persistence.model.CursorPage;
 import com.alibaba.nacos.persistence.model.Page;
 import com.alibaba.nacos.persistence.repository.PaginationHelper;
 import com.alibaba.nacos.persistence.repository.extrnal.ExternalStoragePaginationHelperImpl;
@@ -58,7 +62,6 @@ import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.dao.DataAccessException;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.jdbc.CannotGetJdbcConnectionException;
@@ -77,16 +80,20 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_ADVANCE_INFO_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_ALL_INFO_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_INFO_WRAPPER_ROW_MAPPER;
+import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.CONFIG_TAGS_ROW_MAPPER;
 
 /**
  * ExternalConfigInfoPersistServiceImpl.
@@ -103,6 +110,11 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
      */
     public static final String SPOT = ".";
     
+    /**
+     * The max count of config keys in one query, which limits the size of sql.
+     */
+    private static final int QUERY_KEYS_BATCH_SIZE = 100;
+    
     private DataSourceService dataSourceService;
     
     protected JdbcTemplate jt;
@@ -299,13 +311,8 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     @Override
     public Map<String, Object> batchInsertOrUpdate(List<ConfigAllInfo> configInfoList, String srcUser, String srcIp,
             Map<String, Object> configAdvanceInfo, SameConfigPolicy policy) throws NacosException {
-        int succCount = 0;
-        int skipCount = 0;
-        List<Map<String, String>> failData = null;
-        List<Map<String, String>> skipData = null;
-        
-        for (int i = 0; i < configInfoList.size(); i++) {
-            ConfigAllInfo configInfo = configInfoList.get(i);
+        List<ConfigAllInfo> configInfos2Import = new ArrayList<>(configInfoList.size());
+        for (ConfigAllInfo configInfo : configInfoList) {
             try {
                 ParamUtils.checkParam(configInfo.getDataId(), configInfo.getGroup(), "datumId",
                         configInfo.getContent());
@@ -313,71 +320,51 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 LogUtil.DEFAULT_LOG.error("data verification failed", e);
                 throw e;
             }
-            ConfigInfo configInfo2Save = new ConfigInfo(configInfo.getDataId(), configInfo.getGroup(),
-                    configInfo.getTenant(), configInfo.getAppName(), configInfo.getContent());
-            configInfo2Save.setEncryptedDataKey(
-                    configInfo.getEncryptedDataKey() == null ? StringUtils.EMPTY : configInfo.getEncryptedDataKey());
-            
-            String type = configInfo.getType();
-            if (StringUtils.isBlank(type)) {
-                // simple judgment of file type based on suffix
-                if (configInfo.getDataId().contains(SPOT)) {
-                    String extName = configInfo.getDataId().substring(configInfo.getDataId().lastIndexOf(SPOT) + 1);
-                    FileTypeEnum fileTypeEnum = FileTypeEnum.getFileTypeEnumByFileExtensionOrFileType(extName);
-                    type = fileTypeEnum.getFileType();
-                } else {
-                    type = FileTypeEnum.getFileTypeEnumByFileExtensionOrFileType(null).getFileType();
-                }
-            }
-            if (configAdvanceInfo == null) {
-                configAdvanceInfo = new HashMap<>(16);
-            }
-            configAdvanceInfo.put("type", type);
-            configAdvanceInfo.put("desc", configInfo.getDesc());
-            boolean success;
-            try {
-                ConfigOperateResult configOperateResult = addConfigInfo(srcIp, srcUser, configInfo2Save,
-                        configAdvanceInfo);
-                success = configOperateResult.isSuccess();
-            } catch (DataIntegrityViolationException ive) {
-                success = false;
-            }
-            if (success) {
+            configInfos2Import.add(buildConfigInfo2Import(configInfo, configAdvanceInfo));
+        }
+        Set<String> existedKeys = new HashSet<>(toGroupKeyMap(findConfigAllInfosByKeys(configInfos2Import)).keySet());
+        int succCount = 0;
+        int skipCount = 0;
+        List<Map<String, String>> failData = null;
+        List<Map<String, String>> skipData = null;
+        Map<String, ConfigAllInfo> configInfos2Save = new LinkedHashMap<>();
+        for (int i = 0; i < configInfos2Import.size(); i++) {
+            ConfigAllInfo configInfo = configInfos2Import.get(i);
+            String groupKey = GroupKey2.getKey(configInfo.getDataId(), configInfo.getGroup(), configInfo.getTenant());
+            if (existedKeys.add(groupKey) || SameConfigPolicy.OVERWRITE.equals(policy)) {
+                configInfos2Save.put(groupKey, configInfo);
                 succCount++;
-            } else {
-                // uniqueness constraint conflict or add config info fail.
-                if (SameConfigPolicy.ABORT.equals(policy)) {
-                    failData = new ArrayList<>();
-                    skipData = new ArrayList<>();
-                    Map<String, String> faileditem = new HashMap<>(2);
-                    faileditem.put("dataId", configInfo2Save.getDataId());
-                    faileditem.put("group", configInfo2Save.getGroup());
-                    failData.add(faileditem);
-                    for (int j = (i + 1); j < configInfoList.size(); j++) {
-                        ConfigInfo skipConfigInfo = configInfoList.get(j);
-                        Map<String, String> skipitem = new HashMap<>(2);
-                        skipitem.put("dataId", skipConfigInfo.getDataId());
-                        skipitem.put("group", skipConfigInfo.getGroup());
-                        skipData.add(skipitem);
-                        skipCount++;
-                    }
-                    break;
-                } else if (SameConfigPolicy.SKIP.equals(policy)) {
-                    skipCount++;
-                    if (skipData == null) {
-                        skipData = new ArrayList<>();
-                    }
+                continue;
+            }
+            // uniqueness constraint conflict with existed config or former config in this batch.
+            if (SameConfigPolicy.ABORT.equals(policy)) {
+                failData = new ArrayList<>();
+                skipData = new ArrayList<>();
+                Map<String, String> faileditem = new HashMap<>(2);
+                faileditem.put("dataId", configInfo.getDataId());
+                faileditem.put("group", configInfo.getGroup());
+                failData.add(faileditem);
+                for (int j = (i + 1); j < configInfos2Import.size(); j++) {
+                    ConfigInfo skipConfigInfo = configInfos2Import.get(j);
                     Map<String, String> skipitem = new HashMap<>(2);
-                    skipitem.put("dataId", configInfo2Save.getDataId());
-                    skipitem.put("group", configInfo2Save.getGroup());
+                    skipitem.put("dataId", skipConfigInfo.getDataId());
+                    skipitem.put("group", skipConfigInfo.getGroup());
                     skipData.add(skipitem);
-                } else if (SameConfigPolicy.OVERWRITE.equals(policy)) {
-                    succCount++;
-                    updateConfigInfo(configInfo2Save, srcIp, srcUser, configAdvanceInfo);
+                    skipCount++;
                 }
+                break;
+            } else if (SameConfigPolicy.SKIP.equals(policy)) {
+                skipCount++;
+                if (skipData == null) {
+                    skipData = new ArrayList<>();
+                }
+                Map<String, String> skipitem = new HashMap<>(2);
+                skipitem.put("dataId", configInfo.getDataId());
+                skipitem.put("group", configInfo.getGroup());
+                skipData.add(skipitem);
             }
-            
         }
+        insertOrUpdateBatch(new ArrayList<>(configInfos2Save.values()), srcIp, srcUser);
         Map<String, Object> result = new HashMap<>(4);
         result.put("succCount", succCount);
         result.put("skipCount", skipCount);
@@ -390,6 +377,168 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         return result;
     }
     
+    private ConfigAllInfo buildConfigInfo2Import(ConfigAllInfo configInfo, Map<String, Object> configAdvanceInfo) {
+        ConfigAllInfo result = new ConfigAllInfo();
+        result.setDataId(configInfo.getDataId());
+        result.setGroup(configInfo.getGroup());
+        result.setTenant(StringUtils.defaultEmptyIfBlank(configInfo.getTenant()));
+        result.setAppName(configInfo.getAppName());
+        result.setContent(configInfo.getContent());
+        result.setEncryptedDataKey(
+                configInfo.getEncryptedDataKey() == null ? StringUtils.EMPTY : configInfo.getEncryptedDataKey());
+        String type = configInfo.getType();
+        if (StringUtils.isBlank(type)) {
+            // simple judgment of file type based on suffix
+            if (configInfo.getDataId().contains(SPOT)) {
+                String extName = configInfo.getDataId().substring(configInfo.getDataId().lastIndexOf(SPOT) + 1);
+                FileTypeEnum fileTypeEnum = FileTypeEnum.getFileTypeEnumByFileExtensionOrFileType(extName);
+                type = fileTypeEnum.getFileType();
+            } else {
+                type = FileTypeEnum.getFileTypeEnumByFileExtensionOrFileType(null).getFileType();
+            }
+        }
+        result.setType(type);
+        result.setDesc(configInfo.getDesc());
+        if (configAdvanceInfo != null) {
+            result.setUse((String) configAdvanceInfo.get("use"));
+            result.setEffect((String) configAdvanceInfo.get("effect"));
+            result.setSchema((String) configAdvanceInfo.get("schema"));
+            result.setConfigTags((String) configAdvanceInfo.get("config_tags"));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<ConfigOperateResult> insertOrUpdateBatch(List<ConfigAllInfo> configInfos, String srcIp,
+            String srcUser) {
+        if (configInfos.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return tjt.execute(status -> {
+            try {
+                Map<String, ConfigAllInfo> oldConfigInfos = toGroupKeyMap(findConfigAllInfosByKeys(configInfos));
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                List<Object[]> insertArgs = new ArrayList<>();
+                List<Object[]> updateArgs = new ArrayList<>();
+                List<ConfigHistoryInfo> historyInfos = new ArrayList<>(configInfos.size());
+                for (ConfigAllInfo each : configInfos) {
+                    final String tenantTmp = StringUtils.defaultEmptyIfBlank(each.getTenant());
+                    final String md5Tmp = MD5Utils.md5Hex(each.getContent(), Constants.ENCODE);
+                    final String encryptedDataKey = StringUtils.defaultEmptyIfBlank(each.getEncryptedDataKey());
+                    ConfigAllInfo oldConfigInfo = oldConfigInfos.get(
+                            GroupKey2.getKey(each.getDataId(), each.getGroup(), tenantTmp));
+                    if (oldConfigInfo == null) {
+                        insertArgs.add(new Object[] {each.getDataId(), each.getGroup(), tenantTmp,
+                                StringUtils.defaultEmptyIfBlank(each.getAppName()), each.getContent(), md5Tmp, srcIp,
+                                srcUser, each.getDesc(), each.getUse(), each.getEffect(), each.getType(),
+                                each.getSchema(), encryptedDataKey});
+                        historyInfos.add(buildHistoryInfo(0, each, srcIp, srcUser, now, "I",
+                                ConfigExtInfoUtil.getExtInfoFromAllInfo(each, srcUser)));
+                    } else {
+                        // Keep the appName of db if the appName passed by the user is null.
+                        String appNameTmp = each.getAppName() == null ? oldConfigInfo.getAppName() : each.getAppName();
+                        updateArgs.add(new Object[] {each.getContent(), md5Tmp, srcIp, srcUser,
+                                StringUtils.defaultEmptyIfBlank(appNameTmp), each.getDesc(), each.getUse(),
+                                each.getEffect(), each.getType(), each.getSchema(), encryptedDataKey, each.getDataId(),
+                                each.getGroup(), tenantTmp});
+                        historyInfos.add(buildHistoryInfo(oldConfigInfo.getId(), oldConfigInfo, srcIp, srcUser, now,
+                                "U", ConfigExtInfoUtil.getExtInfoFromAllInfo(oldConfigInfo)));
+                    }
+                }
+                ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                        TableConstant.CONFIG_INFO);
+                if (!insertArgs.isEmpty()) {
+                    jt.batchUpdate(configInfoMapper.insert(
+                            Arrays.asList("data_id", "group_id", "tenant_id", "app_name", "content", "md5", "src_ip",
+                                    "src_user", "gmt_create@NOW()", "gmt_modified@NOW()", "c_desc", "c_use",
+                                    "effect", "type", "c_schema", "encrypted_data_key")), insertArgs);
+                }
+                if (!updateArgs.isEmpty()) {
+                    jt.batchUpdate(configInfoMapper.update(
+                            Arrays.asList("content", "md5", "src_ip", "src_user", "gmt_modified@NOW()", "app_name",
+                                    "c_desc", "c_use", "effect", "type", "c_schema", "encrypted_data_key"),
+                            Arrays.asList("data_id", "group_id", "tenant_id")), updateArgs);
+                }
+                // The ids of inserted configs are only known after inserting.
+                Map<String, ConfigAllInfo> currentConfigInfos = toGroupKeyMap(queryConfigAllInfosByKeys(configInfos));
+                batchUpdateConfigTags(configInfos, oldConfigInfos.keySet(), currentConfigInfos);
+                historyConfigInfoPersistService.batchInsertConfigHistoryAtomic(historyInfos);
+                
+                List<ConfigOperateResult> result = new ArrayList<>(configInfos.size());
+                for (ConfigAllInfo each : configInfos) {
+                    ConfigAllInfo current = currentConfigInfos.get(
+                            GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+                    result.add(current == null ? new ConfigOperateResult(false)
+                            : new ConfigOperateResult(current.getId(), current.getModifyTime()));
+                }
+                return result;
+            } catch (CannotGetJdbcConnectionException e) {
+                LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+                throw e;
+            }
+        });
+    }
+    
+    private void batchUpdateConfigTags(List<ConfigAllInfo> configInfos, Set<String> updatedKeys,
+            Map<String, ConfigAllInfo> currentConfigInfos) {
+        List<Object[]> removeArgs = new ArrayList<>();
+        List<Object[]> insertArgs = new ArrayList<>();
+        for (ConfigAllInfo each : configInfos) {
+            final String tenantTmp = StringUtils.defaultEmptyIfBlank(each.getTenant());
+            String groupKey = GroupKey2.getKey(each.getDataId(), each.getGroup(), tenantTmp);
+            ConfigAllInfo current = currentConfigInfos.get(groupKey);
+            if (each.getConfigTags() == null || current == null) {
+                continue;
+            }
+            // Delete all tags of updated config and recreate them
+            if (updatedKeys.contains(groupKey)) {
+                removeArgs.add(new Object[] {current.getId()});
+            }
+            if (StringUtils.isNotBlank(each.getConfigTags())) {
+                for (String tagName : each.getConfigTags().split(",")) {
+                    insertArgs.add(new Object[] {current.getId(), tagName, StringUtils.EMPTY, each.getDataId(),
+                            each.getGroup(), tenantTmp});
+                }
+            }
+        }
+        ConfigTagsRelationMapper configTagsRelationMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.CONFIG_TAGS_RELATION);
+        if (!removeArgs.isEmpty()) {
+            jt.batchUpdate(configTagsRelationMapper.delete(Collections.singletonList("id")), removeArgs);
+        }
+        if (!insertArgs.isEmpty()) {
+            jt.batchUpdate(configTagsRelationMapper.insert(
+                    Arrays.asList("id", "tag_name", "tag_type", "data_id", "group_id", "tenant_id")), insertArgs);
+        }
+    }
+    
+    private ConfigHistoryInfo buildHistoryInfo(long id, ConfigInfo configInfo, String srcIp, String srcUser,
+            Timestamp time, String ops, String extInfo) {
+        ConfigHistoryInfo result = new ConfigHistoryInfo();
+        result.setId(id);
+        result.setDataId(configInfo.getDataId());
+        result.setGroup(configInfo.getGroup());
+        result.setTenant(configInfo.getTenant());
+        result.setAppName(configInfo.getAppName());
+        result.setContent(configInfo.getContent());
+        result.setEncryptedDataKey(configInfo.getEncryptedDataKey());
+        result.setSrcIp(srcIp);
+        result.setSrcUser(srcUser);
+        result.setLastModifiedTime(time);
+        result.setOpType(ops);
+        result.setPublishType(Constants.FORMAL);
+        result.setExtInfo(extInfo);
+        return result;
+    }
+    
+    private Map<String, ConfigAllInfo> toGroupKeyMap(List<ConfigAllInfo> configInfos) {
+        Map<String, ConfigAllInfo> result = new HashMap<>(configInfos.size());
+        for (ConfigAllInfo each : configInfos) {
+            result.put(GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()), each);
+        }
+        return result;
+    }
+    
     @Override
     public void removeConfigInfo(final String dataId, final String group, final String tenant, final String srcIp,
             final String srcUser) {
@@ -773,6 +922,21 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         }
     }
     
+    @Override
+    public CursorPage<ConfigInfo> findConfigInfo4Cursor(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final Map<String, Object> configAdvanceInfo) {
+        MapperResult sql = ConfigCursorPageUtils.findConfigInfo4CursorSql(mapperManager,
+                dataSourceService.getDataSourceType(), lastId, pageSize, dataId, group, tenant, configAdvanceInfo);
+        try {
+            List<ConfigInfo> configInfos = jt.query(sql.getSql(), sql.getParamList().toArray(),
+                    CONFIG_INFO_ROW_MAPPER);
+            return ConfigCursorPageUtils.toCursorPage(configInfos, pageSize);
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
     @Override
     public int configInfoCount() {
         ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
@@ -817,6 +981,26 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         return jt.queryForList(mapperResult.getSql(), mapperResult.getParamList().toArray(), String.class);
     }
     
+    @Override
+    public List<String> getTenantIdListByCursor(String lastTenantId, int pageSize) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext(0, pageSize);
+        context.putWhereParameter(FieldConstant.LAST_KEY, StringUtils.defaultIfEmpty(lastTenantId, StringUtils.EMPTY));
+        MapperResult mapperResult = configInfoMapper.getTenantIdListByCursor(context);
+        return jt.queryForList(mapperResult.getSql(), mapperResult.getParamList().toArray(), String.class);
+    }
+    
+    @Override
+    public List<String> getGroupIdListByCursor(String lastGroupId, int pageSize) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = new MapperContext(0, pageSize);
+        context.putWhereParameter(FieldConstant.LAST_KEY, StringUtils.defaultIfEmpty(lastGroupId, StringUtils.EMPTY));
+        MapperResult mapperResult = configInfoMapper.getGroupIdListByCursor(context);
+        return jt.queryForList(mapperResult.getSql(), mapperResult.getParamList().toArray(), String.class);
+    }
+    
     @Override
     public Page<ConfigInfoWrapper> findAllConfigInfoFragment(final long lastMaxId, final int pageSize,
             boolean needContent) {
@@ -898,6 +1082,22 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         }
     }
     
+    @Override
+    public CursorPage<ConfigInfo> findConfigInfoLike4Cursor(final long lastId, final int pageSize, final String dataId,
+            final String group, final String tenant, final Map<String, Object> configAdvanceInfo) {
+        MapperResult sqlFetchRows = ConfigCursorPageUtils.findConfigInfoLike4CursorSql(mapperManager,
+                dataSourceService.getDataSourceType(), this::generateLikeArgument, lastId, pageSize, dataId, group,
+                tenant, configAdvanceInfo);
+        try {
+            List<ConfigInfo> configInfos = jt.query(sqlFetchRows.getSql(), sqlFetchRows.getParamList().toArray(),
+                    CONFIG_INFO_ROW_MAPPER);
+            return ConfigCursorPageUtils.toCursorPage(configInfos, pageSize);
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
     @Override
     public List<ConfigInfoStateWrapper> findChangeConfig(final Timestamp startTime, long lastMaxId,
             final int pageSize) {
@@ -1026,6 +1226,61 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
         }
     }
     
+    @Override
+    public List<ConfigAllInfo> findConfigAllInfosByKeys(List<? extends ConfigInfo> configInfos) {
+        List<ConfigAllInfo> result = queryConfigAllInfosByKeys(configInfos);
+        if (result.isEmpty()) {
+            return result;
+        }
+        Map<Long, ConfigAllInfo> configInfoMap = new HashMap<>(result.size());
+        for (ConfigAllInfo each : result) {
+            configInfoMap.put(each.getId(), each);
+        }
+        ConfigTagsRelationMapper configTagsRelationMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.CONFIG_TAGS_RELATION);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.IDS, new ArrayList<>(configInfoMap.keySet()));
+        MapperResult mapperResult = configTagsRelationMapper.findTagsByConfigIds(context);
+        try {
+            List<ConfigAllInfo> configTags = jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                    CONFIG_TAGS_ROW_MAPPER);
+            for (ConfigAllInfo each : configTags) {
+                ConfigAllInfo configInfo = configInfoMap.get(each.getId());
+                configInfo.setConfigTags(configInfo.getConfigTags() == null ? each.getConfigTags()
+                        : configInfo.getConfigTags() + "," + each.getConfigTags());
+            }
+            return result;
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    private List<ConfigAllInfo> queryConfigAllInfosByKeys(List<? extends ConfigInfo> configInfos) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        List<ConfigAllInfo> result = new ArrayList<>(configInfos.size());
+        try {
+            for (int i = 0; i < configInfos.size(); i += QUERY_KEYS_BATCH_SIZE) {
+                int end = Math.min(i + QUERY_KEYS_BATCH_SIZE, configInfos.size());
+                List<String[]> configKeys = new ArrayList<>(end - i);
+                for (ConfigInfo each : configInfos.subList(i, end)) {
+                    configKeys.add(new String[] {each.getDataId(), each.getGroup(),
+                            StringUtils.defaultEmptyIfBlank(each.getTenant())});
+                }
+                MapperContext context = new MapperContext();
+                context.putWhereParameter(FieldConstant.CONFIG_KEYS, configKeys);
+                MapperResult mapperResult = configInfoMapper.findConfigAllInfosByKeys(context);
+                result.addAll(jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                        CONFIG_ALL_INFO_ROW_MAPPER));
+            }
+            return result;
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
     @Override
     public ConfigInfoStateWrapper findConfigInfoState(final String dataId, final String group, final String tenant) {
         String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
@@ -1044,9 +1299,40 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
     @Override
     public List<ConfigAllInfo> findAllConfigInfo4Export(final String dataId, final String group, final String tenant,
             final String appName, final List<Long> ids) {
-        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
         ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
                 TableConstant.CONFIG_INFO);
+        MapperContext context = buildExportContext(dataId, group, tenant, appName, ids);
+        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4Export(context);
+        try {
+            return this.jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                    CONFIG_ALL_INFO_ROW_MAPPER);
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    @Override
+    public List<ConfigAllInfo> findAllConfigInfo4ExportByCursor(final long lastId, final int pageSize,
+            final String dataId, final String group, final String tenant, final String appName, final List<Long> ids) {
+        ConfigInfoMapper configInfoMapper = mapperManager.findMapper(dataSourceService.getDataSourceType(),
+                TableConstant.CONFIG_INFO);
+        MapperContext context = buildExportContext(dataId, group, tenant, appName, ids);
+        context.setPageSize(pageSize);
+        context.putWhereParameter(FieldConstant.LAST_MAX_ID, lastId);
+        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4ExportByCursor(context);
+        try {
+            return this.jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
+                    CONFIG_ALL_INFO_ROW_MAPPER);
+        } catch (CannotGetJdbcConnectionException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    private MapperContext buildExportContext(final String dataId, final String group, final String tenant,
+            final String appName, final List<Long> ids) {
+        String tenantTmp = StringUtils.isBlank(tenant) ? StringUtils.EMPTY : tenant;
         MapperContext context = new MapperContext();
         if (!CollectionUtils.isEmpty(ids)) {
             context.putWhereParameter(FieldConstant.IDS, ids);
@@ -1062,14 +1348,7 @@ public class ExternalConfigInfoPersistServiceImpl implements ConfigInfoPersistSe
                 context.putWhereParameter(FieldConstant.APP_NAME, appName);
             }
         }
-        MapperResult mapperResult = configInfoMapper.findAllConfigInfo4Export(context);
-        try {
-            return this.jt.query(mapperResult.getSql(), mapperResult.getParamList().toArray(),
-                    CONFIG_ALL_INFO_ROW_MAPPER);
-        } catch (CannotGetJdbcConnectionException e) {
-            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
-            throw e;
-        }
+        return context;
     }
     
     @Override
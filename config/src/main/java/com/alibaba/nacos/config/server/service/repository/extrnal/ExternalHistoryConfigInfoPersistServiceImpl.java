@@ -25,6 +25,7 @@ import com.alibaba.nacos.config.server.model.ConfigInfoStateWrapper;
 import com.alibaba.nacos.config.server.service.repository.HistoryConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.ConfigExtInfoUtil;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.persistence.configuration.condition.ConditionOnExternalStorage;
 import com.alibaba.nacos.persistence.datasource.DataSourceService;
 import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
@@ -44,13 +45,16 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.annotation.PreDestroy;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.HISTORY_DETAIL_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.HISTORY_LIST_ROW_MAPPER;
@@ -65,6 +69,10 @@ import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapper
 @Service("externalHistoryConfigInfoPersistServiceImpl")
 public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfigInfoPersistService {
     
+    private static final String OP_DELETE = "D";
+    
+    private static final Pattern PARTITION_NAME_PATTERN = Pattern.compile("\\w+");
+    
     private DataSourceService dataSourceService;
     
     protected JdbcTemplate jt;
@@ -73,6 +81,11 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
     
     private MapperManager mapperManager;
     
+    /**
+     * Writer of history records except deletions, {@code null} if history is written synchronously.
+     */
+    private AsyncHistoryConfigWriter historyWriter;
+    
     public ExternalHistoryConfigInfoPersistServiceImpl() {
         this.dataSourceService = DynamicDataSource.getInstance().getDataSource();
         this.jt = dataSourceService.getJdbcTemplate();
@@ -80,6 +93,28 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         Boolean isDataSourceLogEnable = EnvUtil.getProperty(CommonConstant.NACOS_PLUGIN_DATASOURCE_LOG, Boolean.class,
                 false);
         this.mapperManager = MapperManager.instance(isDataSourceLogEnable);
+        int historyAsyncQueueSize = PropertyUtil.getHistoryAsyncQueueSize();
+        if (historyAsyncQueueSize > 0) {
+            // Queue might be flushed in the transaction of config change, which should not roll back queued records.
+            TransactionTemplate historyTjt = new TransactionTemplate(tjt.getTransactionManager(), tjt);
+            historyTjt.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.historyWriter = new AsyncHistoryConfigWriter(historyAsyncQueueSize,
+                    historyInfos -> historyTjt.execute(status -> {
+                        batchInsertConfigHistoryAtomic(historyInfos);
+                        return null;
+                    }));
+            this.historyWriter.start();
+        }
+    }
+    
+    /**
+     * Flush queued history records before shutdown.
+     */
+    @PreDestroy
+    public void destroy() {
+        if (null != historyWriter) {
+            historyWriter.flush();
+        }
     }
     
     @Override
@@ -90,6 +125,19 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
     @Override
     public void insertConfigHistoryAtomic(long id, ConfigInfo configInfo, String srcIp, String srcUser,
             final Timestamp time, String ops, String publishType, String extInfo) {
+        if (null != historyWriter) {
+            // Deleted configs are found from history by other servers to dump, so deletions are always written in time.
+            if (!OP_DELETE.equals(ops) && historyWriter.write(
+                    buildHistoryInfo(id, configInfo, srcIp, srcUser, time, ops, publishType, extInfo))) {
+                return;
+            }
+            // Write the records committed before first, so that the synchronous record gets larger nid than them.
+            if (!historyWriter.flush()) {
+                LogUtil.FATAL_LOG.warn("[history-write] queued config history can't be written, history of "
+                                + "dataId={}, group={}, tenant={} may be out of order.", configInfo.getDataId(),
+                        configInfo.getGroup(), configInfo.getTenant());
+            }
+        }
         String appNameTmp = StringUtils.defaultEmptyIfBlank(configInfo.getAppName());
         String tenantTmp = StringUtils.defaultEmptyIfBlank(configInfo.getTenant());
         final String md5Tmp = MD5Utils.md5Hex(configInfo.getContent(), Constants.ENCODE);
@@ -110,6 +158,53 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         }
     }
     
+    @Override
+    public void batchInsertConfigHistoryAtomic(List<ConfigHistoryInfo> historyInfos) {
+        if (historyInfos.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(historyInfos.size());
+        for (ConfigHistoryInfo each : historyInfos) {
+            batchArgs.add(new Object[] {each.getId(), each.getDataId(), each.getGroup(),
+                    StringUtils.defaultEmptyIfBlank(each.getTenant()),
+                    StringUtils.defaultEmptyIfBlank(each.getAppName()), each.getContent(),
+                    MD5Utils.md5Hex(each.getContent(), Constants.ENCODE), each.getSrcIp(), each.getSrcUser(),
+                    each.getLastModifiedTime(), each.getOpType(),
+                    StringUtils.defaultEmptyIfBlank(each.getPublishType()), each.getExtInfo(),
+                    StringUtils.defaultEmptyIfBlank(each.getEncryptedDataKey())});
+        }
+        try {
+            HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                    dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+            jt.batchUpdate(historyConfigInfoMapper.insert(
+                    Arrays.asList("id", "data_id", "group_id", "tenant_id", "app_name", "content", "md5", "src_ip",
+                            "src_user", "gmt_modified", "op_type", "publish_type", "ext_info", "encrypted_data_key")),
+                    batchArgs);
+        } catch (DataAccessException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    private ConfigHistoryInfo buildHistoryInfo(long id, ConfigInfo configInfo, String srcIp, String srcUser,
+            Timestamp time, String ops, String publishType, String extInfo) {
+        ConfigHistoryInfo result = new ConfigHistoryInfo();
+        result.setId(id);
+        result.setDataId(configInfo.getDataId());
+        result.setGroup(configInfo.getGroup());
+        result.setTenant(configInfo.getTenant());
+        result.setAppName(configInfo.getAppName());
+        result.setContent(configInfo.getContent());
+        result.setEncryptedDataKey(configInfo.getEncryptedDataKey());
+        result.setSrcIp(srcIp);
+        result.setSrcUser(srcUser);
+        result.setLastModifiedTime(time);
+        result.setOpType(ops);
+        result.setPublishType(publishType);
+        result.setExtInfo(extInfo);
+        return result;
+    }
+    
     @Override
     public void removeConfigHistory(final Timestamp startTime, final int limitSize) {
         HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
@@ -122,6 +217,46 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         paginationHelper.updateLimit(mapperResult.getSql(), mapperResult.getParamList().toArray());
     }
     
+    @Override
+    public void removeConfigHistoryByIdRange(final Timestamp startTime, final long startId, final long endId) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.START_TIME, startTime);
+        context.putWhereParameter(FieldConstant.START_ID, startId);
+        context.putWhereParameter(FieldConstant.END_ID, endId);
+        MapperResult mapperResult = historyConfigInfoMapper.removeConfigHistoryByIdRange(context);
+        try {
+            jt.update(mapperResult.getSql(), mapperResult.getParamList().toArray());
+        } catch (DataAccessException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
+    @Override
+    public void dropConfigHistoryPartition(String partitionName) {
+        // Partition name can't be a parameter of DDL, check it before joined into sql.
+        if (!PARTITION_NAME_PATTERN.matcher(partitionName).matches()) {
+            throw new IllegalArgumentException("Invalid partition name of history table: " + partitionName);
+        }
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.PARTITION_NAME, partitionName);
+        MapperResult mapperResult = historyConfigInfoMapper.dropConfigHistoryPartition(context);
+        if (null == mapperResult) {
+            throw new UnsupportedOperationException(
+                    "Partition of history table is not supported by " + dataSourceService.getDataSourceType());
+        }
+        try {
+            jt.execute(mapperResult.getSql());
+        } catch (DataAccessException e) {
+            LogUtil.FATAL_LOG.error("[db-error] " + e, e);
+            throw e;
+        }
+    }
+    
     @Override
     public List<ConfigInfoStateWrapper> findDeletedConfig(final Timestamp startTime, long startId, int pageSize,
             String publishType) {
@@ -226,6 +361,37 @@ public class ExternalHistoryConfigInfoPersistServiceImpl implements HistoryConfi
         }
     }
     
+    @Override
+    public Long findConfigHistoryMaxIdByTime(final Timestamp startTime) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.START_TIME, startTime);
+        MapperResult mapperResult = historyConfigInfoMapper.findConfigHistoryMaxIdByTime(context);
+        return jt.queryForObject(mapperResult.getSql(), mapperResult.getParamList().toArray(), Long.class);
+    }
+    
+    @Override
+    public Long findConfigHistoryMinId() {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperResult mapperResult = historyConfigInfoMapper.findConfigHistoryMinId(new MapperContext());
+        return jt.queryForObject(mapperResult.getSql(), mapperResult.getParamList().toArray(), Long.class);
+    }
+    
+    @Override
+    public List<String> findExpiredConfigHistoryPartitions(final Timestamp startTime) {
+        HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
+                dataSourceService.getDataSourceType(), TableConstant.HIS_CONFIG_INFO);
+        MapperContext context = new MapperContext();
+        context.putWhereParameter(FieldConstant.START_TIME, startTime);
+        MapperResult mapperResult = historyConfigInfoMapper.findExpiredConfigHistoryPartitions(context);
+        if (null == mapperResult) {
+            return Collections.emptyList();
+        }
+        return jt.queryForList(mapperResult.getSql(), mapperResult.getParamList().toArray(), String.class);
+    }
+    
     @Override
     public int findConfigHistoryCountByTime(final Timestamp startTime) {
         HistoryConfigInfoMapper historyConfigInfoMapper = mapperManager.findMapper(
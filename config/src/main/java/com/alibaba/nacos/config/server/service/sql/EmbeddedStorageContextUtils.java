@@ -59,6 +59,31 @@ public class EmbeddedStorageContextUtils {
         }
     }
     
+    /**
+     * In the case of the in-cluster storage mode, the logic of horizontal notification is implemented asynchronously
+     * via the raft state machine, along with the information of all modified configs.
+     *
+     * @param configInfos modified configs
+     * @param srcIp       The IP of the operator
+     * @param time        Operating time
+     */
+    public static void onBatchModifyConfigInfo(List<? extends ConfigInfo> configInfos, String srcIp, Timestamp time) {
+        if (!EnvUtil.getStandaloneMode()) {
+            List<ConfigDumpEvent> events = new ArrayList<>(configInfos.size());
+            for (ConfigInfo configInfo : configInfos) {
+                ConfigDumpEvent event = ConfigDumpEvent.builder().remove(false).namespaceId(configInfo.getTenant())
+                        .dataId(configInfo.getDataId()).group(configInfo.getGroup()).isBeta(false)
+                        .content(configInfo.getContent()).type(configInfo.getType()).handleIp(srcIp)
+                        .lastModifiedTs(time.getTime()).encryptedDataKey(configInfo.getEncryptedDataKey()).build();
+                events.add(event);
+            }
+            
+            Map<String, String> extendInfo = new HashMap<>(2);
+            extendInfo.put(Constants.EXTEND_INFOS_CONFIG_DUMP_EVENT, JacksonUtils.toJson(events));
+            EmbeddedStorageContextHolder.putAllExtendInfo(extendInfo);
+        }
+    }
+    
     /**
      * In the case of the in-cluster storage mode, the logic of horizontal notification is implemented asynchronously
      * via the raft state machine, along with the information.
@@ -61,6 +61,9 @@ public final class ConfigExecutor {
             ClassUtils.getCanonicalName(Config.class), ThreadUtils.getSuitableThreadCount(),
             new NameThreadFactory("com.alibaba.nacos.config.server.remote.ConfigChangeNotifier"));
     
+    private static final ScheduledExecutorService HISTORY_WRITE_EXECUTOR = ExecutorFactory.Managed.newSingleScheduledExecutorService(
+            ClassUtils.getCanonicalName(Config.class), new NameThreadFactory("com.alibaba.nacos.config.HistoryWriter"));
+    
     public static void scheduleConfigTask(Runnable command, long initialDelay, long delay, TimeUnit unit) {
         TIMER_EXECUTOR.scheduleWithFixedDelay(command, initialDelay, delay, unit);
     }
@@ -116,4 +119,8 @@ public final class ConfigExecutor {
     public static void executeLongPolling(Runnable runnable) {
         LONG_POLLING_EXECUTOR.execute(runnable);
     }
+    
+    public static void scheduleHistoryWriteTask(Runnable runnable, long initialDelay, long delay, TimeUnit unit) {
+        HISTORY_WRITE_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
+    }
 }
@@ -91,6 +91,13 @@ public class ConfigExtInfoUtil {
      * Extract the extInfo from all config info.
      */
     public static String getExtInfoFromAllInfo(ConfigAllInfo configAllInfo) {
+        return getExtInfoFromAllInfo(configAllInfo, configAllInfo.getCreateUser());
+    }
+    
+    /**
+     * Extract the extInfo from all config info which is published by srcUser.
+     */
+    public static String getExtInfoFromAllInfo(ConfigAllInfo configAllInfo, String srcUser) {
         ObjectNode node = OBJECT_MAPPER.createObjectNode();
         
         if (StringUtils.isNotBlank(configAllInfo.getType())) {
@@ -102,8 +109,8 @@ public class ConfigExtInfoUtil {
         if (StringUtils.isNotBlank(configAllInfo.getEffect())) {
             node.put("effect", configAllInfo.getEffect());
         }
-        if (StringUtils.isNotBlank(configAllInfo.getCreateUser())) {
-            node.put("src_user", configAllInfo.getCreateUser());
+        if (StringUtils.isNotBlank(srcUser)) {
+            node.put("src_user", srcUser);
         }
         if (StringUtils.isNotBlank(configAllInfo.getDesc())) {
             node.put("c_desc", configAllInfo.getDesc());
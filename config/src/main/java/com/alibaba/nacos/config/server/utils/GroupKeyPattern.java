@@ -0,0 +1,115 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.utils;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.common.utils.GlobUtils;
+import com.alibaba.nacos.common.utils.StringUtils;
+
+/**
+ * Util of fuzzy watch pattern for group key.
+ *
+ * <p>Pattern and group key are both formatted as {@code tenant+group+dataId}, in which each part is encoded like
+ * {@link GroupKey2}. The order makes the literal prefix of pattern, which is the part before the first {@code *}, as
+ * long as possible for index. The {@code *} in pattern matches any characters except the separator {@code +}, so
+ * that each part only matches the same part of group key.
+ *
+ * @author xiweng.yy
+ */
+public class GroupKeyPattern {
+    
+    private static final char WILDCARD = Constants.Config.FUZZY_WATCH_PATTERN_WILDCARD.charAt(0);
+    
+    private static final char SEPARATOR = '+';
+    
+    /**
+     * Generate pattern from the patterns of dataId and group.
+     *
+     * @param dataIdPattern pattern of dataId
+     * @param groupPattern  pattern of group
+     * @param tenant        tenant
+     * @return pattern
+     */
+    public static String generatePattern(String dataIdPattern, String groupPattern, String tenant) {
+        return generateKey(dataIdPattern, groupPattern, tenant);
+    }
+    
+    /**
+     * Generate the key of config to match pattern.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return key to match pattern
+     */
+    public static String generateKey(String dataId, String group, String tenant) {
+        StringBuilder sb = new StringBuilder();
+        if (StringUtils.isNotEmpty(tenant)) {
+            GroupKey2.urlEncode(tenant, sb);
+        }
+        sb.append(SEPARATOR);
+        GroupKey2.urlEncode(group, sb);
+        sb.append(SEPARATOR);
+        GroupKey2.urlEncode(dataId, sb);
+        return sb.toString();
+    }
+    
+    /**
+     * Generate the key of config from group key.
+     *
+     * @param groupKey group key of {@link GroupKey2}
+     * @return key to match pattern
+     */
+    public static String generateKey(String groupKey) {
+        String[] parsed = GroupKey2.parseKey(groupKey);
+        return generateKey(parsed[0], parsed[1], parsed[2]);
+    }
+    
+    /**
+     * Whether the part of pattern is valid, only valid characters of {@link ParamUtils#isValid(String)} and {@code *}
+     * are allowed.
+     *
+     * @param patternPart pattern of dataId or group
+     * @return {@code true} if valid
+     */
+    public static boolean isValidPatternPart(String patternPart) {
+        return StringUtils.isNotBlank(patternPart) && ParamUtils.isValid(
+                patternPart.replace(Constants.Config.FUZZY_WATCH_PATTERN_WILDCARD, StringUtils.EMPTY));
+    }
+    
+    /**
+     * Get the literal prefix before the first wildcard.
+     *
+     * @param pattern pattern
+     * @return literal prefix
+     */
+    public static String getLiteralPrefix(String pattern) {
+        int index = pattern.indexOf(WILDCARD);
+        return index < 0 ? pattern : pattern.substring(0, index);
+    }
+    
+    /**
+     * Whether the key matches the pattern.
+     *
+     * @param pattern pattern
+     * @param key     key generated by {@link #generateKey(String, String, String)}
+     * @return {@code true} if matched
+     */
+    public static boolean isMatch(String pattern, String key) {
+        return GlobUtils.isMatch(pattern, key, SEPARATOR);
+    }
+}
@@ -221,6 +221,31 @@ public class ParamUtils {
         }
     }
     
+    /**
+     * Parse the cursor of keyset pagination, blank means the first page.
+     *
+     * @param cursor cursor returned by the previous page
+     * @return id of the last item of previous page
+     * @throws NacosApiException if the cursor is not a non-negative number
+     */
+    public static long parseCursor(String cursor) throws NacosApiException {
+        if (StringUtils.isBlank(cursor)) {
+            return 0L;
+        }
+        long lastId;
+        try {
+            lastId = Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new NacosApiException(HttpStatus.BAD_REQUEST.value(), ErrorCode.PARAMETER_VALIDATE_ERROR,
+                    "invalid cursor : " + cursor);
+        }
+        if (lastId < 0) {
+            throw new NacosApiException(HttpStatus.BAD_REQUEST.value(), ErrorCode.PARAMETER_VALIDATE_ERROR,
+                    "invalid cursor : " + cursor);
+        }
+        return lastId;
+    }
+    
     /**
      * Check the namespaceId for [v2].
      */
@@ -118,6 +118,28 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static long dumpChangeWorkerInterval = 30 * 1000L;
     
+    /**
+     * Max bytes of config contents cached in memory, disable content cache if not positive, default 32MB.
+     */
+    private static long contentCacheMaxSize = 32 * 1024 * 1024L;
+    
+    /**
+     * Count of concurrent id range readers when dumping all configs on startup, default 4.
+     */
+    private static int dumpAllReaderCount = 4;
+    
+    /**
+     * Max bytes of config content pushed inline with change notification, disable inline push if not positive, default
+     * disabled.
+     */
+    private static int pushContentMaxSize = 0;
+    
+    /**
+     * Max count of config history records queued to be written asynchronously in batch with external storage, write
+     * history synchronously if not positive, default disabled.
+     */
+    private static int historyAsyncQueueSize = 0;
+    
     public static boolean isDumpChangeOn() {
         return dumpChangeOn;
     }
@@ -130,6 +152,38 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         return dumpChangeWorkerInterval;
     }
     
+    public static long getContentCacheMaxSize() {
+        return contentCacheMaxSize;
+    }
+    
+    public static void setContentCacheMaxSize(long contentCacheMaxSize) {
+        PropertyUtil.contentCacheMaxSize = contentCacheMaxSize;
+    }
+    
+    public static int getDumpAllReaderCount() {
+        return dumpAllReaderCount;
+    }
+    
+    public static void setDumpAllReaderCount(int dumpAllReaderCount) {
+        PropertyUtil.dumpAllReaderCount = dumpAllReaderCount;
+    }
+    
+    public static int getPushContentMaxSize() {
+        return pushContentMaxSize;
+    }
+    
+    public static void setPushContentMaxSize(int pushContentMaxSize) {
+        PropertyUtil.pushContentMaxSize = pushContentMaxSize;
+    }
+    
+    public static int getHistoryAsyncQueueSize() {
+        return historyAsyncQueueSize;
+    }
+    
+    public static void setHistoryAsyncQueueSize(int historyAsyncQueueSize) {
+        PropertyUtil.historyAsyncQueueSize = historyAsyncQueueSize;
+    }
+    
     public static void setDumpChangeWorkerInterval(long dumpChangeWorkerInterval) {
         PropertyUtil.dumpChangeWorkerInterval = dumpChangeWorkerInterval;
     }
@@ -323,6 +377,10 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDumpChangeWorkerInterval(
                     getLong(PropertiesConstant.DUMP_CHANGE_WORKER_INTERVAL, dumpChangeWorkerInterval));
             setGrayCompatibleModel(getBoolean(PropertiesConstant.GRAY_CAPATIBEL_MODEL, grayCompatibleModel));
+            setContentCacheMaxSize(getLong(PropertiesConstant.CONTENT_CACHE_MAX_SIZE, contentCacheMaxSize));
+            setDumpAllReaderCount(getInt(PropertiesConstant.DUMP_ALL_READER_COUNT, dumpAllReaderCount));
+            setPushContentMaxSize(getInt(PropertiesConstant.PUSH_CONTENT_MAX_SIZE, pushContentMaxSize));
+            setHistoryAsyncQueueSize(getInt(PropertiesConstant.HISTORY_ASYNC_QUEUE_SIZE, historyAsyncQueueSize));
             
         } catch (Exception e) {
             LOGGER.error("read application.properties failed", e);
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.utils;
 
+import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.config.server.constant.Constants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,10 +24,13 @@ import org.slf4j.LoggerFactory;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
@@ -104,8 +108,7 @@ public class ZipUtils {
         try (ByteArrayOutputStream byteOut = new ByteArrayOutputStream(); ZipOutputStream zipOut = new ZipOutputStream(
                 byteOut)) {
             for (ZipItem item : source) {
-                zipOut.putNextEntry(new ZipEntry(item.getItemName()));
-                zipOut.write(item.getItemData().getBytes(StandardCharsets.UTF_8));
+                putItem(zipOut, item.getItemName(), item.getItemData());
             }
             zipOut.flush();
             zipOut.finish();
@@ -116,6 +119,20 @@ public class ZipUtils {
         return result;
     }
     
+    /**
+     * Write one item into zip output stream, so that items can be written to the target stream one by one.
+     *
+     * @param zipOut   zip output stream
+     * @param itemName item name
+     * @param itemData item data
+     * @throws IOException if write failed
+     */
+    public static void putItem(ZipOutputStream zipOut, String itemName, String itemData) throws IOException {
+        zipOut.putNextEntry(new ZipEntry(itemName));
+        zipOut.write(itemData.getBytes(StandardCharsets.UTF_8));
+        zipOut.closeEntry();
+    }
+    
     /**
      * unzip method.
      */
@@ -154,4 +171,58 @@ public class ZipUtils {
         return new UnZipResult(itemList, metaDataItem);
     }
     
+    /**
+     * Read the metadata item of zip file, the first metadata entry is used if there are more than one.
+     *
+     * @param zipFile zip file
+     * @return metadata item, {@code null} if not exist
+     * @throws IOException if read failed
+     */
+    public static ZipItem readMetaDataItem(ZipFile zipFile) throws IOException {
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            String entryName = entry.getName();
+            if (!entry.isDirectory() && (Constants.CONFIG_EXPORT_METADATA.equals(entryName)
+                    || Constants.CONFIG_EXPORT_METADATA_NEW.equals(entryName))) {
+                return new ZipItem(entryName, readItemData(zipFile, entry));
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Get the entries of config items in zip file without reading their data, so that items can be read one by one.
+     *
+     * @param zipFile      zip file
+     * @param metaDataItem metadata item which is excluded, might be {@code null}
+     * @return entries of config items
+     */
+    public static List<ZipEntry> getItemEntries(ZipFile zipFile, ZipItem metaDataItem) {
+        List<ZipEntry> result = new ArrayList<>(zipFile.size());
+        Enumeration<? extends ZipEntry> entries = zipFile.entries();
+        while (entries.hasMoreElements()) {
+            ZipEntry entry = entries.nextElement();
+            if (entry.isDirectory() || (null != metaDataItem && metaDataItem.getItemName().equals(entry.getName()))) {
+                continue;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+    
+    /**
+     * Read data of one entry in zip file.
+     *
+     * @param zipFile zip file
+     * @param entry   entry
+     * @return data of entry as UTF-8 string
+     * @throws IOException if read failed
+     */
+    public static String readItemData(ZipFile zipFile, ZipEntry entry) throws IOException {
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            return IoUtils.toString(in, StandardCharsets.UTF_8.name());
+        }
+    }
+    
 }
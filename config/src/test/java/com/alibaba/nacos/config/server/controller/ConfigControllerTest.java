@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.controller;
 
+import com.alibaba.nacos.api.exception.api.NacosApiException;
 import com.alibaba.nacos.common.http.param.MediaType;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
@@ -40,17 +41,20 @@ import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistServi
 import com.alibaba.nacos.config.server.utils.YamlParserUtil;
 import com.alibaba.nacos.config.server.utils.ZipUtils;
 import com.alibaba.nacos.core.namespace.repository.NamespacePersistService;
+import com.alibaba.nacos.persistence.model.CursorPage;
 import com.alibaba.nacos.persistence.model.Page;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.springframework.core.env.StandardEnvironment;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.mock.web.MockServletContext;
 import org.springframework.test.context.ContextConfiguration;
@@ -65,17 +69,24 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import javax.servlet.ServletContext;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -344,6 +355,49 @@ class ConfigControllerTest {
         assertEquals(configInfo.getContent(), resConfigInfo.getContent());
     }
     
+    @Test
+    void testSearchConfigByCursor() throws Exception {
+        
+        List<ConfigInfo> configInfoList = new ArrayList<>();
+        ConfigInfo configInfo = new ConfigInfo("test", "test", "test");
+        configInfo.setId(20L);
+        configInfoList.add(configInfo);
+        
+        CursorPage<ConfigInfo> page = new CursorPage<>();
+        page.setPageItems(configInfoList);
+        page.setNextCursor("20");
+        Map<String, Object> configAdvanceInfo = new HashMap<>(8);
+        
+        when(configInfoPersistService.findConfigInfo4Cursor(10L, 1, "test", "test", "", configAdvanceInfo)).thenReturn(
+                page);
+        
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_CONTROLLER_PATH + "/cursor")
+                .param("search", "accurate").param("dataId", "test").param("group", "test").param("appName", "")
+                .param("tenant", "").param("config_tags", "").param("cursor", "10").param("pageSize", "1");
+        
+        String actualValue = mockmvc.perform(builder).andReturn().getResponse().getContentAsString();
+        
+        ConfigInfo resConfigInfo = JacksonUtils.toObj(
+                JacksonUtils.toObj(actualValue).get("pageItems").get(0).toString(), ConfigInfo.class);
+        
+        assertEquals("20", JacksonUtils.toObj(actualValue).get("nextCursor").asText());
+        assertEquals(configInfo.getDataId(), resConfigInfo.getDataId());
+        assertEquals(configInfo.getContent(), resConfigInfo.getContent());
+    }
+    
+    @Test
+    void testSearchConfigByMalformedCursor() {
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_CONTROLLER_PATH + "/cursor")
+                .param("search", "blur").param("dataId", "test").param("group", "test").param("cursor", "abc")
+                .param("pageSize", "1");
+        
+        Exception exception = assertThrows(Exception.class, () -> mockmvc.perform(builder));
+        assertTrue(exception.getCause() instanceof NacosApiException);
+        assertEquals(HttpStatus.BAD_REQUEST.value(), ((NacosApiException) exception.getCause()).getErrCode());
+        verify(configInfoPersistService, never()).findConfigInfoLike4Cursor(anyLong(), anyInt(), any(), any(), any(),
+                any());
+    }
+    
     @Test
     void testStopBeta() throws Exception {
         
@@ -402,15 +456,20 @@ class ConfigControllerTest {
         List<ConfigAllInfo> dataList = new ArrayList<>();
         dataList.add(configAllInfo);
         
-        Mockito.when(configInfoPersistService.findAllConfigInfo4Export(eq(dataId), eq(group), eq(tenant), eq(appname),
-                eq(Arrays.asList(1L, 2L)))).thenReturn(dataList);
+        Mockito.when(configInfoPersistService.findAllConfigInfo4ExportByCursor(eq(0L), anyInt(), eq(dataId), eq(group),
+                eq(tenant), eq(appname), eq(Arrays.asList(1L, 2L)))).thenReturn(dataList);
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_CONTROLLER_PATH)
                 .param("export", "true").param("dataId", dataId).param("group", group).param("tenant", tenant)
                 .param("appName", appname).param("ids", "1,2");
         
-        int actualValue = mockmvc.perform(builder).andReturn().getResponse().getStatus();
+        MockHttpServletResponse response = mockmvc.perform(builder).andReturn().getResponse();
         
-        assertEquals(200, actualValue);
+        assertEquals(200, response.getStatus());
+        ZipUtils.UnZipResult unZipResult = ZipUtils.unzip(response.getContentAsByteArray());
+        assertEquals(1, unZipResult.getZipItemList().size());
+        assertEquals(group + "/" + dataId, unZipResult.getZipItemList().get(0).getItemName());
+        assertEquals("contet45678", unZipResult.getZipItemList().get(0).getItemData());
+        assertEquals(group + ".dataId1~json.app=" + appname + "\r\n", unZipResult.getMetaDataItem().getItemData());
     }
     
     @Test
@@ -427,30 +486,36 @@ class ConfigControllerTest {
         configAllInfo.setContent("content1234");
         List<ConfigAllInfo> dataList = new ArrayList<>();
         dataList.add(configAllInfo);
-        Mockito.when(configInfoPersistService.findAllConfigInfo4Export(eq(dataId), eq(group), eq(tenant), eq(appname),
-                eq(Arrays.asList(1L, 2L)))).thenReturn(dataList);
+        Mockito.when(configInfoPersistService.findAllConfigInfo4ExportByCursor(eq(0L), anyInt(), eq(dataId), eq(group),
+                eq(tenant), eq(appname), eq(Arrays.asList(1L, 2L)))).thenReturn(dataList);
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(Constants.CONFIG_CONTROLLER_PATH)
                 .param("exportV2", "true").param("dataId", dataId).param("group", group).param("tenant", tenant)
                 .param("appName", appname).param("ids", "1,2");
         
-        int actualValue = mockmvc.perform(builder).andReturn().getResponse().getStatus();
+        MockHttpServletResponse response = mockmvc.perform(builder).andReturn().getResponse();
         
-        assertEquals(200, actualValue);
+        assertEquals(200, response.getStatus());
+        ZipUtils.UnZipResult unZipResult = ZipUtils.unzip(response.getContentAsByteArray());
+        assertEquals(1, unZipResult.getZipItemList().size());
+        assertEquals("content1234", unZipResult.getZipItemList().get(0).getItemData());
+        ConfigMetadata configMetadata = YamlParserUtil.loadObject(unZipResult.getMetaDataItem().getItemData(),
+                ConfigMetadata.class);
+        assertEquals(dataId, configMetadata.getMetadata().get(0).getDataId());
     }
     
     @Test
     void testImportAndPublishConfig() throws Exception {
-        MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class);
         List<ZipUtils.ZipItem> zipItems = new ArrayList<>();
-        ZipUtils.ZipItem zipItem = new ZipUtils.ZipItem("test/test", "test");
-        zipItems.add(zipItem);
-        ZipUtils.UnZipResult unziped = new ZipUtils.UnZipResult(zipItems, null);
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
+        zipItems.add(new ZipUtils.ZipItem("test/test", "test"));
+        zipItems.add(new ZipUtils.ZipItem("unrecognized", "test"));
+        zipItems.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA, "test.test.app=app"));
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip",
+                ZipUtils.zip(zipItems));
         
-        zipUtilsMockedStatic.when(() -> ZipUtils.unzip(file.getBytes())).thenReturn(unziped);
         when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
         Map<String, Object> map = new HashMap<>();
-        map.put("test", "test");
+        map.put("succCount", 1);
+        map.put("skipCount", 0);
         when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
                 any())).thenReturn(map);
         
@@ -462,11 +527,46 @@ class ConfigControllerTest {
         
         String code = JacksonUtils.toObj(actualValue).get("code").toString();
         assertEquals("200", code);
-        Map<String, Object> resultMap = JacksonUtils.toObj(JacksonUtils.toObj(actualValue).get("data").toString(),
-                Map.class);
-        assertEquals(map.get("test"), resultMap.get("test").toString());
+        JsonNode data = JacksonUtils.toObj(actualValue).get("data");
+        assertEquals(1, data.get("succCount").asInt());
+        assertEquals(1, data.get("unrecognizedCount").asInt());
+        ArgumentCaptor<List<ConfigAllInfo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(configInfoPersistService).batchInsertOrUpdate(captor.capture(), anyString(), anyString(), any(), any());
+        assertEquals("app", captor.getValue().get(0).getAppName());
+    }
+    
+    @Test
+    void testImportAndPublishConfigInBatches() throws Exception {
+        List<ZipUtils.ZipItem> zipItems = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            zipItems.add(new ZipUtils.ZipItem("test/test" + i, "test"));
+        }
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip",
+                ZipUtils.zip(zipItems));
+        
+        when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
+        Map<String, Object> failedResult = new HashMap<>();
+        failedResult.put("succCount", 10);
+        failedResult.put("skipCount", 89);
+        failedResult.put("failData", new ArrayList<>(Collections.singletonList(new HashMap<>())));
+        when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
+                any())).thenReturn(failedResult);
         
-        zipUtilsMockedStatic.close();
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.multipart(Constants.CONFIG_CONTROLLER_PATH)
+                .file(file).param("import", "true").param("src_user", "test").param("namespace", "public")
+                .param("policy", "ABORT");
+        
+        String actualValue = mockmvc.perform(builder).andReturn().getResponse().getContentAsString();
+        
+        JsonNode data = JacksonUtils.toObj(actualValue).get("data");
+        // first batch aborted, the remaining configs are skipped without saving.
+        verify(configInfoPersistService, times(1)).batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
+                any());
+        assertEquals(10, data.get("succCount").asInt());
+        assertEquals(139, data.get("skipCount").asInt());
+        assertEquals(50, data.get("skipData").size());
+        assertEquals(150, data.get("totalCount").asInt());
+        assertEquals(1, data.get("batchCount").asInt());
     }
     
     @Test
@@ -485,14 +585,19 @@ class ConfigControllerTest {
         configExportItem.setType("json");
         configExportItem.setAppName("appna123");
         configMetadata.getMetadata().add(configExportItem);
-        ZipUtils.UnZipResult unziped = new ZipUtils.UnZipResult(zipItems,
+        ConfigMetadata.ConfigExportItem missingItem = new ConfigMetadata.ConfigExportItem();
+        missingItem.setDataId("missing");
+        missingItem.setGroup(group);
+        missingItem.setType("text");
+        configMetadata.getMetadata().add(missingItem);
+        zipItems.add(
                 new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, YamlParserUtil.dumpObject(configMetadata)));
-        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip", "test".getBytes());
-        MockedStatic<ZipUtils> zipUtilsMockedStatic = Mockito.mockStatic(ZipUtils.class);
-        zipUtilsMockedStatic.when(() -> ZipUtils.unzip(eq(file.getBytes()))).thenReturn(unziped);
+        MockMultipartFile file = new MockMultipartFile("file", "test.zip", "application/zip",
+                ZipUtils.zip(zipItems));
         when(namespacePersistService.tenantInfoCountByTenantId("public")).thenReturn(1);
         Map<String, Object> map = new HashMap<>();
-        map.put("test", "test");
+        map.put("succCount", 1);
+        map.put("skipCount", 0);
         when(configInfoPersistService.batchInsertOrUpdate(anyList(), anyString(), anyString(), any(),
                 any())).thenReturn(map);
         
@@ -504,11 +609,13 @@ class ConfigControllerTest {
         
         String code = JacksonUtils.toObj(actualValue).get("code").toString();
         assertEquals("200", code);
-        Map<String, Object> resultMap = JacksonUtils.toObj(JacksonUtils.toObj(actualValue).get("data").toString(),
-                Map.class);
-        assertEquals(map.get("test"), resultMap.get("test").toString());
-        
-        zipUtilsMockedStatic.close();
+        JsonNode data = JacksonUtils.toObj(actualValue).get("data");
+        assertEquals(1, data.get("succCount").asInt());
+        assertEquals(1, data.get("unrecognizedCount").asInt());
+        ArgumentCaptor<List<ConfigAllInfo>> captor = ArgumentCaptor.forClass(List.class);
+        verify(configInfoPersistService).batchInsertOrUpdate(captor.capture(), anyString(), anyString(), any(), any());
+        assertEquals("json", captor.getValue().get(0).getType());
+        assertEquals("appna123", captor.getValue().get(0).getAppName());
     }
     
     @Test
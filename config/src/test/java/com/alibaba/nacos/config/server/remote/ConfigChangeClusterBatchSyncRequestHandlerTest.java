@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.config.server.service.ConfigGrayModelMigrateService;
+import com.alibaba.nacos.config.server.service.dump.DumpRequest;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigChangeClusterBatchSyncRequestHandlerTest {
+    
+    private ConfigChangeClusterBatchSyncRequestHandler configChangeClusterBatchSyncRequestHandler;
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @Mock
+    private ConfigGrayModelMigrateService configGrayModelMigrateService;
+    
+    @BeforeEach
+    void setUp() {
+        configChangeClusterBatchSyncRequestHandler = new ConfigChangeClusterBatchSyncRequestHandler(
+                new ConfigChangeClusterSyncRequestHandler(dumpService, configGrayModelMigrateService));
+    }
+    
+    @Test
+    void testHandle() throws NacosException {
+        ConfigChangeClusterBatchSyncRequest request = new ConfigChangeClusterBatchSyncRequest();
+        for (int i = 0; i < 3; i++) {
+            ConfigChangeClusterSyncRequest change = new ConfigChangeClusterSyncRequest();
+            change.setDataId("dataId" + i);
+            change.setGroup("group");
+            change.setLastModified(1L);
+            request.addChange(change);
+        }
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        ConfigChangeClusterSyncResponse response = configChangeClusterBatchSyncRequestHandler.handle(request, meta);
+        verify(dumpService, times(3)).dump(any(DumpRequest.class));
+        assertEquals(ResponseCode.SUCCESS.getCode(), response.getResultCode());
+    }
+}
@@ -23,10 +23,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ConfigChangeListenContextTest {
@@ -68,6 +73,91 @@ class ConfigChangeListenContextTest {
         configChangeListenContext.clearContextForConnectionId("connectionId");
         Map<String, String> connectionIdAfter = configChangeListenContext.getListenKeys("connectionId");
         assertNull(connectionIdAfter);
+        assertNull(configChangeListenContext.getListeners("groupKey"));
+    }
+    
+    @Test
+    void testConcurrentReconnect() throws Exception {
+        int threads = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(1);
+        Future<?>[] futures = new Future[threads];
+        try {
+            for (int i = 0; i < threads; i++) {
+                final String connectionId = "connectionId" + i;
+                futures[i] = executorService.submit(() -> {
+                    latch.await();
+                    for (int round = 0; round < 100; round++) {
+                        for (int key = 0; key < 100; key++) {
+                            configChangeListenContext.addListen("groupKey" + key, "md5", connectionId);
+                        }
+                        configChangeListenContext.clearContextForConnectionId(connectionId);
+                    }
+                    configChangeListenContext.addListen("groupKey0", "md5", connectionId);
+                    return null;
+                });
+            }
+            latch.countDown();
+            for (Future<?> each : futures) {
+                each.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(threads, configChangeListenContext.getListeners("groupKey0").size());
+        assertEquals(threads, configChangeListenContext.getConnectionCount());
+        for (int key = 1; key < 100; key++) {
+            assertNull(configChangeListenContext.getListeners("groupKey" + key));
+        }
+    }
+    
+    @Test
+    void testAddListenWithNullMd5() {
+        configChangeListenContext.addListen("groupKey", null, "connectionId");
+        assertEquals(1, configChangeListenContext.getListeners("groupKey").size());
+        assertEquals("", configChangeListenContext.getListenKeyMd5("connectionId", "groupKey"));
+        assertTrue(configChangeListenContext.getListenKeys("connectionId").containsKey("groupKey"));
+    }
+    
+    @Test
+    void testAddListenRaceWithClear() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 100; round++) {
+                final String connectionId = "connectionId" + round;
+                CountDownLatch latch = new CountDownLatch(1);
+                Future<?> addFuture = executorService.submit(() -> {
+                    latch.await();
+                    for (int key = 0; key < 100; key++) {
+                        configChangeListenContext.addListen("groupKey" + key, "md5", connectionId);
+                    }
+                    return null;
+                });
+                Future<?> clearFuture = executorService.submit(() -> {
+                    latch.await();
+                    for (int i = 0; i < 100; i++) {
+                        configChangeListenContext.clearContextForConnectionId(connectionId);
+                    }
+                    return null;
+                });
+                latch.countDown();
+                addFuture.get();
+                clearFuture.get();
+                Map<String, String> listenKeys = configChangeListenContext.getListenKeys(connectionId);
+                for (int key = 0; key < 100; key++) {
+                    Set<String> listeners = configChangeListenContext.getListeners("groupKey" + key);
+                    boolean listened = null != listenKeys && listenKeys.containsKey("groupKey" + key);
+                    assertEquals(listened, null != listeners && listeners.contains(connectionId));
+                }
+                configChangeListenContext.clearContextForConnectionId(connectionId);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(0, configChangeListenContext.getConnectionCount());
+        for (int key = 0; key < 100; key++) {
+            assertNull(configChangeListenContext.getListeners("groupKey" + key));
+        }
     }
     
     @Test
@@ -16,10 +16,15 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.ConfigContentCache;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcPushService;
@@ -33,6 +38,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -47,6 +53,10 @@ import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
@@ -144,6 +154,63 @@ class RpcConfigChangeNotifierTest {
         
     }
     
+    @Test
+    void testOnDataEventWithPushedContent() throws InterruptedException {
+        final String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        Set<String> mockConnectionIds = new HashSet<>();
+        mockConnectionIds.add("con1");
+        mockConnectionIds.add("con2");
+        GrpcConnection mockConn1 = Mockito.mock(GrpcConnection.class);
+        GrpcConnection mockConn2 = Mockito.mock(GrpcConnection.class);
+        Mockito.when(connectionManager.getConnection(eq("con1"))).thenReturn(mockConn1);
+        Mockito.when(connectionManager.getConnection(eq("con2"))).thenReturn(mockConn2);
+        Mockito.when(mockConn1.getMetaInfo()).thenReturn(
+                new ConnectionMeta("con1", "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "2.2.0", null,
+                        new HashMap<>()));
+        Mockito.when(mockConn2.getMetaInfo()).thenReturn(
+                new ConnectionMeta("con2", "192.168.0.1", "192.168.0.2", 34567, 9848, "GRPC", "2.2.0", null,
+                        new HashMap<>()));
+        // con1 support pushed content, con2 is old client.
+        Mockito.when(mockConn1.isAbilitySupported(AbilityKey.SDK_CLIENT_SUPPORT_PUSH_CONFIG_CONTENT)).thenReturn(true);
+        Mockito.when(configChangeListenContext.getListeners(eq(groupKey))).thenReturn(mockConnectionIds);
+        Mockito.when(tpsControlManager.check(any(TpsCheckRequest.class)))
+                .thenReturn(new TpsCheckResponse(true, 200, "success"));
+        
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.getConfigCache().setMd5Utf8("md5");
+        cacheItem.getConfigCache().setLastModifiedTs(1L);
+        ConfigContentCache contentCache = Mockito.mock(ConfigContentCache.class);
+        int originalMaxSize = PropertyUtil.getPushContentMaxSize();
+        PropertyUtil.setPushContentMaxSize(1024);
+        try (MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito.mockStatic(
+                ConfigCacheService.class);
+                MockedStatic<ConfigContentCache> contentCacheMockedStatic = Mockito.mockStatic(
+                        ConfigContentCache.class)) {
+            configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryConfigReadLock(groupKey)).thenReturn(1);
+            configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(groupKey))
+                    .thenReturn(cacheItem);
+            contentCacheMockedStatic.when(ConfigContentCache::getInstance).thenReturn(contentCache);
+            Mockito.when(contentCache.getContent(cacheItem.getConfigCache(), "dataId", "group", "tenant"))
+                    .thenReturn("content");
+            rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey));
+            //wait rpc push executed.
+            Thread.sleep(50L);
+        } finally {
+            PropertyUtil.setPushContentMaxSize(originalMaxSize);
+        }
+        ArgumentCaptor<ConfigChangeNotifyRequest> captor1 = ArgumentCaptor.forClass(ConfigChangeNotifyRequest.class);
+        Mockito.verify(rpcPushService).pushWithCallback(eq("con1"), captor1.capture(),
+                any(RpcConfigChangeNotifier.RpcPushCallback.class), any(Executor.class));
+        assertTrue(captor1.getValue().isContentPushed());
+        assertEquals("content", captor1.getValue().getContent());
+        assertEquals("md5", captor1.getValue().getMd5());
+        ArgumentCaptor<ConfigChangeNotifyRequest> captor2 = ArgumentCaptor.forClass(ConfigChangeNotifyRequest.class);
+        Mockito.verify(rpcPushService).pushWithCallback(eq("con2"), captor2.capture(),
+                any(RpcConfigChangeNotifier.RpcPushCallback.class), any(Executor.class));
+        assertFalse(captor2.getValue().isContentPushed());
+        assertNull(captor2.getValue().getContent());
+    }
+    
     @Test
     void testRpcCallBack() {
         MockedStatic<ConfigExecutor> configExecutorMockedStatic = Mockito.mockStatic(ConfigExecutor.class);
@@ -0,0 +1,113 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.model.ConfigCache;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskService;
+import com.alibaba.nacos.config.server.service.dump.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConfigContentCacheTest {
+    
+    private final ConfigContentCache contentCache = new ConfigContentCache();
+    
+    private long originalMaxSize;
+    
+    private MockedStatic<ConfigDiskServiceFactory> configDiskServiceFactoryMockedStatic;
+    
+    private ConfigDiskService configDiskService;
+    
+    @BeforeEach
+    void setUp() {
+        originalMaxSize = PropertyUtil.getContentCacheMaxSize();
+        PropertyUtil.setContentCacheMaxSize(100L);
+        configDiskService = mock(ConfigDiskService.class);
+        configDiskServiceFactoryMockedStatic = Mockito.mockStatic(ConfigDiskServiceFactory.class);
+        configDiskServiceFactoryMockedStatic.when(ConfigDiskServiceFactory::getInstance).thenReturn(configDiskService);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        PropertyUtil.setContentCacheMaxSize(originalMaxSize);
+        configDiskServiceFactoryMockedStatic.close();
+    }
+    
+    @Test
+    void testLoadFromDiskOnlyWhenMiss() throws Exception {
+        ConfigCache configCache = new ConfigCache();
+        when(configDiskService.getContent("dataId", "group", "tenant")).thenReturn("content");
+        assertEquals("content", contentCache.getContent(configCache, "dataId", "group", "tenant"));
+        assertEquals("content", contentCache.getContent(configCache, "dataId", "group", "tenant"));
+        verify(configDiskService, times(1)).getContent("dataId", "group", "tenant");
+        assertEquals(14L, contentCache.getResidentBytes());
+    }
+    
+    @Test
+    void testPutAndInvalidate() {
+        ConfigCache configCache = new ConfigCache();
+        contentCache.put(configCache, "old");
+        assertEquals("old", contentCache.get(configCache));
+        contentCache.put(configCache, "newContent");
+        assertEquals("newContent", contentCache.get(configCache));
+        assertEquals(20L, contentCache.getResidentBytes());
+        contentCache.invalidate(configCache);
+        assertNull(contentCache.get(configCache));
+        assertEquals(0L, contentCache.getResidentBytes());
+        assertEquals(0, contentCache.getResidentCount());
+    }
+    
+    @Test
+    void testAdmitByFrequency() {
+        // Each content takes 40 bytes, so only 2 contents can be resident.
+        ConfigCache cold1 = new ConfigCache();
+        ConfigCache cold2 = new ConfigCache();
+        ConfigCache hot = new ConfigCache();
+        contentCache.put(cold1, "01234567890123456789");
+        contentCache.put(cold2, "01234567890123456789");
+        // Cold content is rejected when full.
+        contentCache.offer(new ConfigCache(), "01234567890123456789");
+        assertEquals(2, contentCache.getResidentCount());
+        for (int i = 0; i < 5; i++) {
+            contentCache.get(hot);
+        }
+        contentCache.offer(hot, "01234567890123456789");
+        assertEquals("01234567890123456789", hot.getContent());
+        assertEquals(2, contentCache.getResidentCount());
+        assertEquals(80L, contentCache.getResidentBytes());
+    }
+    
+    @Test
+    void testDisabled() {
+        PropertyUtil.setContentCacheMaxSize(0L);
+        ConfigCache configCache = new ConfigCache();
+        contentCache.put(configCache, "content");
+        assertNull(contentCache.get(configCache));
+        assertNull(configCache.getContent());
+    }
+}
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.service;
 
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.exception.api.NacosApiException;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigOperateResult;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
@@ -33,8 +34,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.StandardEnvironment;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
@@ -191,6 +199,37 @@ class ConfigOperationServiceTest {
         configRequestInfo.setCasMd5("");
     }
     
+    @Test
+    void testBatchPublishConfig() throws NacosException {
+        List<ConfigForm> configForms = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            ConfigForm configForm = new ConfigForm();
+            configForm.setDataId("test" + i);
+            configForm.setGroup("test");
+            configForm.setContent("test content");
+            configForms.add(configForm);
+        }
+        ConfigRequestInfo configRequestInfo = new ConfigRequestInfo();
+        when(configInfoPersistService.insertOrUpdateBatch(anyList(), any(), any())).thenReturn(
+                Arrays.asList(new ConfigOperateResult(1L, 1L), new ConfigOperateResult(2L, 1L)));
+        List<ConfigOperateResult> results = configOperationService.batchPublishConfig(configForms, configRequestInfo,
+                "");
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccess());
+        verify(configInfoPersistService).insertOrUpdateBatch(anyList(), any(), any());
+        
+        // duplicate config in one batch
+        configForms.get(1).setDataId("test0");
+        assertThrows(NacosApiException.class,
+                () -> configOperationService.batchPublishConfig(configForms, configRequestInfo, ""));
+        
+        // tag is not supported
+        configForms.get(1).setDataId("test1");
+        configForms.get(1).setTag("tag");
+        assertThrows(NacosApiException.class,
+                () -> configOperationService.batchPublishConfig(configForms, configRequestInfo, ""));
+    }
+    
     @Test
     void testDeleteConfig() {
         
@@ -0,0 +1,68 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.utils.GroupKeyPattern;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupKeyPatternIndexTest {
+    
+    private final GroupKeyPatternIndex index = new GroupKeyPatternIndex();
+    
+    @Test
+    void testMatch() {
+        String prefixPattern = GroupKeyPattern.generatePattern("app*", "DEFAULT_GROUP", "tenant");
+        String allGroupPattern = GroupKeyPattern.generatePattern("app.yaml", "*", "tenant");
+        String otherPattern = GroupKeyPattern.generatePattern("app*", "OTHER_GROUP", "tenant");
+        String exactPattern = GroupKeyPattern.generatePattern("app.yaml", "DEFAULT_GROUP", "tenant");
+        assertTrue(index.add(prefixPattern));
+        assertFalse(index.add(prefixPattern));
+        index.add(allGroupPattern);
+        index.add(otherPattern);
+        index.add(exactPattern);
+        assertEquals(4, index.size());
+        Set<String> expected = new HashSet<>();
+        expected.add(prefixPattern);
+        expected.add(allGroupPattern);
+        expected.add(exactPattern);
+        assertEquals(expected, index.match(GroupKeyPattern.generateKey("app.yaml", "DEFAULT_GROUP", "tenant")));
+        assertTrue(index.match(GroupKeyPattern.generateKey("app.yaml", "DEFAULT_GROUP", "")).isEmpty());
+    }
+    
+    @Test
+    void testRemove() {
+        String pattern = GroupKeyPattern.generatePattern("app*", "DEFAULT_GROUP", "tenant");
+        String shorterPattern = GroupKeyPattern.generatePattern("*", "DEFAULT_GROUP", "tenant");
+        index.add(pattern);
+        index.add(shorterPattern);
+        assertFalse(index.remove(GroupKeyPattern.generatePattern("app*", "OTHER_GROUP", "tenant")));
+        assertTrue(index.remove(pattern));
+        assertFalse(index.remove(pattern));
+        String key = GroupKeyPattern.generateKey("app.yaml", "DEFAULT_GROUP", "tenant");
+        assertEquals(1, index.match(key).size());
+        assertTrue(index.remove(shorterPattern));
+        assertTrue(index.isEmpty());
+        assertTrue(index.match(key).isEmpty());
+    }
+}
@@ -121,10 +121,10 @@ class CapacityServiceTest {
     void testInitAllCapacity() {
         List<String> groupList = new ArrayList<>();
         groupList.add("testGroup");
-        when(configInfoPersistService.getGroupIdList(eq(1), eq(500))).thenReturn(groupList);
+        when(configInfoPersistService.getGroupIdListByCursor(eq(""), eq(500))).thenReturn(groupList);
         List<String> tenantList = new ArrayList<>();
         tenantList.add("testTenant");
-        when(configInfoPersistService.getTenantIdList(eq(1), eq(500))).thenReturn(tenantList);
+        when(configInfoPersistService.getTenantIdListByCursor(eq(""), eq(500))).thenReturn(tenantList);
         
         GroupCapacity groupCapacity = new GroupCapacity();
         groupCapacity.setGroup("testGroup");
@@ -0,0 +1,100 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.config.server.service.dump;
+
+import com.alibaba.nacos.config.server.service.repository.HistoryConfigInfoPersistService;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdWatermarkHistoryConfigCleanerTest {
+    
+    @Mock
+    private HistoryConfigInfoPersistService historyConfigInfoPersistService;
+    
+    private MockedStatic<ApplicationUtils> applicationUtilsMockedStatic;
+    
+    @BeforeEach
+    void setUp() {
+        applicationUtilsMockedStatic = Mockito.mockStatic(ApplicationUtils.class);
+        applicationUtilsMockedStatic.when(() -> ApplicationUtils.getBean(HistoryConfigInfoPersistService.class))
+                .thenReturn(historyConfigInfoPersistService);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        applicationUtilsMockedStatic.close();
+    }
+    
+    @Test
+    void testGetName() {
+        assertEquals("idWatermark", HistoryConfigCleanerManager.getHistoryConfigCleaner("idWatermark").getName());
+        assertEquals("partition", HistoryConfigCleanerManager.getHistoryConfigCleaner("partition").getName());
+    }
+    
+    @Test
+    void testCleanByIdWatermark() {
+        when(historyConfigInfoPersistService.findConfigHistoryMaxIdByTime(any(Timestamp.class))).thenReturn(2500L);
+        when(historyConfigInfoPersistService.findConfigHistoryMinId()).thenReturn(100L);
+        new IdWatermarkHistoryConfigCleaner().cleanHistoryConfig();
+        verify(historyConfigInfoPersistService).removeConfigHistoryByIdRange(any(Timestamp.class), eq(100L),
+                eq(1100L));
+        verify(historyConfigInfoPersistService).removeConfigHistoryByIdRange(any(Timestamp.class), eq(1100L),
+                eq(2100L));
+        verify(historyConfigInfoPersistService).removeConfigHistoryByIdRange(any(Timestamp.class), eq(2100L),
+                eq(2501L));
+        verify(historyConfigInfoPersistService, times(3)).removeConfigHistoryByIdRange(any(Timestamp.class),
+                anyLong(), anyLong());
+    }
+    
+    @Test
+    void testCleanWithoutExpiredHistory() {
+        new IdWatermarkHistoryConfigCleaner().cleanHistoryConfig();
+        verify(historyConfigInfoPersistService, never()).removeConfigHistoryByIdRange(any(Timestamp.class),
+                anyLong(), anyLong());
+    }
+    
+    @Test
+    void testCleanByPartition() {
+        when(historyConfigInfoPersistService.findExpiredConfigHistoryPartitions(any(Timestamp.class))).thenReturn(
+                Arrays.asList("p1", "p2"));
+        new PartitionHistoryConfigCleaner().cleanHistoryConfig();
+        verify(historyConfigInfoPersistService).dropConfigHistoryPartition("p1");
+        verify(historyConfigInfoPersistService).dropConfigHistoryPartition("p2");
+        verify(historyConfigInfoPersistService).findConfigHistoryMaxIdByTime(any(Timestamp.class));
+    }
+}
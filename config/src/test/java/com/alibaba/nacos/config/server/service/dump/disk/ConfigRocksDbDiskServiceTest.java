@@ -0,0 +1,129 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.disk;
+
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ConfigRocksDbDiskServiceTest {
+    
+    private MockedStatic<EnvUtil> envUtilMockedStatic;
+    
+    private ConfigRocksDbDiskService diskService;
+    
+    @BeforeEach
+    void setUp() {
+        envUtilMockedStatic = Mockito.mockStatic(EnvUtil.class);
+        envUtilMockedStatic.when(EnvUtil::getNacosHome)
+                .thenReturn(System.getProperty("user.home") + File.separator + "tmp");
+        diskService = new ConfigRocksDbDiskService();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        diskService.clearAll();
+        diskService.clearAllGray();
+        envUtilMockedStatic.close();
+    }
+    
+    @Test
+    void testEncodeKey() {
+        assertArrayEquals(new byte[] {1, 'a', 0, 2, 'b', 'c', 0},
+                ConfigRocksDbDiskService.encodeKey("a", null, "bc", " "));
+        // The separator in old encoding should not make different keys same.
+        assertFalse(Arrays.equals(ConfigRocksDbDiskService.encodeKey("a+", "b"),
+                ConfigRocksDbDiskService.encodeKey("a", "+b")));
+        byte[] longKey = ConfigRocksDbDiskService.encodeKey(new String(new char[200]).replace('\0', 'x'));
+        assertEquals(202, longKey.length);
+        assertEquals((byte) 0xC8, longKey[0]);
+        assertEquals((byte) 0x01, longKey[1]);
+    }
+    
+    @Test
+    void testSaveAndRemove() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveGrayToDisk("dataId", "group", "tenant", "gray", "grayContent");
+        assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("grayContent", diskService.getGrayContent("dataId", "group", "tenant", "gray"));
+    }
+    
+    @Test
+    void testBatchWrite() throws IOException {
+        diskService.saveToDisk("removed", "group", "tenant", "content");
+        diskService.beginBatchWrite();
+        for (int i = 0; i < 1500; i++) {
+            diskService.saveToDisk("dataId" + i, "group", "tenant", "content" + i);
+        }
+        diskService.removeConfigInfo("removed", "group", "tenant");
+        // Pending writes are visible before batch ended.
+        assertEquals("content1499", diskService.getContent("dataId1499", "group", "tenant"));
+        assertNull(diskService.getContent("removed", "group", "tenant"));
+        diskService.endBatchWrite();
+        for (int i = 0; i < 1500; i++) {
+            assertEquals("content" + i, diskService.getContent("dataId" + i, "group", "tenant"));
+        }
+        assertNull(diskService.getContent("removed", "group", "tenant"));
+    }
+    
+    @Test
+    void testWriteOfOtherThreadInBatch() throws Exception {
+        diskService.beginBatchWrite();
+        diskService.saveToDisk("dataId", "group", "tenant", "dumpContent");
+        Thread publisher = new Thread(() -> {
+            try {
+                diskService.saveToDisk("dataId", "group", "tenant", "publishContent");
+                diskService.saveToDisk("other", "group", "tenant", "otherContent");
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        publisher.start();
+        publisher.join();
+        assertEquals("publishContent", diskService.getContent("dataId", "group", "tenant"));
+        diskService.endBatchWrite();
+        // The pending write of dump should not overwrite the newer write of other thread.
+        assertEquals("publishContent", diskService.getContent("dataId", "group", "tenant"));
+        assertEquals("otherContent", diskService.getContent("other", "group", "tenant"));
+    }
+    
+    @Test
+    void testClearAllInBatch() throws IOException {
+        diskService.beginBatchWrite();
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.clearAll();
+        assertNull(diskService.getContent("dataId", "group", "tenant"));
+        diskService.saveToDisk("dataId", "group", "tenant", "newContent");
+        diskService.endBatchWrite();
+        assertEquals("newContent", diskService.getContent("dataId", "group", "tenant"));
+    }
+}
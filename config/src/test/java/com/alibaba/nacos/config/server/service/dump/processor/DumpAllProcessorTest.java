@@ -196,14 +196,13 @@ class DumpAllProcessorTest {
         ConfigInfoWrapper configInfoWrapperSingle1 = new ConfigInfoWrapper();
         BeanUtils.copyProperties(configInfoWrapper1, configInfoWrapperSingle1);
         configInfoWrapperSingle1.setContent("content123456");
-        Mockito.when(configInfoPersistService.findConfigInfo(configInfoWrapper1.getDataId(), configInfoWrapper1.getGroup(),
-                configInfoWrapper1.getTenant())).thenReturn(configInfoWrapperSingle1);
         
         ConfigInfoWrapper configInfoWrapperSingle2 = new ConfigInfoWrapper();
         BeanUtils.copyProperties(configInfoWrapper2, configInfoWrapperSingle2);
         configInfoWrapperSingle2.setContent("content123456222");
-        Mockito.when(configInfoPersistService.findConfigInfo(configInfoWrapper2.getDataId(), configInfoWrapper2.getGroup(),
-                configInfoWrapper2.getTenant())).thenReturn(configInfoWrapperSingle2);
+        // Contents of changed configs are fetched by one batch query.
+        Mockito.when(configInfoPersistService.findConfigInfosByIds("1,2"))
+                .thenReturn(Arrays.asList(configInfoWrapperSingle1, configInfoWrapperSingle2));
         
         // For config 1, assign a latter time, to make sure that it would not be updated.
         // For config 2, assign an earlier time, to make sure that it would be updated.
@@ -245,4 +244,46 @@ class DumpAllProcessorTest {
         assertEquals(configInfoWrapperSingle2.getContent(), contentFromDisk2);
     }
     
+    @Test
+    void testDumpAllWithRangeReaders() {
+        int originalReaderCount = PropertyUtil.getDumpAllReaderCount();
+        PropertyUtil.setDumpAllReaderCount(2);
+        try {
+            int pageSize = PropertyUtil.getAllDumpPageSize();
+            ConfigInfoWrapper config1 = createNewConfig(1);
+            ConfigInfoWrapper config2 = createNewConfig(pageSize + 1);
+            ConfigInfoWrapper config3 = createNewConfig(pageSize * 2);
+            Page<ConfigInfoWrapper> page1 = new Page<>();
+            page1.setPageItems(Arrays.asList(config1, config2));
+            Page<ConfigInfoWrapper> page2 = new Page<>();
+            page2.setPageItems(Arrays.asList(config2, config3));
+            Mockito.when(configInfoPersistService.findConfigMaxId()).thenReturn(pageSize * 2L);
+            Mockito.when(configInfoPersistService.findAllConfigInfoFragment(0, pageSize, true)).thenReturn(page1);
+            Mockito.when(configInfoPersistService.findAllConfigInfoFragment(pageSize, pageSize, true)).thenReturn(page2);
+            
+            assertTrue(dumpAllProcessor.process(new DumpAllTask(true)));
+            for (ConfigInfoWrapper each : Arrays.asList(config1, config2, config3)) {
+                CacheItem cacheItem = ConfigCacheService.getContentCache(
+                        GroupKey2.getKey(each.getDataId(), each.getGroup(), each.getTenant()));
+                assertEquals(MD5Utils.md5Hex(each.getContent(), "UTF-8"), cacheItem.getConfigCache().getMd5Utf8());
+            }
+            // config2 is beyond the first range, so it is only read by the second range reader.
+            Mockito.verify(configInfoPersistService, Mockito.times(2))
+                    .findAllConfigInfoFragment(Mockito.anyLong(), eq(pageSize), eq(true));
+        } finally {
+            PropertyUtil.setDumpAllReaderCount(originalReaderCount);
+        }
+    }
+    
+    @Test
+    void testMd5DigesterReuse() {
+        StringBuilder largeContent = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            largeContent.append("\u914d\u7f6e-").append(i);
+        }
+        DumpAllProcessor.Md5Digester digester = new DumpAllProcessor.Md5Digester();
+        for (String each : Arrays.asList("", "content", largeContent.toString(), "\ud800broken", "content")) {
+            assertEquals(MD5Utils.md5Hex(each, "UTF-8"), digester.md5Hex(each));
+        }
+    }
 }
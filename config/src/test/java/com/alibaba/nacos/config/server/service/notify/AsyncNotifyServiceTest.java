@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.exception.NacosException;
@@ -25,6 +26,7 @@ import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
 import com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.AsyncRpcNotifyCallBack;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberMetaDataConstants;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -33,6 +35,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -40,12 +43,17 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
 
 import static com.alibaba.nacos.config.server.service.notify.AsyncNotifyService.HEALTHY_CHECK_STATUS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -122,7 +130,7 @@ class AsyncNotifyServiceTest {
     }
     
     /**
-     * test HandleConfigDataChangeEvent. expect create a AsyncRpcTask and execute in ConfigExecutor.
+     * test HandleConfigDataChangeEvent. expect create a MemberSyncBatch for each member and schedule in ConfigExecutor.
      */
     @Test
     void testHandleConfigDataChangeEvent() {
@@ -155,11 +163,90 @@ class AsyncNotifyServiceTest {
         AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
         asyncNotifyService.handleConfigDataChangeEvent(
                 new ConfigDataChangeEvent(dataId, group, null, System.currentTimeMillis()));
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent(dataId, group, null, System.currentTimeMillis()));
         
-        // expect schedule twice fail or exception response.
-        configExecutorMocked.verify(() -> ConfigExecutor.executeAsyncNotify(any(AsyncNotifyService.AsyncRpcTask.class)),
-                times(1));
+        // expect schedule once for each member, the second change is coalesced into the pending batch.
+        configExecutorMocked.verify(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(AsyncNotifyService.MemberSyncBatch.class), anyLong(),
+                        any(TimeUnit.class)), times(3));
+        
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRemoveSyncBatchOfRemovedMember() {
+        Member member1 = new Member();
+        member1.setIp("testip1");
+        Member member2 = new Member();
+        member2.setIp("testip2");
+        Mockito.when(serverMemberManager.allMembersWithoutSelf()).thenReturn(Arrays.asList(member1, member2));
+        configExecutorMocked.when(
+                () -> ConfigExecutor.scheduleAsyncNotify(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+                .thenAnswer(invocation -> null);
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        asyncNotifyService.handleConfigDataChangeEvent(
+                new ConfigDataChangeEvent("dataId", "group", null, System.currentTimeMillis()));
+        Map<String, ?> memberSyncBatches = (Map<String, ?>) ReflectionTestUtils.getField(asyncNotifyService,
+                "memberSyncBatches");
+        assertEquals(2, memberSyncBatches.size());
+        asyncNotifyService.onMembersChanged(Collections.singletonList(member1));
+        assertEquals(1, memberSyncBatches.size());
+        assertTrue(memberSyncBatches.containsKey(member1.getAddress()));
+    }
+    
+    @Test
+    void testMemberSyncBatchCoalesce() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        member1.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_SYNC, true);
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        Mockito.when(serverMemberManager.hasMember(eq(member1.getAddress()))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(eq(member1.getAddress()), eq(HEALTHY_CHECK_STATUS)))
+                .thenReturn(true);
+        
+        AsyncNotifyService.MemberSyncBatch memberSyncBatch = asyncNotifyService.new MemberSyncBatch();
+        memberSyncBatch.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", null, null, 1L, member1));
+        memberSyncBatch.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", null, null, 2L, member1));
+        memberSyncBatch.add(new AsyncNotifyService.NotifySingleRpcTask("dataId2", "group", null, null, 1L, member1));
+        memberSyncBatch.run();
         
+        ArgumentCaptor<ConfigChangeClusterBatchSyncRequest> captor = ArgumentCaptor.forClass(
+                ConfigChangeClusterBatchSyncRequest.class);
+        Mockito.verify(configClusterRpcClientProxy, times(1))
+                .batchSyncConfigChange(eq(member1), captor.capture(), any(RequestCallBack.class));
+        assertEquals(2, captor.getValue().getChanges().size());
+        assertEquals(2L, captor.getValue().getChanges().get(0).getLastModified());
+        Mockito.verify(configClusterRpcClientProxy, times(0))
+                .syncConfigChange(any(Member.class), any(ConfigChangeClusterSyncRequest.class),
+                        any(RequestCallBack.class));
+    }
+    
+    @Test
+    void testBatchSyncToOldMember() throws Exception {
+        long timeStamp = System.currentTimeMillis();
+        Member member1 = new Member();
+        member1.setIp("testip1" + timeStamp);
+        member1.setState(NodeState.UP);
+        AsyncNotifyService asyncNotifyService = new AsyncNotifyService(serverMemberManager);
+        ReflectionTestUtils.setField(asyncNotifyService, "configClusterRpcClientProxy", configClusterRpcClientProxy);
+        Mockito.when(serverMemberManager.hasMember(eq(member1.getAddress()))).thenReturn(true);
+        Mockito.when(serverMemberManager.stateCheck(eq(member1.getAddress()), eq(HEALTHY_CHECK_STATUS)))
+                .thenReturn(true);
+        
+        List<AsyncNotifyService.NotifySingleRpcTask> tasks = new ArrayList<>();
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", null, null, 1L, member1));
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("dataId2", "group", null, null, 1L, member1));
+        asyncNotifyService.executeBatchSyncTask(tasks);
+        
+        Mockito.verify(configClusterRpcClientProxy, times(2))
+                .syncConfigChange(eq(member1), any(ConfigChangeClusterSyncRequest.class), any(RequestCallBack.class));
+        Mockito.verify(configClusterRpcClientProxy, times(0))
+                .batchSyncConfigChange(any(Member.class), any(ConfigChangeClusterBatchSyncRequest.class),
+                        any(RequestCallBack.class));
     }
     
     @Test
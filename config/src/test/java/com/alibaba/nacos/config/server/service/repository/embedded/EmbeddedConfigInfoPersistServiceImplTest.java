@@ -49,6 +49,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -471,27 +472,20 @@ class EmbeddedConfigInfoPersistServiceImplTest {
         String srcUser = "srcUser1324";
         String srcIp = "srcIp1243";
         Map<String, Object> configAdvanceInfo = new HashMap<>();
-        
-        //mock add config 1 success,config 2 fail and skip,config 3 success
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(0).getDataId(), configInfoList.get(0).getGroup(), configInfoList.get(0).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(null);
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(1).getDataId(), configInfoList.get(1).getGroup(), configInfoList.get(1).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(new ConfigInfoStateWrapper());
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(2).getDataId(), configInfoList.get(2).getGroup(), configInfoList.get(1).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(null);
-        //mock query config info during update
-        ConfigInfoWrapper configInfoWrapper = new ConfigInfoWrapper();
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(1).getDataId(), configInfoList.get(1).getGroup(), configInfoList.get(1).getTenant()}),
-                eq(CONFIG_INFO_WRAPPER_ROW_MAPPER))).thenReturn(configInfoWrapper);
+        //mock config 2 exists
+        Mockito.when(databaseOperate.queryMany(anyString(), any(Object[].class), eq(CONFIG_ALL_INFO_ROW_MAPPER)))
+                .thenReturn(Collections.singletonList(createMockConfigAllInfo(1)));
         
         Map<String, Object> stringObjectMap = embeddedConfigInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
                 configAdvanceInfo, SameConfigPolicy.OVERWRITE);
         assertEquals(3, stringObjectMap.get("succCount"));
         assertEquals(0, stringObjectMap.get("skipCount"));
+        //config 1 and 3 are inserted and config 2 is updated by one raft log
+        Mockito.verify(historyConfigInfoPersistService, times(2))
+                .insertConfigHistoryAtomic(anyLong(), any(), eq(srcIp), eq(srcUser), any(), eq("I"), any(), any());
+        Mockito.verify(historyConfigInfoPersistService, times(1))
+                .insertConfigHistoryAtomic(anyLong(), any(), eq(srcIp), eq(srcUser), any(), eq("U"), any(), any());
+        Mockito.verify(databaseOperate, times(1)).blockUpdate(any());
     }
     
     @Test
@@ -506,23 +500,18 @@ class EmbeddedConfigInfoPersistServiceImplTest {
         String srcUser = "srcUser1324";
         String srcIp = "srcIp1243";
         Map<String, Object> configAdvanceInfo = new HashMap<>();
-        
-        //mock add config 1 success,config 2 fail and skip,config 3 success
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(0).getDataId(), configInfoList.get(0).getGroup(), configInfoList.get(0).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(null);
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(1).getDataId(), configInfoList.get(1).getGroup(), configInfoList.get(1).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(new ConfigInfoStateWrapper());
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(2).getDataId(), configInfoList.get(2).getGroup(), configInfoList.get(1).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(null);
+        //mock config 2 exists
+        Mockito.when(databaseOperate.queryMany(anyString(), any(Object[].class), eq(CONFIG_ALL_INFO_ROW_MAPPER)))
+                .thenReturn(Collections.singletonList(createMockConfigAllInfo(1)));
         
         Map<String, Object> stringObjectMap = embeddedConfigInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
                 configAdvanceInfo, SameConfigPolicy.SKIP);
         assertEquals(2, stringObjectMap.get("succCount"));
         assertEquals(1, stringObjectMap.get("skipCount"));
         assertEquals(configInfoList.get(1).getDataId(), ((List<Map<String, String>>) stringObjectMap.get("skipData")).get(0).get("dataId"));
+        Mockito.verify(historyConfigInfoPersistService, times(2))
+                .insertConfigHistoryAtomic(anyLong(), any(), eq(srcIp), eq(srcUser), any(), eq("I"), any(), any());
+        Mockito.verify(databaseOperate, times(1)).blockUpdate(any());
     }
     
     @Test
@@ -530,24 +519,16 @@ class EmbeddedConfigInfoPersistServiceImplTest {
         List<ConfigAllInfo> configInfoList = new ArrayList<>();
         //insert direct
         configInfoList.add(createMockConfigAllInfo(0));
-        //exist config and overwrite
+        //exist config and abort
         configInfoList.add(createMockConfigAllInfo(1));
-        //insert direct
+        //not operated
         configInfoList.add(createMockConfigAllInfo(2));
         String srcUser = "srcUser1324";
         String srcIp = "srcIp1243";
         Map<String, Object> configAdvanceInfo = new HashMap<>();
-        
-        //mock add config 1 success,config 2 fail and abort,config 3 not operated
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(0).getDataId(), configInfoList.get(0).getGroup(), configInfoList.get(0).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(null);
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(1).getDataId(), configInfoList.get(1).getGroup(), configInfoList.get(1).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(new ConfigInfoStateWrapper());
-        Mockito.when(databaseOperate.queryOne(anyString(),
-                eq(new Object[] {configInfoList.get(2).getDataId(), configInfoList.get(2).getGroup(), configInfoList.get(1).getTenant()}),
-                eq(CONFIG_INFO_STATE_WRAPPER_ROW_MAPPER))).thenReturn(null);
+        //mock config 2 exists
+        Mockito.when(databaseOperate.queryMany(anyString(), any(Object[].class), eq(CONFIG_ALL_INFO_ROW_MAPPER)))
+                .thenReturn(Collections.singletonList(createMockConfigAllInfo(1)));
         
         Map<String, Object> stringObjectMap = embeddedConfigInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
                 configAdvanceInfo, SameConfigPolicy.ABORT);
@@ -557,6 +538,37 @@ class EmbeddedConfigInfoPersistServiceImplTest {
         assertEquals(configInfoList.get(1).getDataId(), ((List<Map<String, String>>) stringObjectMap.get("failData")).get(0).get("dataId"));
         //skip config 3
         assertEquals(configInfoList.get(2).getDataId(), ((List<Map<String, String>>) stringObjectMap.get("skipData")).get(0).get("dataId"));
+        Mockito.verify(historyConfigInfoPersistService, times(1))
+                .insertConfigHistoryAtomic(anyLong(), any(), eq(srcIp), eq(srcUser), any(), eq("I"), any(), any());
+    }
+    
+    @Test
+    void testInsertOrUpdateBatch() {
+        ConfigAllInfo insertConfig = createMockConfigAllInfo(0);
+        insertConfig.setConfigTags("tag1,tag2");
+        ConfigAllInfo updateConfig = createMockConfigAllInfo(1);
+        updateConfig.setConfigTags("tag3");
+        ConfigAllInfo existedConfig = createMockConfigAllInfo(1);
+        existedConfig.setId(1L);
+        ConfigAllInfo insertedConfig = createMockConfigAllInfo(0);
+        insertedConfig.setId(2L);
+        insertedConfig.setModifyTime(System.currentTimeMillis());
+        Mockito.when(databaseOperate.queryMany(anyString(), any(Object[].class), eq(CONFIG_ALL_INFO_ROW_MAPPER)))
+                .thenReturn(Collections.singletonList(existedConfig), Arrays.asList(insertedConfig, existedConfig));
+        Mockito.when(idGeneratorManager.nextId(anyString())).thenReturn(2L);
+        
+        List<ConfigOperateResult> results = embeddedConfigInfoPersistService.insertOrUpdateBatch(
+                Arrays.asList(insertConfig, updateConfig), "srcIp", "srcUser");
+        assertEquals(2, results.size());
+        assertEquals(2L, results.get(0).getId());
+        assertEquals(insertedConfig.getModifyTime(), results.get(0).getLastModified());
+        assertEquals(1L, results.get(1).getId());
+        Mockito.verify(historyConfigInfoPersistService)
+                .insertConfigHistoryAtomic(eq(1L), eq(existedConfig), eq("srcIp"), eq("srcUser"), any(), eq("U"),
+                        eq(Constants.FORMAL), eq(ConfigExtInfoUtil.getExtInfoFromAllInfo(existedConfig)));
+        //all statements are submitted by one raft log
+        Mockito.verify(databaseOperate, times(1)).blockUpdate(any());
+        embeddedStorageContextHolderMockedStatic.verify(EmbeddedStorageContextHolder::cleanAllContext);
     }
     
     private ConfigAllInfo createMockConfigAllInfo(long mockId) {
@@ -0,0 +1,147 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.config.server.service.repository.extrnal;
+
+import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncHistoryConfigWriterTest {
+    
+    private final List<List<ConfigHistoryInfo>> written = new ArrayList<>();
+    
+    private boolean fail;
+    
+    private long badId = -1L;
+    
+    private final AsyncHistoryConfigWriter writer = new AsyncHistoryConfigWriter(2, historyInfos -> {
+        if (fail || historyInfos.stream().anyMatch(each -> each.getId() == badId)) {
+            throw new IllegalStateException("mock db error");
+        }
+        written.add(historyInfos);
+    });
+    
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+    
+    @Test
+    void testWriteInOrderAndFullQueue() {
+        ConfigHistoryInfo first = createHistory(1L);
+        ConfigHistoryInfo second = createHistory(2L);
+        assertTrue(writer.write(first));
+        assertTrue(writer.write(second));
+        assertFalse(writer.write(createHistory(3L)));
+        assertEquals(2, writer.size());
+        assertTrue(writer.flush());
+        assertEquals(1, written.size());
+        assertEquals(first, written.get(0).get(0));
+        assertEquals(second, written.get(0).get(1));
+        assertEquals(0, writer.size());
+        assertTrue(writer.write(createHistory(3L)));
+    }
+    
+    @Test
+    void testRetryFailedBatch() {
+        ConfigHistoryInfo history = createHistory(1L);
+        writer.write(history);
+        fail = true;
+        assertFalse(writer.flush());
+        assertEquals(1, writer.size());
+        // failed record still takes the slot.
+        ConfigHistoryInfo later = createHistory(2L);
+        assertTrue(writer.write(later));
+        assertFalse(writer.write(createHistory(3L)));
+        fail = false;
+        writer.flush();
+        assertEquals(history, written.get(0).get(0));
+        assertEquals(later, written.get(0).get(1));
+        assertEquals(0, writer.size());
+    }
+    
+    @Test
+    void testDropBadRecordAfterBatchRetries() {
+        ConfigHistoryInfo bad = createHistory(1L);
+        ConfigHistoryInfo good = createHistory(2L);
+        writer.write(bad);
+        writer.write(good);
+        badId = 1L;
+        for (int i = 0; i < 3; i++) {
+            writer.flush();
+            assertEquals(2, writer.size());
+        }
+        writer.flush();
+        assertEquals(0, writer.size());
+        assertEquals(1, written.size());
+        assertEquals(good, written.get(0).get(0));
+        // slot of dropped record is released.
+        assertTrue(writer.write(createHistory(3L)));
+        assertTrue(writer.write(createHistory(4L)));
+    }
+    
+    @Test
+    void testKeepRecordsWhenStorageUnavailable() {
+        writer.write(createHistory(1L));
+        writer.write(createHistory(2L));
+        fail = true;
+        for (int i = 0; i < 5; i++) {
+            writer.flush();
+        }
+        // Records are not dropped when all of them failed one by one.
+        assertEquals(2, writer.size());
+        fail = false;
+        writer.flush();
+        assertEquals(0, writer.size());
+        assertEquals(2, written.size());
+    }
+    
+    @Test
+    void testWriteAfterTransactionCommitted() {
+        TransactionSynchronizationManager.initSynchronization();
+        writer.write(createHistory(1L));
+        writer.write(createHistory(2L));
+        assertEquals(0, writer.size());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(1, writer.size());
+        // slot of rolled back record is released.
+        assertTrue(writer.write(createHistory(3L)));
+    }
+    
+    private ConfigHistoryInfo createHistory(long id) {
+        ConfigHistoryInfo result = new ConfigHistoryInfo();
+        result.setId(id);
+        result.setDataId("dataId" + id);
+        result.setGroup("group");
+        result.setContent("content");
+        return result;
+    }
+}
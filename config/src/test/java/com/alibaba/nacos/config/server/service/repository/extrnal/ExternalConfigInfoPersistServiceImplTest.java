@@ -33,6 +33,7 @@ import com.alibaba.nacos.config.server.utils.ConfigExtInfoUtil;
 import com.alibaba.nacos.config.server.utils.TestCaseUtils;
 import com.alibaba.nacos.persistence.datasource.DataSourceService;
 import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
+import com.alibaba.nacos.persistence.model.CursorPage;
 import com.alibaba.nacos.persistence.model.Page;
 import com.alibaba.nacos.plugin.datasource.constants.TableConstant;
 import com.alibaba.nacos.plugin.datasource.mapper.ConfigInfoMapper;
@@ -53,7 +54,6 @@ import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Connection;
@@ -78,8 +78,11 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
@@ -543,18 +546,21 @@ class ExternalConfigInfoPersistServiceImplTest {
         String srcUser = "srcUser1324";
         String srcIp = "srcIp1243";
         Map<String, Object> configAdvanceInfo = new HashMap<>();
-        //mock transactionTemplate and replace
-        TransactionTemplate transactionTemplateCurrent = Mockito.mock(TransactionTemplate.class);
-        ReflectionTestUtils.setField(externalConfigInfoPersistService, "tjt", transactionTemplateCurrent);
-        //mock add config 1 success,config 2 fail and update success,config 3 success
-        Mockito.when(transactionTemplateCurrent.execute(any()))
-                .thenReturn(new ConfigOperateResult(true), new ConfigOperateResult(false), new ConfigOperateResult(true),
-                        new ConfigOperateResult(true));
+        //mock config 2 exists
+        Mockito.when(jdbcTemplate.query(anyString(), any(Object[].class), eq(CONFIG_ALL_INFO_ROW_MAPPER)))
+                .thenReturn(Collections.singletonList(createMockConfigAllInfo(1)));
         
         Map<String, Object> stringObjectMap = externalConfigInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
                 configAdvanceInfo, SameConfigPolicy.OVERWRITE);
         assertEquals(3, stringObjectMap.get("succCount"));
         assertEquals(0, stringObjectMap.get("skipCount"));
+        //config 1 and 3 are inserted and config 2 is updated by batch statements
+        Mockito.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO config_info("),
+                argThat((List<Object[]> args) -> args.size() == 2));
+        Mockito.verify(jdbcTemplate).batchUpdate(startsWith("UPDATE config_info "),
+                argThat((List<Object[]> args) -> args.size() == 1));
+        Mockito.verify(historyConfigInfoPersistService, times(1))
+                .batchInsertConfigHistoryAtomic(argThat(historyInfos -> historyInfos.size() == 3));
     }
     
     @Test
@@ -562,25 +568,25 @@ class ExternalConfigInfoPersistServiceImplTest {
         List<ConfigAllInfo> configInfoList = new ArrayList<>();
         //insert direct
         configInfoList.add(createMockConfigAllInfo(0));
-        //exist config and overwrite
+        //exist config and skip
         configInfoList.add(createMockConfigAllInfo(1));
         //insert direct
         configInfoList.add(createMockConfigAllInfo(2));
         String srcUser = "srcUser1324";
         String srcIp = "srcIp1243";
         Map<String, Object> configAdvanceInfo = new HashMap<>();
-        //mock transactionTemplate and replace
-        TransactionTemplate transactionTemplateCurrent = Mockito.mock(TransactionTemplate.class);
-        ReflectionTestUtils.setField(externalConfigInfoPersistService, "tjt", transactionTemplateCurrent);
-        //mock add config 1 success,config 2 fail and skip,config 3 success
-        Mockito.when(transactionTemplateCurrent.execute(any()))
-                .thenReturn(new ConfigOperateResult(true), new ConfigOperateResult(false), new ConfigOperateResult(true));
+        //mock config 2 exists
+        Mockito.when(jdbcTemplate.query(anyString(), any(Object[].class), eq(CONFIG_ALL_INFO_ROW_MAPPER)))
+                .thenReturn(Collections.singletonList(createMockConfigAllInfo(1)));
         
         Map<String, Object> stringObjectMap = externalConfigInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
                 configAdvanceInfo, SameConfigPolicy.SKIP);
         assertEquals(2, stringObjectMap.get("succCount"));
         assertEquals(1, stringObjectMap.get("skipCount"));
         assertEquals(configInfoList.get(1).getDataId(), ((List<Map<String, String>>) stringObjectMap.get("skipData")).get(0).get("dataId"));
+        Mockito.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO config_info("),
+                argThat((List<Object[]> args) -> args.size() == 2));
+        Mockito.verify(jdbcTemplate, Mockito.never()).batchUpdate(startsWith("UPDATE config_info "), anyList());
     }
     
     @Test
@@ -588,18 +594,16 @@ class ExternalConfigInfoPersistServiceImplTest {
         List<ConfigAllInfo> configInfoList = new ArrayList<>();
         //insert direct
         configInfoList.add(createMockConfigAllInfo(0));
-        //exist config and overwrite
+        //exist config and abort
         configInfoList.add(createMockConfigAllInfo(1));
-        //insert direct
+        //not operated
         configInfoList.add(createMockConfigAllInfo(2));
         String srcUser = "srcUser1324";
         String srcIp = "srcIp1243";
         Map<String, Object> configAdvanceInfo = new HashMap<>();
-        //mock transactionTemplate and replace
-        TransactionTemplate transactionTemplateCurrent = Mockito.mock(TransactionTemplate.class);
-        ReflectionTestUtils.setField(externalConfigInfoPersistService, "tjt", transactionTemplateCurrent);
-        //mock add config 1 success,config 2 fail and abort,config 3 not operated
-        Mockito.when(transactionTemplateCurrent.execute(any())).thenReturn(new ConfigOperateResult(true), new ConfigOperateResult(false));
+        //mock config 2 exists
+        Mockito.when(jdbcTemplate.query(anyString(), any(Object[].class), eq(CONFIG_ALL_INFO_ROW_MAPPER)))
+                .thenReturn(Collections.singletonList(createMockConfigAllInfo(1)));
         
         Map<String, Object> stringObjectMap = externalConfigInfoPersistService.batchInsertOrUpdate(configInfoList, srcUser, srcIp,
                 configAdvanceInfo, SameConfigPolicy.ABORT);
@@ -609,6 +613,40 @@ class ExternalConfigInfoPersistServiceImplTest {
         assertEquals(configInfoList.get(1).getDataId(), ((List<Map<String, String>>) stringObjectMap.get("failData")).get(0).get("dataId"));
         //skip config 3
         assertEquals(configInfoList.get(2).getDataId(), ((List<Map<String, String>>) stringObjectMap.get("skipData")).get(0).get("dataId"));
+        Mockito.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO config_info("),
+                argThat((List<Object[]> args) -> args.size() == 1));
+    }
+    
+    @Test
+    void testInsertOrUpdateBatch() {
+        ConfigAllInfo insertConfig = createMockConfigAllInfo(0);
+        insertConfig.setConfigTags("tag1,tag2");
+        ConfigAllInfo updateConfig = createMockConfigAllInfo(1);
+        updateConfig.setConfigTags("tag3");
+        ConfigAllInfo existedConfig = createMockConfigAllInfo(1);
+        existedConfig.setId(1L);
+        existedConfig.setTenant("");
+        ConfigAllInfo insertedConfig = createMockConfigAllInfo(0);
+        insertedConfig.setId(2L);
+        insertedConfig.setTenant("");
+        insertedConfig.setModifyTime(System.currentTimeMillis());
+        Mockito.when(jdbcTemplate.query(anyString(), any(Object[].class), eq(CONFIG_ALL_INFO_ROW_MAPPER)))
+                .thenReturn(Collections.singletonList(existedConfig), Arrays.asList(insertedConfig, existedConfig));
+        
+        List<ConfigOperateResult> results = externalConfigInfoPersistService.insertOrUpdateBatch(
+                Arrays.asList(insertConfig, updateConfig), "srcIp", "srcUser");
+        assertEquals(2, results.size());
+        assertEquals(2L, results.get(0).getId());
+        assertEquals(insertedConfig.getModifyTime(), results.get(0).getLastModified());
+        assertEquals(1L, results.get(1).getId());
+        //tags of updated config are removed and all tags are inserted by batch statements
+        Mockito.verify(jdbcTemplate).batchUpdate(startsWith("DELETE FROM config_tags_relation"),
+                argThat((List<Object[]> args) -> args.size() == 1 && args.get(0)[0].equals(1L)));
+        Mockito.verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO config_tags_relation("),
+                argThat((List<Object[]> args) -> args.size() == 3));
+        Mockito.verify(historyConfigInfoPersistService).batchInsertConfigHistoryAtomic(
+                argThat(historyInfos -> historyInfos.size() == 2 && "I".equals(historyInfos.get(0).getOpType())
+                        && "U".equals(historyInfos.get(1).getOpType()) && historyInfos.get(1).getId() == 1L));
     }
     
     private ConfigAllInfo createMockConfigAllInfo(long mockId) {
@@ -1224,6 +1262,36 @@ class ExternalConfigInfoPersistServiceImplTest {
         assertEquals(groupStrings, returnGroups);
     }
     
+    @Test
+    void testGetTenantIdListByCursor() {
+        List<String> tenantStrings = Arrays.asList("tenant1", "tenant2", "tenant3");
+        when(jdbcTemplate.queryForList(anyString(), eq(new Object[] {"tenant0"}), eq(String.class))).thenReturn(
+                tenantStrings);
+        List<String> returnTenants = externalConfigInfoPersistService.getTenantIdListByCursor("tenant0", 100);
+        assertEquals(tenantStrings, returnTenants);
+    }
+    
+    @Test
+    void testFindConfigInfo4Cursor() {
+        List<ConfigInfo> mockConfigs = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            ConfigInfo configInfo = new ConfigInfo("dataId" + i, "group" + i, "content" + i);
+            configInfo.setId(10 + i);
+            mockConfigs.add(configInfo);
+        }
+        when(jdbcTemplate.query(anyString(), eq(new Object[] {"tenant", 10L}), eq(CONFIG_INFO_ROW_MAPPER))).thenReturn(
+                mockConfigs);
+        
+        CursorPage<ConfigInfo> fullPage = externalConfigInfoPersistService.findConfigInfo4Cursor(10L, 3, null, null,
+                "tenant", null);
+        assertEquals(mockConfigs, fullPage.getPageItems());
+        assertEquals("13", fullPage.getNextCursor());
+        
+        CursorPage<ConfigInfo> lastPage = externalConfigInfoPersistService.findConfigInfo4Cursor(10L, 5, null, null,
+                "tenant", null);
+        assertNull(lastPage.getNextCursor());
+    }
+    
     @Test
     void testFindAllConfigInfoFragment() {
         //mock page list
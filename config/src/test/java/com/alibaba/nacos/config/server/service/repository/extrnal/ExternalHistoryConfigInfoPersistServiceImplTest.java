@@ -20,6 +20,7 @@ import com.alibaba.nacos.config.server.model.ConfigHistoryInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfoStateWrapper;
 import com.alibaba.nacos.config.server.service.sql.ExternalStorageUtils;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.config.server.utils.TestCaseUtils;
 import com.alibaba.nacos.persistence.datasource.DataSourceService;
 import com.alibaba.nacos.persistence.datasource.DynamicDataSource;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -40,13 +42,16 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.HISTORY_DETAIL_ROW_MAPPER;
 import static com.alibaba.nacos.config.server.service.repository.ConfigRowMapperInjector.HISTORY_LIST_ROW_MAPPER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
@@ -127,6 +132,65 @@ class ExternalHistoryConfigInfoPersistServiceImplTest {
         }
     }
     
+    @Test
+    void testInsertConfigHistoryAsync() {
+        int originalQueueSize = PropertyUtil.getHistoryAsyncQueueSize();
+        PropertyUtil.setHistoryAsyncQueueSize(10);
+        try {
+            externalHistoryConfigInfoPersistService = new ExternalHistoryConfigInfoPersistServiceImpl();
+        } finally {
+            PropertyUtil.setHistoryAsyncQueueSize(originalQueueSize);
+        }
+        ConfigInfo configInfo = new ConfigInfo("dataId", "group", "tenant", "appName", "content");
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user", timestamp, "U",
+                "formal", "extInfo");
+        Mockito.verify(jdbcTemplate, times(0))
+                .update(anyString(), eq(1L), eq("dataId"), eq("group"), eq("tenant"), eq("appName"), eq("content"),
+                        anyString(), eq("ip"), eq("user"), eq(timestamp), eq("U"), eq("formal"), eq("extInfo"), eq(""));
+        // deletion is always written synchronously.
+        externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user", timestamp, "D",
+                "formal", "extInfo");
+        Mockito.verify(jdbcTemplate, times(1))
+                .update(anyString(), eq(1L), eq("dataId"), eq("group"), eq("tenant"), eq("appName"), eq("content"),
+                        anyString(), eq("ip"), eq("user"), eq(timestamp), eq("D"), eq("formal"), eq("extInfo"), eq(""));
+        externalHistoryConfigInfoPersistService.destroy();
+        Mockito.verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+    
+    @Test
+    void testInsertConfigHistoryAfterQueuedRecords() {
+        int originalQueueSize = PropertyUtil.getHistoryAsyncQueueSize();
+        PropertyUtil.setHistoryAsyncQueueSize(1);
+        try {
+            externalHistoryConfigInfoPersistService = new ExternalHistoryConfigInfoPersistServiceImpl();
+        } finally {
+            PropertyUtil.setHistoryAsyncQueueSize(originalQueueSize);
+        }
+        ConfigInfo configInfo = new ConfigInfo("dataId", "group", "tenant", "appName", "content");
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user", timestamp, "I",
+                "formal", "extInfo");
+        // queue is full, queued record should be written before the synchronous one.
+        externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user", timestamp, "U",
+                "formal", "extInfo");
+        InOrder inOrder = Mockito.inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        inOrder.verify(jdbcTemplate)
+                .update(anyString(), eq(1L), eq("dataId"), eq("group"), eq("tenant"), eq("appName"), eq("content"),
+                        anyString(), eq("ip"), eq("user"), eq(timestamp), eq("U"), eq("formal"), eq("extInfo"), eq(""));
+        // deletion is written after queued records too.
+        externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user", timestamp, "U",
+                "formal", "extInfo");
+        externalHistoryConfigInfoPersistService.insertConfigHistoryAtomic(1L, configInfo, "ip", "user", timestamp, "D",
+                "formal", "extInfo");
+        inOrder.verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        inOrder.verify(jdbcTemplate)
+                .update(anyString(), eq(1L), eq("dataId"), eq("group"), eq("tenant"), eq("appName"), eq("content"),
+                        anyString(), eq("ip"), eq("user"), eq(timestamp), eq("D"), eq("formal"), eq("extInfo"), eq(""));
+        externalHistoryConfigInfoPersistService.destroy();
+    }
+    
     @Test
     void testRemoveConfigHistory() {
         Timestamp timestamp = new Timestamp(System.currentTimeMillis());
@@ -302,6 +366,38 @@ class ExternalHistoryConfigInfoPersistServiceImplTest {
         }
     }
     
+    @Test
+    void testRemoveConfigHistoryByIdRange() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        externalHistoryConfigInfoPersistService.removeConfigHistoryByIdRange(timestamp, 100L, 200L);
+        Mockito.verify(jdbcTemplate, times(1))
+                .update(eq("DELETE FROM his_config_info WHERE nid >= ? AND nid < ? AND gmt_modified < ?"), eq(100L),
+                        eq(200L), eq(timestamp));
+    }
+    
+    @Test
+    void testFindConfigHistoryIdWatermark() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        Mockito.when(jdbcTemplate.queryForObject(anyString(), eq(new Object[] {timestamp}), eq(Long.class)))
+                .thenReturn(300L);
+        Mockito.when(jdbcTemplate.queryForObject(anyString(), eq(new Object[] {}), eq(Long.class))).thenReturn(5L);
+        assertEquals(300L, externalHistoryConfigInfoPersistService.findConfigHistoryMaxIdByTime(timestamp));
+        assertEquals(5L, externalHistoryConfigInfoPersistService.findConfigHistoryMinId());
+    }
+    
+    @Test
+    void testConfigHistoryPartition() {
+        Timestamp timestamp = new Timestamp(System.currentTimeMillis());
+        List<String> partitions = Collections.singletonList("p20240101");
+        Mockito.when(jdbcTemplate.queryForList(anyString(), eq(new Object[] {timestamp}), eq(String.class)))
+                .thenReturn(partitions);
+        assertEquals(partitions, externalHistoryConfigInfoPersistService.findExpiredConfigHistoryPartitions(timestamp));
+        externalHistoryConfigInfoPersistService.dropConfigHistoryPartition("p20240101");
+        Mockito.verify(jdbcTemplate, times(1)).execute("ALTER TABLE his_config_info DROP PARTITION p20240101");
+        assertThrows(IllegalArgumentException.class,
+                () -> externalHistoryConfigInfoPersistService.dropConfigHistoryPartition("p1; DROP TABLE config_info"));
+    }
+    
     private ConfigHistoryInfo createMockConfigHistoryInfo(long mockId) {
         ConfigHistoryInfo configAllInfo = new ConfigHistoryInfo();
         configAllInfo.setDataId("test" + mockId + ".yaml");
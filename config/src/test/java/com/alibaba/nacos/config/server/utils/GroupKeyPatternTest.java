@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupKeyPatternTest {
+    
+    @Test
+    void testGenerateKey() {
+        assertEquals("tenant+group+dataId", GroupKeyPattern.generateKey("dataId", "group", "tenant"));
+        assertEquals("+group+dataId", GroupKeyPattern.generateKey("dataId", "group", null));
+        assertEquals("tenant+group+dataId", GroupKeyPattern.generateKey(GroupKey2.getKey("dataId", "group", "tenant")));
+        assertEquals("+group+data%2BId", GroupKeyPattern.generateKey(GroupKey2.getKey("data+Id", "group")));
+    }
+    
+    @Test
+    void testGetLiteralPrefix() {
+        assertEquals("tenant+group+app", GroupKeyPattern.getLiteralPrefix("tenant+group+app*"));
+        assertEquals("tenant+", GroupKeyPattern.getLiteralPrefix("tenant+*+app*"));
+        assertEquals("tenant+group+dataId", GroupKeyPattern.getLiteralPrefix("tenant+group+dataId"));
+    }
+    
+    @Test
+    void testIsMatch() {
+        String key = GroupKeyPattern.generateKey("app.yaml", "DEFAULT_GROUP", "tenant");
+        assertTrue(GroupKeyPattern.isMatch(GroupKeyPattern.generatePattern("app*", "DEFAULT_GROUP", "tenant"), key));
+        assertTrue(GroupKeyPattern.isMatch(GroupKeyPattern.generatePattern("*", "*", "tenant"), key));
+        assertTrue(GroupKeyPattern.isMatch(GroupKeyPattern.generatePattern("a*.*l", "DEFAULT*", "tenant"), key));
+        assertTrue(GroupKeyPattern.isMatch(GroupKeyPattern.generatePattern("app.yaml", "DEFAULT_GROUP", "tenant"),
+                key));
+        assertFalse(GroupKeyPattern.isMatch(GroupKeyPattern.generatePattern("app*", "DEFAULT_GROUP", ""), key));
+        assertFalse(GroupKeyPattern.isMatch(GroupKeyPattern.generatePattern("*.properties", "*", "tenant"), key));
+        // Wildcard of group should not match the separator and dataId.
+        assertFalse(GroupKeyPattern.isMatch("tenant+*", key));
+        assertFalse(GroupKeyPattern.isMatch(GroupKeyPattern.generatePattern("yaml", "*app.", "tenant"), key));
+    }
+    
+    @Test
+    void testIsValidPatternPart() {
+        assertTrue(GroupKeyPattern.isValidPatternPart("app-*.yaml"));
+        assertTrue(GroupKeyPattern.isValidPatternPart("*"));
+        assertFalse(GroupKeyPattern.isValidPatternPart(""));
+        assertFalse(GroupKeyPattern.isValidPatternPart("app+*"));
+    }
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -302,4 +303,13 @@ class ParamUtilsTest {
         assertDoesNotThrow(() -> ParamUtils.checkParam("dataId", "group", UUID.randomUUID().toString()));
     }
     
+    @Test
+    void testParseCursor() throws NacosApiException {
+        assertEquals(0L, ParamUtils.parseCursor(null));
+        assertEquals(0L, ParamUtils.parseCursor(""));
+        assertEquals(20L, ParamUtils.parseCursor("20"));
+        assertThrows(NacosApiException.class, () -> ParamUtils.parseCursor("abc"));
+        assertThrows(NacosApiException.class, () -> ParamUtils.parseCursor("-1"));
+    }
+    
 }
@@ -16,10 +16,16 @@
 
 package com.alibaba.nacos.config.server.utils;
 
+import com.alibaba.nacos.config.server.constant.Constants;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -49,4 +55,26 @@ class ZipUtilsTest {
         assertEquals(zipItemList.get(0).getItemData(), result.get(0).getItemData());
         
     }
+    
+    @Test
+    void testReadItemsFromZipFile() throws IOException {
+        List<ZipUtils.ZipItem> zipItemList = new ArrayList<>();
+        zipItemList.add(new ZipUtils.ZipItem("group/dataId", "content"));
+        zipItemList.add(new ZipUtils.ZipItem(Constants.CONFIG_EXPORT_METADATA_NEW, "metadata"));
+        File file = Files.createTempFile("zip_utils_test", ".zip").toFile();
+        try {
+            Files.write(file.toPath(), ZipUtils.zip(zipItemList));
+            try (ZipFile zipFile = new ZipFile(file)) {
+                ZipUtils.ZipItem metaDataItem = ZipUtils.readMetaDataItem(zipFile);
+                assertEquals(Constants.CONFIG_EXPORT_METADATA_NEW, metaDataItem.getItemName());
+                assertEquals("metadata", metaDataItem.getItemData());
+                List<ZipEntry> entries = ZipUtils.getItemEntries(zipFile, metaDataItem);
+                assertEquals(1, entries.size());
+                assertEquals("group/dataId", entries.get(0).getName());
+                assertEquals("content", ZipUtils.readItemData(zipFile, entries.get(0)));
+            }
+        } finally {
+            file.delete();
+        }
+    }
 }
@@ -45,5 +45,17 @@ public enum DataOperation {
     /**
      * Data query.
      */
-    QUERY;
+    QUERY,
+    /**
+     * Data verify by digest.
+     */
+    DIGEST,
+    /**
+     * Data batch sync.
+     */
+    BATCH,
+    /**
+     * Data snapshot chunk query.
+     */
+    SNAPSHOT_CHUNK;
 }
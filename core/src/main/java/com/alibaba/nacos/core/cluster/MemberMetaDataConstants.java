@@ -44,6 +44,14 @@ public class MemberMetaDataConstants {
     
     public static final String SUPPORT_GRAY_MODEL = "supportGrayModel";
     
+    public static final String SUPPORT_BATCH_CONFIG_SYNC = "supportBatchConfigSync";
+    
+    public static final String SUPPORT_DISTRO_VERIFY_DIGEST = "supportDistroVerifyDigest";
+    
+    public static final String SUPPORT_DISTRO_BATCH_SYNC = "supportDistroBatchSync";
+    
+    public static final String SUPPORT_DISTRO_CHUNKED_SNAPSHOT = "supportDistroChunkedSnapshot";
+    
     public static final String[] BASIC_META_KEYS = new String[] {SITE_KEY, AD_WEIGHT, RAFT_PORT, WEIGHT, VERSION,
             READY_TO_UPGRADE};
 }
@@ -167,6 +167,10 @@ public class ServerMemberManager implements ApplicationListener<WebServerInitial
         //works  for gray model upgrade,can delete after compatibility period.
         this.self
                 .setExtendVal(MemberMetaDataConstants.SUPPORT_GRAY_MODEL, true);
+        this.self.setExtendVal(MemberMetaDataConstants.SUPPORT_BATCH_CONFIG_SYNC, true);
+        this.self.setExtendVal(MemberMetaDataConstants.SUPPORT_DISTRO_VERIFY_DIGEST, true);
+        this.self.setExtendVal(MemberMetaDataConstants.SUPPORT_DISTRO_BATCH_SYNC, true);
+        this.self.setExtendVal(MemberMetaDataConstants.SUPPORT_DISTRO_CHUNKED_SNAPSHOT, true);
         this.self.setGrpcReportEnabled(true);
 
         // init abilities.
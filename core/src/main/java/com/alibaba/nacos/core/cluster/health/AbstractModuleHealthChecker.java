@@ -34,6 +34,15 @@ public abstract class AbstractModuleHealthChecker {
      */
     public abstract boolean readiness();
     
+    /**
+     * Detail of readiness, such as the progress of loading data when not readiness.
+     *
+     * @return detail of readiness, {@code null} if no detail
+     */
+    public String getReadinessDetail() {
+        return null;
+    }
+    
     /**
      * Module name.
      *
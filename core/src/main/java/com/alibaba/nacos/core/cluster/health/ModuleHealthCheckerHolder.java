@@ -51,17 +51,26 @@ public class ModuleHealthCheckerHolder {
      */
     public ReadinessResult checkReadiness() {
         List<String> readinessFailedModule = new LinkedList<>();
+        List<String> readinessDetails = new LinkedList<>();
         for (AbstractModuleHealthChecker each : this.moduleHealthCheckers) {
             boolean moduleReadiness = each.readiness();
             if (!moduleReadiness) {
                 readinessFailedModule.add(each.getModuleName());
+                String detail = each.getReadinessDetail();
+                if (StringUtils.isNotBlank(detail)) {
+                    readinessDetails.add(each.getModuleName() + ": " + detail);
+                }
             }
         }
         if (readinessFailedModule.isEmpty()) {
             return new ReadinessResult(true, "OK");
         } else {
             String modules = StringUtils.join(readinessFailedModule, " and ");
-            return new ReadinessResult(false, String.format("%s not in readiness", modules));
+            String message = String.format("%s not in readiness", modules);
+            if (!readinessDetails.isEmpty()) {
+                message += ", " + StringUtils.join(readinessDetails, "; ");
+            }
+            return new ReadinessResult(false, message);
         }
     }
 }
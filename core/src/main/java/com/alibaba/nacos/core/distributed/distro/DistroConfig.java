@@ -36,14 +36,26 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long syncRetryDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS;
     
+    private int syncBatchSize = DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE;
+    
+    private long syncBatchDelayMillis = DistroConstants.DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS;
+    
+    private int syncBatchMaxInFlight = DistroConstants.DEFAULT_DATA_SYNC_BATCH_MAX_IN_FLIGHT;
+    
     private long verifyIntervalMillis = DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS;
     
     private long verifyTimeoutMillis = DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS;
     
+    private boolean verifyDigestEnabled = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED;
+    
     private long loadDataRetryDelayMillis = DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS;
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataChunkCount = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT;
+    
+    private int loadDataParallelism = DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -57,14 +69,26 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_SYNC_TIMEOUT_MILLISECONDS);
         syncRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS);
+        syncBatchSize = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE);
+        syncBatchDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_DELAY_MILLISECONDS, Long.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS);
+        syncBatchMaxInFlight = EnvUtil.getProperty(DistroConstants.DATA_SYNC_BATCH_MAX_IN_FLIGHT, Integer.class,
+                DistroConstants.DEFAULT_DATA_SYNC_BATCH_MAX_IN_FLIGHT);
         verifyIntervalMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS);
         verifyTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS);
+        verifyDigestEnabled = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED);
         loadDataRetryDelayMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataChunkCount = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_COUNT, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT);
+        loadDataParallelism = EnvUtil.getProperty(DistroConstants.DATA_LOAD_PARALLELISM, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM);
     }
     
     public static DistroConfig getInstance() {
@@ -95,6 +119,30 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.syncRetryDelayMillis = syncRetryDelayMillis;
     }
     
+    public int getSyncBatchSize() {
+        return syncBatchSize;
+    }
+    
+    public void setSyncBatchSize(int syncBatchSize) {
+        this.syncBatchSize = syncBatchSize;
+    }
+    
+    public long getSyncBatchDelayMillis() {
+        return syncBatchDelayMillis;
+    }
+    
+    public void setSyncBatchDelayMillis(long syncBatchDelayMillis) {
+        this.syncBatchDelayMillis = syncBatchDelayMillis;
+    }
+    
+    public int getSyncBatchMaxInFlight() {
+        return syncBatchMaxInFlight;
+    }
+    
+    public void setSyncBatchMaxInFlight(int syncBatchMaxInFlight) {
+        this.syncBatchMaxInFlight = syncBatchMaxInFlight;
+    }
+    
     public long getVerifyIntervalMillis() {
         return verifyIntervalMillis;
     }
@@ -111,6 +159,14 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.verifyTimeoutMillis = verifyTimeoutMillis;
     }
     
+    public boolean isVerifyDigestEnabled() {
+        return verifyDigestEnabled;
+    }
+    
+    public void setVerifyDigestEnabled(boolean verifyDigestEnabled) {
+        this.verifyDigestEnabled = verifyDigestEnabled;
+    }
+    
     public long getLoadDataRetryDelayMillis() {
         return loadDataRetryDelayMillis;
     }
@@ -127,11 +183,31 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataChunkCount() {
+        return loadDataChunkCount;
+    }
+    
+    public void setLoadDataChunkCount(int loadDataChunkCount) {
+        this.loadDataChunkCount = loadDataChunkCount;
+    }
+    
+    public int getLoadDataParallelism() {
+        return loadDataParallelism;
+    }
+    
+    public void setLoadDataParallelism(int loadDataParallelism) {
+        this.loadDataParallelism = loadDataParallelism;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
-                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
-                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
-                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + '}';
+                + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", syncBatchSize=" + syncBatchSize
+                + ", syncBatchDelayMillis=" + syncBatchDelayMillis + ", syncBatchMaxInFlight=" + syncBatchMaxInFlight
+                + ", verifyIntervalMillis=" + verifyIntervalMillis
+                + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", verifyDigestEnabled=" + verifyDigestEnabled
+                + ", loadDataRetryDelayMillis=" + loadDataRetryDelayMillis
+                + ", loadDataTimeoutMillis=" + loadDataTimeoutMillis + ", loadDataChunkCount=" + loadDataChunkCount
+                + ", loadDataParallelism=" + loadDataParallelism + '}';
     }
 }
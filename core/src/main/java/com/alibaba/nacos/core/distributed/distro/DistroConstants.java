@@ -43,6 +43,24 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS = 3000L;
     
+    public static final String DATA_SYNC_BATCH_SIZE = "nacos.core.protocol.distro.data.sync.batchSize";
+    
+    public static final String DATA_SYNC_BATCH_SIZE_STATE = "data_sync_batchSize";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_SIZE = 100;
+    
+    public static final String DATA_SYNC_BATCH_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.sync.batchDelayMs";
+    
+    public static final String DATA_SYNC_BATCH_DELAY_MILLISECONDS_STATE = "data_sync_batchDelayMs";
+    
+    public static final long DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS = 10L;
+    
+    public static final String DATA_SYNC_BATCH_MAX_IN_FLIGHT = "nacos.core.protocol.distro.data.sync.batchMaxInFlight";
+    
+    public static final String DATA_SYNC_BATCH_MAX_IN_FLIGHT_STATE = "data_sync_batchMaxInFlight";
+    
+    public static final int DEFAULT_DATA_SYNC_BATCH_MAX_IN_FLIGHT = 4;
+    
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS = "nacos.core.protocol.distro.data.verify.intervalMs";
     
     public static final String DATA_VERIFY_INTERVAL_MILLISECONDS_STATE = "data_verify_intervalMs";
@@ -55,6 +73,12 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS = 3000L;
     
+    public static final String DATA_VERIFY_DIGEST_ENABLED = "nacos.core.protocol.distro.data.verify.digestEnabled";
+    
+    public static final String DATA_VERIFY_DIGEST_ENABLED_STATE = "data_verify_digestEnabled";
+    
+    public static final boolean DEFAULT_DATA_VERIFY_DIGEST_ENABLED = false;
+    
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS = "nacos.core.protocol.distro.data.load.retryDelayMs";
     
     public static final String DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE = "data_load_retryDelayMs";
@@ -67,4 +91,16 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_CHUNK_COUNT = "nacos.core.protocol.distro.data.load.chunkCount";
+    
+    public static final String DATA_LOAD_CHUNK_COUNT_STATE = "data_load_chunkCount";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_COUNT = 16;
+    
+    public static final String DATA_LOAD_PARALLELISM = "nacos.core.protocol.distro.data.load.parallelism";
+    
+    public static final String DATA_LOAD_PARALLELISM_STATE = "data_load_parallelism";
+    
+    public static final int DEFAULT_DATA_LOAD_PARALLELISM = 4;
+    
 }
@@ -35,6 +35,8 @@ import com.alibaba.nacos.core.utils.Loggers;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro protocol.
  *
@@ -51,6 +53,8 @@ public class DistroProtocol {
     
     private volatile boolean isInitialized = false;
     
+    private volatile DistroLoadDataTask loadDataTask;
+    
     public DistroProtocol(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroTaskEngineHolder distroTaskEngineHolder) {
         this.memberManager = memberManager;
@@ -80,8 +84,9 @@ public class DistroProtocol {
                 isInitialized = false;
             }
         };
-        GlobalExecutor.submitLoadDataTask(
-                new DistroLoadDataTask(memberManager, distroComponentHolder, DistroConfig.getInstance(), loadCallback));
+        loadDataTask = new DistroLoadDataTask(memberManager, distroComponentHolder, DistroConfig.getInstance(),
+                loadCallback);
+        GlobalExecutor.submitLoadDataTask(loadDataTask);
     }
     
     private void startVerifyTask() {
@@ -94,6 +99,26 @@ public class DistroProtocol {
         return isInitialized;
     }
     
+    /**
+     * Get count of loaded snapshot chunks during initializing.
+     *
+     * @return count of loaded chunks
+     */
+    public int getLoadedSnapshotChunks() {
+        DistroLoadDataTask task = loadDataTask;
+        return null == task ? 0 : task.getLoadedChunks();
+    }
+    
+    /**
+     * Get total count of snapshot chunks during initializing, {@code 0} if snapshot is not loaded by chunks.
+     *
+     * @return total count of chunks
+     */
+    public int getTotalSnapshotChunks() {
+        DistroLoadDataTask task = loadDataTask;
+        return null == task ? 0 : task.getTotalChunks();
+    }
+    
     /**
      * Start to sync by configured delay.
      *
@@ -173,6 +198,26 @@ public class DistroProtocol {
         return dataProcessor.processData(distroData);
     }
     
+    /**
+     * Receive batch synced distro data of the same type, find processor to process.
+     *
+     * @param batchData received batch data
+     * @return true if handle receive data successfully, otherwise false
+     */
+    public boolean onBatchReceive(List<DistroData> batchData) {
+        if (null == batchData || batchData.isEmpty()) {
+            return true;
+        }
+        String resourceType = batchData.get(0).getDistroKey().getResourceType();
+        Loggers.DISTRO.info("[DISTRO] Receive distro batch data type: {}, size: {}", resourceType, batchData.size());
+        DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
+        if (null == dataProcessor) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data process for received data {}", resourceType);
+            return false;
+        }
+        return dataProcessor.processBatchData(batchData);
+    }
+    
     /**
      * Receive verify data, find processor to process.
      *
@@ -194,6 +239,23 @@ public class DistroProtocol {
         return dataProcessor.processVerifyData(distroData, sourceAddress);
     }
     
+    /**
+     * Receive verify digest, find processor to process.
+     *
+     * @param distroData    verify digest
+     * @param sourceAddress source server address
+     * @return mismatched parts of verify digest, {@code null} if not support verify by digest
+     */
+    public DistroData onVerifyDigest(DistroData distroData, String sourceAddress) {
+        String resourceType = distroData.getDistroKey().getResourceType();
+        DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
+        if (null == dataProcessor) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find verify digest process for received data {}", resourceType);
+            return null;
+        }
+        return dataProcessor.processVerifyDigest(distroData, sourceAddress);
+    }
+    
     /**
      * Query data of input distro key.
      *
@@ -224,4 +286,21 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one chunk of datum snapshot.
+     *
+     * @param type       datum type
+     * @param chunkIndex index of chunk
+     * @param chunkCount total count of chunks
+     * @return datum snapshot of chunk
+     */
+    public DistroData onSnapshotChunk(String type, int chunkIndex, int chunkCount) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroData(new DistroKey("snapshot", type), new byte[0]);
+        }
+        return distroDataStorage.getDatumSnapshot(chunkIndex, chunkCount);
+    }
 }
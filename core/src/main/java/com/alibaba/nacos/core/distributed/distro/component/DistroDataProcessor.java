@@ -18,6 +18,8 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 
+import java.util.List;
+
 /**
  * Distro data processor.
  *
@@ -40,6 +42,20 @@ public interface DistroDataProcessor {
      */
     boolean processData(DistroData distroData);
     
+    /**
+     * Process received batch data.
+     *
+     * @param batchData received batch data
+     * @return true if process all data successfully, otherwise false
+     */
+    default boolean processBatchData(List<DistroData> batchData) {
+        boolean result = true;
+        for (DistroData each : batchData) {
+            result &= processData(each);
+        }
+        return result;
+    }
+    
     /**
      * Process received verify data.
      *
@@ -49,6 +65,17 @@ public interface DistroDataProcessor {
      */
     boolean processVerifyData(DistroData distroData, String sourceAddress);
     
+    /**
+     * Process received verify digest.
+     *
+     * @param distroData    verify digest
+     * @param sourceAddress source server address
+     * @return mismatched parts of verify digest, {@code null} if not support verify by digest
+     */
+    default DistroData processVerifyDigest(DistroData distroData, String sourceAddress) {
+        return null;
+    }
+    
     /**
      * Process snapshot data.
      *
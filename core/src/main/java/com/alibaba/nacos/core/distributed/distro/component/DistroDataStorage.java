@@ -57,10 +57,43 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one chunk of distro datum snapshot. Datum are split into {@code chunkCount} disjoint chunks, and the result
+     * should be able to be processed by {@link DistroDataProcessor#processSnapshot(DistroData)}.
+     *
+     * @param chunkIndex index of chunk, from {@code 0} to {@code chunkCount - 1}
+     * @param chunkCount total count of chunks
+     * @return datum of chunk
+     * @throws UnsupportedOperationException if not support chunked snapshot
+     */
+    default DistroData getDatumSnapshot(int chunkIndex, int chunkCount) {
+        throw new UnsupportedOperationException("Chunked snapshot is not supported");
+    }
+    
     /**
      * Get verify datum.
      *
      * @return verify datum
      */
     List<DistroData> getVerifyData();
+    
+    /**
+     * Get verify digest, which is exchanged with target server before verify datum, so that only verify datum of
+     * mismatched parts need to be sent.
+     *
+     * @return verify digest, {@code null} if not support verify by digest
+     */
+    default DistroData getVerifyDigest() {
+        return null;
+    }
+    
+    /**
+     * Get verify datum of mismatched parts.
+     *
+     * @param mismatchedDigest mismatched parts of verify digest returned by target server
+     * @return verify datum
+     */
+    default List<DistroData> getVerifyData(DistroData mismatchedDigest) {
+        return getVerifyData();
+    }
 }
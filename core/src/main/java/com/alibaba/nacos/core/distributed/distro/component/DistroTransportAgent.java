@@ -18,6 +18,9 @@ package com.alibaba.nacos.core.distributed.distro.component;
 
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+
+import java.util.List;
 
 /**
  * Distro transport agent.
@@ -53,6 +56,28 @@ public interface DistroTransportAgent {
      */
     void syncData(DistroData data, String targetServer, DistroCallback callback);
     
+    /**
+     * Whether support sync batch data to target server.
+     *
+     * @param targetServer target server
+     * @return true if support, otherwise false
+     */
+    default boolean supportBatchSync(String targetServer) {
+        return false;
+    }
+    
+    /**
+     * Sync batch data with callback, the batch should be applied by target server as a whole.
+     *
+     * @param batchData    batch data
+     * @param targetServer target server
+     * @param callback     callback
+     * @throws UnsupportedOperationException if method supportBatchSync is false
+     */
+    default void syncBatchData(List<DistroData> batchData, String targetServer, DistroCallback callback) {
+        throw new UnsupportedOperationException("Batch sync is not supported");
+    }
+    
     /**
      * Sync verify data.
      *
@@ -73,6 +98,18 @@ public interface DistroTransportAgent {
      */
     void syncVerifyData(DistroData verifyData, String targetServer, DistroCallback callback);
     
+    /**
+     * Sync verify digest to target server.
+     *
+     * @param verifyDigest verify digest
+     * @param targetServer target server
+     * @return mismatched parts of verify digest, {@code null} if target server not support verify by digest
+     * @throws DistroException if sync failed
+     */
+    default DistroData syncVerifyDigest(DistroData verifyDigest, String targetServer) {
+        return null;
+    }
+    
     /**
      * get Data from target server.
      *
@@ -89,4 +126,27 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Whether support get datum snapshot from target server by chunks.
+     *
+     * @param targetServer target server
+     * @return true if support, otherwise false
+     */
+    default boolean supportChunkedSnapshot(String targetServer) {
+        return false;
+    }
+    
+    /**
+     * Get one chunk of datum snapshot from target server.
+     *
+     * @param targetServer target server
+     * @param chunkIndex   index of chunk
+     * @param chunkCount   total count of chunks
+     * @return distro data of chunk
+     * @throws UnsupportedOperationException if method supportChunkedSnapshot is false
+     */
+    default DistroData getDatumSnapshot(String targetServer, int chunkIndex, int chunkCount) {
+        throw new UnsupportedOperationException("Chunked snapshot is not supported");
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.core.distributed.distro.task.delay;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Distro batch delay task, which coalesces delay tasks of the same type and target server.
+ *
+ * <p>Tasks of the same distro key are merged by {@link DistroDelayTask#merge(AbstractDelayTask)}, so the latest action
+ * wins. The batch is processed after the batch delay from the first task, or as soon as it is full.
+ *
+ * @author xiweng.yy
+ */
+public class DistroBatchDelayTask extends AbstractDelayTask {
+    
+    private final DistroKey batchKey;
+    
+    private final Map<DistroKey, DistroDelayTask> tasks = new LinkedHashMap<>();
+    
+    public DistroBatchDelayTask(DistroKey batchKey, long delayTime) {
+        this.batchKey = batchKey;
+        setLastProcessTime(System.currentTimeMillis());
+        setTaskInterval(delayTime);
+    }
+    
+    public DistroBatchDelayTask(DistroKey batchKey, Collection<DistroDelayTask> tasks, long delayTime) {
+        this(batchKey, delayTime);
+        tasks.forEach(this::addTask);
+    }
+    
+    /**
+     * Build the key of batch for distro key, which is unique for type and target server.
+     *
+     * @param distroKey distro key with target server
+     * @return batch key
+     */
+    public static DistroKey buildBatchKey(DistroKey distroKey) {
+        return new DistroKey(DistroBatchDelayTask.class.getSimpleName(), distroKey.getResourceType(),
+                distroKey.getTargetServer());
+    }
+    
+    /**
+     * Add delay task into batch.
+     *
+     * @param task distro delay task
+     */
+    public void addTask(DistroDelayTask task) {
+        DistroDelayTask oldTask = tasks.put(task.getDistroKey(), task);
+        if (null != oldTask) {
+            task.merge(oldTask);
+        }
+    }
+    
+    public DistroKey getBatchKey() {
+        return batchKey;
+    }
+    
+    public Collection<DistroDelayTask> getTasks() {
+        return tasks.values();
+    }
+    
+    @Override
+    public boolean shouldProcess() {
+        return tasks.size() >= DistroConfig.getInstance().getSyncBatchSize() || super.shouldProcess();
+    }
+    
+    @Override
+    public void merge(AbstractDelayTask task) {
+        if (!(task instanceof DistroBatchDelayTask)) {
+            return;
+        }
+        DistroBatchDelayTask oldTask = (DistroBatchDelayTask) task;
+        Map<DistroKey, DistroDelayTask> newTasks = new LinkedHashMap<>(tasks);
+        tasks.clear();
+        tasks.putAll(oldTask.tasks);
+        newTasks.values().forEach(this::addTask);
+        setLastProcessTime(Math.min(getLastProcessTime(), oldTask.getLastProcessTime()));
+    }
+}
@@ -16,38 +16,81 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.delay;
 
+import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberChangeListener;
+import com.alibaba.nacos.core.cluster.MembersChangeEvent;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroInFlightPermits;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncChangeTask;
+import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncBatchTask;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroSyncDeleteTask;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Distro delay task processor.
  *
+ * <p>If the transport agent supports batch sync to target server, delay tasks are coalesced into
+ * {@link DistroBatchDelayTask} for each type and target server, and then synced by {@link DistroSyncBatchTask}. The
+ * in flight permits of target servers which are no longer members are removed when members changed.
+ *
  * @author xiweng.yy
  */
-public class DistroDelayTaskProcessor implements NacosTaskProcessor {
+public class DistroDelayTaskProcessor extends MemberChangeListener implements NacosTaskProcessor {
     
     private final DistroTaskEngineHolder distroTaskEngineHolder;
     
     private final DistroComponentHolder distroComponentHolder;
     
+    private final Map<String, DistroInFlightPermits> inFlightPermits = new ConcurrentHashMap<>();
+    
     public DistroDelayTaskProcessor(DistroTaskEngineHolder distroTaskEngineHolder,
             DistroComponentHolder distroComponentHolder) {
         this.distroTaskEngineHolder = distroTaskEngineHolder;
         this.distroComponentHolder = distroComponentHolder;
+        NotifyCenter.registerSubscriber(this);
+    }
+    
+    @Override
+    public void onEvent(MembersChangeEvent event) {
+        Set<String> addresses = new HashSet<>();
+        for (Member each : event.getMembers()) {
+            addresses.add(each.getAddress());
+        }
+        inFlightPermits.keySet().retainAll(addresses);
     }
     
     @Override
     public boolean process(NacosTask task) {
+        if (task instanceof DistroBatchDelayTask) {
+            processBatchTask((DistroBatchDelayTask) task);
+            return true;
+        }
         if (!(task instanceof DistroDelayTask)) {
             return true;
         }
         DistroDelayTask distroDelayTask = (DistroDelayTask) task;
         DistroKey distroKey = distroDelayTask.getDistroKey();
+        if (isBatchSupported(distroKey)) {
+            DistroKey batchKey = DistroBatchDelayTask.buildBatchKey(distroKey);
+            DistroBatchDelayTask batchTask = new DistroBatchDelayTask(batchKey,
+                    DistroConfig.getInstance().getSyncBatchDelayMillis());
+            batchTask.addTask(distroDelayTask);
+            distroTaskEngineHolder.getDelayTaskExecuteEngine().addTask(batchKey, batchTask);
+            return true;
+        }
         switch (distroDelayTask.getAction()) {
             case DELETE:
                 DistroSyncDeleteTask syncDeleteTask = new DistroSyncDeleteTask(distroKey, distroComponentHolder);
@@ -62,4 +105,37 @@ public class DistroDelayTaskProcessor implements NacosTaskProcessor {
                 return false;
         }
     }
+    
+    private boolean isBatchSupported(DistroKey distroKey) {
+        if (DistroConfig.getInstance().getSyncBatchSize() <= 1) {
+            return false;
+        }
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(distroKey.getResourceType());
+        return null != transportAgent && transportAgent.supportCallbackTransport() && transportAgent
+                .supportBatchSync(distroKey.getTargetServer());
+    }
+    
+    private void processBatchTask(DistroBatchDelayTask batchTask) {
+        DistroKey batchKey = batchTask.getBatchKey();
+        DistroInFlightPermits permits = inFlightPermits.computeIfAbsent(batchKey.getTargetServer(),
+                targetServer -> new DistroInFlightPermits());
+        int batchSize = Math.max(1, DistroConfig.getInstance().getSyncBatchSize());
+        List<DistroDelayTask> chunk = new ArrayList<>(batchSize);
+        for (DistroDelayTask each : batchTask.getTasks()) {
+            chunk.add(each);
+            if (chunk.size() >= batchSize) {
+                addSyncBatchTask(batchKey, chunk, permits);
+                chunk = new ArrayList<>(batchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            addSyncBatchTask(batchKey, chunk, permits);
+        }
+    }
+    
+    private void addSyncBatchTask(DistroKey batchKey, List<DistroDelayTask> chunk, DistroInFlightPermits permits) {
+        DistroSyncBatchTask syncBatchTask = new DistroSyncBatchTask(batchKey, chunk, permits, distroTaskEngineHolder,
+                distroComponentHolder);
+        distroTaskEngineHolder.getExecuteWorkersManager().addTask(batchKey, syncBatchTask);
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Permits of in flight distro batch sync requests to one target server.
+ *
+ * <p>The max permits is read from {@link DistroConfig#getSyncBatchMaxInFlight()} for each acquiring, so that changed
+ * config takes effect without recreating the permits.
+ *
+ * @author xiweng.yy
+ */
+public class DistroInFlightPermits {
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    /**
+     * Try to acquire one permit.
+     *
+     * @return {@code true} if acquired, otherwise the max in flight requests is reached
+     */
+    public boolean tryAcquire() {
+        int maxInFlight = Math.max(1, DistroConfig.getInstance().getSyncBatchMaxInFlight());
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+    
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+    
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
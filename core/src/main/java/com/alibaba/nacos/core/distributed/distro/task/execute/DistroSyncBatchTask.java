@@ -0,0 +1,170 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.common.task.AbstractExecuteTask;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
+import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
+import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
+import com.alibaba.nacos.core.distributed.distro.task.DistroTaskEngineHolder;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroBatchDelayTask;
+import com.alibaba.nacos.core.distributed.distro.task.delay.DistroDelayTask;
+import com.alibaba.nacos.core.utils.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Distro sync batch task, which syncs a batch of changed and deleted data to one target server by one request.
+ *
+ * <p>The number of in flight batch requests for each target server is limited by {@code inFlightPermits}. If no permit
+ * is available, the batch is put back to delay engine and merged with following changes.
+ *
+ * @author xiweng.yy
+ */
+public class DistroSyncBatchTask extends AbstractExecuteTask {
+    
+    private final DistroKey batchKey;
+    
+    private final List<DistroDelayTask> tasks;
+    
+    private final DistroInFlightPermits inFlightPermits;
+    
+    private final DistroTaskEngineHolder distroTaskEngineHolder;
+    
+    private final DistroComponentHolder distroComponentHolder;
+    
+    public DistroSyncBatchTask(DistroKey batchKey, List<DistroDelayTask> tasks, DistroInFlightPermits inFlightPermits,
+            DistroTaskEngineHolder distroTaskEngineHolder, DistroComponentHolder distroComponentHolder) {
+        this.batchKey = batchKey;
+        this.tasks = tasks;
+        this.inFlightPermits = inFlightPermits;
+        this.distroTaskEngineHolder = distroTaskEngineHolder;
+        this.distroComponentHolder = distroComponentHolder;
+    }
+    
+    @Override
+    public void run() {
+        String type = batchKey.getResourceType();
+        DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(type);
+        if (null == transportAgent) {
+            Loggers.DISTRO.warn("No found transport agent for type [{}]", type);
+            return;
+        }
+        if (!inFlightPermits.tryAcquire()) {
+            long delay = DistroConfig.getInstance().getSyncBatchDelayMillis();
+            distroTaskEngineHolder.getDelayTaskExecuteEngine()
+                    .addTask(batchKey, new DistroBatchDelayTask(batchKey, tasks, delay));
+            return;
+        }
+        List<DistroData> batchData = buildBatchData(type);
+        if (batchData.isEmpty()) {
+            inFlightPermits.release();
+            return;
+        }
+        Loggers.DISTRO.info("[DISTRO-START] {}", toString());
+        DistroBatchCallback callback = new DistroBatchCallback(batchData);
+        try {
+            transportAgent.syncBatchData(batchData, batchKey.getTargetServer(), callback);
+        } catch (Exception e) {
+            callback.onFailed(e);
+        }
+    }
+    
+    private List<DistroData> buildBatchData(String type) {
+        DistroDataStorage dataStorage = distroComponentHolder.findDataStorage(type);
+        List<DistroData> result = new ArrayList<>(tasks.size());
+        for (DistroDelayTask each : tasks) {
+            DistroKey distroKey = each.getDistroKey();
+            if (DataOperation.DELETE.equals(each.getAction())) {
+                DistroData distroData = new DistroData();
+                distroData.setDistroKey(distroKey);
+                distroData.setType(DataOperation.DELETE);
+                result.add(distroData);
+                continue;
+            }
+            DistroData distroData = dataStorage.getDistroData(distroKey);
+            if (null == distroData) {
+                Loggers.DISTRO.warn("[DISTRO] {} with null data to sync, skip", distroKey);
+                continue;
+            }
+            distroData.setType(DataOperation.CHANGE);
+            result.add(distroData);
+        }
+        return result;
+    }
+    
+    private void handleFailedTask(List<DistroData> batchData) {
+        String type = batchKey.getResourceType();
+        DistroFailedTaskHandler failedTaskHandler = distroComponentHolder.findFailedTaskHandler(type);
+        if (null == failedTaskHandler) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find failed task for type {}, so discarded", type);
+            return;
+        }
+        for (DistroData each : batchData) {
+            failedTaskHandler.retry(each.getDistroKey(), each.getType());
+        }
+    }
+    
+    @Override
+    public String toString() {
+        return "DistroSyncBatchTask for " + batchKey.toString() + " with " + tasks.size() + " tasks";
+    }
+    
+    private class DistroBatchCallback implements DistroCallback {
+        
+        private final List<DistroData> batchData;
+        
+        private DistroBatchCallback(List<DistroData> batchData) {
+            this.batchData = batchData;
+        }
+        
+        @Override
+        public void onSuccess() {
+            inFlightPermits.release();
+            DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(batchKey.getResourceType());
+            for (int i = 0; i < batchData.size(); i++) {
+                distroRecord.syncSuccess();
+            }
+            Loggers.DISTRO.info("[DISTRO-END] {} result: true", DistroSyncBatchTask.this.toString());
+        }
+        
+        @Override
+        public void onFailed(Throwable throwable) {
+            inFlightPermits.release();
+            DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(batchKey.getResourceType());
+            for (int i = 0; i < batchData.size(); i++) {
+                distroRecord.syncFail();
+            }
+            if (null == throwable) {
+                Loggers.DISTRO.info("[DISTRO-END] {} result: false", DistroSyncBatchTask.this.toString());
+            } else {
+                Loggers.DISTRO.warn("[DISTRO] Sync batch data failed. key: {}", batchKey.toString(), throwable);
+            }
+            handleFailedTask(batchData);
+        }
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -27,13 +29,23 @@ import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Distro load data task.
  *
+ * <p>If some members support chunked snapshot, the snapshot is split into chunks, and chunks are pulled from these
+ * members and processed in parallel, so that only {@code parallelism} chunks are held in memory at the same time.
+ * Loaded chunks are recorded, so only the failed chunks are pulled again when retry.
+ *
  * @author xiweng.yy
  */
 public class DistroLoadDataTask implements Runnable {
@@ -48,6 +60,8 @@ public class DistroLoadDataTask implements Runnable {
     
     private final Map<String, Boolean> loadCompletedMap;
     
+    private final Map<String, ChunkedLoadProgress> chunkedLoadProgressMap;
+    
     public DistroLoadDataTask(ServerMemberManager memberManager, DistroComponentHolder distroComponentHolder,
             DistroConfig distroConfig, DistroCallback loadCallback) {
         this.memberManager = memberManager;
@@ -55,6 +69,7 @@ public class DistroLoadDataTask implements Runnable {
         this.distroConfig = distroConfig;
         this.loadCallback = loadCallback;
         loadCompletedMap = new HashMap<>(1);
+        chunkedLoadProgressMap = new ConcurrentHashMap<>(1);
     }
     
     @Override
@@ -89,7 +104,33 @@ public class DistroLoadDataTask implements Runnable {
         }
     }
     
-    private boolean loadAllDataSnapshotFromRemote(String resourceType) {
+    /**
+     * Get count of loaded snapshot chunks.
+     *
+     * @return count of loaded chunks
+     */
+    public int getLoadedChunks() {
+        int result = 0;
+        for (ChunkedLoadProgress each : chunkedLoadProgressMap.values()) {
+            result += each.getLoadedCount();
+        }
+        return result;
+    }
+    
+    /**
+     * Get total count of snapshot chunks, {@code 0} if snapshot is not loaded by chunks.
+     *
+     * @return total count of chunks
+     */
+    public int getTotalChunks() {
+        int result = 0;
+        for (ChunkedLoadProgress each : chunkedLoadProgressMap.values()) {
+            result += each.getChunkCount();
+        }
+        return result;
+    }
+    
+    private boolean loadAllDataSnapshotFromRemote(String resourceType) throws InterruptedException {
         DistroTransportAgent transportAgent = distroComponentHolder.findTransportAgent(resourceType);
         DistroDataProcessor dataProcessor = distroComponentHolder.findDataProcessor(resourceType);
         if (null == transportAgent || null == dataProcessor) {
@@ -97,6 +138,15 @@ public class DistroLoadDataTask implements Runnable {
                     resourceType, transportAgent, dataProcessor);
             return false;
         }
+        List<Member> chunkedMembers = new ArrayList<>();
+        for (Member each : memberManager.allMembersWithoutSelf()) {
+            if (transportAgent.supportChunkedSnapshot(each.getAddress())) {
+                chunkedMembers.add(each);
+            }
+        }
+        if (!chunkedMembers.isEmpty() && distroConfig.getLoadDataChunkCount() > 1) {
+            return loadChunkedSnapshotFromRemote(resourceType, transportAgent, dataProcessor, chunkedMembers);
+        }
         for (Member each : memberManager.allMembersWithoutSelf()) {
             long startTime = System.currentTimeMillis();
             try {
@@ -120,6 +170,59 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    private boolean loadChunkedSnapshotFromRemote(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor, List<Member> members) throws InterruptedException {
+        ChunkedLoadProgress progress = chunkedLoadProgressMap.computeIfAbsent(resourceType,
+                type -> new ChunkedLoadProgress(distroConfig.getLoadDataChunkCount()));
+        List<Callable<Boolean>> chunkTasks = new ArrayList<>();
+        for (int i = 0; i < progress.getChunkCount(); i++) {
+            if (!progress.isLoaded(i)) {
+                int chunkIndex = i;
+                chunkTasks.add(() -> loadChunkFromRemote(resourceType, transportAgent, dataProcessor, members, progress,
+                        chunkIndex));
+            }
+        }
+        int parallelism = Math.max(1, Math.min(distroConfig.getLoadDataParallelism(), chunkTasks.size()));
+        ExecutorService executor = ExecutorFactory
+                .newFixedExecutorService(parallelism, new NameThreadFactory("com.alibaba.nacos.core.distro.load"));
+        try {
+            executor.invokeAll(chunkTasks);
+        } finally {
+            executor.shutdownNow();
+        }
+        Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} by chunks, loaded {}/{}", resourceType,
+                progress.getLoadedCount(), progress.getChunkCount());
+        if (progress.isCompleted()) {
+            distroComponentHolder.findDataStorage(resourceType).finishInitial();
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean loadChunkFromRemote(String resourceType, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor, List<Member> members, ChunkedLoadProgress progress, int chunkIndex) {
+        // Start from different members for different chunks, so that the load is spread to all members.
+        for (int i = 0; i < members.size(); i++) {
+            String address = members.get((chunkIndex + i) % members.size()).getAddress();
+            long startTime = System.currentTimeMillis();
+            try {
+                DistroData distroData = transportAgent.getDatumSnapshot(address, chunkIndex, progress.getChunkCount());
+                boolean result = dataProcessor.processSnapshot(distroData);
+                Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} chunk {} from {} took {} ms, size: {}, result: {}",
+                        resourceType, chunkIndex, address, System.currentTimeMillis() - startTime,
+                        getDistroDataLength(distroData), result);
+                if (result) {
+                    progress.markLoaded(chunkIndex);
+                    return true;
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.error("[DISTRO-INIT] load snapshot {} chunk {} from {} failed.", resourceType,
+                        chunkIndex, address, e);
+            }
+        }
+        return false;
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -135,4 +238,35 @@ public class DistroLoadDataTask implements Runnable {
         }
         return true;
     }
+    
+    private static class ChunkedLoadProgress {
+        
+        private final int chunkCount;
+        
+        private final Set<Integer> loadedChunks = ConcurrentHashMap.newKeySet();
+        
+        private ChunkedLoadProgress(int chunkCount) {
+            this.chunkCount = chunkCount;
+        }
+        
+        private int getChunkCount() {
+            return chunkCount;
+        }
+        
+        private int getLoadedCount() {
+            return loadedChunks.size();
+        }
+        
+        private boolean isLoaded(int chunkIndex) {
+            return loadedChunks.contains(chunkIndex);
+        }
+        
+        private void markLoaded(int chunkIndex) {
+            loadedChunks.add(chunkIndex);
+        }
+        
+        private boolean isCompleted() {
+            return loadedChunks.size() >= chunkCount;
+        }
+    }
 }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.core.distributed.distro.task.verify;
 
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
 import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
+import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
@@ -37,6 +38,10 @@ public class DistroVerifyExecuteTask extends AbstractExecuteTask {
     
     private final List<DistroData> verifyData;
     
+    private final DistroDataStorage dataStorage;
+    
+    private final DistroData verifyDigest;
+    
     private final String targetServer;
     
     private final String resourceType;
@@ -45,13 +50,32 @@ public class DistroVerifyExecuteTask extends AbstractExecuteTask {
             String targetServer, String resourceType) {
         this.transportAgent = transportAgent;
         this.verifyData = verifyData;
+        this.dataStorage = null;
+        this.verifyDigest = null;
+        this.targetServer = targetServer;
+        this.resourceType = resourceType;
+    }
+    
+    /**
+     * Verify by digest first, and only verify data of mismatched parts is sent.
+     */
+    public DistroVerifyExecuteTask(DistroTransportAgent transportAgent, DistroDataStorage dataStorage,
+            DistroData verifyDigest, String targetServer, String resourceType) {
+        this.transportAgent = transportAgent;
+        this.verifyData = null;
+        this.dataStorage = dataStorage;
+        this.verifyDigest = verifyDigest;
         this.targetServer = targetServer;
         this.resourceType = resourceType;
     }
     
     @Override
     public void run() {
-        for (DistroData each : verifyData) {
+        List<DistroData> actualVerifyData = null == verifyDigest ? verifyData : getVerifyDataByDigest();
+        if (null == actualVerifyData) {
+            return;
+        }
+        for (DistroData each : actualVerifyData) {
             try {
                 if (transportAgent.supportCallbackTransport()) {
                     doSyncVerifyDataWithCallback(each);
@@ -65,6 +89,19 @@ public class DistroVerifyExecuteTask extends AbstractExecuteTask {
         }
     }
     
+    private List<DistroData> getVerifyDataByDigest() {
+        try {
+            DistroData mismatchedDigest = transportAgent.syncVerifyDigest(verifyDigest, targetServer);
+            return null == mismatchedDigest ? dataStorage.getVerifyData()
+                    : dataStorage.getVerifyData(mismatchedDigest);
+        } catch (Exception e) {
+            DistroRecordsHolder.getInstance().getRecord(resourceType).verifyFail();
+            Loggers.DISTRO.error("[DISTRO-FAILED] verify digest for type {} to {} failed.", resourceType,
+                    targetServer, e);
+            return null;
+        }
+    }
+    
     private void doSyncVerifyDataWithCallback(DistroData data) {
         transportAgent.syncVerifyData(data, targetServer, new DistroVerifyCallback());
     }
@@ -17,7 +17,9 @@
 package com.alibaba.nacos.core.distributed.distro.task.verify;
 
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberMetaDataConstants;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
@@ -25,6 +27,7 @@ import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.task.execute.DistroExecuteTaskExecuteEngine;
 import com.alibaba.nacos.core.utils.Loggers;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -69,17 +72,35 @@ public class DistroVerifyTimedTask implements Runnable {
                     dataStorage.getClass().getSimpleName());
             return;
         }
-        List<DistroData> verifyData = dataStorage.getVerifyData();
-        if (null == verifyData || verifyData.isEmpty()) {
-            return;
-        }
+        DistroData verifyDigest = DistroConfig.getInstance().isVerifyDigestEnabled() ? dataStorage.getVerifyDigest()
+                : null;
+        List<DistroData> verifyData = null;
         for (Member member : targetServer) {
             DistroTransportAgent agent = distroComponentHolder.findTransportAgent(type);
             if (null == agent) {
                 continue;
             }
-            executeTaskExecuteEngine.addTask(member.getAddress() + type,
-                    new DistroVerifyExecuteTask(agent, verifyData, member.getAddress(), type));
+            if (null != verifyDigest && isSupportVerifyDigest(member)) {
+                executeTaskExecuteEngine.addTask(member.getAddress() + type,
+                        new DistroVerifyExecuteTask(agent, dataStorage, verifyDigest, member.getAddress(), type));
+                continue;
+            }
+            // Verify data of all datum is only generated once for all members not supporting digest.
+            if (null == verifyData) {
+                verifyData = dataStorage.getVerifyData();
+                if (null == verifyData) {
+                    verifyData = Collections.emptyList();
+                }
+            }
+            if (!verifyData.isEmpty()) {
+                executeTaskExecuteEngine.addTask(member.getAddress() + type,
+                        new DistroVerifyExecuteTask(agent, verifyData, member.getAddress(), type));
+            }
         }
     }
+    
+    private boolean isSupportVerifyDigest(Member member) {
+        return (Boolean) member.getExtendInfo()
+                .getOrDefault(MemberMetaDataConstants.SUPPORT_DISTRO_VERIFY_DIGEST, Boolean.FALSE);
+    }
 }
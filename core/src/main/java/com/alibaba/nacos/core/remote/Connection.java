@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.core.remote;
 
+import com.alibaba.nacos.api.ability.constant.AbilityKey;
 import com.alibaba.nacos.api.remote.Requester;
+import com.alibaba.nacos.common.remote.codec.PayloadCodec;
+import com.alibaba.nacos.common.remote.codec.PayloadCodecManager;
 
 import java.util.Map;
 
@@ -29,6 +32,11 @@ import java.util.Map;
 @SuppressWarnings("PMD.AbstractClassShouldStartWithAbstractNamingRule")
 public abstract class Connection implements Requester {
     
+    /**
+     * Sdk client and cluster client use the same ability name for compact payload.
+     */
+    private static final String COMPACT_PAYLOAD_ABILITY = AbilityKey.SDK_CLIENT_SUPPORT_COMPACT_PAYLOAD.getName();
+    
     private boolean traced = false;
     
     private Map<String, Boolean> abilityTable;
@@ -63,6 +71,30 @@ public abstract class Connection implements Requester {
         return this.abilityTable;
     }
     
+    /**
+     * Get payload codec negotiated with client, null means json.
+     *
+     * @return payload codec or null
+     */
+    public PayloadCodec getPayloadCodec() {
+        Map<String, Boolean> abilities = this.abilityTable;
+        if (null != abilities && Boolean.TRUE.equals(abilities.get(COMPACT_PAYLOAD_ABILITY))) {
+            return PayloadCodecManager.getInstance().getCompactCodec();
+        }
+        return null;
+    }
+    
+    /**
+     * Whether the ability is reported supported by client.
+     *
+     * @param abilityKey ability key
+     * @return {@code true} if supported
+     */
+    public boolean isAbilitySupported(AbilityKey abilityKey) {
+        Map<String, Boolean> abilities = this.abilityTable;
+        return null != abilities && Boolean.TRUE.equals(abilities.get(abilityKey.getName()));
+    }
+    
     /**
      * check is connected.
      *
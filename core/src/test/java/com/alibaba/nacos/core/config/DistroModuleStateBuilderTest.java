@@ -55,13 +55,25 @@ class DistroModuleStateBuilderTest {
                 states.get(DistroConstants.DATA_SYNC_TIMEOUT_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_SYNC_RETRY_DELAY_MILLISECONDS,
                 states.get(DistroConstants.DATA_SYNC_RETRY_DELAY_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE,
+                states.get(DistroConstants.DATA_SYNC_BATCH_SIZE_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_SYNC_BATCH_DELAY_MILLISECONDS,
+                states.get(DistroConstants.DATA_SYNC_BATCH_DELAY_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_SYNC_BATCH_MAX_IN_FLIGHT,
+                states.get(DistroConstants.DATA_SYNC_BATCH_MAX_IN_FLIGHT_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_INTERVAL_MILLISECONDS,
                 states.get(DistroConstants.DATA_VERIFY_INTERVAL_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_VERIFY_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED,
+                states.get(DistroConstants.DATA_VERIFY_DIGEST_ENABLED_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_RETRY_DELAY_MILLISECONDS_STATE));
         assertEquals(DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS,
                 states.get(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_CHUNK_COUNT,
+                states.get(DistroConstants.DATA_LOAD_CHUNK_COUNT_STATE));
+        assertEquals(DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM,
+                states.get(DistroConstants.DATA_LOAD_PARALLELISM_STATE));
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.core.distributed.distro.task.delay;
+
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.DistroConstants;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroBatchDelayTaskTest {
+    
+    private static final String TYPE = "type";
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    private DistroKey batchKey;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        batchKey = DistroBatchDelayTask.buildBatchKey(new DistroKey("client", TYPE, TARGET));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        DistroConfig.getInstance().setSyncBatchSize(DistroConstants.DEFAULT_DATA_SYNC_BATCH_SIZE);
+    }
+    
+    @Test
+    void testBuildBatchKey() {
+        assertEquals(batchKey, DistroBatchDelayTask.buildBatchKey(new DistroKey("otherClient", TYPE, TARGET)));
+        assertEquals(TYPE, batchKey.getResourceType());
+        assertEquals(TARGET, batchKey.getTargetServer());
+    }
+    
+    @Test
+    void testMergeKeepLatestAction() throws InterruptedException {
+        DistroKey distroKey = new DistroKey("client", TYPE, TARGET);
+        DistroBatchDelayTask oldTask = new DistroBatchDelayTask(batchKey, 10000L);
+        oldTask.addTask(new DistroDelayTask(distroKey, DataOperation.CHANGE, 0L));
+        oldTask.addTask(new DistroDelayTask(new DistroKey("other", TYPE, TARGET), DataOperation.CHANGE, 0L));
+        TimeUnit.MILLISECONDS.sleep(2);
+        DistroBatchDelayTask newTask = new DistroBatchDelayTask(batchKey, 10000L);
+        newTask.addTask(new DistroDelayTask(distroKey, DataOperation.DELETE, 0L));
+        newTask.merge(oldTask);
+        assertEquals(2, newTask.getTasks().size());
+        assertEquals(oldTask.getLastProcessTime(), newTask.getLastProcessTime());
+        Iterator<DistroDelayTask> iterator = newTask.getTasks().iterator();
+        DistroDelayTask first = iterator.next();
+        assertEquals(distroKey, first.getDistroKey());
+        assertEquals(DataOperation.DELETE, first.getAction());
+        assertEquals("other", iterator.next().getDistroKey().getResourceKey());
+    }
+    
+    @Test
+    void testShouldProcessWhenBatchFull() {
+        DistroConfig.getInstance().setSyncBatchSize(2);
+        DistroBatchDelayTask batchTask = new DistroBatchDelayTask(batchKey, 10000L);
+        batchTask.addTask(new DistroDelayTask(new DistroKey("client1", TYPE, TARGET), 0L));
+        assertFalse(batchTask.shouldProcess());
+        batchTask.addTask(new DistroDelayTask(new DistroKey("client1", TYPE, TARGET), 0L));
+        assertFalse(batchTask.shouldProcess());
+        batchTask.addTask(new DistroDelayTask(new DistroKey("client2", TYPE, TARGET), 0L));
+        assertTrue(batchTask.shouldProcess());
+    }
+}
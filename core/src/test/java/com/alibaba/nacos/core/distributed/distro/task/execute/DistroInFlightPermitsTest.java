@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.core.distributed.distro.task.execute;
+
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DistroInFlightPermitsTest {
+    
+    private int originalMaxInFlight;
+    
+    @BeforeEach
+    void setUp() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        originalMaxInFlight = DistroConfig.getInstance().getSyncBatchMaxInFlight();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        DistroConfig.getInstance().setSyncBatchMaxInFlight(originalMaxInFlight);
+    }
+    
+    @Test
+    void testMaxInFlightReadForEachAcquire() {
+        DistroInFlightPermits permits = new DistroInFlightPermits();
+        DistroConfig.getInstance().setSyncBatchMaxInFlight(1);
+        assertTrue(permits.tryAcquire());
+        assertFalse(permits.tryAcquire());
+        DistroConfig.getInstance().setSyncBatchMaxInFlight(2);
+        assertTrue(permits.tryAcquire());
+        assertEquals(2, permits.getInFlight());
+        permits.release();
+        permits.release();
+        assertEquals(0, permits.getInFlight());
+    }
+}
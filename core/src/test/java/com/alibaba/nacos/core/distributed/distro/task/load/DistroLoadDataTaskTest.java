@@ -33,6 +33,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 import org.springframework.mock.env.MockEnvironment;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -40,13 +42,18 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class DistroLoadDataTaskTest {
     
     private final String type = "com.alibaba.nacos.naming.iplist.";
@@ -109,4 +116,36 @@ class DistroLoadDataTaskTest {
         assertTrue(loadCompletedMap.containsKey(type));
         verify(distroTransportAgent).getDatumSnapshot(any(String.class));
     }
+    
+    @Test
+    void testRunWithChunkedSnapshot() {
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(4);
+        when(distroConfig.getLoadDataParallelism()).thenReturn(2);
+        when(distroTransportAgent.supportChunkedSnapshot(any(String.class))).thenReturn(true);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), anyInt(), anyInt())).thenReturn(distroData);
+        // chunk 0 is loaded from 2.2.2.2 first, and retry with 1.1.1.1 when failed.
+        when(distroTransportAgent.getDatumSnapshot("2.2.2.2:8848", 0, 4)).thenThrow(new RuntimeException("test"));
+        distroLoadDataTask.run();
+        assertEquals(4, distroLoadDataTask.getTotalChunks());
+        assertEquals(4, distroLoadDataTask.getLoadedChunks());
+        verify(distroTransportAgent).getDatumSnapshot("1.1.1.1:8848", 0, 4);
+        verify(distroTransportAgent, never()).getDatumSnapshot(any(String.class));
+        verify(distroDataStorage).finishInitial();
+        verify(loadCallback).onSuccess();
+    }
+    
+    @Test
+    void testRunWithChunkedSnapshotFailed() {
+        when(distroConfig.getLoadDataChunkCount()).thenReturn(4);
+        when(distroConfig.getLoadDataParallelism()).thenReturn(2);
+        when(distroTransportAgent.supportChunkedSnapshot(any(String.class))).thenReturn(true);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), anyInt(), anyInt())).thenReturn(distroData);
+        when(distroTransportAgent.getDatumSnapshot(any(String.class), eq(1), eq(4)))
+                .thenThrow(new RuntimeException("test"));
+        when(distroConfig.getLoadDataRetryDelayMillis()).thenReturn(60000L);
+        distroLoadDataTask.run();
+        assertEquals(3, distroLoadDataTask.getLoadedChunks());
+        verify(distroDataStorage, never()).finishInitial();
+        verify(loadCallback, never()).onSuccess();
+    }
 }
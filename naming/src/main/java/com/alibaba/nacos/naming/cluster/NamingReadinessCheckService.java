@@ -45,6 +45,11 @@ public class NamingReadinessCheckService extends AbstractModuleHealthChecker {
         return false;
     }
     
+    @Override
+    public String getReadinessDetail() {
+        return serverStatusManager.getErrorMsg().orElse(null);
+    }
+    
     @Override
     public String getModuleName() {
         return Constants.Naming.NAMING_MODULE;
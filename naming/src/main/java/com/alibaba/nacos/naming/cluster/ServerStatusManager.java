@@ -92,6 +92,11 @@ public class ServerStatusManager {
             return Optional.empty();
         }
         if (!distroProtocol.isInitialized()) {
+            int totalChunks = distroProtocol.getTotalSnapshotChunks();
+            if (totalChunks > 0) {
+                return Optional.of(String.format("Distro snapshot is loading, loaded chunks: %d/%d.",
+                        distroProtocol.getLoadedSnapshotChunks(), totalChunks));
+            }
             return Optional.of(
                     "Distro snapshot load failed, please see logs `protocol-distro.log` or `naming-distro.log` to see details.");
         }
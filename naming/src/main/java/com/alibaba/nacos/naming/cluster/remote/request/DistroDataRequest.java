@@ -20,6 +20,8 @@ import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.remote.request.AbstractClusterRequest;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 
+import java.util.List;
+
 /**
  * Distro data request.
  *
@@ -31,6 +33,12 @@ public class DistroDataRequest extends AbstractClusterRequest {
     
     private DataOperation dataOperation;
     
+    private List<DistroData> batchDistroData;
+    
+    private int chunkIndex;
+    
+    private int chunkCount;
+    
     public DistroDataRequest() {
     }
     
@@ -54,4 +62,28 @@ public class DistroDataRequest extends AbstractClusterRequest {
     public void setDataOperation(DataOperation dataOperation) {
         this.dataOperation = dataOperation;
     }
+    
+    public List<DistroData> getBatchDistroData() {
+        return batchDistroData;
+    }
+    
+    public void setBatchDistroData(List<DistroData> batchDistroData) {
+        this.batchDistroData = batchDistroData;
+    }
+    
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+    
+    public void setChunkIndex(int chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+    
+    public int getChunkCount() {
+        return chunkCount;
+    }
+    
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
 }
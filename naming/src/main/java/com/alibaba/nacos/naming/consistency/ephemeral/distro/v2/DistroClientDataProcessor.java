@@ -19,6 +19,7 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
@@ -45,10 +46,14 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Distro processor for v2.
@@ -59,8 +64,17 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     public static final String TYPE = "Nacos:Naming:v2:ClientData";
     
+    private static final String VERIFY_DIGEST_KEY = "verifyDigest";
+    
     private final ClientManager clientManager;
     
+    /**
+     * Source server of clients which have been verified, used to calculate digest of clients from source server.
+     */
+    private final Map<String, String> clientSources = new ConcurrentHashMap<>();
+    
+    private final Map<String, Set<String>> sourceClients = new ConcurrentHashMap<>();
+    
     private final DistroProtocol distroProtocol;
     
     private volatile boolean isFinishInitial;
@@ -92,6 +106,9 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public void onEvent(Event event) {
+        if (event instanceof ClientEvent.ClientDisconnectEvent) {
+            removeClientSource(((ClientEvent) event).getClient().getClientId());
+        }
         if (EnvUtil.getStandaloneMode()) {
             return;
         }
@@ -155,6 +172,45 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
     }
     
+    @Override
+    public boolean processBatchData(List<DistroData> batchData) {
+        // Deserialize all data before applying, so that the batch is rejected as a whole with broken data.
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        List<ClientSyncData> clientSyncData = new ArrayList<>(batchData.size());
+        for (DistroData each : batchData) {
+            switch (each.getType()) {
+                case ADD:
+                case CHANGE:
+                    clientSyncData.add(serializer.deserialize(each.getContent(), ClientSyncData.class));
+                    break;
+                case DELETE:
+                    clientSyncData.add(null);
+                    break;
+                default:
+                    Loggers.DISTRO.warn("[DISTRO] Unsupported operation {} in batch data, reject it", each.getType());
+                    return false;
+            }
+        }
+        // Applying is not atomic, but each item carries the full data of one client, so applying it again is
+        // idempotent. Failed items don't stop the others, and the whole batch is retried by returning false.
+        boolean result = true;
+        for (int i = 0; i < batchData.size(); i++) {
+            try {
+                if (null != clientSyncData.get(i)) {
+                    handlerClientSyncData(clientSyncData.get(i));
+                } else {
+                    String deleteClientId = batchData.get(i).getDistroKey().getResourceKey();
+                    Loggers.DISTRO.info("[Client-Delete] Received distro client sync data {}", deleteClientId);
+                    clientManager.clientDisconnected(deleteClientId);
+                }
+            } catch (Exception e) {
+                Loggers.DISTRO.warn("[DISTRO] Apply batch data {} failed", batchData.get(i).getDistroKey(), e);
+                result = false;
+            }
+        }
+        return result;
+    }
+    
     private void handlerClientSyncData(ClientSyncData clientSyncData) {
         Loggers.DISTRO
                 .info("[Client-Add] Received distro client sync data {}, revision={}", clientSyncData.getClientId(),
@@ -228,12 +284,101 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         DistroClientVerifyInfo verifyData = ApplicationUtils.getBean(Serializer.class)
                 .deserialize(distroData.getContent(), DistroClientVerifyInfo.class);
         if (clientManager.verifyClient(verifyData)) {
+            recordClientSource(verifyData.getClientId(), distroData.getDistroKey().getTargetServer());
             return true;
         }
         Loggers.DISTRO.info("client {} is invalid, get new client from {}", verifyData.getClientId(), sourceAddress);
         return false;
     }
     
+    @Override
+    public DistroData processVerifyDigest(DistroData distroData, String sourceAddress) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroClientVerifyDigest remoteDigest = serializer
+                .deserialize(distroData.getContent(), DistroClientVerifyDigest.class);
+        String source = distroData.getDistroKey().getTargetServer();
+        Map<Integer, List<String>> bucketClients = new HashMap<>(DistroClientVerifyDigest.BUCKET_COUNT);
+        DistroClientVerifyDigest localDigest = calculateSourceDigest(source, bucketClients);
+        DistroClientVerifyDigest result = new DistroClientVerifyDigest();
+        if (null == remoteDigest.getBuckets()) {
+            if (remoteDigest.getRoot() == localDigest.calculateRoot()) {
+                bucketClients.values().forEach(this::renewClients);
+                result.setMismatchedBuckets(new int[0]);
+            }
+        } else {
+            List<Integer> mismatchedBuckets = new LinkedList<>();
+            for (int i = 0; i < DistroClientVerifyDigest.BUCKET_COUNT; i++) {
+                if (remoteDigest.getBuckets()[i] != localDigest.getBuckets()[i]) {
+                    mismatchedBuckets.add(i);
+                } else if (bucketClients.containsKey(i)) {
+                    renewClients(bucketClients.get(i));
+                }
+            }
+            result.setMismatchedBuckets(mismatchedBuckets.stream().mapToInt(Integer::intValue).toArray());
+            Loggers.DISTRO.debug("[DISTRO] verify digest from {}, mismatched buckets {}", sourceAddress,
+                    mismatchedBuckets);
+        }
+        DistroData resultData = new DistroData(distroData.getDistroKey(), serializer.serialize(result));
+        resultData.setType(DataOperation.DIGEST);
+        return resultData;
+    }
+    
+    private DistroClientVerifyDigest calculateSourceDigest(String source, Map<Integer, List<String>> bucketClients) {
+        DistroClientVerifyDigest result = DistroClientVerifyDigest.newDigest();
+        Set<String> clientIds = StringUtils.isBlank(source) ? null : sourceClients.get(source);
+        if (null == clientIds) {
+            return result;
+        }
+        for (String each : clientIds) {
+            Client client = clientManager.getClient(each);
+            if (null == client) {
+                removeClientSource(each);
+                continue;
+            }
+            result.add(each, client.getRevision());
+            bucketClients.computeIfAbsent(DistroClientVerifyDigest.bucketOf(each), key -> new LinkedList<>())
+                    .add(each);
+        }
+        return result;
+    }
+    
+    private void renewClients(List<String> clientIds) {
+        for (String each : clientIds) {
+            Client client = clientManager.getClient(each);
+            if (null != client) {
+                clientManager.verifyClient(new DistroClientVerifyInfo(each, client.getRevision()));
+            }
+        }
+    }
+    
+    private void recordClientSource(String clientId, String source) {
+        if (StringUtils.isBlank(source)) {
+            return;
+        }
+        String oldSource = clientSources.put(clientId, source);
+        if (source.equals(oldSource)) {
+            return;
+        }
+        if (null != oldSource) {
+            removeFromSource(clientId, oldSource);
+        }
+        sourceClients.computeIfAbsent(source, key -> ConcurrentHashMap.newKeySet()).add(clientId);
+    }
+    
+    private void removeClientSource(String clientId) {
+        String source = clientSources.remove(clientId);
+        if (null != source) {
+            removeFromSource(clientId, source);
+        }
+    }
+    
+    private void removeFromSource(String clientId, String source) {
+        Set<String> clientIds = sourceClients.get(source);
+        if (null != clientIds) {
+            clientIds.remove(clientId);
+        }
+    }
+    
     @Override
     public boolean processSnapshot(DistroData distroData) {
         ClientSyncDatumSnapshot snapshot = ApplicationUtils.getBean(Serializer.class)
@@ -256,8 +401,16 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     @Override
     public DistroData getDatumSnapshot() {
+        return getDatumSnapshot(0, 1);
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(int chunkIndex, int chunkCount) {
         List<ClientSyncData> datum = new LinkedList<>();
         for (String each : clientManager.allClientId()) {
+            if (Math.floorMod(each.hashCode(), chunkCount) != chunkIndex) {
+                continue;
+            }
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -293,4 +446,55 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         return result;
     }
+    
+    @Override
+    public DistroData getVerifyDigest() {
+        DistroClientVerifyDigest digest = DistroClientVerifyDigest.newDigest();
+        for (Client each : getResponsibleClients()) {
+            digest.add(each.getClientId(), each.getRevision());
+        }
+        DistroKey distroKey = new DistroKey(VERIFY_DIGEST_KEY, TYPE, EnvUtil.getLocalAddress());
+        DistroData result = new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(digest));
+        result.setType(DataOperation.DIGEST);
+        return result;
+    }
+    
+    @Override
+    public List<DistroData> getVerifyData(DistroData mismatchedDigest) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroClientVerifyDigest digest = serializer
+                .deserialize(mismatchedDigest.getContent(), DistroClientVerifyDigest.class);
+        if (null == digest.getMismatchedBuckets() || 0 == digest.getMismatchedBuckets().length) {
+            return null;
+        }
+        boolean[] mismatched = new boolean[DistroClientVerifyDigest.BUCKET_COUNT];
+        for (int each : digest.getMismatchedBuckets()) {
+            mismatched[each] = true;
+        }
+        String localAddress = EnvUtil.getLocalAddress();
+        List<DistroData> result = new LinkedList<>();
+        for (Client each : getResponsibleClients()) {
+            if (!mismatched[DistroClientVerifyDigest.bucketOf(each.getClientId())]) {
+                continue;
+            }
+            DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(each.getClientId(), each.getRevision());
+            // Target server of key is the source of client, which is used by target to calculate digest.
+            DistroKey distroKey = new DistroKey(each.getClientId(), TYPE, localAddress);
+            DistroData data = new DistroData(distroKey, serializer.serialize(verifyData));
+            data.setType(DataOperation.VERIFY);
+            result.add(data);
+        }
+        return result;
+    }
+    
+    private List<Client> getResponsibleClients() {
+        List<Client> result = new ArrayList<>();
+        for (String each : clientManager.allClientId()) {
+            Client client = clientManager.getClient(each);
+            if (null != client && client.isEphemeral() && clientManager.isResponsibleClient(client)) {
+                result.add(client);
+            }
+        }
+        return result;
+    }
 }
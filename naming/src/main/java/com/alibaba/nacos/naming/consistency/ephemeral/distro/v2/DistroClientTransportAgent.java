@@ -23,6 +23,7 @@ import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberMetaDataConstants;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
@@ -34,11 +35,14 @@ import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 
 /**
@@ -107,6 +111,36 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportBatchSync(String targetServer) {
+        Member member = memberManager.find(targetServer);
+        return null != member && (Boolean) member.getExtendInfo()
+                .getOrDefault(MemberMetaDataConstants.SUPPORT_DISTRO_BATCH_SYNC, Boolean.FALSE);
+    }
+    
+    @Override
+    public void syncBatchData(List<DistroData> batchData, String targetServer, DistroCallback callback) {
+        if (isNoExistTarget(targetServer)) {
+            callback.onSuccess();
+            return;
+        }
+        DistroDataRequest request = new DistroDataRequest();
+        request.setDataOperation(DataOperation.BATCH);
+        request.setBatchDistroData(batchData);
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            Loggers.DISTRO.warn("[DISTRO] Cancel distro batch sync caused by target server {} unhealthy, size: {}",
+                    targetServer, batchData.size());
+            callback.onFailed(null);
+            return;
+        }
+        try {
+            clusterRpcClientProxy.asyncRequest(member, request, new DistroRpcCallbackWrapper(callback, member));
+        } catch (NacosException nacosException) {
+            callback.onFailed(nacosException);
+        }
+    }
+    
     @Override
     public boolean syncVerifyData(DistroData verifyData, String targetServer) {
         if (isNoExistTarget(targetServer)) {
@@ -155,6 +189,51 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public DistroData syncVerifyDigest(DistroData verifyDigest, String targetServer) {
+        if (isNoExistTarget(targetServer)) {
+            return null;
+        }
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel verify digest caused by target server %s unhealthy", targetServer));
+        }
+        if (!isSupportVerifyDigest(member)) {
+            return null;
+        }
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroClientVerifyDigest digest = serializer
+                .deserialize(verifyDigest.getContent(), DistroClientVerifyDigest.class);
+        DistroData rootDigest = new DistroData(verifyDigest.getDistroKey(),
+                serializer.serialize(digest.toRootDigest()));
+        rootDigest.setType(DataOperation.DIGEST);
+        DistroData result = doSyncVerifyDigest(rootDigest, member);
+        if (null == result) {
+            return null;
+        }
+        DistroClientVerifyDigest rootResult = serializer
+                .deserialize(result.getContent(), DistroClientVerifyDigest.class);
+        // Root mismatched, exchange digests of buckets to find out mismatched buckets.
+        return null == rootResult.getMismatchedBuckets() ? doSyncVerifyDigest(verifyDigest, member) : result;
+    }
+    
+    private DistroData doSyncVerifyDigest(DistroData verifyDigest, Member member) {
+        DistroDataRequest request = new DistroDataRequest(verifyDigest, DataOperation.DIGEST);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getVerifyTimeoutMillis());
+            if (checkResponse(response)) {
+                return ((DistroDataResponse) response).getDistroData();
+            }
+            throw new DistroException(
+                    String.format("[DISTRO-FAILED] Verify digest request to %s failed, code: %d, message: %s",
+                            member.getAddress(), response.getErrorCode(), response.getMessage()));
+        } catch (NacosException e) {
+            throw new DistroException("[DISTRO-FAILED] Verify distro digest failed! ", e);
+        }
+    }
+    
     @Override
     public DistroData getData(DistroKey key, String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -206,6 +285,39 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
     }
     
+    @Override
+    public boolean supportChunkedSnapshot(String targetServer) {
+        Member member = memberManager.find(targetServer);
+        return null != member && (Boolean) member.getExtendInfo()
+                .getOrDefault(MemberMetaDataConstants.SUPPORT_DISTRO_CHUNKED_SNAPSHOT, Boolean.FALSE);
+    }
+    
+    @Override
+    public DistroData getDatumSnapshot(String targetServer, int chunkIndex, int chunkCount) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel get snapshot chunk caused by target server %s unhealthy",
+                            targetServer));
+        }
+        DistroDataRequest request = new DistroDataRequest();
+        request.setDataOperation(DataOperation.SNAPSHOT_CHUNK);
+        request.setChunkIndex(chunkIndex);
+        request.setChunkCount(chunkCount);
+        try {
+            Response response = clusterRpcClientProxy
+                    .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
+            if (checkResponse(response)) {
+                return ((DistroDataResponse) response).getDistroData();
+            }
+            throw new DistroException(
+                    String.format("[DISTRO-FAILED] Get snapshot chunk %d request to %s failed, code: %d, message: %s",
+                            chunkIndex, targetServer, response.getErrorCode(), response.getMessage()));
+        } catch (NacosException e) {
+            throw new DistroException("[DISTRO-FAILED] Get distro snapshot chunk failed! ", e);
+        }
+    }
+    
     private boolean isNoExistTarget(String target) {
         return !memberManager.hasMember(target);
     }
@@ -214,6 +326,11 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         return null == member || !NodeState.UP.equals(member.getState()) || !clusterRpcClientProxy.isRunning(member);
     }
     
+    private boolean isSupportVerifyDigest(Member member) {
+        return (Boolean) member.getExtendInfo()
+                .getOrDefault(MemberMetaDataConstants.SUPPORT_DISTRO_VERIFY_DIGEST, Boolean.FALSE);
+    }
+    
     private boolean checkResponse(Response response) {
         return ResponseCode.SUCCESS.getCode() == response.getResultCode();
     }
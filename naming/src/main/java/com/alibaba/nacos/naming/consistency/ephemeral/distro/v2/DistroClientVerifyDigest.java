@@ -0,0 +1,168 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Digest of clients for verifying, which is a merkle tree with two levels.
+ *
+ * <p>Clients are hashed into fixed buckets by client id. The digest of bucket is the sum of hashes of client id and
+ * revision, so it is independent of iteration order, and the root is the hash of all bucket digests. Servers exchange
+ * the root first and the bucket digests only when the root mismatched, then only clients in mismatched buckets are
+ * verified one by one.
+ *
+ * @author xiweng.yy
+ */
+public class DistroClientVerifyDigest implements Serializable {
+    
+    public static final int BUCKET_COUNT = 256;
+    
+    private static final long serialVersionUID = -6170931575407376529L;
+    
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    
+    private static final long FNV_PRIME = 0x100000001b3L;
+    
+    /**
+     * Root digest, only set in root digest.
+     */
+    private long root;
+    
+    /**
+     * Digests of buckets, {@code null} if only root is exchanged.
+     */
+    private long[] buckets;
+    
+    /**
+     * Mismatched buckets replied by target server, {@code null} if root mismatched and buckets are required.
+     */
+    private int[] mismatchedBuckets;
+    
+    public DistroClientVerifyDigest() {
+    }
+    
+    /**
+     * Create an empty digest for adding clients.
+     *
+     * @return empty digest with buckets
+     */
+    public static DistroClientVerifyDigest newDigest() {
+        DistroClientVerifyDigest result = new DistroClientVerifyDigest();
+        result.buckets = new long[BUCKET_COUNT];
+        return result;
+    }
+    
+    /**
+     * Add client into digest.
+     *
+     * @param clientId client id
+     * @param revision revision of client
+     */
+    public void add(String clientId, long revision) {
+        long idHash = hash(clientId);
+        buckets[bucketOf(idHash)] += mix(idHash ^ mix(revision));
+    }
+    
+    /**
+     * Get the copy of this digest only with root.
+     *
+     * @return root digest
+     */
+    public DistroClientVerifyDigest toRootDigest() {
+        DistroClientVerifyDigest result = new DistroClientVerifyDigest();
+        result.root = calculateRoot();
+        return result;
+    }
+    
+    /**
+     * Get bucket of client id.
+     *
+     * @param clientId client id
+     * @return bucket index
+     */
+    public static int bucketOf(String clientId) {
+        return bucketOf(hash(clientId));
+    }
+    
+    private static int bucketOf(long idHash) {
+        return (int) Math.floorMod(idHash, (long) BUCKET_COUNT);
+    }
+    
+    /**
+     * Calculate root from digests of buckets.
+     *
+     * @return root digest
+     */
+    public long calculateRoot() {
+        long result = FNV_OFFSET_BASIS;
+        for (long each : buckets) {
+            result = mix(result ^ each) * FNV_PRIME;
+        }
+        return result;
+    }
+    
+    /**
+     * FNV-1a hash of client id, which is stable across servers unlike identity hash.
+     */
+    private static long hash(String clientId) {
+        long result = FNV_OFFSET_BASIS;
+        for (byte each : clientId.getBytes(StandardCharsets.UTF_8)) {
+            result ^= each & 0xff;
+            result *= FNV_PRIME;
+        }
+        return result;
+    }
+    
+    /**
+     * Finalization mix of murmur3, spreads bits so that sum of hashes is not easy to collide.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+    
+    public long getRoot() {
+        return root;
+    }
+    
+    public void setRoot(long root) {
+        this.root = root;
+    }
+    
+    public long[] getBuckets() {
+        return buckets;
+    }
+    
+    public void setBuckets(long[] buckets) {
+        this.buckets = buckets;
+    }
+    
+    public int[] getMismatchedBuckets() {
+        return mismatchedBuckets;
+    }
+    
+    public void setMismatchedBuckets(int[] mismatchedBuckets) {
+        this.mismatchedBuckets = mismatchedBuckets;
+    }
+}
@@ -43,4 +43,11 @@ public class PushConstants {
     public static final String PUSH_TASK_RETRY_DELAY = "nacos.naming.push.pushTaskRetryDelay";
     
     public static final long DEFAULT_PUSH_TASK_RETRY_DELAY = 1000L;
+    
+    /**
+     * Max count of services whose serialized push data are cached.
+     */
+    public static final String PUSH_DATA_CACHE_SIZE = "nacos.naming.push.pushDataCacheSize";
+    
+    public static final int DEFAULT_PUSH_DATA_CACHE_SIZE = 1024;
 }
@@ -45,17 +45,31 @@ public class ServiceEvent extends Event {
         
         private static final long serialVersionUID = 2123694271992630822L;
         
+        /**
+         * The client whose instances of this service changed, {@code null} means unknown or the whole service changed.
+         */
+        private final String changedClientId;
+        
         public ServiceChangedEvent(Service service) {
             this(service, false);
         }
         
         public ServiceChangedEvent(Service service, boolean incrementRevision) {
+            this(service, null, incrementRevision);
+        }
+        
+        public ServiceChangedEvent(Service service, String changedClientId, boolean incrementRevision) {
             super(service);
+            this.changedClientId = changedClientId;
             service.renewUpdateTime();
             if (incrementRevision) {
                 service.incrementRevision();
             }
         }
+        
+        public String getChangedClientId() {
+            return changedClientId;
+        }
     }
     
     /**
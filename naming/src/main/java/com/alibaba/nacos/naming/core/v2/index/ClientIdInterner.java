@@ -0,0 +1,156 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Interner of client id to dense int handle.
+ *
+ * <p>Each handle is reference counted by the indexes which contain it, and released handle is reused by new client
+ * id to keep handles dense. Readers which hold an outdated handle might get {@code null} or another client id, so
+ * readers should check {@link #getReuseCount()} before and after resolving handles, and resolve again if any handle
+ * was reused in between.
+ *
+ * @author xiweng.yy
+ */
+public class ClientIdInterner {
+    
+    /**
+     * Handle for client id which is not interned.
+     */
+    public static final int NO_HANDLE = -1;
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final ConcurrentHashMap<String, Integer> handles = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+    
+    private volatile AtomicReferenceArray<String> clientIds = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    
+    private int[] refCounts = new int[INITIAL_CAPACITY];
+    
+    private int[] freeHandles = new int[16];
+    
+    private int freeSize;
+    
+    private int nextHandle;
+    
+    private volatile long reuseCount;
+    
+    /**
+     * Get the handle of client id and increase its reference count, a new handle will be assigned if absent.
+     *
+     * @param clientId client id
+     * @return handle of client id
+     */
+    public synchronized int acquire(String clientId) {
+        Integer handle = handles.get(clientId);
+        if (null != handle) {
+            refCounts[handle]++;
+            return handle;
+        }
+        int result;
+        if (freeSize > 0) {
+            result = freeHandles[--freeSize];
+            // Must be increased before the handle is bound to new client id.
+            reuseCount++;
+        } else {
+            result = nextHandle++;
+        }
+        ensureCapacity(result);
+        clientIds.set(result, clientId);
+        refCounts[result] = 1;
+        handles.put(clientId, result);
+        return result;
+    }
+    
+    /**
+     * Decrease the reference count of handle, and release the handle if no reference.
+     *
+     * @param handle handle of client id
+     */
+    public synchronized void release(int handle) {
+        if (handle < 0 || handle >= nextHandle || refCounts[handle] <= 0) {
+            return;
+        }
+        if (--refCounts[handle] > 0) {
+            return;
+        }
+        handles.remove(clientIds.get(handle));
+        clientIds.set(handle, null);
+        if (freeSize == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeSize << 1);
+        }
+        freeHandles[freeSize++] = handle;
+    }
+    
+    /**
+     * Get the handle of client id without changing reference count.
+     *
+     * @param clientId client id
+     * @return handle of client id, or {@link #NO_HANDLE} if not interned
+     */
+    public int getHandle(String clientId) {
+        Integer handle = handles.get(clientId);
+        return null == handle ? NO_HANDLE : handle;
+    }
+    
+    /**
+     * Get client id of handle.
+     *
+     * @param handle handle of client id
+     * @return client id, or {@code null} if the handle is released
+     */
+    public String getClientId(int handle) {
+        AtomicReferenceArray<String> current = clientIds;
+        return handle >= 0 && handle < current.length() ? current.get(handle) : null;
+    }
+    
+    /**
+     * Get the count of released handles which are bound to new client ids.
+     *
+     * @return reuse count of handles
+     */
+    public long getReuseCount() {
+        return reuseCount;
+    }
+    
+    /**
+     * Get the count of interned client ids.
+     *
+     * @return count of interned client ids
+     */
+    public int size() {
+        return handles.size();
+    }
+    
+    private void ensureCapacity(int handle) {
+        AtomicReferenceArray<String> current = clientIds;
+        if (handle < current.length()) {
+            return;
+        }
+        int newCapacity = current.length() << 1;
+        AtomicReferenceArray<String> newClientIds = new AtomicReferenceArray<>(newCapacity);
+        for (int i = 0; i < current.length(); i++) {
+            newClientIds.set(i, current.get(i));
+        }
+        refCounts = Arrays.copyOf(refCounts, newCapacity);
+        clientIds = newClientIds;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Set of client id handles from {@link ClientIdInterner}.
+ *
+ * <p>Like the containers of roaring bitmap, handles are stored in a sorted int array when the set is sparse, and
+ * converted to a bitmap when the bitmap takes less memory. Writes are synchronized, and reads are lock free and weakly
+ * consistent like concurrent collections.
+ *
+ * @author xiweng.yy
+ */
+public class ClientIdSet {
+    
+    private static final int[] EMPTY = new int[0];
+    
+    /**
+     * Either an immutable sorted {@code int[]} or an {@link AtomicLongArray} bitmap.
+     */
+    private volatile Object container = EMPTY;
+    
+    private volatile int size;
+    
+    /**
+     * Add handle into set.
+     *
+     * @param handle client id handle
+     * @return {@code true} if the set did not contain the handle
+     */
+    public synchronized boolean add(int handle) {
+        Object current = container;
+        if (current instanceof int[]) {
+            int[] array = (int[]) current;
+            int index = Arrays.binarySearch(array, handle);
+            if (index >= 0) {
+                return false;
+            }
+            index = -index - 1;
+            int[] newArray = new int[array.length + 1];
+            System.arraycopy(array, 0, newArray, 0, index);
+            newArray[index] = handle;
+            System.arraycopy(array, index, newArray, index + 1, array.length - index);
+            size = newArray.length;
+            container = shouldUseBitmap(newArray) ? toBitmap(newArray) : newArray;
+            return true;
+        }
+        AtomicLongArray bitmap = ensureBitmapCapacity((AtomicLongArray) current, handle);
+        int wordIndex = handle >>> 6;
+        long word = bitmap.get(wordIndex);
+        long mask = 1L << handle;
+        if ((word & mask) != 0) {
+            return false;
+        }
+        bitmap.set(wordIndex, word | mask);
+        size++;
+        return true;
+    }
+    
+    /**
+     * Remove handle from set.
+     *
+     * @param handle client id handle
+     * @return {@code true} if the set contained the handle
+     */
+    public synchronized boolean remove(int handle) {
+        Object current = container;
+        if (current instanceof int[]) {
+            int[] array = (int[]) current;
+            int index = Arrays.binarySearch(array, handle);
+            if (index < 0) {
+                return false;
+            }
+            int[] newArray = array.length == 1 ? EMPTY : new int[array.length - 1];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 1, newArray, index, array.length - index - 1);
+            size = newArray.length;
+            container = newArray;
+            return true;
+        }
+        AtomicLongArray bitmap = (AtomicLongArray) current;
+        int wordIndex = handle >>> 6;
+        if (handle < 0 || wordIndex >= bitmap.length()) {
+            return false;
+        }
+        long word = bitmap.get(wordIndex);
+        long mask = 1L << handle;
+        if ((word & mask) == 0) {
+            return false;
+        }
+        bitmap.set(wordIndex, word & ~mask);
+        size--;
+        // Convert back when array takes less than half memory of bitmap.
+        if (size < bitmap.length()) {
+            container = toArray(bitmap, size);
+        }
+        return true;
+    }
+    
+    /**
+     * Whether the set contains handle.
+     *
+     * @param handle client id handle
+     * @return {@code true} if contains
+     */
+    public boolean contains(int handle) {
+        if (handle < 0) {
+            return false;
+        }
+        Object current = container;
+        if (current instanceof int[]) {
+            return Arrays.binarySearch((int[]) current, handle) >= 0;
+        }
+        AtomicLongArray bitmap = (AtomicLongArray) current;
+        int wordIndex = handle >>> 6;
+        return wordIndex < bitmap.length() && (bitmap.get(wordIndex) & (1L << handle)) != 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    /**
+     * Apply action to each handle in set.
+     *
+     * @param action action for handle
+     */
+    public void forEach(IntConsumer action) {
+        PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.nextInt());
+        }
+    }
+    
+    /**
+     * Get the weakly consistent iterator of handles.
+     *
+     * @return iterator of handles
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        Object current = container;
+        if (current instanceof int[]) {
+            return Arrays.stream((int[]) current).iterator();
+        }
+        return new BitmapIterator((AtomicLongArray) current);
+    }
+    
+    /**
+     * Bitmap takes {@code 64} bits for each word until the max handle, and array takes {@code 32} bits for each handle.
+     */
+    private boolean shouldUseBitmap(int[] array) {
+        int words = (array[array.length - 1] >>> 6) + 1;
+        return array.length > words << 1;
+    }
+    
+    private AtomicLongArray toBitmap(int[] array) {
+        AtomicLongArray result = new AtomicLongArray((array[array.length - 1] >>> 6) + 1);
+        for (int each : array) {
+            int wordIndex = each >>> 6;
+            result.set(wordIndex, result.get(wordIndex) | (1L << each));
+        }
+        return result;
+    }
+    
+    private int[] toArray(AtomicLongArray bitmap, int size) {
+        int[] result = new int[size];
+        int index = 0;
+        BitmapIterator iterator = new BitmapIterator(bitmap);
+        while (iterator.hasNext() && index < size) {
+            result[index++] = iterator.nextInt();
+        }
+        return result;
+    }
+    
+    private AtomicLongArray ensureBitmapCapacity(AtomicLongArray bitmap, int handle) {
+        int wordIndex = handle >>> 6;
+        if (wordIndex < bitmap.length()) {
+            return bitmap;
+        }
+        AtomicLongArray result = new AtomicLongArray(Math.max(wordIndex + 1, bitmap.length() << 1));
+        for (int i = 0; i < bitmap.length(); i++) {
+            result.set(i, bitmap.get(i));
+        }
+        container = result;
+        return result;
+    }
+    
+    private static class BitmapIterator implements PrimitiveIterator.OfInt {
+        
+        private final AtomicLongArray bitmap;
+        
+        private int wordIndex;
+        
+        private long word;
+        
+        private BitmapIterator(AtomicLongArray bitmap) {
+            this.bitmap = bitmap;
+            this.word = bitmap.length() > 0 ? bitmap.get(0) : 0L;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            while (0L == word) {
+                if (++wordIndex >= bitmap.length()) {
+                    return false;
+                }
+                word = bitmap.get(wordIndex);
+            }
+            return true;
+        }
+        
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int result = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            word &= word - 1;
+            return result;
+        }
+    }
+}
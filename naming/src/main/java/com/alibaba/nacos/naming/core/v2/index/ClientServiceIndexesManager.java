@@ -21,7 +21,6 @@ import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.common.trace.DeregisterInstanceReason;
 import com.alibaba.nacos.common.trace.event.naming.DeregisterInstanceTraceEvent;
-import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
 import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
@@ -30,50 +29,65 @@ import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.springframework.stereotype.Component;
 
+import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Client and service index manager.
  *
+ * <p>Client ids are interned to int handles by {@link ClientIdInterner}, and the indexes of each service are stored as
+ * {@link ClientIdSet}. The indexes of one service are only modified in {@code compute} of the service, so different
+ * services are modified in parallel, and only acquiring and releasing handles are serialized by the interner. Reads
+ * are lock free.
+ *
  * @author xiweng.yy
  */
 @Component
 public class ClientServiceIndexesManager extends SmartSubscriber {
     
-    private final ConcurrentMap<Service, Set<String>> publisherIndexes = new ConcurrentHashMap<>();
+    private final ClientIdInterner clientIdInterner = new ClientIdInterner();
+    
+    private final ConcurrentMap<Service, ClientIdSet> publisherIndexes = new ConcurrentHashMap<>();
     
-    private final ConcurrentMap<Service, Set<String>> subscriberIndexes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Service, ClientIdSet> subscriberIndexes = new ConcurrentHashMap<>();
     
     public ClientServiceIndexesManager() {
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
     public Collection<String> getAllClientsRegisteredService(Service service) {
-        return publisherIndexes.containsKey(service) ? publisherIndexes.get(service) : new ConcurrentHashSet<>();
+        return toClientIds(publisherIndexes.get(service));
     }
     
     public Collection<String> getAllClientsSubscribeService(Service service) {
-        return subscriberIndexes.containsKey(service) ? subscriberIndexes.get(service) : new ConcurrentHashSet<>();
+        return toClientIds(subscriberIndexes.get(service));
     }
     
     public Collection<Service> getSubscribedService() {
         return subscriberIndexes.keySet();
     }
     
+    private Collection<String> toClientIds(ClientIdSet handles) {
+        return null == handles ? Collections.emptySet() : new ClientIdCollection(handles);
+    }
+    
     /**
      * Clear the service index without instances.
      *
      * @param service The service of the Nacos.
      */
     public void removePublisherIndexesByEmptyService(Service service) {
-        if (publisherIndexes.containsKey(service) && publisherIndexes.get(service).isEmpty()) {
-            publisherIndexes.remove(service);
-        }
+        publisherIndexes.computeIfPresent(service, (key, handles) -> handles.isEmpty() ? null : handles);
     }
     
     @Override
@@ -128,34 +142,126 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     }
     
     private void addPublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>()).add(clientId);
-        NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
+        addIndexes(publisherIndexes, service, clientId);
+        NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, clientId, true));
     }
     
     private void removePublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfPresent(service, (s, ids) -> {
-            ids.remove(clientId);
-            NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
-            return ids.isEmpty() ? null : ids;
-        });
+        if (null != removeIndexes(publisherIndexes, service, clientId)) {
+            NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, clientId, true));
+        }
     }
     
     private void addSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>());
         // Fix #5404, Only first time add need notify event.
-        if (clientIds.add(clientId)) {
+        if (addIndexes(subscriberIndexes, service, clientId)) {
             NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
         }
     }
     
     private void removeSubscriberIndexes(Service service, String clientId) {
-        Set<String> clientIds = subscriberIndexes.get(service);
-        if (clientIds == null) {
-            return;
+        removeIndexes(subscriberIndexes, service, clientId);
+    }
+    
+    private boolean addIndexes(ConcurrentMap<Service, ClientIdSet> indexes, Service service, String clientId) {
+        int handle = clientIdInterner.acquire(clientId);
+        AtomicBoolean added = new AtomicBoolean();
+        indexes.compute(service, (key, handles) -> {
+            ClientIdSet result = null == handles ? new ClientIdSet() : handles;
+            added.set(result.add(handle));
+            return result;
+        });
+        if (!added.get()) {
+            clientIdInterner.release(handle);
+        }
+        return added.get();
+    }
+    
+    /**
+     * Remove client from indexes of service.
+     *
+     * @return {@code null} if no indexes for the service, otherwise whether the client is removed
+     */
+    private Boolean removeIndexes(ConcurrentMap<Service, ClientIdSet> indexes, Service service, String clientId) {
+        AtomicReference<Boolean> removed = new AtomicReference<>();
+        AtomicInteger removedHandle = new AtomicInteger(ClientIdInterner.NO_HANDLE);
+        indexes.computeIfPresent(service, (key, handles) -> {
+            // The handle in this set can't be released during compute, because removing it from this set is blocked.
+            int handle = clientIdInterner.getHandle(clientId);
+            boolean result = handle != ClientIdInterner.NO_HANDLE && handles.remove(handle);
+            if (result) {
+                removedHandle.set(handle);
+            }
+            removed.set(result);
+            return handles.isEmpty() ? null : handles;
+        });
+        if (ClientIdInterner.NO_HANDLE != removedHandle.get()) {
+            clientIdInterner.release(removedHandle.get());
+        }
+        return removed.get();
+    }
+    
+    /**
+     * Read only view of client ids in {@link ClientIdSet}.
+     *
+     * <p>Handles are resolved to client ids when iterator created, and resolved again if any released handle was bound
+     * to a new client during resolving, so that the iterator never returns a client which is not in the set.
+     */
+    private class ClientIdCollection extends AbstractCollection<String> {
+        
+        private static final int MAX_RESOLVE_TIMES = 3;
+        
+        private final ClientIdSet handles;
+        
+        private ClientIdCollection(ClientIdSet handles) {
+            this.handles = handles;
+        }
+        
+        @Override
+        public Iterator<String> iterator() {
+            return Collections.unmodifiableList(resolveClientIds()).iterator();
+        }
+        
+        private List<String> resolveClientIds() {
+            for (int i = 0; i < MAX_RESOLVE_TIMES; i++) {
+                long reuseCount = clientIdInterner.getReuseCount();
+                List<String> result = doResolveClientIds(false);
+                if (reuseCount == clientIdInterner.getReuseCount()) {
+                    return result;
+                }
+            }
+            // Handles keep being reused, only keep the client ids which still own the handles in this set.
+            return doResolveClientIds(true);
+        }
+        
+        private List<String> doResolveClientIds(boolean checkOwner) {
+            List<String> result = new ArrayList<>(handles.size());
+            handles.forEach(handle -> {
+                String clientId = clientIdInterner.getClientId(handle);
+                // Skip the handles released during resolving.
+                if (null == clientId) {
+                    return;
+                }
+                if (!checkOwner || (clientIdInterner.getHandle(clientId) == handle && handles.contains(handle))) {
+                    result.add(clientId);
+                }
+            });
+            return result;
+        }
+        
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof String && handles.contains(clientIdInterner.getHandle((String) o));
+        }
+        
+        @Override
+        public int size() {
+            return handles.size();
         }
-        clientIds.remove(clientId);
-        if (clientIds.isEmpty()) {
-            subscriberIndexes.remove(service);
+        
+        @Override
+        public boolean isEmpty() {
+            return handles.isEmpty();
         }
     }
 }
@@ -18,6 +18,7 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
@@ -32,17 +33,28 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Service storage.
  *
+ * <p>The instances of each service are kept as a copy-on-write view of parsed instances per client. Changes of the
+ * service only mark the changed clients, and the next read re-parses these clients and publishes a new {@link
+ * ServiceInfo}. Reads without pending changes return the published {@link ServiceInfo} directly.
+ *
  * @author xiweng.yy
  */
 @Component
@@ -60,6 +72,12 @@ public class ServiceStorage {
     
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    private final ConcurrentMap<Service, ServiceInstancesView> serviceInstancesIndex;
+    
+    private final List<Consumer<Service>> changeListeners = new CopyOnWriteArrayList<>();
+    
+    private final List<Consumer<Service>> removeListeners = new CopyOnWriteArrayList<>();
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -68,6 +86,7 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceInstancesIndex = new ConcurrentHashMap<>();
     }
     
     public Set<String> getClusters(Service service) {
@@ -78,20 +97,88 @@ public class ServiceStorage {
         return serviceDataIndexes.containsKey(service) ? serviceDataIndexes.get(service) : getPushData(service);
     }
     
+    /**
+     * Get the latest service info for push.
+     *
+     * <p>If no change is pending for the service, the published service info is returned without rebuilding.
+     *
+     * @param service service
+     * @return latest service info
+     */
     public ServiceInfo getPushData(Service service) {
-        ServiceInfo result = emptyServiceInfo(service);
         if (!ServiceManager.getInstance().containSingleton(service)) {
-            return result;
+            return emptyServiceInfo(service);
         }
         Service singleton = ServiceManager.getInstance().getSingleton(service);
-        result.setHosts(getAllInstancesFromIndex(singleton));
-        serviceDataIndexes.put(singleton, result);
-        return result;
+        ServiceInstancesView view = serviceInstancesIndex.computeIfAbsent(singleton, key -> new ServiceInstancesView());
+        ServiceInfo result = serviceDataIndexes.get(singleton);
+        if (null != result && !view.hasPendingChanges()) {
+            return result;
+        }
+        synchronized (view) {
+            result = serviceDataIndexes.get(singleton);
+            if (null != result && !view.hasPendingChanges()) {
+                return result;
+            }
+            result = emptyServiceInfo(singleton);
+            result.setHosts(refreshInstances(singleton, view));
+            serviceDataIndexes.put(singleton, result);
+            return result;
+        }
+    }
+    
+    /**
+     * Mark the instances of service changed. The change will be applied by next {@link #getPushData(Service)}.
+     *
+     * @param service  changed service
+     * @param clientId client which changed instances of this service, {@code null} means rebuild the whole service
+     */
+    public void markChanged(Service service, String clientId) {
+        ServiceInstancesView view = serviceInstancesIndex.get(service);
+        // If never read, whole service will be built by next read.
+        if (null != view) {
+            if (null == clientId) {
+                view.markAllChanged();
+            } else {
+                view.markClientChanged(clientId);
+            }
+        }
+        for (Consumer<Service> each : changeListeners) {
+            each.accept(service);
+        }
     }
     
+    /**
+     * Register listener of service changes. The listener is called after the change is marked, so the data read by
+     * {@link #getPushData(Service)} in listener or after it always contains the change.
+     *
+     * @param listener listener of changed service
+     */
+    public void registerChangeListener(Consumer<Service> listener) {
+        changeListeners.add(listener);
+    }
+    
+    /**
+     * Register listener of service removal, which is called after the data of service is removed from storage.
+     *
+     * @param listener listener of removed service
+     */
+    public void registerRemoveListener(Consumer<Service> listener) {
+        removeListeners.add(listener);
+    }
+    
+    /**
+     * Remove the data of service from storage and notify the remove listeners.
+     *
+     * @param service removed service
+     */
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceInstancesIndex.remove(service);
+        for (Consumer<Service> each : removeListeners) {
+            each.accept(service);
+        }
     }
     
     private ServiceInfo emptyServiceInfo(Service service) {
@@ -103,28 +190,67 @@ public class ServiceStorage {
         return result;
     }
     
-    private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
-                InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
+    /**
+     * Apply pending changes to the view of service, and return the new instance list.
+     *
+     * <p>Only the changed clients are re-parsed, the instances of other clients are reused from the current view.
+     *
+     * @param service service
+     * @param view    instances view of service
+     * @return new instance list of service
+     */
+    private List<Instance> refreshInstances(Service service, ServiceInstancesView view) {
+        Map<String, List<Instance>> clientInstances;
+        if (view.drainAllChanged()) {
+            clientInstances = new HashMap<>(view.clientInstances.size());
+            for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
+                List<Instance> instances = getClientInstances(each, service);
+                if (!instances.isEmpty()) {
+                    clientInstances.put(each, instances);
+                }
+            }
+        } else {
+            clientInstances = new HashMap<>(view.clientInstances);
+            Collection<String> registeredClients = serviceIndexesManager.getAllClientsRegisteredService(service);
+            for (String each : view.drainChangedClients()) {
+                List<Instance> instances = registeredClients.contains(each) ? getClientInstances(each, service)
+                        : Collections.emptyList();
+                if (instances.isEmpty()) {
+                    clientInstances.remove(each);
                 } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
-                    result.add(instance);
-                    clusters.add(instance.getClusterName());
+                    clientInstances.put(each, instances);
                 }
             }
         }
+        view.clientInstances = clientInstances;
+        return mergeInstances(service, clientInstances);
+    }
+    
+    private List<Instance> mergeInstances(Service service, Map<String, List<Instance>> clientInstances) {
+        Set<Instance> result = new LinkedHashSet<>();
+        Set<String> clusters = new HashSet<>();
+        for (List<Instance> each : clientInstances.values()) {
+            for (Instance instance : each) {
+                result.add(instance);
+                clusters.add(instance.getClusterName());
+            }
+        }
         // cache clusters of this service
         serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
+        return new ArrayList<>(result);
+    }
+    
+    private List<Instance> getClientInstances(String clientId, Service service) {
+        Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(clientId, service);
+        if (!instancePublishInfo.isPresent()) {
+            return Collections.emptyList();
+        }
+        InstancePublishInfo publishInfo = instancePublishInfo.get();
+        //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
+        if (publishInfo instanceof BatchInstancePublishInfo) {
+            return parseBatchInstance(service, (BatchInstancePublishInfo) publishInfo);
+        }
+        return Collections.singletonList(parseInstance(service, publishInfo));
     }
     
     /**
@@ -133,13 +259,11 @@ public class ServiceStorage {
      * @param batchInstancePublishInfo batchInstancePublishInfo
      * @return batch instance list
      */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
+    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo) {
         List<Instance> resultInstanceList = new ArrayList<>();
         List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
         for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+            resultInstanceList.add(parseInstance(service, instancePublishInfo));
         }
         return resultInstanceList;
     }
@@ -159,4 +283,49 @@ public class ServiceStorage {
         metadata.ifPresent(instanceMetadata -> InstanceUtil.updateInstanceMetadata(result, instanceMetadata));
         return result;
     }
+    
+    /**
+     * Parsed instances of one service grouped by client, and the changes which are not applied yet.
+     *
+     * <p>{@link #clientInstances} is never modified after published, it is replaced by a new map when changes applied.
+     */
+    private static class ServiceInstancesView {
+        
+        private final Set<String> changedClients = new ConcurrentHashSet<>();
+        
+        private volatile boolean allChanged = true;
+        
+        private volatile Map<String, List<Instance>> clientInstances = Collections.emptyMap();
+        
+        private boolean hasPendingChanges() {
+            return allChanged || !changedClients.isEmpty();
+        }
+        
+        private void markClientChanged(String clientId) {
+            changedClients.add(clientId);
+        }
+        
+        private void markAllChanged() {
+            allChanged = true;
+        }
+        
+        private boolean drainAllChanged() {
+            if (!allChanged) {
+                return false;
+            }
+            allChanged = false;
+            changedClients.clear();
+            return true;
+        }
+        
+        private Set<String> drainChangedClients() {
+            Set<String> result = new HashSet<>();
+            Iterator<String> iterator = changedClients.iterator();
+            while (iterator.hasNext()) {
+                result.add(iterator.next());
+                iterator.remove();
+            }
+            return result;
+        }
+    }
 }
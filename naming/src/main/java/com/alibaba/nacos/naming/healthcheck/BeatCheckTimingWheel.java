@@ -0,0 +1,232 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
+import com.alibaba.nacos.naming.misc.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hashed timing wheel for client beat check tasks.
+ *
+ * <p>Instead of a scheduled future for each client, tasks are sharded by task key into several wheels, and each wheel
+ * is ticked by one scheduled task. A task is put into the slot of its next check time, which is the earliest time that
+ * any instance of the client may cross the unhealthy or expired threshold by its last beat time. When fired, the task
+ * is skipped and put back if heart beats have arrived in time, so the interceptors and checkers only run for clients
+ * which actually timed out.
+ *
+ * @author xiweng.yy
+ */
+public class BeatCheckTimingWheel {
+    
+    /**
+     * Period to check again if the task is still timeout after run, such as intercepted or using extended checkers.
+     */
+    public static final long CHECK_PERIOD_MILLIS = 5000L;
+    
+    /**
+     * Max delay of next check, so that changes of timeout metadata and global config take effect in time.
+     */
+    private static final long MAX_CHECK_DELAY_MILLIS = 30000L;
+    
+    private static final long TICK_MILLIS = 500L;
+    
+    private static final int WHEEL_SIZE = 128;
+    
+    private final Map<String, WheelEntry> entries = new ConcurrentHashMap<>();
+    
+    private final Shard[] shards;
+    
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    
+    public BeatCheckTimingWheel(int shardCount) {
+        this.shards = new Shard[Math.max(shardCount, 1)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+        }
+    }
+    
+    /**
+     * Add beat check task, which will be first checked after {@link #CHECK_PERIOD_MILLIS}.
+     *
+     * @param task     beat check task
+     * @param runnable runnable to run the task, such as the intercept wrapper of task
+     */
+    public void add(BeatCheckTask task, Runnable runnable) {
+        start();
+        WheelEntry entry = new WheelEntry(task, runnable);
+        if (null == entries.putIfAbsent(task.taskKey(), entry)) {
+            shardOf(task.taskKey()).offer(entry, System.currentTimeMillis() + CHECK_PERIOD_MILLIS);
+        }
+    }
+    
+    /**
+     * Remove beat check task, the task is dropped from wheel lazily when its slot is ticked.
+     *
+     * @param task beat check task
+     */
+    public void remove(BeatCheckTask task) {
+        WheelEntry entry = entries.remove(task.taskKey());
+        if (null != entry) {
+            entry.cancel();
+        }
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    private void start() {
+        if (started.compareAndSet(false, true)) {
+            for (Shard each : shards) {
+                GlobalExecutor.scheduleNamingHealth(each, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+    
+    private Shard shardOf(String taskKey) {
+        return shards[Math.floorMod(taskKey.hashCode(), shards.length)];
+    }
+    
+    static class WheelEntry {
+        
+        private final BeatCheckTask task;
+        
+        private final Runnable runnable;
+        
+        private long deadline;
+        
+        private volatile boolean cancelled;
+        
+        WheelEntry(BeatCheckTask task, Runnable runnable) {
+            this.task = task;
+            this.runnable = runnable;
+        }
+        
+        void cancel() {
+            cancelled = true;
+        }
+    }
+    
+    /**
+     * One wheel of shards, slots are only accessed by the tick thread, and new entries are put through pending queue.
+     */
+    static class Shard implements Runnable {
+        
+        private final Queue<WheelEntry> pending = new ConcurrentLinkedQueue<>();
+        
+        private final List<WheelEntry>[] slots;
+        
+        private long lastTick = -1L;
+        
+        @SuppressWarnings("unchecked")
+        Shard() {
+            this.slots = new List[WHEEL_SIZE];
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                slots[i] = new ArrayList<>();
+            }
+        }
+        
+        void offer(WheelEntry entry, long deadline) {
+            entry.deadline = deadline;
+            pending.offer(entry);
+        }
+        
+        @Override
+        public void run() {
+            try {
+                tick(System.currentTimeMillis());
+            } catch (Throwable e) {
+                Loggers.SRV_LOG.error("[BEAT-CHECK] tick beat check wheel failed.", e);
+            }
+        }
+        
+        void tick(long now) {
+            long currentTick = now / TICK_MILLIS;
+            if (lastTick < 0) {
+                lastTick = currentTick - 1;
+            }
+            // Visit each slot at most once even if ticks are delayed more than a round.
+            long fromTick = Math.max(lastTick + 1, currentTick - WHEEL_SIZE + 1);
+            lastTick = currentTick;
+            WheelEntry newEntry;
+            while (null != (newEntry = pending.poll())) {
+                place(newEntry);
+            }
+            for (long tick = fromTick; tick <= currentTick; tick++) {
+                int index = (int) (tick & (WHEEL_SIZE - 1));
+                List<WheelEntry> slot = slots[index];
+                slots[index] = new ArrayList<>();
+                for (WheelEntry each : slot) {
+                    if (each.cancelled) {
+                        continue;
+                    }
+                    if (each.deadline > now) {
+                        // Deadline is in later rounds.
+                        slots[index].add(each);
+                        continue;
+                    }
+                    fire(each, now);
+                }
+            }
+        }
+        
+        private void fire(WheelEntry entry, long now) {
+            long nextCheckTime = getNextCheckTime(entry, now);
+            if (nextCheckTime <= now) {
+                try {
+                    entry.runnable.run();
+                } catch (Exception e) {
+                    Loggers.SRV_LOG.warn("[BEAT-CHECK] beat check {} failed.", entry.task.taskKey(), e);
+                }
+                nextCheckTime = getNextCheckTime(entry, now);
+                if (nextCheckTime <= now) {
+                    nextCheckTime = now + CHECK_PERIOD_MILLIS;
+                }
+            }
+            entry.deadline = Math.min(nextCheckTime, now + MAX_CHECK_DELAY_MILLIS);
+            place(entry);
+        }
+        
+        private long getNextCheckTime(WheelEntry entry, long now) {
+            try {
+                return entry.task.getNextCheckTime(now);
+            } catch (Exception e) {
+                Loggers.SRV_LOG.warn("[BEAT-CHECK] get next check time of {} failed.", entry.task.taskKey(), e);
+                return now;
+            }
+        }
+        
+        /**
+         * Put entry into the slot of its deadline, entries already due are put into the next tick.
+         */
+        private void place(WheelEntry entry) {
+            long tick = Math.max((entry.deadline + TICK_MILLIS - 1) / TICK_MILLIS, lastTick + 1);
+            slots[(int) (tick & (WHEEL_SIZE - 1))].add(entry);
+        }
+    }
+}
@@ -30,4 +30,13 @@ public interface BeatCheckTask extends Runnable {
      */
     String taskKey();
     
+    /**
+     * Get the next time to run the task, the task is skipped if it is fired before that time.
+     *
+     * @param currentTime current time
+     * @return next check time, not later than current time if the task should run now
+     */
+    default long getNextCheckTime(long currentTime) {
+        return currentTime;
+    }
 }
@@ -75,6 +75,23 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
         }
     }
     
+    @Override
+    public long getNextCheckTime(long currentTime) {
+        Collection<Service> services = client.getAllPublishedService();
+        if (services.isEmpty()) {
+            return currentTime;
+        }
+        long result = Long.MAX_VALUE;
+        for (Service each : services) {
+            HealthCheckInstancePublishInfo instance = (HealthCheckInstancePublishInfo) client
+                    .getInstancePublishInfo(each);
+            if (null != instance) {
+                result = Math.min(result, new InstanceBeatCheckTask(client, each, instance).getNextCheckTime());
+            }
+        }
+        return result;
+    }
+    
     @Override
     public void run() {
         doHealthCheck();
@@ -67,7 +67,7 @@ public class ClientBeatProcessorV2 implements BeatProcessor {
                 instance.setHealthy(true);
                 Loggers.EVT_LOG.info("service: {} {POS} {IP-ENABLED} valid: {}:{}@{}, region: {}, msg: client beat ok",
                         rsInfo.getServiceName(), ip, port, rsInfo.getCluster(), UtilsAndCommons.LOCALHOST_SITE);
-                NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service));
+                NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, client.getClientId(), false));
                 NotifyCenter.publishEvent(new ClientEvent.ClientChangedEvent(client));
                 NotifyCenter.publishEvent(new HealthStateChangeTraceEvent(System.currentTimeMillis(),
                         service.getNamespace(), service.getGroup(), service.getName(), instance.getIp(),
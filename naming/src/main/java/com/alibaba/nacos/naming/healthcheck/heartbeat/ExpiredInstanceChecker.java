@@ -54,6 +54,12 @@ public class ExpiredInstanceChecker implements InstanceBeatChecker {
         }
     }
     
+    @Override
+    public long getNextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        boolean expireInstance = ApplicationUtils.getBean(GlobalConfig.class).isExpireInstance();
+        return expireInstance ? instance.getLastHeartBeatTime() + getTimeout(service, instance) + 1 : Long.MAX_VALUE;
+    }
+    
     private boolean isExpireInstance(Service service, HealthCheckInstancePublishInfo instance) {
         long deleteTimeout = getTimeout(service, instance);
         return System.currentTimeMillis() - instance.getLastHeartBeatTime() > deleteTimeout;
@@ -63,6 +63,19 @@ public class InstanceBeatCheckTask implements Interceptable {
     public void afterIntercept() {
     }
     
+    /**
+     * Get the earliest next check time of all checkers.
+     *
+     * @return next check time
+     */
+    public long getNextCheckTime() {
+        long result = Long.MAX_VALUE;
+        for (InstanceBeatChecker each : CHECKERS) {
+            result = Math.min(result, each.getNextCheckTime(client, service, instancePublishInfo));
+        }
+        return result;
+    }
+    
     public IpPortBasedClient getClient() {
         return client;
     }
@@ -35,4 +35,18 @@ public interface InstanceBeatChecker {
      * @param instance instance publish info
      */
     void doCheck(Client client, Service service, HealthCheckInstancePublishInfo instance);
+    
+    /**
+     * Get the time after which {@link #doCheck} may change the instance, the instance will not be checked before it.
+     *
+     * <p>Default is {@code 0}, which means the instance is checked in every beat check period.
+     *
+     * @param client   client
+     * @param service  service of instance
+     * @param instance instance publish info
+     * @return next check time
+     */
+    default long getNextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        return 0L;
+    }
 }
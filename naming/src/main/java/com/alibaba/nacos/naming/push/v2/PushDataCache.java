@@ -0,0 +1,67 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.cache.Cache;
+import com.alibaba.nacos.common.cache.builder.CacheBuilder;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+
+/**
+ * Bounded cache of {@link PushDataWrapper} for services.
+ *
+ * <p>The cached wrapper is reused while the service info and metadata of service are not changed, so that the
+ * serialized push data can be shared by different push tasks, such as retry and push to new subscriber.
+ *
+ * @author xiweng.yy
+ */
+public class PushDataCache {
+    
+    private final Cache<Service, PushDataWrapper> cache;
+    
+    public PushDataCache(int maximumSize) {
+        this.cache = CacheBuilder.<Service, PushDataWrapper>builder().maximumSize(maximumSize).lru(true).sync(true)
+                .build();
+    }
+    
+    /**
+     * Get push data wrapper for service, create a new one if service info or metadata changed.
+     *
+     * @param service         service
+     * @param serviceMetadata current metadata of service
+     * @param serviceInfo     current service info of service
+     * @return push data wrapper
+     */
+    public PushDataWrapper getPushData(Service service, ServiceMetadata serviceMetadata, ServiceInfo serviceInfo) {
+        PushDataWrapper result = cache.get(service);
+        if (null != result && result.isSameData(serviceMetadata, serviceInfo)) {
+            return result;
+        }
+        result = new PushDataWrapper(serviceMetadata, serviceInfo);
+        cache.put(service, result);
+        return result;
+    }
+    
+    public void remove(Service service) {
+        cache.remove(service);
+    }
+    
+    public int size() {
+        return cache.getSize();
+    }
+}
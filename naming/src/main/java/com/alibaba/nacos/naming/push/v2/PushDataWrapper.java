@@ -18,10 +18,15 @@ package com.alibaba.nacos.naming.push.v2;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 /**
  * Nacos push data wrapper.
@@ -30,16 +35,27 @@ import java.util.Optional;
  */
 public class PushDataWrapper {
     
+    /**
+     * Max count of different actual push data cached, the rest will be selected without cache.
+     */
+    private static final int MAX_ACTUAL_DATA_SIZE = 128;
+    
     private final ServiceMetadata serviceMetadata;
     
     private final ServiceInfo originalData;
     
     private final Map<String, Object> processedDatum;
     
+    /**
+     * Serialized actual push data, key is the selector condition of subscriber, see {@link #buildActualDataKey}.
+     */
+    private final ConcurrentMap<String, SerializedServiceInfo> actualDatum;
+    
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
         processedDatum = new HashMap<>(1);
+        actualDatum = new ConcurrentHashMap<>(1);
     }
     
     public ServiceInfo getOriginalData() {
@@ -57,4 +73,47 @@ public class PushDataWrapper {
     public void addProcessedPushData(String key, Object processedData) {
         processedDatum.put(key, processedData);
     }
+    
+    /**
+     * Whether this wrapper is generated from the same metadata and service info.
+     *
+     * @param serviceMetadata service metadata
+     * @param originalData    original service info
+     * @return {@code true} if the same, the serialized actual data can be reused
+     */
+    public boolean isSameData(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
+        return this.serviceMetadata == serviceMetadata && this.originalData == originalData;
+    }
+    
+    /**
+     * Get actual push data for subscriber.
+     *
+     * <p>Subscribers with the same cluster and selector result share one serialized service info, so the instances
+     * only be serialized once for all of them.
+     *
+     * @param subscriber subscriber
+     * @param selector   select actual push data for subscriber from original data
+     * @return actual push data
+     */
+    public ServiceInfo getActualPushData(Subscriber subscriber, Supplier<ServiceInfo> selector) {
+        String key = buildActualDataKey(subscriber);
+        SerializedServiceInfo result = actualDatum.get(key);
+        if (null != result) {
+            return result;
+        }
+        if (actualDatum.size() >= MAX_ACTUAL_DATA_SIZE) {
+            return selector.get();
+        }
+        return actualDatum.computeIfAbsent(key, k -> new SerializedServiceInfo(selector.get()));
+    }
+    
+    private String buildActualDataKey(Subscriber subscriber) {
+        String cluster = null == subscriber.getCluster() ? "" : subscriber.getCluster();
+        if (null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector) {
+            // Result of none selector is not related with subscriber ip.
+            return cluster;
+        }
+        return cluster + "@" + subscriber.getIp();
+    }
 }
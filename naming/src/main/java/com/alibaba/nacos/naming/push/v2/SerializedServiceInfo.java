@@ -0,0 +1,80 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.remote.codec.CompactBytesHolder;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * Service info which is serialized only once and shared by all subscribers with same push data.
+ *
+ * <p>When the push request is serialized for each connection, the cached UTF-8 json of service info is written into
+ * the request directly instead of serializing the instances again. The bytes of compact codec are cached in the same
+ * way when the service info is firstly pushed by compact codec.
+ *
+ * @author xiweng.yy
+ */
+public class SerializedServiceInfo extends ServiceInfo implements JsonSerializable, CompactBytesHolder {
+    
+    private final SerializedString serializedJson;
+    
+    private volatile byte[] compactBytes;
+    
+    public SerializedServiceInfo(ServiceInfo serviceInfo) {
+        setName(serviceInfo.getName());
+        setGroupName(serviceInfo.getGroupName());
+        setClusters(serviceInfo.getClusters());
+        setCacheMillis(serviceInfo.getCacheMillis());
+        setHosts(serviceInfo.getHosts());
+        setLastRefTime(serviceInfo.getLastRefTime());
+        setChecksum(serviceInfo.getChecksum());
+        setAllIPs(serviceInfo.isAllIPs());
+        setReachProtectionThreshold(serviceInfo.isReachProtectionThreshold());
+        this.serializedJson = new SerializedString(JacksonUtils.toJson(serviceInfo));
+        // Encode to UTF-8 once here, so that all push requests reuse the same bytes.
+        this.serializedJson.asUnquotedUTF8();
+    }
+    
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeRawValue(serializedJson);
+    }
+    
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(gen, serializers);
+    }
+    
+    @Override
+    public byte[] getCompactBytes() {
+        return compactBytes;
+    }
+    
+    @Override
+    public void setCompactBytes(byte[] compactBytes) {
+        this.compactBytes = compactBytes;
+    }
+}
@@ -56,8 +56,8 @@ public class PushExecutorRpcImpl implements PushExecutor {
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
-        return ServiceUtil
+        return data.getActualPushData(subscriber, () -> ServiceUtil
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
-                        subscriber);
+                        subscriber));
     }
 }
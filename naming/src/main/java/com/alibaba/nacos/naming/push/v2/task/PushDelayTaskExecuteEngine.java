@@ -18,7 +18,7 @@ package com.alibaba.nacos.naming.push.v2.task;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
-import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.NacosTimingWheelDelayTaskExecuteEngine;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
@@ -27,6 +27,8 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.NamingExecuteTaskDispatcher;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.push.v2.PushConfig;
+import com.alibaba.nacos.naming.push.v2.PushDataCache;
 import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
 
 /**
@@ -34,7 +36,7 @@ import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
  *
  * @author xiweng.yy
  */
-public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
+public class PushDelayTaskExecuteEngine extends NacosTimingWheelDelayTaskExecuteEngine {
     
     private final ClientManager clientManager;
     
@@ -48,6 +50,8 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
     
     private final SwitchDomain switchDomain;
     
+    private final PushDataCache pushDataCache;
+    
     public PushDelayTaskExecuteEngine(ClientManager clientManager, ClientServiceIndexesManager indexesManager,
                                       ServiceStorage serviceStorage, NamingMetadataManager metadataManager,
                                       PushExecutor pushExecutor, SwitchDomain switchDomain) {
@@ -58,6 +62,8 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         this.metadataManager = metadataManager;
         this.pushExecutor = pushExecutor;
         this.switchDomain = switchDomain;
+        this.pushDataCache = new PushDataCache(PushConfig.getInstance().getPushDataCacheSize());
+        serviceStorage.registerRemoveListener(pushDataCache::remove);
         setDefaultTaskProcessor(new PushDelayTaskProcessor(this));
     }
     
@@ -81,6 +87,10 @@ public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
         return pushExecutor;
     }
     
+    public PushDataCache getPushDataCache() {
+        return pushDataCache;
+    }
+    
     @Override
     protected void processTasks() {
         if (!switchDomain.isPushEnabled()) {
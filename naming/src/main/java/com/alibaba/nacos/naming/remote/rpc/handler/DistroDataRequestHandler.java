@@ -31,6 +31,8 @@ import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientData
 import com.alibaba.nacos.naming.misc.Loggers;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Distro data request handler.
  *
@@ -52,12 +54,18 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
             switch (request.getDataOperation()) {
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
+                case DIGEST:
+                    return handleVerifyDigest(request.getDistroData(), meta);
                 case SNAPSHOT:
                     return handleSnapshot();
+                case SNAPSHOT_CHUNK:
+                    return handleSnapshotChunk(request.getChunkIndex(), request.getChunkCount());
                 case ADD:
                 case CHANGE:
                 case DELETE:
                     return handleSyncData(request.getDistroData());
+                case BATCH:
+                    return handleSyncBatchData(request.getBatchDistroData());
                 case QUERY:
                     return handleQueryData(request.getDistroData());
                 default:
@@ -80,6 +88,12 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handleVerifyDigest(DistroData distroData, RequestMeta meta) {
+        DistroDataResponse result = new DistroDataResponse();
+        result.setDistroData(distroProtocol.onVerifyDigest(distroData, meta.getClientIp()));
+        return result;
+    }
+    
     private DistroDataResponse handleSnapshot() {
         DistroDataResponse result = new DistroDataResponse();
         DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
@@ -87,6 +101,13 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handleSnapshotChunk(int chunkIndex, int chunkCount) {
+        DistroDataResponse result = new DistroDataResponse();
+        DistroData distroData = distroProtocol.onSnapshotChunk(DistroClientDataProcessor.TYPE, chunkIndex, chunkCount);
+        result.setDistroData(distroData);
+        return result;
+    }
+    
     private DistroDataResponse handleSyncData(DistroData distroData) {
         DistroDataResponse result = new DistroDataResponse();
         if (!distroProtocol.onReceive(distroData)) {
@@ -96,6 +117,15 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
+    private DistroDataResponse handleSyncBatchData(List<DistroData> batchData) {
+        DistroDataResponse result = new DistroDataResponse();
+        if (!distroProtocol.onBatchReceive(batchData)) {
+            result.setErrorCode(ResponseCode.FAIL.getCode());
+            result.setMessage("[DISTRO-FAILED] distro batch data handle failed");
+        }
+        return result;
+    }
+    
     private DistroDataResponse handleQueryData(DistroData distroData) {
         DistroDataResponse result = new DistroDataResponse();
         DistroKey distroKey = distroData.getDistroKey();
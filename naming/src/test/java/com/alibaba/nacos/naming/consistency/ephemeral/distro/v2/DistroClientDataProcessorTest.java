@@ -41,6 +41,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -53,14 +54,18 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -129,6 +134,7 @@ class DistroClientDataProcessorTest {
     @AfterEach
     void tearDown() throws Exception {
         NotifyCenter.deregisterSubscriber(distroClientDataProcessor);
+        EnvUtil.setLocalAddress(null);
     }
     
     @Test
@@ -240,6 +246,40 @@ class DistroClientDataProcessorTest {
         assertEquals(1, client.getAllPublishedService().size());
     }
     
+    @Test
+    void testProcessBatchData() {
+        distroData.setType(DataOperation.CHANGE);
+        DistroData deleteData = new DistroData(new DistroKey("deletedClient", DistroClientDataProcessor.TYPE),
+                new byte[0]);
+        deleteData.setType(DataOperation.DELETE);
+        assertTrue(distroClientDataProcessor.processBatchData(Arrays.asList(distroData, deleteData)));
+        verify(clientManager).syncClientConnected(CLIENT_ID, clientSyncData.getAttributes());
+        verify(clientManager).clientDisconnected("deletedClient");
+        assertEquals(1L, client.getRevision());
+    }
+    
+    @Test
+    void testProcessBatchDataWithFailedItem() {
+        distroData.setType(DataOperation.CHANGE);
+        DistroData deleteData = new DistroData(new DistroKey("deletedClient", DistroClientDataProcessor.TYPE),
+                new byte[0]);
+        deleteData.setType(DataOperation.DELETE);
+        doThrow(new IllegalStateException("mock")).when(clientManager).clientDisconnected("deletedClient");
+        // Other items are still applied, and the batch is reported failed to be retried.
+        assertFalse(distroClientDataProcessor.processBatchData(Arrays.asList(deleteData, distroData)));
+        verify(clientManager).syncClientConnected(CLIENT_ID, clientSyncData.getAttributes());
+    }
+    
+    @Test
+    void testProcessBatchDataWithUnsupportedOperation() {
+        distroData.setType(DataOperation.CHANGE);
+        DistroData verifyData = new DistroData(new DistroKey("verifyClient", DistroClientDataProcessor.TYPE),
+                new byte[0]);
+        verifyData.setType(DataOperation.VERIFY);
+        assertFalse(distroClientDataProcessor.processBatchData(Arrays.asList(distroData, verifyData)));
+        verify(clientManager, never()).syncClientConnected(any(), any());
+    }
+    
     @Test
     void testProcessDataForBatch() {
         // swap tmp
@@ -376,6 +416,18 @@ class DistroClientDataProcessorTest {
         assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
     }
     
+    @Test
+    void testGetDatumSnapshotByChunk() {
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        int chunkIndex = Math.floorMod(CLIENT_ID.hashCode(), 4);
+        distroClientDataProcessor.getDatumSnapshot(chunkIndex, 4);
+        distroClientDataProcessor.getDatumSnapshot((chunkIndex + 1) % 4, 4);
+        ArgumentCaptor<ClientSyncDatumSnapshot> captor = ArgumentCaptor.forClass(ClientSyncDatumSnapshot.class);
+        verify(serializer, times(2)).serialize(captor.capture());
+        assertEquals(1, captor.getAllValues().get(0).getClientSyncDataList().size());
+        assertTrue(captor.getAllValues().get(1).getClientSyncDataList().isEmpty());
+    }
+    
     @Test
     void testGetVerifyData() {
         client.setRevision(10L);
@@ -386,4 +438,88 @@ class DistroClientDataProcessorTest {
         assertEquals(CLIENT_ID, list.iterator().next().getDistroKey().getResourceKey());
         assertEquals(DistroClientDataProcessor.TYPE, list.iterator().next().getDistroKey().getResourceType());
     }
+    
+    @Test
+    void testGetVerifyDigest() {
+        EnvUtil.setLocalAddress("1.1.1.1:8848");
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        DistroData actual = distroClientDataProcessor.getVerifyDigest();
+        assertEquals(DataOperation.DIGEST, actual.getType());
+        assertEquals("1.1.1.1:8848", actual.getDistroKey().getTargetServer());
+        assertEquals(DistroClientDataProcessor.TYPE, actual.getDistroKey().getResourceType());
+    }
+    
+    @Test
+    void testGetVerifyDataByMismatchedDigest() {
+        EnvUtil.setLocalAddress("1.1.1.1:8848");
+        when(clientManager.allClientId()).thenReturn(Collections.singletonList(CLIENT_ID));
+        DistroClientVerifyDigest digest = new DistroClientVerifyDigest();
+        digest.setMismatchedBuckets(new int[0]);
+        when(serializer.deserialize(any(), eq(DistroClientVerifyDigest.class))).thenReturn(digest);
+        assertNull(distroClientDataProcessor.getVerifyData(distroData));
+        digest.setMismatchedBuckets(new int[] {DistroClientVerifyDigest.bucketOf(CLIENT_ID)});
+        List<DistroData> list = distroClientDataProcessor.getVerifyData(distroData);
+        assertEquals(1, list.size());
+        assertEquals(DataOperation.VERIFY, list.get(0).getType());
+        assertEquals(CLIENT_ID, list.get(0).getDistroKey().getResourceKey());
+        assertEquals("1.1.1.1:8848", list.get(0).getDistroKey().getTargetServer());
+    }
+    
+    @Test
+    void testProcessVerifyDigestWithMatchedRoot() {
+        verifyClientFromTarget();
+        DistroClientVerifyDigest remoteDigest = DistroClientVerifyDigest.newDigest();
+        remoteDigest.add(CLIENT_ID, 0L);
+        DistroClientVerifyDigest actual = processVerifyDigest(remoteDigest.toRootDigest());
+        assertArrayEquals(new int[0], actual.getMismatchedBuckets());
+        verify(clientManager, times(2)).verifyClient(any(DistroClientVerifyInfo.class));
+    }
+    
+    @Test
+    void testProcessVerifyDigestWithMismatchedRoot() {
+        verifyClientFromTarget();
+        DistroClientVerifyDigest remoteDigest = DistroClientVerifyDigest.newDigest();
+        remoteDigest.add(CLIENT_ID, 1L);
+        DistroClientVerifyDigest actual = processVerifyDigest(remoteDigest.toRootDigest());
+        assertNull(actual.getMismatchedBuckets());
+        verify(clientManager, times(1)).verifyClient(any(DistroClientVerifyInfo.class));
+    }
+    
+    @Test
+    void testProcessVerifyDigestWithBuckets() {
+        verifyClientFromTarget();
+        DistroClientVerifyDigest remoteDigest = DistroClientVerifyDigest.newDigest();
+        remoteDigest.add(CLIENT_ID, 1L);
+        DistroClientVerifyDigest actual = processVerifyDigest(remoteDigest);
+        assertArrayEquals(new int[] {DistroClientVerifyDigest.bucketOf(CLIENT_ID)}, actual.getMismatchedBuckets());
+        remoteDigest = DistroClientVerifyDigest.newDigest();
+        remoteDigest.add(CLIENT_ID, 0L);
+        actual = processVerifyDigest(remoteDigest);
+        assertArrayEquals(new int[0], actual.getMismatchedBuckets());
+        verify(clientManager, times(2)).verifyClient(any(DistroClientVerifyInfo.class));
+    }
+    
+    @Test
+    void testProcessVerifyDigestAfterClientDisconnect() {
+        verifyClientFromTarget();
+        distroClientDataProcessor.onEvent(new ClientEvent.ClientDisconnectEvent(client, true));
+        DistroClientVerifyDigest actual = processVerifyDigest(DistroClientVerifyDigest.newDigest().toRootDigest());
+        assertArrayEquals(new int[0], actual.getMismatchedBuckets());
+    }
+    
+    private void verifyClientFromTarget() {
+        DistroClientVerifyInfo verifyInfo = new DistroClientVerifyInfo(CLIENT_ID, 0L);
+        when(serializer.deserialize(any(), eq(DistroClientVerifyInfo.class))).thenReturn(verifyInfo);
+        when(clientManager.verifyClient(any(DistroClientVerifyInfo.class))).thenReturn(true);
+        assertTrue(distroClientDataProcessor.processVerifyData(distroData, MOCK_TARGET_SERVER));
+    }
+    
+    private DistroClientVerifyDigest processVerifyDigest(DistroClientVerifyDigest remoteDigest) {
+        when(serializer.deserialize(any(), eq(DistroClientVerifyDigest.class))).thenReturn(remoteDigest);
+        ArgumentCaptor<DistroClientVerifyDigest> captor = ArgumentCaptor.forClass(DistroClientVerifyDigest.class);
+        DistroData actual = distroClientDataProcessor.processVerifyDigest(distroData, MOCK_TARGET_SERVER);
+        assertEquals(DataOperation.DIGEST, actual.getType());
+        verify(serializer, Mockito.atLeastOnce()).serialize(captor.capture());
+        return captor.getValue();
+    }
 }
\ No newline at end of file
@@ -20,7 +20,9 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.MemberMetaDataConstants;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.cluster.remote.ClusterRpcClientProxy;
@@ -28,7 +30,10 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.cluster.transport.JacksonSerializer;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.AfterEach;
@@ -43,14 +48,20 @@ import org.mockito.quality.Strictness;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -233,6 +244,51 @@ class DistroClientTransportAgentTest {
         verify(distroCallback).onSuccess();
     }
     
+    @Test
+    void testSupportBatchSync() {
+        assertFalse(transportAgent.supportBatchSync(member.getAddress()));
+        member.setExtendVal(MemberMetaDataConstants.SUPPORT_DISTRO_BATCH_SYNC, true);
+        assertTrue(transportAgent.supportBatchSync(member.getAddress()));
+        assertFalse(transportAgent.supportBatchSync("2.2.2.2:8848"));
+    }
+    
+    @Test
+    void testSyncBatchDataForMemberNonExist() throws NacosException {
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(distroCallback).onSuccess();
+        verify(clusterRpcClientProxy, never()).asyncRequest(any(Member.class), any(), any());
+    }
+    
+    @Test
+    void testSyncBatchDataForMemberUnhealthy() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(distroCallback).onFailed(null);
+        verify(clusterRpcClientProxy, never()).asyncRequest(any(Member.class), any(), any());
+    }
+    
+    @Test
+    void testSyncBatchDataFailure() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(distroCallback).onFailed(null);
+    }
+    
+    @Test
+    void testSyncBatchDataSuccess() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        transportAgent.syncBatchData(Collections.singletonList(new DistroData()), member.getAddress(), distroCallback);
+        verify(distroCallback).onSuccess();
+        verify(clusterRpcClientProxy).asyncRequest(eq(member),
+                argThat(request -> DataOperation.BATCH == ((DistroDataRequest) request).getDataOperation()
+                        && 1 == ((DistroDataRequest) request).getBatchDistroData().size()), any());
+    }
+    
     @Test
     void testSyncVerifyDataForMemberNonExist() throws NacosException {
         DistroData verifyData = new DistroData();
@@ -487,6 +543,42 @@ class DistroClientTransportAgentTest {
         });
     }
     
+    @Test
+    void testSupportChunkedSnapshot() {
+        assertFalse(transportAgent.supportChunkedSnapshot(member.getAddress()));
+        member.setExtendVal(MemberMetaDataConstants.SUPPORT_DISTRO_CHUNKED_SNAPSHOT, true);
+        assertTrue(transportAgent.supportChunkedSnapshot(member.getAddress()));
+    }
+    
+    @Test
+    void testGetDatumSnapshotChunkForMemberUnhealthy() {
+        assertThrows(DistroException.class, () -> transportAgent.getDatumSnapshot(member.getAddress(), 0, 4));
+    }
+    
+    @Test
+    void testGetDatumSnapshotChunkFailure() throws NacosException {
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+        assertThrows(DistroException.class, () -> transportAgent.getDatumSnapshot(member.getAddress(), 0, 4));
+    }
+    
+    @Test
+    void testGetDatumSnapshotChunkSuccess() throws NacosException {
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        DistroData snapshot = new DistroData();
+        response.setDistroData(snapshot);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        assertEquals(snapshot, transportAgent.getDatumSnapshot(member.getAddress(), 1, 4));
+        verify(clusterRpcClientProxy).sendRequest(eq(member), argThat(request -> {
+            DistroDataRequest distroDataRequest = (DistroDataRequest) request;
+            return DataOperation.SNAPSHOT_CHUNK == distroDataRequest.getDataOperation()
+                    && 1 == distroDataRequest.getChunkIndex() && 4 == distroDataRequest.getChunkCount();
+        }), any(Long.class));
+    }
+    
     @Test
     void testGetDatumSnapshotSuccess() throws NacosException {
         when(memberManager.find(member.getAddress())).thenReturn(member);
@@ -495,4 +587,64 @@ class DistroClientTransportAgentTest {
         when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
         transportAgent.getDatumSnapshot(member.getAddress());
     }
+    
+    @Test
+    void testSyncVerifyDigestForMemberUnhealthy() {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        assertThrows(DistroException.class,
+                () -> transportAgent.syncVerifyDigest(mockVerifyDigest(), member.getAddress()));
+    }
+    
+    @Test
+    void testSyncVerifyDigestForMemberNotSupport() throws NacosException {
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        assertNull(transportAgent.syncVerifyDigest(mockVerifyDigest(), member.getAddress()));
+        verify(clusterRpcClientProxy, never()).sendRequest(any(Member.class), any(), any(Long.class));
+    }
+    
+    @Test
+    void testSyncVerifyDigestWithMatchedRoot() throws NacosException {
+        DistroClientVerifyDigest digest = new DistroClientVerifyDigest();
+        digest.setMismatchedBuckets(new int[0]);
+        DistroData actual = syncVerifyDigest(digest);
+        assertEquals(DataOperation.DIGEST, actual.getType());
+        verify(clusterRpcClientProxy, times(1)).sendRequest(eq(member), any(), any(Long.class));
+    }
+    
+    @Test
+    void testSyncVerifyDigestWithMismatchedRoot() throws NacosException {
+        syncVerifyDigest(new DistroClientVerifyDigest());
+        verify(clusterRpcClientProxy, times(2)).sendRequest(eq(member), any(), any(Long.class));
+    }
+    
+    @Test
+    void testSyncVerifyDigestFailure() throws NacosException {
+        response.setErrorInfo(ResponseCode.FAIL.getCode(), "TEST");
+        assertThrows(DistroException.class, () -> syncVerifyDigest(new DistroClientVerifyDigest()));
+    }
+    
+    private DistroData syncVerifyDigest(DistroClientVerifyDigest replyDigest) throws NacosException {
+        Serializer serializer = new JacksonSerializer();
+        when(context.getBean(Serializer.class)).thenReturn(serializer);
+        when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        member.setState(NodeState.UP);
+        member.setExtendVal(MemberMetaDataConstants.SUPPORT_DISTRO_VERIFY_DIGEST, true);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        DistroData replyData = new DistroData(new DistroKey(), serializer.serialize(replyDigest));
+        replyData.setType(DataOperation.DIGEST);
+        ((DistroDataResponse) response).setDistroData(replyData);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        return transportAgent.syncVerifyDigest(mockVerifyDigest(), member.getAddress());
+    }
+    
+    private DistroData mockVerifyDigest() {
+        DistroClientVerifyDigest digest = DistroClientVerifyDigest.newDigest();
+        digest.add("1.1.1.1:8848#true", 1L);
+        DistroData result = new DistroData(new DistroKey("verifyDigest", DistroClientDataProcessor.TYPE),
+                new JacksonSerializer().serialize(digest));
+        result.setType(DataOperation.DIGEST);
+        return result;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.cluster.transport.JacksonSerializer;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DistroClientVerifyDigestTest {
+    
+    @Test
+    void testDigestIndependentOfOrder() {
+        DistroClientVerifyDigest digest1 = DistroClientVerifyDigest.newDigest();
+        digest1.add("1.1.1.1:8848#true", 1L);
+        digest1.add("2.2.2.2:8848#true", 2L);
+        DistroClientVerifyDigest digest2 = DistroClientVerifyDigest.newDigest();
+        digest2.add("2.2.2.2:8848#true", 2L);
+        digest2.add("1.1.1.1:8848#true", 1L);
+        assertArrayEquals(digest1.getBuckets(), digest2.getBuckets());
+        assertEquals(digest1.calculateRoot(), digest2.calculateRoot());
+    }
+    
+    @Test
+    void testDigestChangedByRevision() {
+        DistroClientVerifyDigest digest1 = DistroClientVerifyDigest.newDigest();
+        digest1.add("1.1.1.1:8848#true", 1L);
+        DistroClientVerifyDigest digest2 = DistroClientVerifyDigest.newDigest();
+        digest2.add("1.1.1.1:8848#true", 2L);
+        assertNotEquals(digest1.calculateRoot(), digest2.calculateRoot());
+        int bucket = DistroClientVerifyDigest.bucketOf("1.1.1.1:8848#true");
+        assertNotEquals(digest1.getBuckets()[bucket], digest2.getBuckets()[bucket]);
+    }
+    
+    @Test
+    void testRootDigestSerialize() {
+        DistroClientVerifyDigest digest = DistroClientVerifyDigest.newDigest();
+        digest.add("1.1.1.1:8848#true", 1L);
+        Serializer serializer = new JacksonSerializer();
+        DistroClientVerifyDigest actual = serializer
+                .deserialize(serializer.serialize(digest.toRootDigest()), DistroClientVerifyDigest.class);
+        assertEquals(digest.calculateRoot(), actual.getRoot());
+        assertNull(actual.getBuckets());
+        assertNull(actual.getMismatchedBuckets());
+    }
+}
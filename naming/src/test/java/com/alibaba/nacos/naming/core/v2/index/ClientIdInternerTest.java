@@ -0,0 +1,55 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ClientIdInternerTest {
+    
+    @Test
+    void testAcquireAndRelease() {
+        ClientIdInterner interner = new ClientIdInterner();
+        int handle = interner.acquire("1.1.1.1:8848#true");
+        assertEquals(handle, interner.acquire("1.1.1.1:8848#true"));
+        assertEquals(handle, interner.getHandle("1.1.1.1:8848#true"));
+        assertEquals("1.1.1.1:8848#true", interner.getClientId(handle));
+        interner.release(handle);
+        assertEquals("1.1.1.1:8848#true", interner.getClientId(handle));
+        interner.release(handle);
+        assertNull(interner.getClientId(handle));
+        assertEquals(ClientIdInterner.NO_HANDLE, interner.getHandle("1.1.1.1:8848#true"));
+        assertEquals(0, interner.size());
+        // Released handle is reused.
+        assertEquals(0, interner.getReuseCount());
+        assertEquals(handle, interner.acquire("connectionId"));
+        assertEquals(1, interner.getReuseCount());
+    }
+    
+    @Test
+    void testGrowCapacity() {
+        ClientIdInterner interner = new ClientIdInterner();
+        for (int i = 0; i < 3000; i++) {
+            assertEquals(i, interner.acquire("client" + i));
+        }
+        assertEquals("client2999", interner.getClientId(2999));
+        assertEquals(3000, interner.size());
+        assertNull(interner.getClientId(5000));
+    }
+}
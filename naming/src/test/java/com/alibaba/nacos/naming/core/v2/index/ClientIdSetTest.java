@@ -0,0 +1,72 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClientIdSetTest {
+    
+    @Test
+    void testAddAndRemove() {
+        ClientIdSet set = new ClientIdSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(100));
+        assertTrue(set.add(3));
+        assertFalse(set.add(100));
+        assertEquals(2, set.size());
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(4));
+        assertFalse(set.contains(-1));
+        assertTrue(set.remove(3));
+        assertFalse(set.remove(3));
+        assertEquals(1, set.size());
+        assertEquals(100, set.iterator().nextInt());
+    }
+    
+    @Test
+    void testConvertBetweenArrayAndBitmap() {
+        ClientIdSet set = new ClientIdSet();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.add(i));
+        }
+        assertFalse(set.add(999));
+        assertTrue(set.add(5000));
+        assertEquals(1001, set.size());
+        assertTrue(set.contains(5000));
+        assertFalse(set.contains(4999));
+        List<Integer> handles = new ArrayList<>();
+        set.forEach(handles::add);
+        assertEquals(1001, handles.size());
+        assertEquals(0, handles.get(0));
+        assertEquals(5000, handles.get(1000));
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(set.remove(i));
+        }
+        assertEquals(1, set.size());
+        PrimitiveIterator.OfInt iterator = set.iterator();
+        assertEquals(5000, iterator.nextInt());
+        assertFalse(iterator.hasNext());
+    }
+}
@@ -31,14 +31,14 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 class ClientServiceIndexesManagerTest {
@@ -60,21 +60,19 @@ class ClientServiceIndexesManagerTest {
     private ClientServiceIndexesManager clientServiceIndexesManager;
     
     @BeforeEach
-    void setUp() throws NoSuchFieldException, IllegalAccessException {
+    void setUp() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         clientServiceIndexesManager = new ClientServiceIndexesManager();
         
         Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
-        Field publisherIndexesField = clientServiceIndexesManagerClass.getDeclaredField("publisherIndexes");
-        publisherIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> publisherIndexes = (ConcurrentMap<Service, Set<String>>) publisherIndexesField.get(
-                clientServiceIndexesManager);
-        publisherIndexes.put(service, new HashSet<>(Collections.singletonList(NACOS)));
+        Method addPublisherIndexes = clientServiceIndexesManagerClass.getDeclaredMethod("addPublisherIndexes", Service.class,
+                String.class);
+        addPublisherIndexes.setAccessible(true);
+        addPublisherIndexes.invoke(clientServiceIndexesManager, service, NACOS);
         
-        Field subscriberIndexesField = clientServiceIndexesManagerClass.getDeclaredField("subscriberIndexes");
-        subscriberIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> subscriberIndexes = (ConcurrentMap<Service, Set<String>>) subscriberIndexesField.get(
-                clientServiceIndexesManager);
-        subscriberIndexes.put(service, new HashSet<>(Collections.singletonList(NACOS)));
+        Method addSubscriberIndexes = clientServiceIndexesManagerClass.getDeclaredMethod("addSubscriberIndexes", Service.class,
+                String.class);
+        addSubscriberIndexes.setAccessible(true);
+        addSubscriberIndexes.invoke(clientServiceIndexesManager, service, NACOS);
     }
     
     @Test
@@ -109,7 +107,7 @@ class ClientServiceIndexesManagerTest {
         Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
         Field publisherIndexesField = clientServiceIndexesManagerClass.getDeclaredField("publisherIndexes");
         publisherIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> publisherIndexes = (ConcurrentMap<Service, Set<String>>) publisherIndexesField.get(
+        ConcurrentMap<Service, ClientIdSet> publisherIndexes = (ConcurrentMap<Service, ClientIdSet>) publisherIndexesField.get(
                 clientServiceIndexesManager);
         
         assertEquals(1, publisherIndexes.size());
@@ -195,4 +193,45 @@ class ClientServiceIndexesManagerTest {
         assertEquals(1, allClientsSubscribeService.size());
     }
     
-}
\ No newline at end of file
+    @Test
+    void testRemoveClientIndexesAndReuseHandle() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
+        Method removeSubscriberIndexes = clientServiceIndexesManagerClass.getDeclaredMethod("removeSubscriberIndexes", Service.class,
+                String.class);
+        removeSubscriberIndexes.setAccessible(true);
+        removeSubscriberIndexes.invoke(clientServiceIndexesManager, service, NACOS);
+        
+        Collection<String> allClientsSubscribeService = clientServiceIndexesManager.getAllClientsSubscribeService(service);
+        assertTrue(allClientsSubscribeService.isEmpty());
+        assertTrue(clientServiceIndexesManager.getSubscribedService().isEmpty());
+        // Still referenced by publisher indexes.
+        Collection<String> allClientsRegisteredService = clientServiceIndexesManager.getAllClientsRegisteredService(service);
+        assertTrue(allClientsRegisteredService.contains(NACOS));
+        assertEquals(NACOS, allClientsRegisteredService.iterator().next());
+    }
+    
+    @Test
+    void testIteratorNotResolveReusedHandle() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+        Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
+        Method removePublisherIndexes = clientServiceIndexesManagerClass.getDeclaredMethod("removePublisherIndexes", Service.class,
+                String.class);
+        removePublisherIndexes.setAccessible(true);
+        Method removeSubscriberIndexes = clientServiceIndexesManagerClass.getDeclaredMethod("removeSubscriberIndexes", Service.class,
+                String.class);
+        removeSubscriberIndexes.setAccessible(true);
+        Method addSubscriberIndexes = clientServiceIndexesManagerClass.getDeclaredMethod("addSubscriberIndexes", Service.class,
+                String.class);
+        addSubscriberIndexes.setAccessible(true);
+        Iterator<String> iterator = clientServiceIndexesManager.getAllClientsSubscribeService(service).iterator();
+        // Release the handle of nacos and reuse it for another client which subscribes another service.
+        removePublisherIndexes.invoke(clientServiceIndexesManager, service, NACOS);
+        removeSubscriberIndexes.invoke(clientServiceIndexesManager, service, NACOS);
+        Service otherService = Mockito.mock(Service.class);
+        addSubscriberIndexes.invoke(clientServiceIndexesManager, otherService, "otherClient");
+        
+        assertEquals(NACOS, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertFalse(clientServiceIndexesManager.getAllClientsSubscribeService(service).contains("otherClient"));
+    }
+    
+}
@@ -18,6 +18,8 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
@@ -33,6 +35,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -43,6 +47,8 @@ import java.util.concurrent.ConcurrentMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @ExtendWith(MockitoExtension.class)
 class ServiceStorageTest {
@@ -132,13 +138,91 @@ class ServiceStorageTest {
     }
     
     @Test
-    void testGetAllInstancesFromIndex() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        Class<ServiceStorage> serviceStorageClass = ServiceStorage.class;
-        Method getAllInstancesFromIndex = serviceStorageClass.getDeclaredMethod("getAllInstancesFromIndex", Service.class);
-        getAllInstancesFromIndex.setAccessible(true);
-        List<Instance> list = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
-        
-        assertNotNull(list);
+    void testGetPushDataWithChangedClient() {
+        Service service = ServiceManager.getInstance().getSingleton(Service.newService("namespaceId", "groupName", "incremental"));
+        try {
+            Client clientA = Mockito.mock(Client.class);
+            Client clientB = Mockito.mock(Client.class);
+            Mockito.when(clientManagerDelegate.getClient("a")).thenReturn(clientA);
+            Mockito.when(clientManagerDelegate.getClient("b")).thenReturn(clientB);
+            Mockito.when(clientA.getInstancePublishInfo(service)).thenReturn(new InstancePublishInfo("1.1.1.1", 8848));
+            Mockito.when(clientB.getInstancePublishInfo(service)).thenReturn(new InstancePublishInfo("2.2.2.2", 8848));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.singletonList("a"));
+            ServiceInfo first = serviceStorage.getPushData(service);
+            assertEquals(1, first.getHosts().size());
+            // no change, published data should be reused.
+            assertSame(first, serviceStorage.getPushData(service));
+            
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Arrays.asList("a", "b"));
+            serviceStorage.markChanged(service, "b");
+            ServiceInfo second = serviceStorage.getPushData(service);
+            assertEquals(2, second.getHosts().size());
+            // only changed client should be re-parsed.
+            Mockito.verify(clientA, Mockito.times(1)).getInstancePublishInfo(service);
+            
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.singletonList("b"));
+            serviceStorage.markChanged(service, "a");
+            ServiceInfo third = serviceStorage.getPushData(service);
+            assertEquals(1, third.getHosts().size());
+            assertEquals("2.2.2.2", third.getHosts().get(0).getIp());
+            Mockito.verify(clientB, Mockito.times(1)).getInstancePublishInfo(service);
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
+    @Test
+    void testGetPushDataWithAllChanged() {
+        Service service = ServiceManager.getInstance().getSingleton(Service.newService("namespaceId", "groupName", "incremental"));
+        try {
+            Client clientA = Mockito.mock(Client.class);
+            Mockito.when(clientManagerDelegate.getClient("a")).thenReturn(clientA);
+            Mockito.when(clientA.getInstancePublishInfo(service)).thenReturn(new InstancePublishInfo("1.1.1.1", 8848));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.singletonList("a"));
+            ServiceInfo first = serviceStorage.getPushData(service);
+            serviceStorage.markChanged(service, null);
+            ServiceInfo second = serviceStorage.getPushData(service);
+            assertNotSame(first, second);
+            assertEquals(1, second.getHosts().size());
+            Mockito.verify(clientA, Mockito.times(2)).getInstancePublishInfo(service);
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
+    @Test
+    void testChangeListenerSeesMarkedChange() {
+        Service service = ServiceManager.getInstance()
+                .getSingleton(Service.newService("namespaceId", "groupName", "listener"));
+        try {
+            Client clientA = Mockito.mock(Client.class);
+            Mockito.when(clientManagerDelegate.getClient("a")).thenReturn(clientA);
+            Mockito.when(clientA.getInstancePublishInfo(service)).thenReturn(new InstancePublishInfo("1.1.1.1", 8848));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.emptyList());
+            assertEquals(0, serviceStorage.getPushData(service).getHosts().size());
+            List<ServiceInfo> listened = new ArrayList<>();
+            serviceStorage.registerChangeListener(changed -> listened.add(serviceStorage.getPushData(changed)));
+            Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(service))
+                    .thenReturn(Collections.singletonList("a"));
+            serviceStorage.markChanged(service, "a");
+            assertEquals(1, listened.size());
+            assertEquals(1, listened.get(0).getHosts().size());
+        } finally {
+            ServiceManager.getInstance().removeSingleton(service);
+        }
+    }
+    
+    @Test
+    void testRemoveListenerNotifiedAfterRemove() {
+        List<Service> removed = new ArrayList<>();
+        serviceStorage.registerRemoveListener(removed::add);
+        serviceStorage.removeData(SERVICE);
+        assertEquals(Collections.singletonList(SERVICE), removed);
     }
     
     @Test
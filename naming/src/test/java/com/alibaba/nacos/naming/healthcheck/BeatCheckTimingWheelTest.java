@@ -0,0 +1,101 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.alibaba.nacos.naming.healthcheck;
+
+import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BeatCheckTimingWheelTest {
+    
+    @Mock
+    private BeatCheckTask task;
+    
+    @Mock
+    private Runnable runnable;
+    
+    private BeatCheckTimingWheel.Shard shard;
+    
+    private BeatCheckTimingWheel.WheelEntry entry;
+    
+    @BeforeEach
+    void setUp() {
+        shard = new BeatCheckTimingWheel.Shard();
+        entry = new BeatCheckTimingWheel.WheelEntry(task, runnable);
+        shard.offer(entry, 1000L);
+        shard.tick(500L);
+    }
+    
+    @Test
+    void testSkipBeforeNextCheckTime() {
+        when(task.getNextCheckTime(anyLong())).thenReturn(3000L);
+        shard.tick(1000L);
+        verify(task).getNextCheckTime(1000L);
+        verify(runnable, never()).run();
+        shard.tick(2500L);
+        verify(runnable, never()).run();
+        shard.tick(3000L);
+        verify(runnable).run();
+    }
+    
+    @Test
+    void testCheckPeriodWhenStillTimeout() {
+        when(task.getNextCheckTime(anyLong())).thenReturn(0L);
+        shard.tick(1000L);
+        verify(runnable).run();
+        shard.tick(1000L + BeatCheckTimingWheel.CHECK_PERIOD_MILLIS - 500L);
+        verify(runnable).run();
+        shard.tick(1000L + BeatCheckTimingWheel.CHECK_PERIOD_MILLIS);
+        verify(runnable, times(2)).run();
+    }
+    
+    @Test
+    void testCancelled() {
+        entry.cancel();
+        shard.tick(1000L);
+        verify(task, never()).getNextCheckTime(anyLong());
+        verify(runnable, never()).run();
+    }
+    
+    @Test
+    void testRescheduleAfterException() {
+        when(task.getNextCheckTime(anyLong())).thenReturn(0L);
+        doThrow(new RuntimeException("test")).when(runnable).run();
+        shard.tick(1000L);
+        shard.tick(1000L + BeatCheckTimingWheel.CHECK_PERIOD_MILLIS);
+        verify(runnable, times(2)).run();
+    }
+    
+    @Test
+    void testCatchUpDelayedTicks() {
+        when(task.getNextCheckTime(anyLong())).thenReturn(0L);
+        shard.tick(100000L);
+        verify(runnable).run();
+    }
+}
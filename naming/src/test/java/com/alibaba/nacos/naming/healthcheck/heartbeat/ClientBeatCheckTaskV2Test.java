@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.healthcheck.heartbeat;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.naming.PreservedMetadataKeys;
 import com.alibaba.nacos.common.utils.InternetAddressUtil;
 import com.alibaba.nacos.naming.consistency.KeyBuilder;
@@ -161,6 +162,25 @@ class ClientBeatCheckTaskV2Test {
         assertFalse(client.getInstancePublishInfo(Service.newService(NAMESPACE, GROUP_NAME, SERVICE_NAME)).isHealthy());
     }
     
+    @Test
+    void testGetNextCheckTimeWithoutInstance() {
+        assertEquals(1000L, beatCheckTask.getNextCheckTime(1000L));
+    }
+    
+    @Test
+    void testGetNextCheckTimeForHealthyInstance() {
+        injectInstance(true, 1000L);
+        assertEquals(1000L + Constants.DEFAULT_HEART_BEAT_TIMEOUT + 1, beatCheckTask.getNextCheckTime(2000L));
+    }
+    
+    @Test
+    void testGetNextCheckTimeForUnhealthyInstance() {
+        injectInstance(false, 1000L);
+        assertEquals(Long.MAX_VALUE, beatCheckTask.getNextCheckTime(2000L));
+        when(globalConfig.isExpireInstance()).thenReturn(true);
+        assertEquals(1000L + Constants.DEFAULT_IP_DELETE_TIMEOUT + 1, beatCheckTask.getNextCheckTime(2000L));
+    }
+    
     private HealthCheckInstancePublishInfo injectInstance(boolean healthy, long heartbeatTime) {
         HealthCheckInstancePublishInfo instance = new HealthCheckInstancePublishInfo(IP, PORT);
         instance.setHealthy(healthy);
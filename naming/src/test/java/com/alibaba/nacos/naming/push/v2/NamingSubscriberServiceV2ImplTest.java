@@ -20,6 +20,7 @@ import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.pojo.Subscriber;
@@ -64,6 +65,9 @@ class NamingSubscriberServiceV2ImplTest {
     @Mock
     private PushDelayTaskExecuteEngine delayTaskEngine;
     
+    @Mock
+    private ServiceStorage serviceStorage;
+    
     @Mock
     private Client client;
     
@@ -74,7 +78,8 @@ class NamingSubscriberServiceV2ImplTest {
     
     @BeforeEach
     void setUp() throws Exception {
-        subscriberService = new NamingSubscriberServiceV2Impl(clientManager, indexesManager, null, null, null, switchDomain);
+        subscriberService = new NamingSubscriberServiceV2Impl(clientManager, indexesManager, serviceStorage, null, null,
+                switchDomain);
         ReflectionTestUtils.setField(subscriberService, "delayTaskEngine", delayTaskEngine);
         when(indexesManager.getAllClientsSubscribeService(service)).thenReturn(Collections.singletonList(testClientId));
         when(indexesManager.getAllClientsSubscribeService(service1)).thenReturn(Collections.singletonList(testClientId));
@@ -117,7 +122,8 @@ class NamingSubscriberServiceV2ImplTest {
     
     @Test
     void onEvent() {
-        subscriberService.onEvent(new ServiceEvent.ServiceChangedEvent(service));
+        subscriberService.onEvent(new ServiceEvent.ServiceChangedEvent(service, testClientId, true));
+        verify(serviceStorage).markChanged(service, testClientId);
         verify(delayTaskEngine).addTask(eq(service), any(PushDelayTask.class));
     }
 }
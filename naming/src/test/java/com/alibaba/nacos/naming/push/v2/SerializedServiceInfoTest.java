@@ -0,0 +1,64 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.push.v2;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SerializedServiceInfoTest {
+    
+    @Test
+    void testSerializeSameAsOriginal() {
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setMetadata(Collections.singletonMap("k", "v"));
+        serviceInfo.setHosts(Collections.singletonList(instance));
+        serviceInfo.setLastRefTime(1000L);
+        String expected = JacksonUtils.toJson(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo));
+        String actual = JacksonUtils.toJson(
+                NotifySubscriberRequest.buildNotifySubscriberRequest(new SerializedServiceInfo(serviceInfo)));
+        assertEquals(expected, actual);
+        NotifySubscriberRequest parsed = JacksonUtils.toObj(actual, NotifySubscriberRequest.class);
+        assertEquals("1.1.1.1", parsed.getServiceInfo().getHosts().get(0).getIp());
+    }
+    
+    @Test
+    void testPushDataCache() {
+        PushDataCache cache = new PushDataCache(1);
+        Service service = Service.newService("N", "G", "S");
+        ServiceMetadata metadata = new ServiceMetadata();
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S");
+        PushDataWrapper wrapper = cache.getPushData(service, metadata, serviceInfo);
+        assertSame(wrapper, cache.getPushData(service, metadata, serviceInfo));
+        assertNotSame(wrapper, cache.getPushData(service, metadata, new ServiceInfo("G@@S")));
+        cache.getPushData(Service.newService("N", "G", "S1"), metadata, serviceInfo);
+        assertEquals(1, cache.size());
+    }
+}
@@ -25,6 +25,7 @@ import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
+import com.alibaba.nacos.naming.push.v2.SerializedServiceInfo;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
@@ -32,6 +33,7 @@ import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -43,9 +45,12 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -103,6 +108,21 @@ class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    void testDoPushShareSerializedData() {
+        Subscriber another = new Subscriber("1.1.1.1:1111", "Test", "unknown", "1.1.1.1", "N", "G@@S", 0);
+        Subscriber other = new Subscriber("2.2.2.2:2222", "Test", "unknown", "2.2.2.2", "N", "G@@S", 0);
+        ArgumentCaptor<NotifySubscriberRequest> captor = ArgumentCaptor.forClass(NotifySubscriberRequest.class);
+        pushExecutor.doPush(rpcClientId, another, pushData);
+        pushExecutor.doPush(rpcClientId, other, pushData);
+        verify(pushService, times(2)).pushWithoutAck(eq(rpcClientId), captor.capture());
+        ServiceInfo first = captor.getAllValues().get(0).getServiceInfo();
+        assertTrue(first instanceof SerializedServiceInfo);
+        assertSame(first, captor.getAllValues().get(1).getServiceInfo());
+        // selection should only be executed once for subscribers with same selector result.
+        verify(selectorManager, times(1)).select(any(), any(), any());
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
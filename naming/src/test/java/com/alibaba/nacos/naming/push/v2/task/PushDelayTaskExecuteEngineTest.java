@@ -31,12 +31,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
@@ -99,4 +102,15 @@ class PushDelayTaskExecuteEngineTest {
         verify(pushExecutor).doPushWithCallback(anyString(), any(Subscriber.class), any(PushDataWrapper.class),
                 any(NamingPushCallback.class));
     }
+    
+    @Test
+    void testRemovePushDataOfRemovedService() throws InterruptedException {
+        ArgumentCaptor<Consumer<Service>> removeListener = ArgumentCaptor.forClass(Consumer.class);
+        verify(serviceStorage).registerRemoveListener(removeListener.capture());
+        executeEngine.addTask(service, new PushDelayTask(service, 0L));
+        TimeUnit.MILLISECONDS.sleep(200L);
+        assertEquals(1, executeEngine.getPushDataCache().size());
+        removeListener.getValue().accept(service);
+        assertEquals(0, executeEngine.getPushDataCache().size());
+    }
 }
@@ -26,6 +26,7 @@ import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.NoRequiredRetryException;
+import com.alibaba.nacos.naming.push.v2.PushDataCache;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -95,6 +96,7 @@ class PushExecuteTaskTest {
         when(delayTaskExecuteEngine.getPushExecutor()).thenReturn(pushExecutor);
         when(delayTaskExecuteEngine.getServiceStorage()).thenReturn(serviceStorage);
         when(delayTaskExecuteEngine.getMetadataManager()).thenReturn(metadataManager);
+        when(delayTaskExecuteEngine.getPushDataCache()).thenReturn(new PushDataCache(16));
         when(metadataManager.getServiceMetadata(service)).thenReturn(Optional.empty());
         ApplicationUtils.injectContext(context);
     }
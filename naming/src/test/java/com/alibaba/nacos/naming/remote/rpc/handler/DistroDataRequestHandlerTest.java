@@ -31,10 +31,15 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collections;
+
 import static com.alibaba.nacos.consistency.DataOperation.ADD;
+import static com.alibaba.nacos.consistency.DataOperation.BATCH;
 import static com.alibaba.nacos.consistency.DataOperation.DELETE;
+import static com.alibaba.nacos.consistency.DataOperation.DIGEST;
 import static com.alibaba.nacos.consistency.DataOperation.QUERY;
 import static com.alibaba.nacos.consistency.DataOperation.SNAPSHOT;
+import static com.alibaba.nacos.consistency.DataOperation.SNAPSHOT_CHUNK;
 import static com.alibaba.nacos.consistency.DataOperation.VERIFY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -83,5 +88,27 @@ class DistroDataRequestHandlerTest {
         distroDataRequest.setDataOperation(ADD);
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         assertNull(response4.getDistroData());
+        
+        distroDataRequest.setDataOperation(DIGEST);
+        Mockito.when(distroProtocol.onVerifyDigest(Mockito.any(), Mockito.any())).thenReturn(distroData);
+        DistroDataResponse response5 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(response5.getDistroData(), distroData);
+        
+        distroDataRequest.setDataOperation(BATCH);
+        distroDataRequest.setBatchDistroData(Collections.singletonList(distroData));
+        Mockito.when(distroProtocol.onBatchReceive(Mockito.any())).thenReturn(false);
+        DistroDataResponse response6 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(response6.getErrorCode(), ResponseCode.FAIL.getCode());
+        Mockito.when(distroProtocol.onBatchReceive(Mockito.any())).thenReturn(true);
+        DistroDataResponse response7 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(ResponseCode.SUCCESS.getCode(), response7.getResultCode());
+        
+        distroDataRequest.setDataOperation(SNAPSHOT_CHUNK);
+        distroDataRequest.setChunkIndex(1);
+        distroDataRequest.setChunkCount(4);
+        Mockito.when(distroProtocol.onSnapshotChunk(Mockito.any(), Mockito.eq(1), Mockito.eq(4)))
+                .thenReturn(distroData);
+        DistroDataResponse response8 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
+        assertEquals(response8.getDistroData(), distroData);
     }
 }
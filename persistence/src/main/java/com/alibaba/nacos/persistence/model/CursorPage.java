@@ -0,0 +1,58 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.persistence.model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page of keyset pagination, the next page is queried after the cursor instead of by page number, so that the cost of
+ * query does not grow with page depth.
+ *
+ * @author xiweng.yy
+ */
+public class CursorPage<E> implements Serializable {
+    
+    private static final long serialVersionUID = -2871460563093427218L;
+    
+    /**
+     * pageItems.
+     */
+    private List<E> pageItems = new ArrayList<>();
+    
+    /**
+     * Cursor to query next page, {@code null} if no more page.
+     */
+    private String nextCursor;
+    
+    public List<E> getPageItems() {
+        return pageItems;
+    }
+    
+    public void setPageItems(List<E> pageItems) {
+        this.pageItems = pageItems;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.plugin.control.tps.barrier;
 
 import com.alibaba.nacos.plugin.control.Loggers;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.RuleBarrierCreator;
 import com.alibaba.nacos.plugin.control.tps.request.BarrierCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.request.TpsCheckRequest;
 import com.alibaba.nacos.plugin.control.tps.response.TpsCheckResponse;
@@ -34,6 +35,10 @@ public class DefaultNacosTpsBarrier extends TpsBarrier {
         super(pointName);
     }
     
+    public DefaultNacosTpsBarrier(String pointName, RuleBarrierCreator ruleBarrierCreator) {
+        super(pointName, ruleBarrierCreator);
+    }
+    
     /**
      * apply tps.
      *
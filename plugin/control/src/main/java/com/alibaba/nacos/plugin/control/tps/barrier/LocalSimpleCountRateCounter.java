@@ -58,17 +58,18 @@ public class LocalSimpleCountRateCounter extends RateCounter {
     public long add(long timestamp, long count) {
         return createSlotIfAbsent(timestamp).countHolder.count.addAndGet(count);
     }
-
+    
     @Override
     public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
-        if (createSlotIfAbsent(timestamp).countHolder.count.addAndGet(countDelta) <= upperLimit) {
+        SlotCountHolder countHolder = createSlotIfAbsent(timestamp).countHolder;
+        if (countHolder.count.addAndGet(countDelta) <= upperLimit) {
             return true;
         } else {
-            createSlotIfAbsent(timestamp).countHolder.interceptedCount.addAndGet(countDelta);
+            countHolder.interceptedCount.addAndGet(countDelta);
             return false;
         }
     }
-
+    
     public void minus(long timestamp, long count) {
         AtomicLong currentCount = createSlotIfAbsent(timestamp).countHolder.count;
         currentCount.addAndGet(count * -1);
@@ -115,7 +116,7 @@ public class LocalSimpleCountRateCounter extends RateCounter {
         if (tpsSlot.time != currentWindowTime) {
             tpsSlot.reset(currentWindowTime);
         }
-        return slotList.get(index);
+        return tpsSlot;
     }
     
     static class TpsSlot {
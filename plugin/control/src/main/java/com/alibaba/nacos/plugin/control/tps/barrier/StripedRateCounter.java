@@ -0,0 +1,194 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Striped rate counter for high concurrency.
+ *
+ * <p>Counts of each window are split into several cells like {@link java.util.concurrent.atomic.LongAdder}, and the
+ * cell is selected by current thread, so request threads in different cores rarely contend on the same cell. All
+ * cells of all windows are preallocated in a primitive ring, which means no allocation for each count.
+ *
+ * <p>{@link #tryAdd(long, long, long)} checks the limit with an approximate sum of each window, which is refreshed
+ * when the count of any cell crosses a step, so the real sum is less than the approximate sum plus one step per cell.
+ * The exact sum of all cells is only read when the approximate sum is near the limit.
+ *
+ * @author xiweng.yy
+ */
+public class StripedRateCounter extends RateCounter {
+    
+    private static final int DEFAULT_RECORD_SIZE = 10;
+    
+    private static final int MAX_STRIPES = 64;
+    
+    /**
+     * One cell takes 8 longs (64 bytes) to avoid false sharing between adjacent cells.
+     */
+    private static final int CELL_PADDING_SHIFT = 3;
+    
+    private static final long RESETTING = -1L;
+    
+    /**
+     * The step is {@code 1/8} of the limit of each cell, which means exact sum is read in the last {@code 1/8}.
+     */
+    private static final int STEP_SHIFT = 3;
+    
+    private final long startTime;
+    
+    private final long periodMillis;
+    
+    private final int stripeMask;
+    
+    private final AtomicLongArray windowTimes;
+    
+    private final AtomicLongArray passCells;
+    
+    private final AtomicLongArray interceptedCells;
+    
+    /**
+     * Approximate sums of pass count of each window, padded like cells.
+     */
+    private final AtomicLongArray approximateSums;
+    
+    public StripedRateCounter(String name, TimeUnit period) {
+        this(name, period, Runtime.getRuntime().availableProcessors());
+    }
+    
+    public StripedRateCounter(String name, TimeUnit period, int concurrency) {
+        super(name, period);
+        long now = System.currentTimeMillis();
+        if (period == TimeUnit.MINUTES) {
+            startTime = RateCounter.getTrimMillsOfMinute(now);
+        } else if (period == TimeUnit.HOURS) {
+            startTime = RateCounter.getTrimMillsOfHour(now);
+        } else {
+            //second default
+            startTime = RateCounter.getTrimMillsOfSecond(now);
+        }
+        periodMillis = period.toMillis(1);
+        int stripes = Integer.highestOneBit(Math.min(Math.max(concurrency, 1), MAX_STRIPES));
+        stripeMask = stripes - 1;
+        windowTimes = new AtomicLongArray(DEFAULT_RECORD_SIZE);
+        passCells = new AtomicLongArray((DEFAULT_RECORD_SIZE * stripes) << CELL_PADDING_SHIFT);
+        interceptedCells = new AtomicLongArray((DEFAULT_RECORD_SIZE * stripes) << CELL_PADDING_SHIFT);
+        approximateSums = new AtomicLongArray(DEFAULT_RECORD_SIZE << CELL_PADDING_SHIFT);
+    }
+    
+    @Override
+    public long add(long timestamp, long count) {
+        int slot = acquireSlot(timestamp);
+        passCells.addAndGet(cellIndex(slot, currentStripe()), count);
+        return sum(passCells, slot);
+    }
+    
+    @Override
+    public boolean tryAdd(long timestamp, long countDelta, long upperLimit) {
+        int slot = acquireSlot(timestamp);
+        int cell = cellIndex(slot, currentStripe());
+        long cellCount = passCells.addAndGet(cell, countDelta);
+        int stripes = stripeMask + 1;
+        long step = Math.max(1L, upperLimit / ((long) stripes << STEP_SHIFT));
+        int sumIndex = slot << CELL_PADDING_SHIFT;
+        if (cellCount / step == (cellCount - countDelta) / step
+                && approximateSums.get(sumIndex) + step * stripes <= upperLimit) {
+            return true;
+        }
+        // Crossed a step or near the limit, refresh approximate sum by exact sum.
+        long exactSum = sum(passCells, slot);
+        approximateSums.accumulateAndGet(sumIndex, exactSum, Math::max);
+        if (exactSum <= upperLimit) {
+            return true;
+        }
+        interceptedCells.addAndGet(cell, countDelta);
+        return false;
+    }
+    
+    @Override
+    public long getCount(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        int slot = getSlot(windowTime);
+        return windowTimes.get(slot) == windowTime ? sum(passCells, slot) : 0L;
+    }
+    
+    /**
+     * Get intercepted count of the window of timestamp.
+     *
+     * @param timestamp timestamp.
+     * @return intercepted count, 0 if the window is expired.
+     */
+    public long getInterceptedCount(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        int slot = getSlot(windowTime);
+        return windowTimes.get(slot) == windowTime ? sum(interceptedCells, slot) : 0L;
+    }
+    
+    /**
+     * Get the slot of timestamp, reset the slot if it is still recording an old window.
+     *
+     * @param timestamp timestamp.
+     * @return slot index
+     */
+    private int acquireSlot(long timestamp) {
+        long windowTime = getWindowTime(timestamp);
+        int slot = getSlot(windowTime);
+        long current;
+        while ((current = windowTimes.get(slot)) != windowTime) {
+            if (RESETTING == current) {
+                Thread.yield();
+            } else if (windowTimes.compareAndSet(slot, current, RESETTING)) {
+                int base = cellIndex(slot, 0);
+                for (int i = 0; i <= stripeMask; i++) {
+                    int index = base + (i << CELL_PADDING_SHIFT);
+                    passCells.set(index, 0L);
+                    interceptedCells.set(index, 0L);
+                }
+                approximateSums.set(slot << CELL_PADDING_SHIFT, 0L);
+                windowTimes.set(slot, windowTime);
+            }
+        }
+        return slot;
+    }
+    
+    private long getWindowTime(long timestamp) {
+        return startTime + Math.floorDiv(timestamp - startTime, periodMillis) * periodMillis;
+    }
+    
+    private int getSlot(long windowTime) {
+        return (int) Math.floorMod((windowTime - startTime) / periodMillis, (long) DEFAULT_RECORD_SIZE);
+    }
+    
+    private int currentStripe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & stripeMask;
+    }
+    
+    private int cellIndex(int slot, int stripe) {
+        return (slot * (stripeMask + 1) + stripe) << CELL_PADDING_SHIFT;
+    }
+    
+    private long sum(AtomicLongArray cells, int slot) {
+        int base = cellIndex(slot, 0);
+        long result = 0L;
+        for (int i = 0; i <= stripeMask; i++) {
+            result += cells.get(base + (i << CELL_PADDING_SHIFT));
+        }
+        return result;
+    }
+}
@@ -39,8 +39,12 @@ public abstract class TpsBarrier {
     protected RuleBarrier pointBarrier;
     
     public TpsBarrier(String pointName) {
+        this(pointName, new LocalSimpleCountBarrierCreator());
+    }
+    
+    public TpsBarrier(String pointName, RuleBarrierCreator ruleBarrierCreator) {
         this.pointName = pointName;
-        this.ruleBarrierCreator = new LocalSimpleCountBarrierCreator();
+        this.ruleBarrierCreator = ruleBarrierCreator;
         this.pointBarrier = ruleBarrierCreator.createRuleBarrier(pointName, pointName, TimeUnit.SECONDS);
     }
     
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.plugin.control.tps.barrier.creator;
 
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
 import com.alibaba.nacos.plugin.control.tps.barrier.TpsBarrier;
 import com.alibaba.nacos.plugin.control.tps.barrier.DefaultNacosTpsBarrier;
 
@@ -33,6 +34,19 @@ public class DefaultNacosTpsBarrierCreator implements TpsBarrierCreator {
     
     @Override
     public TpsBarrier createTpsBarrier(String pointName) {
-        return new DefaultNacosTpsBarrier(pointName);
+        return new DefaultNacosTpsBarrier(pointName, selectRuleBarrierCreator());
+    }
+    
+    /**
+     * Select rule barrier creator by {@link ControlConfigs#getTpsRuleBarrierCreator()}, local simple count by default.
+     *
+     * @return rule barrier creator
+     */
+    private RuleBarrierCreator selectRuleBarrierCreator() {
+        String creatorName = ControlConfigs.getInstance().getTpsRuleBarrierCreator();
+        if (StripedCountBarrierCreator.getInstance().name().equals(creatorName)) {
+            return StripedCountBarrierCreator.getInstance();
+        }
+        return LocalSimpleCountBarrierCreator.getInstance();
     }
 }
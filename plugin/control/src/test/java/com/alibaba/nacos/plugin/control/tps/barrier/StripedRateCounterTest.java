@@ -0,0 +1,144 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.plugin.control.tps.barrier;
+
+import com.alibaba.nacos.plugin.control.configs.ControlConfigs;
+import com.alibaba.nacos.plugin.control.tps.barrier.creator.DefaultNacosTpsBarrierCreator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripedRateCounterTest {
+    
+    @AfterEach
+    void tearDown() {
+        ControlConfigs.getInstance().setTpsRuleBarrierCreator("");
+    }
+    
+    @Test
+    void testAddAndGetCount() {
+        StripedRateCounter counter = new StripedRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        assertEquals(0L, counter.getCount(timestamp));
+        assertEquals(1L, counter.add(timestamp, 1L));
+        assertEquals(3L, counter.add(timestamp, 2L));
+        assertEquals(3L, counter.getCount(timestamp));
+        // Next window is not counted.
+        assertEquals(0L, counter.getCount(timestamp + 1000L));
+    }
+    
+    @Test
+    void testTryAdd() {
+        StripedRateCounter counter = new StripedRateCounter("test", TimeUnit.SECONDS);
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(counter.tryAdd(timestamp, 1L, 5L));
+        }
+        assertFalse(counter.tryAdd(timestamp, 1L, 5L));
+        assertEquals(1L, counter.getInterceptedCount(timestamp));
+        // New window resets the count.
+        assertTrue(counter.tryAdd(timestamp + 1000L, 1L, 5L));
+        assertEquals(1L, counter.getCount(timestamp + 1000L));
+    }
+    
+    @Test
+    void testTryAddWithApproximateSum() {
+        StripedRateCounter counter = new StripedRateCounter("test", TimeUnit.MINUTES, 8);
+        long timestamp = System.currentTimeMillis();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(counter.tryAdd(timestamp, 1L, 1000L));
+        }
+        assertFalse(counter.tryAdd(timestamp, 1L, 1000L));
+        assertEquals(1L, counter.getInterceptedCount(timestamp));
+    }
+    
+    @Test
+    void testConcurrentTryAddNotExceedLimit() throws InterruptedException {
+        StripedRateCounter counter = new StripedRateCounter("test", TimeUnit.MINUTES, 8);
+        long timestamp = System.currentTimeMillis();
+        int threads = 8;
+        int times = 5000;
+        long limit = 10000L;
+        AtomicLong accepted = new AtomicLong();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < times; j++) {
+                    if (counter.tryAdd(timestamp, 1L, limit)) {
+                        accepted.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        assertTrue(accepted.get() <= limit);
+        assertEquals((long) threads * times - accepted.get(), counter.getInterceptedCount(timestamp));
+    }
+    
+    @Test
+    void testResetExpiredWindow() {
+        StripedRateCounter counter = new StripedRateCounter("test", TimeUnit.SECONDS, 4);
+        long timestamp = System.currentTimeMillis();
+        counter.add(timestamp, 10L);
+        // Same slot after 10 windows.
+        long nextRound = timestamp + 10 * 1000L;
+        assertEquals(1L, counter.add(nextRound, 1L));
+        assertEquals(0L, counter.getCount(timestamp));
+        assertEquals(1L, counter.getCount(nextRound));
+    }
+    
+    @Test
+    void testConcurrentAdd() throws InterruptedException {
+        StripedRateCounter counter = new StripedRateCounter("test", TimeUnit.MINUTES, 8);
+        long timestamp = System.currentTimeMillis();
+        int threads = 8;
+        int times = 10000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(() -> {
+                for (int j = 0; j < times; j++) {
+                    counter.add(timestamp, 1L);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+        assertEquals((long) threads * times, counter.getCount(timestamp));
+    }
+    
+    @Test
+    void testSelectedByControlConfigs() {
+        ControlConfigs.getInstance().setTpsRuleBarrierCreator("stripedcounter");
+        TpsBarrier tpsBarrier = new DefaultNacosTpsBarrierCreator().createTpsBarrier("test");
+        assertTrue(tpsBarrier.getPointBarrier() instanceof StripedCountRuleBarrier);
+        assertTrue(((StripedCountRuleBarrier) tpsBarrier.getPointBarrier()).rateCounter instanceof StripedRateCounter);
+    }
+}
@@ -52,6 +52,8 @@ public class FieldConstant {
     
     public static final String LAST_MAX_ID = "lastMaxId";
     
+    public static final String LAST_KEY = "lastKey";
+    
     public static final String DATUM_ID = "datumId";
     
     public static final String IS_IN = "isIn";
@@ -99,4 +101,12 @@ public class FieldConstant {
     public static final String USAGE = "usage";
     
     public static final String LIMIT_SIZE = "limitSize";
+    
+    public static final String CONFIG_KEYS = "configKeys";
+    
+    public static final String START_ID = "startId";
+    
+    public static final String END_ID = "endId";
+    
+    public static final String PARTITION_NAME = "partitionName";
 }
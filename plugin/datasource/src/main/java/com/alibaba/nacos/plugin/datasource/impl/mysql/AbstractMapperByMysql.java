@@ -30,4 +30,9 @@ public abstract class AbstractMapperByMysql extends AbstractMapper {
     public String getFunction(String functionName) {
         return TrustedMysqlFunctionEnum.getFunctionByName(functionName);
     }
+    
+    @Override
+    public String limitFirst(int pageSize) {
+        return " LIMIT " + pageSize;
+    }
 }
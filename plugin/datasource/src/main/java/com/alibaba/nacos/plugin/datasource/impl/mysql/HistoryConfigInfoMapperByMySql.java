@@ -23,6 +23,8 @@ import com.alibaba.nacos.plugin.datasource.mapper.HistoryConfigInfoMapper;
 import com.alibaba.nacos.plugin.datasource.model.MapperContext;
 import com.alibaba.nacos.plugin.datasource.model.MapperResult;
 
+import java.util.Collections;
+
 /**
  * The mysql implementation of HistoryConfigInfoMapper.
  *
@@ -38,6 +40,27 @@ public class HistoryConfigInfoMapperByMySql extends AbstractMapperByMysql implem
                 context.getWhereParameter(FieldConstant.LIMIT_SIZE)));
     }
 
+    /**
+     * Only the partitions of {@code PARTITION BY RANGE (TO_DAYS(gmt_modified))} are found, the upper bound of each
+     * partition is exclusive, so a partition is expired if its bound is not after the day of startTime.
+     */
+    @Override
+    public MapperResult findExpiredConfigHistoryPartitions(MapperContext context) {
+        String sql = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() "
+                + "AND TABLE_NAME = 'his_config_info' AND PARTITION_METHOD = 'RANGE' "
+                + "AND PARTITION_EXPRESSION LIKE '%to_days%gmt_modified%' AND PARTITION_DESCRIPTION <> 'MAXVALUE' "
+                + "AND CAST(PARTITION_DESCRIPTION AS SIGNED) <= TO_DAYS(?) ORDER BY PARTITION_ORDINAL_POSITION";
+        return new MapperResult(sql,
+                Collections.singletonList(context.getWhereParameter(FieldConstant.START_TIME)));
+    }
+
+    @Override
+    public MapperResult dropConfigHistoryPartition(MapperContext context) {
+        String sql = "ALTER TABLE his_config_info DROP PARTITION " + context.getWhereParameter(
+                FieldConstant.PARTITION_NAME);
+        return new MapperResult(sql, Collections.emptyList());
+    }
+
     @Override
     public MapperResult pageFindConfigHistoryFetchRows(MapperContext context) {
         String sql =
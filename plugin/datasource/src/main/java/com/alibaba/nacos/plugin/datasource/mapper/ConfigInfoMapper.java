@@ -28,6 +28,7 @@ import com.alibaba.nacos.plugin.datasource.model.MapperResult;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -113,6 +114,33 @@ public interface ConfigInfoMapper extends Mapper {
      */
     MapperResult getGroupIdList(MapperContext context);
     
+    /**
+     * Get tenant id list after the last tenant id by keyset pagination. The default sql: SELECT tenant_id FROM
+     * config_info WHERE tenant_id != '' AND tenant_id > ? GROUP BY tenant_id ORDER BY tenant_id LIMIT pageSize
+     *
+     * @param context The context of lastKey, pageSize
+     * @return The sql of getting tenant id list after the last tenant id.
+     */
+    default MapperResult getTenantIdListByCursor(MapperContext context) {
+        String sql = "SELECT tenant_id FROM config_info WHERE tenant_id != '" + NamespaceUtil.getNamespaceDefaultId()
+                + "' AND tenant_id > ? GROUP BY tenant_id ORDER BY tenant_id" + limitFirst(context.getPageSize());
+        return new MapperResult(sql, CollectionUtils.list(context.getWhereParameter(FieldConstant.LAST_KEY)));
+    }
+    
+    /**
+     * Get group id list after the last group id by keyset pagination. The default sql: SELECT group_id FROM
+     * config_info WHERE tenant_id ='{defaultNamespaceId}' AND group_id > ? GROUP BY group_id ORDER BY group_id LIMIT
+     * pageSize
+     *
+     * @param context The context of lastKey, pageSize
+     * @return The sql of getting group id list after the last group id.
+     */
+    default MapperResult getGroupIdListByCursor(MapperContext context) {
+        String sql = "SELECT group_id FROM config_info WHERE tenant_id ='" + NamespaceUtil.getNamespaceDefaultId()
+                + "' AND group_id > ? GROUP BY group_id ORDER BY group_id" + limitFirst(context.getPageSize());
+        return new MapperResult(sql, CollectionUtils.list(context.getWhereParameter(FieldConstant.LAST_KEY)));
+    }
+    
     /**
      * Query all configuration information by page. The default sql: SELECT data_id,group_id,app_name  FROM ( SELECT id
      * FROM config_info WHERE tenant_id LIKE ? ORDER BY id LIMIT startRow, pageSize ) g, config_info t WHERE g.id = t.id
@@ -278,6 +306,21 @@ public interface ConfigInfoMapper extends Mapper {
         return new MapperResult(sql + where, paramList);
     }
     
+    /**
+     * Query configuration information for export after the last id by keyset pagination, so that export can be done
+     * page by page. The default sql: SELECT id,data_id,group_id,... FROM config_info WHERE ... AND id > ? ORDER BY id
+     * LIMIT pageSize
+     *
+     * @param context The context of lastMaxId, pageSize and the same params of {@link #findAllConfigInfo4Export}
+     * @return The sql of querying config info for export after the last id.
+     */
+    default MapperResult findAllConfigInfo4ExportByCursor(MapperContext context) {
+        MapperResult result = findAllConfigInfo4Export(context);
+        result.getParamList().add(context.getWhereParameter(FieldConstant.LAST_MAX_ID));
+        result.setSql(result.getSql() + "AND id > ? ORDER BY id" + limitFirst(context.getPageSize()));
+        return result;
+    }
+    
     /**
      * Get the count of config information. The default sql: SELECT count(*) FROM config_info WHERE ...
      *
@@ -418,6 +461,82 @@ public interface ConfigInfoMapper extends Mapper {
      */
     MapperResult findConfigInfoLike4PageFetchRows(MapperContext context);
     
+    /**
+     * Query config info after the last id by keyset pagination, which costs the same for any page. The default sql:
+     * SELECT id,data_id,group_id,tenant_id,app_name,content,type,encrypted_data_key FROM config_info WHERE tenant_id =
+     * ? ... AND id > ? ORDER BY id LIMIT pageSize
+     *
+     * @param context The context of lastMaxId, pageSize and the map of dataId, group, appName, content
+     * @return The sql of querying config info after the last id.
+     */
+    default MapperResult findConfigInfo4PageFetchRowsByCursor(MapperContext context) {
+        final String tenant = (String) context.getWhereParameter(FieldConstant.TENANT_ID);
+        final String dataId = (String) context.getWhereParameter(FieldConstant.DATA_ID);
+        final String group = (String) context.getWhereParameter(FieldConstant.GROUP_ID);
+        final String appName = (String) context.getWhereParameter(FieldConstant.APP_NAME);
+        final String content = (String) context.getWhereParameter(FieldConstant.CONTENT);
+        
+        WhereBuilder where = new WhereBuilder(
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,type,encrypted_data_key FROM config_info");
+        where.eq("tenant_id", tenant);
+        if (StringUtils.isNotBlank(dataId)) {
+            where.and().eq("data_id", dataId);
+        }
+        if (StringUtils.isNotBlank(group)) {
+            where.and().eq("group_id", group);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            where.and().eq("app_name", appName);
+        }
+        if (StringUtils.isNotBlank(content)) {
+            where.and().like("content", content);
+        }
+        where.and().gt("id", context.getWhereParameter(FieldConstant.LAST_MAX_ID)).orderBy("id");
+        MapperResult result = where.build();
+        result.setSql(result.getSql() + limitFirst(context.getPageSize()));
+        return result;
+    }
+    
+    /**
+     * Fuzzy query config info after the last id by keyset pagination, which costs the same for any page. The default
+     * sql: SELECT id,data_id,group_id,tenant_id,app_name,content,encrypted_data_key,type FROM config_info WHERE
+     * tenant_id LIKE ? ... AND id > ? ORDER BY id LIMIT pageSize
+     *
+     * @param context The context of lastMaxId, pageSize and the map of dataId, group, appName, content, types
+     * @return The sql of fuzzy querying config info after the last id.
+     */
+    default MapperResult findConfigInfoLike4PageFetchRowsByCursor(MapperContext context) {
+        final String tenant = (String) context.getWhereParameter(FieldConstant.TENANT_ID);
+        final String dataId = (String) context.getWhereParameter(FieldConstant.DATA_ID);
+        final String group = (String) context.getWhereParameter(FieldConstant.GROUP_ID);
+        final String appName = (String) context.getWhereParameter(FieldConstant.APP_NAME);
+        final String content = (String) context.getWhereParameter(FieldConstant.CONTENT);
+        final String[] types = (String[]) context.getWhereParameter(FieldConstant.TYPE);
+        
+        WhereBuilder where = new WhereBuilder(
+                "SELECT id,data_id,group_id,tenant_id,app_name,content,encrypted_data_key,type FROM config_info");
+        where.like("tenant_id", tenant);
+        if (StringUtils.isNotBlank(dataId)) {
+            where.and().like("data_id", dataId);
+        }
+        if (StringUtils.isNotBlank(group)) {
+            where.and().like("group_id", group);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            where.and().eq("app_name", appName);
+        }
+        if (StringUtils.isNotBlank(content)) {
+            where.and().like("content", content);
+        }
+        if (!ArrayUtils.isEmpty(types)) {
+            where.and().in("type", types);
+        }
+        where.and().gt("id", context.getWhereParameter(FieldConstant.LAST_MAX_ID)).orderBy("id");
+        MapperResult result = where.build();
+        result.setSql(result.getSql() + limitFirst(context.getPageSize()));
+        return result;
+    }
+    
     /**
      * Query all configuration information by page. <br/>The default sql: <br/>SELECT
      * t.id,data_id,group_id,tenant_id,app_name,content,md5 " + " FROM (  SELECT id FROM config_info WHERE tenant_id
@@ -429,16 +548,16 @@ public interface ConfigInfoMapper extends Mapper {
     MapperResult findAllConfigInfoFetchRows(MapperContext context);
     
     /**
-     * find ConfigInfo by ids. <br/>The default sql: <br/>SELECT ID,data_id,group_id,tenant_id,app_name,content,md5 FROM
-     * config_info WHERE id IN (...)
+     * find ConfigInfo by ids. <br/>The default sql: <br/>SELECT ID,data_id,group_id,tenant_id,app_name,content,md5,
+     * type,encrypted_data_key FROM config_info WHERE id IN (...)
      *
      * @param context the size of ids.
      * @return find ConfigInfo by ids.
      */
     default MapperResult findConfigInfosByIds(MapperContext context) {
         List<Long> ids = (List<Long>) context.getWhereParameter(FieldConstant.IDS);
-        StringBuilder sql = new StringBuilder(
-                "SELECT id,data_id,group_id,tenant_id,app_name,content,md5 FROM config_info WHERE ");
+        StringBuilder sql = new StringBuilder("SELECT id,data_id,group_id,tenant_id,app_name,content,md5,type,"
+                + "encrypted_data_key FROM config_info WHERE ");
         sql.append("id IN (");
         ArrayList<Object> paramList = new ArrayList<>();
         
@@ -453,6 +572,30 @@ public interface ConfigInfoMapper extends Mapper {
         return new MapperResult(sql.toString(), paramList);
     }
     
+    /**
+     * Find all config info by config keys in one query. The default sql: SELECT id,data_id,group_id,tenant_id,app_name,
+     * content,md5,gmt_create,gmt_modified,src_user,src_ip,c_desc,c_use,effect,type,c_schema,encrypted_data_key FROM
+     * config_info WHERE (data_id = ? AND group_id = ? AND tenant_id = ?) OR ...
+     *
+     * @param context The context of config keys, each key is the array of dataId, group and tenant.
+     * @return The sql of finding config info by config keys.
+     */
+    default MapperResult findConfigAllInfosByKeys(MapperContext context) {
+        List<String[]> configKeys = (List<String[]>) context.getWhereParameter(FieldConstant.CONFIG_KEYS);
+        StringBuilder sql = new StringBuilder("SELECT id,data_id,group_id,tenant_id,app_name,content,md5,gmt_create,"
+                + "gmt_modified,src_user,src_ip,c_desc,c_use,effect,type,c_schema,encrypted_data_key FROM config_info "
+                + "WHERE ");
+        List<Object> paramList = new ArrayList<>(configKeys.size() * 3);
+        for (int i = 0; i < configKeys.size(); i++) {
+            if (i != 0) {
+                sql.append(" OR ");
+            }
+            sql.append("(data_id = ? AND group_id = ? AND tenant_id = ?)");
+            paramList.addAll(Arrays.asList(configKeys.get(i)));
+        }
+        return new MapperResult(sql.toString(), paramList);
+    }
+    
     /**
      * Remove configuration; database atomic operation, minimum SQL action, no business encapsulation.
      *
@@ -151,6 +151,110 @@ public interface ConfigTagsRelationMapper extends Mapper {
      */
     MapperResult findConfigInfoLike4PageFetchRows(final MapperContext context);
     
+    /**
+     * Query config info with tags after the last id by keyset pagination. The default sql: SELECT
+     * a.id,a.data_id,a.group_id,a.tenant_id,a.app_name,a.content FROM config_info a LEFT JOIN config_tags_relation b
+     * ON a.id=b.id WHERE a.tenant_id=? ... AND a.id > ? ORDER BY a.id LIMIT pageSize
+     *
+     * @param context The context of lastMaxId, pageSize and the map of dataId, group, appName, content, tags
+     * @return The sql of querying config info with tags after the last id.
+     */
+    default MapperResult findConfigInfo4PageFetchRowsByCursor(final MapperContext context) {
+        final String tenant = (String) context.getWhereParameter(FieldConstant.TENANT_ID);
+        final String dataId = (String) context.getWhereParameter(FieldConstant.DATA_ID);
+        final String group = (String) context.getWhereParameter(FieldConstant.GROUP_ID);
+        final String appName = (String) context.getWhereParameter(FieldConstant.APP_NAME);
+        final String content = (String) context.getWhereParameter(FieldConstant.CONTENT);
+        final String[] tagArr = (String[]) context.getWhereParameter(FieldConstant.TAG_ARR);
+        
+        WhereBuilder where = new WhereBuilder(
+                "SELECT a.id,a.data_id,a.group_id,a.tenant_id,a.app_name,a.content FROM config_info a LEFT JOIN "
+                        + "config_tags_relation b ON a.id=b.id");
+        where.eq("a.tenant_id", tenant);
+        if (StringUtils.isNotBlank(dataId)) {
+            where.and().eq("a.data_id", dataId);
+        }
+        if (StringUtils.isNotBlank(group)) {
+            where.and().eq("a.group_id", group);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            where.and().eq("a.app_name", appName);
+        }
+        if (StringUtils.isNotBlank(content)) {
+            where.and().like("a.content", content);
+        }
+        where.and().in("b.tag_name", tagArr);
+        where.and().gt("a.id", context.getWhereParameter(FieldConstant.LAST_MAX_ID)).orderBy("a.id");
+        MapperResult result = where.build();
+        result.setSql(result.getSql() + limitFirst(context.getPageSize()));
+        return result;
+    }
+    
+    /**
+     * Fuzzy query config info with tags after the last id by keyset pagination. The default sql: SELECT
+     * a.id,a.data_id,a.group_id,a.tenant_id,a.app_name,a.content,a.type FROM config_info a LEFT JOIN
+     * config_tags_relation b ON a.id=b.id WHERE a.tenant_id LIKE ? ... AND a.id > ? ORDER BY a.id LIMIT pageSize
+     *
+     * @param context The context of lastMaxId, pageSize and the map of dataId, group, appName, content, tags, types
+     * @return The sql of fuzzy querying config info with tags after the last id.
+     */
+    default MapperResult findConfigInfoLike4PageFetchRowsByCursor(final MapperContext context) {
+        final String tenant = (String) context.getWhereParameter(FieldConstant.TENANT_ID);
+        final String dataId = (String) context.getWhereParameter(FieldConstant.DATA_ID);
+        final String group = (String) context.getWhereParameter(FieldConstant.GROUP_ID);
+        final String appName = (String) context.getWhereParameter(FieldConstant.APP_NAME);
+        final String content = (String) context.getWhereParameter(FieldConstant.CONTENT);
+        final String[] tagArr = (String[]) context.getWhereParameter(FieldConstant.TAG_ARR);
+        final String[] types = (String[]) context.getWhereParameter(FieldConstant.TYPE);
+        
+        WhereBuilder where = new WhereBuilder(
+                "SELECT a.id,a.data_id,a.group_id,a.tenant_id,a.app_name,a.content,a.type "
+                        + "FROM config_info a LEFT JOIN config_tags_relation b ON a.id=b.id");
+        where.like("a.tenant_id", tenant);
+        if (StringUtils.isNotBlank(dataId)) {
+            where.and().like("a.data_id", dataId);
+        }
+        if (StringUtils.isNotBlank(group)) {
+            where.and().like("a.group_id", group);
+        }
+        if (StringUtils.isNotBlank(appName)) {
+            where.and().eq("a.app_name", appName);
+        }
+        if (StringUtils.isNotBlank(content)) {
+            where.and().like("a.content", content);
+        }
+        if (!ArrayUtils.isEmpty(tagArr)) {
+            where.and().in("b.tag_name", tagArr);
+        }
+        if (!ArrayUtils.isEmpty(types)) {
+            where.and().in("a.type", types);
+        }
+        where.and().gt("a.id", context.getWhereParameter(FieldConstant.LAST_MAX_ID)).orderBy("a.id");
+        MapperResult result = where.build();
+        result.setSql(result.getSql() + limitFirst(context.getPageSize()));
+        return result;
+    }
+    
+    /**
+     * Find the tags of configs by config ids. The default sql: SELECT id,tag_name FROM config_tags_relation WHERE id IN
+     * (...)
+     *
+     * @param context The context of config ids.
+     * @return The sql of finding the tags of configs.
+     */
+    default MapperResult findTagsByConfigIds(MapperContext context) {
+        List<Long> ids = (List<Long>) context.getWhereParameter(FieldConstant.IDS);
+        StringBuilder sql = new StringBuilder("SELECT id,tag_name FROM config_tags_relation WHERE id IN (");
+        for (int i = 0; i < ids.size(); i++) {
+            if (i != 0) {
+                sql.append(", ");
+            }
+            sql.append('?');
+        }
+        sql.append(')');
+        return new MapperResult(sql.toString(), new ArrayList<>(ids));
+    }
+    
     /**
      * 获取返回表名.
      *
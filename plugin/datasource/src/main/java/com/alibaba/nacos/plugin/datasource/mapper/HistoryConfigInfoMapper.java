@@ -52,6 +52,63 @@ public interface HistoryConfigInfoMapper extends Mapper {
                 Collections.singletonList(context.getWhereParameter(FieldConstant.START_TIME)));
     }
     
+    /**
+     * Get the max id of configurations history before the specified time, which is the watermark of range deleting.
+     * The default sql: SELECT MAX(nid) FROM his_config_info WHERE gmt_modified < ?
+     *
+     * @param context sql paramMap
+     * @return The sql of getting the max id before the specified time.
+     */
+    default MapperResult findConfigHistoryMaxIdByTime(MapperContext context) {
+        return new MapperResult("SELECT MAX(nid) FROM his_config_info WHERE gmt_modified < ?",
+                Collections.singletonList(context.getWhereParameter(FieldConstant.START_TIME)));
+    }
+    
+    /**
+     * Get the min id of configurations history. The default sql: SELECT MIN(nid) FROM his_config_info
+     *
+     * @param context sql paramMap
+     * @return The sql of getting the min id.
+     */
+    default MapperResult findConfigHistoryMinId(MapperContext context) {
+        return new MapperResult("SELECT MIN(nid) FROM his_config_info", Collections.emptyList());
+    }
+    
+    /**
+     * Delete data before startTime in the id range, which only locks the primary key range. The default sql: DELETE
+     * FROM his_config_info WHERE nid >= ? AND nid < ? AND gmt_modified < ?
+     *
+     * @param context sql paramMap
+     * @return The sql of deleting data in the id range.
+     */
+    default MapperResult removeConfigHistoryByIdRange(MapperContext context) {
+        return new MapperResult("DELETE FROM his_config_info WHERE nid >= ? AND nid < ? AND gmt_modified < ?",
+                CollectionUtils.list(context.getWhereParameter(FieldConstant.START_ID),
+                        context.getWhereParameter(FieldConstant.END_ID),
+                        context.getWhereParameter(FieldConstant.START_TIME)));
+    }
+    
+    /**
+     * Find the time partitions of his_config_info whose rows are all before startTime. Only supported by databases
+     * with range partition, and the default is {@code null} which means not supported.
+     *
+     * @param context sql paramMap
+     * @return The sql of finding expired partitions, or {@code null} if not supported.
+     */
+    default MapperResult findExpiredConfigHistoryPartitions(MapperContext context) {
+        return null;
+    }
+    
+    /**
+     * Drop the time partition of his_config_info, the default is {@code null} which means not supported.
+     *
+     * @param context sql paramMap
+     * @return The sql of dropping partition, or {@code null} if not supported.
+     */
+    default MapperResult dropConfigHistoryPartition(MapperContext context) {
+        return null;
+    }
+    
     /**
      * Query deleted config. The default sql: SELECT DISTINCT data_id, group_id, tenant_id FROM his_config_info WHERE
      * op_type = 'D' AND gmt_modified >=? AND gmt_modified <= ?
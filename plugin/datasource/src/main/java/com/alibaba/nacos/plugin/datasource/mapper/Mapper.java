@@ -91,4 +91,15 @@ public interface Mapper {
      * @return function
      */
     String getFunction(String functionName);
+    
+    /**
+     * Get the clause to fetch the first rows, which is appended after ORDER BY clause for keyset pagination. The
+     * default clause is the standard {@code FETCH FIRST pageSize ROWS ONLY}.
+     *
+     * @param pageSize page size
+     * @return the clause to fetch the first rows
+     */
+    default String limitFirst(int pageSize) {
+        return " FETCH FIRST " + pageSize + " ROWS ONLY";
+    }
 }
\ No newline at end of file
@@ -100,6 +100,19 @@ public final class WhereBuilder {
         return this;
     }
     
+    /**
+     * Build greater than.
+     *
+     * @param filed Filed name
+     * @param parameter Parameters
+     * @return Return {@link WhereBuilder}
+     */
+    public WhereBuilder gt(String filed, Object parameter) {
+        where.append(filed).append(" > ? ");
+        parameters.add(parameter);
+        return this;
+    }
+    
     /**
      * Build IN.
      *
@@ -120,6 +133,17 @@ public final class WhereBuilder {
         return this;
     }
     
+    /**
+     * Build ORDER BY.
+     *
+     * @param filed Filed name
+     * @return Return {@link WhereBuilder}
+     */
+    public WhereBuilder orderBy(String filed) {
+        where.append(" ORDER BY ").append(filed);
+        return this;
+    }
+    
     /**
      * Build offset.
      *
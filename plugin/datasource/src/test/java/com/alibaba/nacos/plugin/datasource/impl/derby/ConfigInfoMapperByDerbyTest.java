@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.plugin.datasource.impl.derby;
 
+import com.alibaba.nacos.common.utils.NamespaceUtil;
 import com.alibaba.nacos.plugin.datasource.constants.ContextConstant;
 import com.alibaba.nacos.plugin.datasource.constants.DataSourceConstant;
 import com.alibaba.nacos.plugin.datasource.constants.FieldConstant;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -218,6 +220,17 @@ class ConfigInfoMapperByDerbyTest {
         
     }
     
+    @Test
+    void testFindAllConfigInfo4ExportByCursor() {
+        MapperResult mapperResult = configInfoMapperByDerby.findAllConfigInfo4ExportByCursor(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_create,gmt_modified,src_user,"
+                + "src_ip,c_desc,c_use,effect,c_schema,encrypted_data_key FROM config_info WHERE  id IN (?, ?, ?, ?, ?) "
+                + "AND id > ? ORDER BY id" + " FETCH FIRST " + pageSize + " ROWS ONLY", mapperResult.getSql());
+        List<Object> paramList = new ArrayList<>(ids);
+        paramList.add(lastMaxId);
+        assertArrayEquals(paramList.toArray(), mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testFindConfigInfoBaseLikeCountRows() {
         MapperResult mapperResult = configInfoMapperByDerby.findConfigInfoBaseLikeCountRows(context);
@@ -275,6 +288,40 @@ class ConfigInfoMapperByDerbyTest {
         assertArrayEquals(new Object[] {tenantId, appName}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindConfigInfoLike4PageFetchRowsByCursor() {
+        MapperResult mapperResult = configInfoMapperByDerby.findConfigInfoLike4PageFetchRowsByCursor(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,encrypted_data_key,type FROM config_info "
+                + "WHERE tenant_id LIKE ?  AND app_name = ?  AND id > ?  ORDER BY id" + " FETCH FIRST " + pageSize + " ROWS ONLY", mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId, appName, lastMaxId}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testFindConfigInfo4PageFetchRowsByCursor() {
+        MapperResult mapperResult = configInfoMapperByDerby.findConfigInfo4PageFetchRowsByCursor(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,type,encrypted_data_key FROM config_info "
+                + "WHERE tenant_id = ?  AND app_name = ?  AND id > ?  ORDER BY id" + " FETCH FIRST " + pageSize + " ROWS ONLY", mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId, appName, lastMaxId}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testGetTenantIdListByCursor() {
+        context.putWhereParameter(FieldConstant.LAST_KEY, tenantId);
+        MapperResult mapperResult = configInfoMapperByDerby.getTenantIdListByCursor(context);
+        assertEquals("SELECT tenant_id FROM config_info WHERE tenant_id != '" + NamespaceUtil.getNamespaceDefaultId()
+                + "' AND tenant_id > ? GROUP BY tenant_id ORDER BY tenant_id" + " FETCH FIRST " + pageSize + " ROWS ONLY", mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testGetGroupIdListByCursor() {
+        context.putWhereParameter(FieldConstant.LAST_KEY, groupId);
+        MapperResult mapperResult = configInfoMapperByDerby.getGroupIdListByCursor(context);
+        assertEquals("SELECT group_id FROM config_info WHERE tenant_id ='' AND group_id > ? GROUP BY group_id "
+                + "ORDER BY group_id" + " FETCH FIRST " + pageSize + " ROWS ONLY", mapperResult.getSql());
+        assertArrayEquals(new Object[] {groupId}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testFindAllConfigInfoFetchRows() {
         MapperResult mapperResult = configInfoMapperByDerby.findAllConfigInfoFetchRows(context);
@@ -287,7 +334,7 @@ class ConfigInfoMapperByDerbyTest {
     @Test
     void testFindConfigInfosByIds() {
         MapperResult mapperResult = configInfoMapperByDerby.findConfigInfosByIds(context);
-        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,md5 FROM config_info WHERE id IN (?, ?, ?, ?, ?) ",
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,md5,type,encrypted_data_key FROM config_info WHERE id IN (?, ?, ?, ?, ?) ",
                 mapperResult.getSql());
         assertArrayEquals(mapperResult.getParamList().toArray(), ids.toArray());
     }
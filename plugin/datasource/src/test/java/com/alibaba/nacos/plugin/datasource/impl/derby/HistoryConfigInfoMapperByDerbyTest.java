@@ -28,6 +28,7 @@ import java.sql.Timestamp;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class HistoryConfigInfoMapperByDerbyTest {
     
@@ -120,6 +121,22 @@ class HistoryConfigInfoMapperByDerbyTest {
         assertEquals(TableConstant.HIS_CONFIG_INFO, tableName);
     }
     
+    @Test
+    void testRemoveConfigHistoryByIdRange() {
+        context.putWhereParameter(FieldConstant.START_ID, 100L);
+        context.putWhereParameter(FieldConstant.END_ID, 200L);
+        MapperResult mapperResult = historyConfigInfoMapperByDerby.removeConfigHistoryByIdRange(context);
+        assertEquals("DELETE FROM his_config_info WHERE nid >= ? AND nid < ? AND gmt_modified < ?",
+                mapperResult.getSql());
+        assertArrayEquals(new Object[] {100L, 200L, startTime}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testConfigHistoryPartitionNotSupported() {
+        assertNull(historyConfigInfoMapperByDerby.findExpiredConfigHistoryPartitions(context));
+        assertNull(historyConfigInfoMapperByDerby.dropConfigHistoryPartition(context));
+    }
+    
     @Test
     void testGetDataSource() {
         String dataSource = historyConfigInfoMapperByDerby.getDataSource();
@@ -28,6 +28,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -218,6 +219,17 @@ class ConfigInfoMapperByMySqlTest {
         assertArrayEquals(new Object[] {tenantId, appName}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindAllConfigInfo4ExportByCursor() {
+        MapperResult mapperResult = configInfoMapperByMySql.findAllConfigInfo4ExportByCursor(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,type,md5,gmt_create,gmt_modified,src_user,"
+                + "src_ip,c_desc,c_use,effect,c_schema,encrypted_data_key FROM config_info WHERE  id IN (?, ?, ?, ?, ?) "
+                + "AND id > ? ORDER BY id" + " LIMIT " + pageSize, mapperResult.getSql());
+        List<Object> paramList = new ArrayList<>(ids);
+        paramList.add(lastMaxId);
+        assertArrayEquals(paramList.toArray(), mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testFindConfigInfoBaseLikeCountRows() {
         MapperResult mapperResult = configInfoMapperByMySql.findConfigInfoBaseLikeCountRows(context);
@@ -273,6 +285,40 @@ class ConfigInfoMapperByMySqlTest {
         assertArrayEquals(new Object[] {tenantId, appName}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindConfigInfoLike4PageFetchRowsByCursor() {
+        MapperResult mapperResult = configInfoMapperByMySql.findConfigInfoLike4PageFetchRowsByCursor(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,encrypted_data_key,type FROM config_info "
+                + "WHERE tenant_id LIKE ?  AND app_name = ?  AND id > ?  ORDER BY id" + " LIMIT " + pageSize, mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId, appName, lastMaxId}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testFindConfigInfo4PageFetchRowsByCursor() {
+        MapperResult mapperResult = configInfoMapperByMySql.findConfigInfo4PageFetchRowsByCursor(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,type,encrypted_data_key FROM config_info "
+                + "WHERE tenant_id = ?  AND app_name = ?  AND id > ?  ORDER BY id" + " LIMIT " + pageSize, mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId, appName, lastMaxId}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testGetTenantIdListByCursor() {
+        context.putWhereParameter(FieldConstant.LAST_KEY, tenantId);
+        MapperResult mapperResult = configInfoMapperByMySql.getTenantIdListByCursor(context);
+        assertEquals("SELECT tenant_id FROM config_info WHERE tenant_id != '" + NamespaceUtil.getNamespaceDefaultId()
+                + "' AND tenant_id > ? GROUP BY tenant_id ORDER BY tenant_id" + " LIMIT " + pageSize, mapperResult.getSql());
+        assertArrayEquals(new Object[] {tenantId}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testGetGroupIdListByCursor() {
+        context.putWhereParameter(FieldConstant.LAST_KEY, groupId);
+        MapperResult mapperResult = configInfoMapperByMySql.getGroupIdListByCursor(context);
+        assertEquals("SELECT group_id FROM config_info WHERE tenant_id ='' AND group_id > ? GROUP BY group_id "
+                + "ORDER BY group_id" + " LIMIT " + pageSize, mapperResult.getSql());
+        assertArrayEquals(new Object[] {groupId}, mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testFindAllConfigInfoFetchRows() {
         MapperResult mapperResult = configInfoMapperByMySql.findAllConfigInfoFetchRows(context);
@@ -285,11 +331,27 @@ class ConfigInfoMapperByMySqlTest {
     @Test
     void testFindConfigInfosByIds() {
         MapperResult mapperResult = configInfoMapperByMySql.findConfigInfosByIds(context);
-        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,md5 FROM config_info WHERE id IN (?, ?, ?, ?, ?) ",
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,md5,type,encrypted_data_key FROM config_info WHERE id IN (?, ?, ?, ?, ?) ",
                 mapperResult.getSql());
         assertArrayEquals(mapperResult.getParamList().toArray(), ids.toArray());
     }
     
+    @Test
+    void testFindConfigAllInfosByKeys() {
+        List<String[]> configKeys = new ArrayList<>();
+        configKeys.add(new String[] {"dataId1", "group1", "tenant1"});
+        configKeys.add(new String[] {"dataId2", "group2", ""});
+        context.putWhereParameter(FieldConstant.CONFIG_KEYS, configKeys);
+        MapperResult mapperResult = configInfoMapperByMySql.findConfigAllInfosByKeys(context);
+        assertEquals("SELECT id,data_id,group_id,tenant_id,app_name,content,md5,gmt_create,gmt_modified,src_user,"
+                + "src_ip,c_desc,c_use,effect,type,c_schema,encrypted_data_key FROM config_info WHERE "
+                + "(data_id = ? AND group_id = ? AND tenant_id = ?) OR "
+                + "(data_id = ? AND group_id = ? AND tenant_id = ?)",
+                mapperResult.getSql());
+        assertArrayEquals(new Object[] {"dataId1", "group1", "tenant1", "dataId2", "group2", ""},
+                mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testRemoveConfigInfoByIdsAtomic() {
         MapperResult mapperResult = configInfoMapperByMySql.removeConfigInfoByIdsAtomic(context);
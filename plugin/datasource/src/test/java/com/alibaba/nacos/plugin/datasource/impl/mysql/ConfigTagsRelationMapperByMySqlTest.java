@@ -133,6 +133,15 @@ class ConfigTagsRelationMapperByMySqlTest {
         assertArrayEquals(mapperResult.getParamList().toArray(), list.toArray());
     }
     
+    @Test
+    void testFindTagsByConfigIds() {
+        List<Long> ids = Arrays.asList(1L, 2L, 3L);
+        context.putWhereParameter(FieldConstant.IDS, ids);
+        MapperResult mapperResult = configTagsRelationMapperByMySql.findTagsByConfigIds(context);
+        assertEquals("SELECT id,tag_name FROM config_tags_relation WHERE id IN (?, ?, ?)", mapperResult.getSql());
+        assertArrayEquals(ids.toArray(), mapperResult.getParamList().toArray());
+    }
+    
     @Test
     void testGetTableName() {
         String tableName = configTagsRelationMapperByMySql.getTableName();
@@ -75,6 +75,42 @@ class HistoryConfigInfoMapperByMySqlTest {
         assertArrayEquals(new Object[] {startTime}, mapperResult.getParamList().toArray());
     }
     
+    @Test
+    void testFindConfigHistoryMaxIdByTime() {
+        MapperResult mapperResult = historyConfigInfoMapperByMySql.findConfigHistoryMaxIdByTime(context);
+        assertEquals("SELECT MAX(nid) FROM his_config_info WHERE gmt_modified < ?", mapperResult.getSql());
+        assertArrayEquals(new Object[] {startTime}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testRemoveConfigHistoryByIdRange() {
+        context.putWhereParameter(FieldConstant.START_ID, 100L);
+        context.putWhereParameter(FieldConstant.END_ID, 200L);
+        MapperResult mapperResult = historyConfigInfoMapperByMySql.removeConfigHistoryByIdRange(context);
+        assertEquals("DELETE FROM his_config_info WHERE nid >= ? AND nid < ? AND gmt_modified < ?",
+                mapperResult.getSql());
+        assertArrayEquals(new Object[] {100L, 200L, startTime}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testFindExpiredConfigHistoryPartitions() {
+        MapperResult mapperResult = historyConfigInfoMapperByMySql.findExpiredConfigHistoryPartitions(context);
+        assertEquals("SELECT PARTITION_NAME FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() "
+                + "AND TABLE_NAME = 'his_config_info' AND PARTITION_METHOD = 'RANGE' "
+                + "AND PARTITION_EXPRESSION LIKE '%to_days%gmt_modified%' AND PARTITION_DESCRIPTION <> 'MAXVALUE' "
+                + "AND CAST(PARTITION_DESCRIPTION AS SIGNED) <= TO_DAYS(?) ORDER BY PARTITION_ORDINAL_POSITION",
+                mapperResult.getSql());
+        assertArrayEquals(new Object[] {startTime}, mapperResult.getParamList().toArray());
+    }
+    
+    @Test
+    void testDropConfigHistoryPartition() {
+        context.putWhereParameter(FieldConstant.PARTITION_NAME, "p20240101");
+        MapperResult mapperResult = historyConfigInfoMapperByMySql.dropConfigHistoryPartition(context);
+        assertEquals("ALTER TABLE his_config_info DROP PARTITION p20240101", mapperResult.getSql());
+        assertEquals(0, mapperResult.getParamList().size());
+    }
+    
     @Test
     void testFindDeletedConfig() {
         MapperResult mapperResult = historyConfigInfoMapperByMySql.findDeletedConfig(context);
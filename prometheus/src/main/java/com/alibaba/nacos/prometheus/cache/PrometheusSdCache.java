@@ -0,0 +1,163 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.prometheus.cache;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of rendered prometheus sd api body for each namespace, invalidated by the change listener of
+ * {@link ServiceStorage}.
+ *
+ * <p>Bodies should be rendered from {@link ServiceStorage#getPushData}. The change listener is called after the change
+ * is marked in storage, so that the body rendered after invalidation never contains the old instances.
+ *
+ * @author xiweng.yy
+ */
+public class PrometheusSdCache {
+    
+    /**
+     * Cache key of the body for all namespaces, which is not a legal namespace id.
+     */
+    public static final String ALL_NAMESPACES = "*";
+    
+    private final ConcurrentHashMap<String, CachedBody> caches = new ConcurrentHashMap<>();
+    
+    private final ConcurrentHashMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    
+    public PrometheusSdCache(ServiceStorage serviceStorage) {
+        serviceStorage.registerChangeListener(this::onServiceChanged);
+    }
+    
+    /**
+     * Get cached body, or render and cache it if absent.
+     *
+     * <p>If the namespace changed during rendering, the rendered body is still returned but not cached.
+     *
+     * @param key      namespace id or {@link #ALL_NAMESPACES}
+     * @param renderer renderer of body
+     * @return cached body
+     * @throws NacosException if render failed
+     */
+    public CachedBody get(String key, BodyRenderer renderer) throws NacosException {
+        CachedBody result = caches.get(key);
+        if (null != result) {
+            return result;
+        }
+        AtomicLong version = versions.computeIfAbsent(key, k -> new AtomicLong());
+        long expectedVersion = version.get();
+        result = new CachedBody(renderer.render());
+        caches.put(key, result);
+        if (version.get() != expectedVersion) {
+            caches.remove(key, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Invalidate the cached body of namespace and all namespaces.
+     *
+     * @param namespace namespace id
+     */
+    public void invalidate(String namespace) {
+        doInvalidate(namespace);
+        doInvalidate(ALL_NAMESPACES);
+    }
+    
+    private void doInvalidate(String key) {
+        versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        caches.remove(key);
+    }
+    
+    /**
+     * Invalidate the cached body of namespace of changed service.
+     *
+     * @param service changed service
+     */
+    public void onServiceChanged(Service service) {
+        invalidate(service.getNamespace());
+    }
+    
+    /**
+     * Renderer of prometheus sd api body.
+     */
+    @FunctionalInterface
+    public interface BodyRenderer {
+        
+        /**
+         * Render body.
+         *
+         * @return body bytes
+         * @throws NacosException if render failed
+         */
+        byte[] render() throws NacosException;
+    }
+    
+    /**
+     * Rendered body and its ETag.
+     */
+    public static class CachedBody {
+        
+        private static final int CHUNK_SIZE = 8192;
+        
+        private final byte[] body;
+        
+        private final String etag;
+        
+        public CachedBody(byte[] body) {
+            this.body = body;
+            this.etag = buildEtag(body);
+        }
+        
+        public byte[] getBody() {
+            return body;
+        }
+        
+        public String getEtag() {
+            return etag;
+        }
+        
+        /**
+         * Write body to output stream in chunks, so that the container sends the body of large namespace whenever its
+         * response buffer is full, instead of copying the whole body in one write.
+         *
+         * @param outputStream output stream
+         * @throws IOException if write failed
+         */
+        public void writeTo(OutputStream outputStream) throws IOException {
+            for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+                outputStream.write(body, offset, Math.min(CHUNK_SIZE, body.length - offset));
+            }
+        }
+        
+        private static String buildEtag(byte[] body) {
+            try {
+                return "\"" + MD5Utils.md5Hex(body) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
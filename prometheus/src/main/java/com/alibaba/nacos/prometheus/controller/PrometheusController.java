@@ -18,20 +18,25 @@ package com.alibaba.nacos.prometheus.controller;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
-import com.alibaba.nacos.common.utils.JacksonUtils;
-import com.alibaba.nacos.naming.core.InstanceOperatorClientImpl;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.prometheus.api.ApiConstants;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache.CachedBody;
 import com.alibaba.nacos.prometheus.utils.PrometheusUtils;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -47,91 +52,130 @@ import java.util.function.Predicate;
 @ConditionalOnProperty(name = "nacos.prometheus.metrics.enabled", havingValue = "true")
 public class PrometheusController {
     
-    @Autowired
-    private InstanceOperatorClientImpl instanceServiceV2;
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    
+    private static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+    
+    private final ServiceStorage serviceStorage;
     
     private final ServiceManager serviceManager;
     
-    public PrometheusController() {
+    private final PrometheusSdCache sdCache;
+    
+    public PrometheusController(ServiceStorage serviceStorage) {
+        this.serviceStorage = serviceStorage;
         this.serviceManager = ServiceManager.getInstance();
+        this.sdCache = new PrometheusSdCache(serviceStorage);
     }
     
     /**
      * Get all service instances.
      *
      * @throws NacosException NacosException.
+     * @throws IOException     if write response failed.
      */
-    @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metric() throws NacosException {
-        ArrayNode arrayNode = JacksonUtils.createEmptyArrayNode();
-        Set<Instance> targetSet = new HashSet<>();
-        Set<String> allNamespaces = serviceManager.getAllNamespaces();
-        for (String namespace : allNamespaces) {
-            Set<Service> singletons = serviceManager.getSingletons(namespace);
-            for (Service service : singletons) {
-                
-                List<? extends Instance> instances = instanceServiceV2.listAllInstances(namespace,
-                        service.getGroupedServiceName());
-                
-                targetSet.addAll(instances);
-                
+    @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_PATH, produces = CONTENT_TYPE)
+    public void metric(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletResponse response) throws NacosException, IOException {
+        CachedBody cachedBody = sdCache.get(PrometheusSdCache.ALL_NAMESPACES, () -> {
+            Set<Instance> targetSet = new HashSet<>();
+            for (String namespace : serviceManager.getAllNamespaces()) {
+                collectInstances(namespace, s -> true, targetSet);
             }
-        }
-        
-        PrometheusUtils.assembleArrayNodes(targetSet, arrayNode);
-        return ResponseEntity.ok().body(arrayNode.toString());
+            return render(targetSet);
+        });
+        writeResponse(cachedBody, ifNoneMatch, response);
     }
     
-    
     /**
      * Get service instances from designated namespace.
      *
      * @throws NacosException NacosException.
+     * @throws IOException     if write response failed.
      */
-    @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_NAMESPACE_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metricNamespace(@PathVariable("namespaceId") String namespaceId)
-            throws NacosException {
-        ArrayNode arrayNode = getServiceArrayNode(namespaceId, s -> true);
-        
-        return ResponseEntity.ok().body(arrayNode.toString());
+    @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_NAMESPACE_PATH, produces = CONTENT_TYPE)
+    public void metricNamespace(@PathVariable("namespaceId") String namespaceId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletResponse response) throws NacosException, IOException {
+        if (!serviceManager.getAllNamespaces().contains(namespaceId)) {
+            writeResponse(new CachedBody(render(Collections.emptySet())), ifNoneMatch, response);
+            return;
+        }
+        CachedBody cachedBody = sdCache.get(namespaceId, () -> {
+            Set<Instance> targetSet = new HashSet<>();
+            collectInstances(namespaceId, s -> true, targetSet);
+            return render(targetSet);
+        });
+        writeResponse(cachedBody, ifNoneMatch, response);
     }
     
     /**
      * Get service instances from designated namespace and service.
      *
      * @throws NacosException NacosException.
+     * @throws IOException     if write response failed.
      */
-    @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_SERVICE_PATH, produces = "application/json; charset=UTF-8")
-    public ResponseEntity<String> metricNamespaceService(@PathVariable("namespaceId") String namespaceId,
-            @PathVariable("service") String service) throws NacosException {
-        ArrayNode arrayNode = getServiceArrayNode(namespaceId, s -> s.getName().equals(service));
-        
-        return ResponseEntity.ok().body(arrayNode.toString());
+    @GetMapping(value = ApiConstants.PROMETHEUS_CONTROLLER_SERVICE_PATH, produces = CONTENT_TYPE)
+    public void metricNamespaceService(@PathVariable("namespaceId") String namespaceId,
+            @PathVariable("service") String service,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletResponse response) throws NacosException, IOException {
+        Set<Instance> targetSet = new HashSet<>();
+        if (serviceManager.getAllNamespaces().contains(namespaceId)) {
+            collectInstances(namespaceId, s -> s.getName().equals(service), targetSet);
+        }
+        writeResponse(new CachedBody(render(targetSet)), ifNoneMatch, response);
     }
     
-    private ArrayNode getServiceArrayNode(String namespaceId, Predicate<Service> serviceFilter) throws NacosException {
-        ArrayNode arrayNode = JacksonUtils.createEmptyArrayNode();
-        Set<String> allNamespaces = serviceManager.getAllNamespaces();
-        if (!allNamespaces.contains(namespaceId)) {
-            return arrayNode;
-        }
-        
-        Set<Instance> targetSet = new HashSet<>();
-        
+    private void collectInstances(String namespaceId, Predicate<Service> serviceFilter, Set<Instance> targetSet) {
         Set<Service> singletons = serviceManager.getSingletons(namespaceId);
         for (Service existService : singletons) {
             if (!serviceFilter.test(existService)) {
                 continue;
             }
-            List<? extends Instance> instances = instanceServiceV2.listAllInstances(namespaceId,
-                    existService.getGroupedServiceName());
+            // Read the latest instances instead of the published one, which is refreshed after push delay.
+            List<Instance> instances = serviceStorage.getPushData(existService).getHosts();
             
             targetSet.addAll(instances);
             
         }
-        
-        PrometheusUtils.assembleArrayNodes(targetSet, arrayNode);
-        
-        return arrayNode;
+    }
+    
+    private byte[] render(Set<Instance> targetSet) throws NacosException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            PrometheusUtils.writeArrayNodes(targetSet, outputStream);
+        } catch (IOException e) {
+            throw new NacosException(NacosException.SERVER_ERROR, e);
+        }
+        return outputStream.toByteArray();
+    }
+    
+    private void writeResponse(CachedBody cachedBody, String ifNoneMatch, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cachedBody.getEtag());
+        if (isNotModified(cachedBody.getEtag(), ifNoneMatch)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setContentType(CONTENT_TYPE);
+        response.setContentLength(cachedBody.getBody().length);
+        cachedBody.writeTo(response.getOutputStream());
+    }
+    
+    private boolean isNotModified(String etag, String ifNoneMatch) {
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        for (String each : ifNoneMatch.split(",")) {
+            String candidate = each.trim();
+            if (candidate.startsWith(WEAK_ETAG_PREFIX)) {
+                candidate = candidate.substring(WEAK_ETAG_PREFIX.length());
+            }
+            if ("*".equals(candidate) || etag.equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
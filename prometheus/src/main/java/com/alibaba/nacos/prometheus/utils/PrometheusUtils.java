@@ -18,9 +18,16 @@ package com.alibaba.nacos.prometheus.utils;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -35,6 +42,8 @@ import static java.util.stream.Collectors.groupingBy;
  */
 public class PrometheusUtils {
     
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    
     /**
      * Assemble arrayNodes for prometheus sd api.
      */
@@ -48,6 +57,44 @@ public class PrometheusUtils {
         });
     }
     
+    /**
+     * Write instances as prometheus sd api json array into output stream directly, without building json nodes.
+     *
+     * @param targetSet    instances
+     * @param outputStream output stream
+     * @throws IOException if write failed
+     */
+    public static void writeArrayNodes(Collection<Instance> targetSet, OutputStream outputStream) throws IOException {
+        Map<String, List<Instance>> groupingInsMap = targetSet.stream().collect(groupingBy(Instance::getClusterName));
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            for (Map.Entry<String, List<Instance>> entry : groupingInsMap.entrySet()) {
+                for (Instance instance : entry.getValue()) {
+                    writeInstance(generator, entry.getKey(), instance);
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+    
+    private static void writeInstance(JsonGenerator generator, String clusterName, Instance instance)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("targets");
+        generator.writeString(instance.getIp() + ":" + instance.getPort());
+        generator.writeEndArray();
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("__meta_clusterName", clusterName);
+        // auto convert label names contain with "." and "-" to "_"
+        instance.getMetadata().forEach((key, value) -> labels.put(key.replace(".", "_").replace("-", "_"), value));
+        generator.writeObjectFieldStart("labels");
+        for (Map.Entry<String, String> entry : labels.entrySet()) {
+            generator.writeStringField(entry.getKey(), entry.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+    
     /**
      * assemble instance to json node, and export metadata to label.
      *
@@ -0,0 +1,86 @@
+/*
+ * Copyright 1999-2023 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.prometheus.cache;
+
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PrometheusSdCacheTest {
+    
+    private final ServiceStorage serviceStorage = mock(ServiceStorage.class);
+    
+    private final PrometheusSdCache sdCache = new PrometheusSdCache(serviceStorage);
+    
+    private final AtomicInteger renderTimes = new AtomicInteger();
+    
+    private final PrometheusSdCache.BodyRenderer renderer = () -> ("[" + renderTimes.incrementAndGet() + "]")
+            .getBytes(StandardCharsets.UTF_8);
+    
+    @Test
+    void testGetCachedBody() throws Exception {
+        PrometheusSdCache.CachedBody first = sdCache.get("A", renderer);
+        PrometheusSdCache.CachedBody second = sdCache.get("A", renderer);
+        assertSame(first, second);
+        assertEquals(1, renderTimes.get());
+    }
+    
+    @Test
+    void testInvalidateByServiceChanged() throws Exception {
+        verify(serviceStorage).registerChangeListener(any());
+        PrometheusSdCache.CachedBody namespaceBody = sdCache.get("A", renderer);
+        PrometheusSdCache.CachedBody allBody = sdCache.get(PrometheusSdCache.ALL_NAMESPACES, renderer);
+        PrometheusSdCache.CachedBody otherBody = sdCache.get("B", renderer);
+        Service service = Service.newService("A", "G", "S");
+        sdCache.onServiceChanged(service);
+        assertNotEquals(namespaceBody.getEtag(), sdCache.get("A", renderer).getEtag());
+        assertNotEquals(allBody.getEtag(), sdCache.get(PrometheusSdCache.ALL_NAMESPACES, renderer).getEtag());
+        assertSame(otherBody, sdCache.get("B", renderer));
+    }
+    
+    @Test
+    void testNotCacheWhenChangedDuringRender() throws Exception {
+        PrometheusSdCache.CachedBody body = sdCache.get("A", () -> {
+            sdCache.invalidate("A");
+            return renderer.render();
+        });
+        assertNotEquals(body, sdCache.get("A", renderer));
+        assertEquals(2, renderTimes.get());
+    }
+    
+    @Test
+    void testWriteBodyInChunks() throws Exception {
+        byte[] body = new byte[20000];
+        Arrays.fill(body, (byte) 'a');
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new PrometheusSdCache.CachedBody(body).writeTo(outputStream);
+        assertArrayEquals(body, outputStream.toByteArray());
+    }
+}
@@ -18,12 +18,13 @@ package com.alibaba.nacos.prometheus.controller;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
-import com.alibaba.nacos.api.naming.utils.NamingUtils;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.common.utils.JacksonUtils;
-import com.alibaba.nacos.naming.core.InstanceOperatorClientImpl;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.prometheus.api.ApiConstants;
+import com.alibaba.nacos.prometheus.cache.PrometheusSdCache;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,18 +32,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -64,7 +69,7 @@ public class PrometheusControllerTest {
     private PrometheusController prometheusController;
     
     @Mock
-    private InstanceOperatorClientImpl instanceServiceV2;
+    private ServiceStorage serviceStorage;
     
     private Service service;
     
@@ -92,6 +97,12 @@ public class PrometheusControllerTest {
         return instance;
     }
     
+    private ServiceInfo buildServiceInfo(List<Instance> instances) {
+        ServiceInfo result = new ServiceInfo();
+        result.setHosts(new ArrayList<>(instances));
+        return result;
+    }
+    
     @AfterEach
     public void tearDown() {
         ServiceManager serviceManager = ServiceManager.getInstance();
@@ -100,7 +111,7 @@ public class PrometheusControllerTest {
     
     @Test
     public void testMetric() throws Exception {
-        when(instanceServiceV2.listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group))).thenReturn(testInstanceList);
+        when(serviceStorage.getPushData(service)).thenReturn(buildServiceInfo(testInstanceList));
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(ApiConstants.PROMETHEUS_CONTROLLER_PATH);
         MockHttpServletResponse response = mockMvc.perform(builder).andReturn().getResponse();
         assertEquals(200, response.getStatus());
@@ -109,7 +120,7 @@ public class PrometheusControllerTest {
     
     @Test
     public void testMetricNamespace() throws Exception {
-        when(instanceServiceV2.listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group))).thenReturn(testInstanceList);
+        when(serviceStorage.getPushData(service)).thenReturn(buildServiceInfo(testInstanceList));
         String prometheusNamespacePath = ApiConstants.PROMETHEUS_CONTROLLER_NAMESPACE_PATH.replace("{namespaceId}", nameSpace);
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(prometheusNamespacePath);
         MockHttpServletResponse response = mockMvc.perform(builder).andReturn().getResponse();
@@ -119,7 +130,7 @@ public class PrometheusControllerTest {
     
     @Test
     public void testMetricNamespaceService() throws Exception {
-        when(instanceServiceV2.listAllInstances(nameSpace, NamingUtils.getGroupedName(name, group))).thenReturn(testInstanceList);
+        when(serviceStorage.getPushData(service)).thenReturn(buildServiceInfo(testInstanceList));
         String prometheusNamespaceServicePath = ApiConstants.PROMETHEUS_CONTROLLER_SERVICE_PATH.replace("{namespaceId}", nameSpace);
         prometheusNamespaceServicePath = prometheusNamespaceServicePath.replace("{service}", service.getName());
         MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(prometheusNamespaceServicePath);
@@ -128,6 +139,40 @@ public class PrometheusControllerTest {
         assertEquals(testInstanceList.size(), JacksonUtils.toObj(response.getContentAsString()).size());
     }
     
+    @Test
+    public void testMetricNotModified() throws Exception {
+        when(serviceStorage.getPushData(service)).thenReturn(buildServiceInfo(testInstanceList));
+        String prometheusNamespacePath = ApiConstants.PROMETHEUS_CONTROLLER_NAMESPACE_PATH.replace("{namespaceId}", nameSpace);
+        MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get(prometheusNamespacePath)).andReturn()
+                .getResponse();
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get(prometheusNamespacePath)
+                .header(HttpHeaders.IF_NONE_MATCH, etag);
+        response = mockMvc.perform(builder).andReturn().getResponse();
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+        // Cached body is reused without listing instances again.
+        verify(serviceStorage).getPushData(service);
+    }
+    
+    @Test
+    public void testMetricNamespaceAfterInstancesChanged() throws Exception {
+        when(serviceStorage.getPushData(service)).thenReturn(buildServiceInfo(testInstanceList));
+        String prometheusNamespacePath = ApiConstants.PROMETHEUS_CONTROLLER_NAMESPACE_PATH.replace("{namespaceId}", nameSpace);
+        MockHttpServletResponse response = mockMvc.perform(MockMvcRequestBuilders.get(prometheusNamespacePath)).andReturn()
+                .getResponse();
+        assertEquals(2, JacksonUtils.toObj(response.getContentAsString()).size());
+        // One instance deregistered, storage returns the latest instances before the delayed push.
+        when(serviceStorage.getPushData(service)).thenReturn(buildServiceInfo(testInstanceList.subList(0, 1)));
+        Field sdCacheField = PrometheusController.class.getDeclaredField("sdCache");
+        sdCacheField.setAccessible(true);
+        ((PrometheusSdCache) sdCacheField.get(prometheusController)).onServiceChanged(service);
+        response = mockMvc.perform(MockMvcRequestBuilders.get(prometheusNamespacePath)).andReturn().getResponse();
+        assertEquals(200, response.getStatus());
+        assertEquals(1, JacksonUtils.toObj(response.getContentAsString()).size());
+    }
+    
     @Test
     public void testEmptyMetricNamespaceService() throws Exception {
         String prometheusNamespaceServicePath = ApiConstants.PROMETHEUS_CONTROLLER_SERVICE_PATH.replace("{namespaceId}", nameSpace);
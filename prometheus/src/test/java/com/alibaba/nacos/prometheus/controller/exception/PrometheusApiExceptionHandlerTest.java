@@ -30,7 +30,8 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 
 @WebMvcTest(PrometheusApiExceptionHandlerTest.class)
@@ -52,8 +53,9 @@ public class PrometheusApiExceptionHandlerTest {
     @Test
     public void testNacosRunTimeExceptionHandler() throws Exception {
         // 设置PrometheusController的行为，使其抛出NacosRuntimeException并被PrometheusApiExceptionHandler捕获处理
-        when(prometheusController.metric()).thenThrow(new NacosRuntimeException(NacosException.INVALID_PARAM))
-                .thenThrow(new NacosRuntimeException(NacosException.SERVER_ERROR)).thenThrow(new NacosRuntimeException(503));
+        doThrow(new NacosRuntimeException(NacosException.INVALID_PARAM))
+                .doThrow(new NacosRuntimeException(NacosException.SERVER_ERROR)).doThrow(new NacosRuntimeException(503))
+                .when(prometheusController).metric(any(), any());
         
         // 执行请求并验证响应码
         ResultActions resultActions = mockMvc.perform(get("/prometheus"));